@@ -1,12 +1,15 @@
 package de.caritas.cob.userservice.api;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
+import de.caritas.cob.userservice.api.admin.service.consultant.ConsultantInfixSearchService;
 import de.caritas.cob.userservice.api.admin.service.tenant.TenantService;
 import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
 import de.caritas.cob.userservice.api.helper.UsernameTranscoder;
 import de.caritas.cob.userservice.api.model.Consultant;
-import de.caritas.cob.userservice.api.model.Consultant.ConsultantBase;
+import de.caritas.cob.userservice.api.model.Consultant.ConsultantWithAgency;
+import de.caritas.cob.userservice.api.model.ConsultantAgency.ConsultantAgencyBase;
 import de.caritas.cob.userservice.api.model.User;
 import de.caritas.cob.userservice.api.port.in.AccountManaging;
 import de.caritas.cob.userservice.api.port.out.ConsultantAgencyRepository;
@@ -18,13 +21,14 @@ import de.caritas.cob.userservice.api.service.agency.AgencyService;
 import de.caritas.cob.userservice.api.service.appointment.AppointmentService;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Service;
@@ -56,6 +60,8 @@ public class AccountManager implements AccountManaging {
 
   private final PatchConsultantSaga patchConsultantSaga;
 
+  private final ConsultantInfixSearchService consultantInfixSearchService;
+
   @Override
   public Optional<Map<String, Object>> findConsultant(String id) {
     var userMap = new HashMap<String, Object>();
@@ -96,35 +102,37 @@ public class AccountManager implements AccountManaging {
 
     var direction = isAscending ? Direction.ASC : Direction.DESC;
     var pageRequest = PageRequest.of(pageNumber, pageSize, direction, fieldName);
-    Page<ConsultantBase> consultantPage;
-    if (!shouldFilterByAgencies) {
-      consultantPage = consultantRepository.findAllByInfix(infix, pageRequest);
-    } else {
-      consultantPage =
-          consultantRepository.findAllByInfixAndAgencyIds(
-              infix, agenciesToFilterConsultants, pageRequest);
-    }
-
-    var consultantIds =
-        consultantPage.stream().map(ConsultantBase::getId).collect(Collectors.toList());
-    var fullConsultants = consultantRepository.findAllByIdIn(consultantIds);
-
-    var consultingAgencies = consultantAgencyRepository.findByConsultantIdIn(consultantIds);
+    var consultantIdPage =
+        consultantInfixSearchService.findConsultantIdsByInfix(
+            infix, shouldFilterByAgencies ? agenciesToFilterConsultants : null, pageRequest);
+
+    var consultantsWithAgencies =
+        consultantRepository.findAllWithAgenciesByIdIn(consultantIdPage.getContent());
+    var consultants =
+        consultantsWithAgencies.stream()
+            .map(ConsultantWithAgency::getConsultant)
+            .distinct()
+            .collect(Collectors.toList());
+    List<ConsultantAgencyBase> consultingAgencies =
+        consultantsWithAgencies.stream()
+            .filter(consultantWithAgency -> nonNull(consultantWithAgency.getId()))
+            .collect(Collectors.toList());
+
     var agencyIds = userServiceMapper.agencyIdsOf(consultingAgencies);
-    var agencies = agencyService.getAgenciesWithoutCaching(agencyIds);
-
-    var tenantIdsToNameMap =
-        fullConsultants.stream()
-            .filter(consultant -> consultant.getTenantId() != null)
-            .collect(
-                Collectors.toMap(
-                    Consultant::getTenantId,
-                    consultant ->
-                        tenantService.getRestrictedTenantData(consultant.getTenantId()).getName(),
-                    (existing, replacement) -> existing));
+    var agencies = agencyService.getAgencies(agencyIds);
+
+    var tenantIdsToNameMap = new HashMap<Long, String>();
+    consultants.stream()
+        .map(Consultant::getTenantId)
+        .filter(Objects::nonNull)
+        .distinct()
+        .forEach(
+            tenantId ->
+                tenantIdsToNameMap.put(
+                    tenantId, tenantService.getRestrictedTenantData(tenantId).getName()));
 
     return userServiceMapper.mapOf(
-        consultantPage, fullConsultants, agencies, consultingAgencies, tenantIdsToNameMap);
+        consultantIdPage, consultants, agencies, consultingAgencies, tenantIdsToNameMap);
   }
 
   @Override
@@ -1,6 +1,7 @@
 package de.caritas.cob.userservice.api;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
 
 import de.caritas.cob.userservice.api.adapters.web.dto.AgencyDTO;
 import de.caritas.cob.userservice.api.model.Chat;
@@ -14,19 +15,26 @@ import de.caritas.cob.userservice.api.port.out.SessionRepository;
 import de.caritas.cob.userservice.api.port.out.UserRepository;
 import de.caritas.cob.userservice.api.service.StringConverter;
 import de.caritas.cob.userservice.api.service.agency.AgencyService;
+import de.caritas.cob.userservice.api.service.presence.ConsultantPresenceSnapshot;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class Messenger implements Messaging {
 
   private final MessageClient messageClient;
@@ -37,6 +45,31 @@ public class Messenger implements Messaging {
   private final UserServiceMapper mapper;
   private final StringConverter stringConverter;
   private final AgencyService agencyService;
+  private final Executor rocketChatTaskExecutor;
+  private final ConsultantPresenceSnapshot consultantPresenceSnapshot;
+
+  public Messenger(
+      MessageClient messageClient,
+      UserRepository userRepository,
+      ConsultantRepository consultantRepository,
+      ChatRepository chatRepository,
+      SessionRepository sessionRepository,
+      UserServiceMapper mapper,
+      StringConverter stringConverter,
+      AgencyService agencyService,
+      @Qualifier("rocketChatTaskExecutor") Executor rocketChatTaskExecutor,
+      ConsultantPresenceSnapshot consultantPresenceSnapshot) {
+    this.messageClient = requireNonNull(messageClient);
+    this.userRepository = requireNonNull(userRepository);
+    this.consultantRepository = requireNonNull(consultantRepository);
+    this.chatRepository = requireNonNull(chatRepository);
+    this.sessionRepository = requireNonNull(sessionRepository);
+    this.mapper = requireNonNull(mapper);
+    this.stringConverter = requireNonNull(stringConverter);
+    this.agencyService = requireNonNull(agencyService);
+    this.rocketChatTaskExecutor = requireNonNull(rocketChatTaskExecutor);
+    this.consultantPresenceSnapshot = requireNonNull(consultantPresenceSnapshot);
+  }
 
   @Override
   public boolean banUserFromChat(String adviceSeekerId, long chatId) {
@@ -60,23 +93,41 @@ public class Messenger implements Messaging {
 
   @Override
   public void setAvailability(String consultantId, boolean available) {
-    var consultant = consultantRepository.findByIdAndDeleteDateIsNull(consultantId).orElseThrow();
     var status = mapper.statusOf(available);
-    var userChatId = consultant.getRocketChatId();
+    var userChatId = chatUserIdOf(consultantId);
 
-    messageClient.setUserPresence(userChatId, status);
+    if (messageClient.setUserPresence(userChatId, status)) {
+      consultantPresenceSnapshot.updateAvailability(userChatId, available);
+    }
   }
 
   @Override
   public boolean getAvailability(String consultantId) {
-    var consultant = consultantRepository.findByIdAndDeleteDateIsNull(consultantId).orElseThrow();
-    var chatUserId = consultant.getRocketChatId();
+    var chatUserId = chatUserIdOf(consultantId);
+    if (consultantPresenceSnapshot.isEnabled()) {
+      return consultantPresenceSnapshot.isAvailable(chatUserId);
+    }
 
     return messageClient.isAvailable(chatUserId).orElse(false);
   }
 
+  private String chatUserIdOf(String consultantId) {
+    return consultantPresenceSnapshot
+        .findChatUserId(consultantId)
+        .orElseGet(
+            () ->
+                consultantRepository
+                    .findByIdAndDeleteDateIsNull(consultantId)
+                    .orElseThrow()
+                    .getRocketChatId());
+  }
+
   @Override
   public Set<String> findAvailableConsultants(int consultingTypeId) {
+    if (consultantPresenceSnapshot.isEnabled()) {
+      return consultantPresenceSnapshot.findAvailableChatUserIds(consultingTypeId);
+    }
+
     var presentUserIds = messageClient.findAllAvailableUserIds();
 
     if (!presentUserIds.isEmpty()) {
@@ -93,34 +144,74 @@ public class Messenger implements Messaging {
   }
 
   @Override
-  public Boolean updateE2eKeys(String chatUserId, String publicKey) {
-    var allUpdated = new AtomicReference<>(true);
+  public Map<String, Boolean> updateE2eKeys(String chatUserId, String publicKey) {
+    var temporarilyEncryptedChats =
+        messageClient.findAllChats(chatUserId).orElse(List.of()).stream()
+            .filter(this::isTemporarilyEncrypted)
+            .collect(Collectors.toList());
+    if (temporarilyEncryptedChats.isEmpty()) {
+      return Map.of();
+    }
 
-    messageClient
-        .findAllChats(chatUserId)
-        .ifPresent(
-            chats -> {
-              var masterKey = stringConverter.hashOf(chatUserId);
-              for (var chat : chats) {
-                var userId = mapper.userIdOf(chat);
-                var roomId = mapper.roomIdOf(chat);
-                if (mapper.e2eKeyOf(chat).isPresent()) {
-                  var roomKeyId = mapper.e2eKeyOf(chat).orElseThrow();
-                  var updatedE2eKey = createE2eKey(publicKey, masterKey, roomKeyId);
-                  if (!messageClient.updateChatE2eKey(userId, roomId, updatedE2eKey)) {
-                    allUpdated.set(false);
-                    break;
-                  }
-                } else {
-                  log.info("Ignoring non-temp chat ({}) of user ({})", roomId, userId);
-                }
-              }
-            });
+    PublicKey rsaPublicKey;
+    try {
+      rsaPublicKey = stringConverter.rsaPublicKeyOf(publicKey);
+    } catch (GeneralSecurityException | IllegalArgumentException exception) {
+      log.error("Could not parse public key of user ({})", chatUserId, exception);
+      var updated = new LinkedHashMap<String, Boolean>();
+      temporarilyEncryptedChats.forEach(chat -> updated.put(mapper.roomIdOf(chat), false));
+      return updated;
+    }
 
-    return allUpdated.get();
+    var masterKey = stringConverter.hashOf(chatUserId);
+    var requestAttributes = RequestContextHolder.getRequestAttributes();
+    var futures = new LinkedHashMap<String, CompletableFuture<Boolean>>();
+    temporarilyEncryptedChats.forEach(
+        chat ->
+            futures.put(
+                mapper.roomIdOf(chat),
+                CompletableFuture.supplyAsync(
+                    () -> updateE2eKey(chat, rsaPublicKey, masterKey, requestAttributes),
+                    rocketChatTaskExecutor)));
+
+    var updated = new LinkedHashMap<String, Boolean>();
+    futures.forEach((roomId, future) -> updated.put(roomId, future.join()));
+
+    return updated;
+  }
+
+  private boolean isTemporarilyEncrypted(Map<String, String> chat) {
+    if (mapper.e2eKeyOf(chat).isPresent()) {
+      return true;
+    }
+    log.info(
+        "Ignoring non-temp chat ({}) of user ({})", mapper.roomIdOf(chat), mapper.userIdOf(chat));
+    return false;
+  }
+
+  private boolean updateE2eKey(
+      Map<String, String> chat,
+      PublicKey publicKey,
+      String masterKey,
+      RequestAttributes requestAttributes) {
+    var callerRequestAttributes = RequestContextHolder.getRequestAttributes();
+    RequestContextHolder.setRequestAttributes(requestAttributes);
+    var userId = mapper.userIdOf(chat);
+    var roomId = mapper.roomIdOf(chat);
+    try {
+      var roomKeyId = mapper.e2eKeyOf(chat).orElseThrow();
+      var updatedE2eKey = createE2eKey(publicKey, masterKey, roomKeyId);
+      return messageClient.updateChatE2eKey(userId, roomId, updatedE2eKey);
+    } catch (Exception exception) {
+      log.error("Updating E2E key of chat ({}) of user ({}) failed", roomId, userId, exception);
+      return false;
+    } finally {
+      RequestContextHolder.setRequestAttributes(callerRequestAttributes);
+    }
   }
 
-  private String createE2eKey(String publicKey, String masterKey, String roomKeyId) {
+  private String createE2eKey(PublicKey publicKey, String masterKey, String roomKeyId)
+      throws GeneralSecurityException {
     var keyId = roomKeyId.substring(4, 16);
     var encryptedRoomKey = roomKeyId.substring(16);
     var roomKey = stringConverter.aesDecrypt(encryptedRoomKey, masterKey);
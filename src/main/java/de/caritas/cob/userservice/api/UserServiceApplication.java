@@ -2,6 +2,7 @@ package de.caritas.cob.userservice.api;
 
 import de.caritas.cob.userservice.api.config.CsrfSecurityProperties;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -31,6 +32,18 @@ public class UserServiceApplication {
   @Value("${thread.executor.threadNamePrefix}")
   private String THREAD_NAME_PREFIX;
 
+  @Value("${rocket.chat.executor.corePoolSize}")
+  private int ROCKET_CHAT_THREAD_CORE_POOL_SIZE;
+
+  @Value("${rocket.chat.executor.maxPoolSize}")
+  private int ROCKET_CHAT_THREAD_MAX_POOL_SIZE;
+
+  @Value("${rocket.chat.executor.queueCapacity}")
+  private int ROCKET_CHAT_THREAD_QUEUE_CAPACITY;
+
+  @Value("${group.chat.deactivateworkflow.chunkSize}")
+  private int GROUP_CHAT_DEACTIVATION_THREAD_POOL_SIZE;
+
   public static void main(String[] args) {
     SpringApplication.run(UserServiceApplication.class, args);
   }
@@ -50,4 +63,36 @@ public class UserServiceApplication {
     executor.initialize();
     return executor;
   }
+
+  @Bean
+  public Executor rocketChatTaskExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    /*
+     * Bounded pool for concurrent Rocket.Chat calls on the request path. If all threads are busy
+     * and the queue is full, the calling thread executes the call itself.
+     */
+    executor.setCorePoolSize(ROCKET_CHAT_THREAD_CORE_POOL_SIZE);
+    executor.setMaxPoolSize(ROCKET_CHAT_THREAD_MAX_POOL_SIZE);
+    executor.setQueueCapacity(ROCKET_CHAT_THREAD_QUEUE_CAPACITY);
+    executor.setThreadNamePrefix("RocketChat-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.initialize();
+    return executor;
+  }
+
+  @Bean
+  public Executor groupChatDeactivationTaskExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    /*
+     * Dedicated pool for stopping the stale group chats of one chunk concurrently, so the
+     * deactivation workflow does not occupy the Rocket.Chat threads of the request path.
+     */
+    executor.setCorePoolSize(GROUP_CHAT_DEACTIVATION_THREAD_POOL_SIZE);
+    executor.setMaxPoolSize(GROUP_CHAT_DEACTIVATION_THREAD_POOL_SIZE);
+    executor.setQueueCapacity(GROUP_CHAT_DEACTIVATION_THREAD_POOL_SIZE);
+    executor.setThreadNamePrefix("GroupChatDeactivation-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.initialize();
+    return executor;
+  }
 }
@@ -17,7 +17,6 @@ import de.caritas.cob.userservice.api.model.AdminAgency.AdminAgencyBase;
 import de.caritas.cob.userservice.api.model.Appointment;
 import de.caritas.cob.userservice.api.model.Appointment.AppointmentStatus;
 import de.caritas.cob.userservice.api.model.Consultant;
-import de.caritas.cob.userservice.api.model.Consultant.ConsultantBase;
 import de.caritas.cob.userservice.api.model.ConsultantAgency.ConsultantAgencyBase;
 import de.caritas.cob.userservice.api.model.ConsultantStatus;
 import de.caritas.cob.userservice.api.model.NotificationsAware;
@@ -30,6 +29,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
@@ -93,8 +93,8 @@ public class UserServiceMapper {
   }
 
   public Map<String, Object> mapOf(
-      Page<ConsultantBase> consultantPage,
-      List<Consultant> fullConsultants,
+      Page<String> consultantIdPage,
+      List<Consultant> consultants,
       List<AgencyDTO> agencyDTOS,
       List<ConsultantAgencyBase> consultantAgencies,
       Map<Long, String> tenantIdsToNameMap) {
@@ -102,31 +102,32 @@ public class UserServiceMapper {
     var agencyLookupMap =
         agencyDTOS.stream().collect(Collectors.toMap(AgencyDTO::getId, Function.identity()));
 
-    var fullConsultantLookupMap =
-        fullConsultants.stream().collect(Collectors.toMap(Consultant::getId, Function.identity()));
+    var consultantLookupMap =
+        consultants.stream().collect(Collectors.toMap(Consultant::getId, Function.identity()));
 
     var consultantAgencyLookupMap =
         consultantAgencies.stream()
             .collect(Collectors.groupingBy(ConsultantAgencyBase::getConsultantId));
 
-    var consultants = new ArrayList<Map<String, Object>>();
-    consultantPage.forEach(
-        consultantBase -> {
-          var fullConsultant = fullConsultantLookupMap.get(consultantBase.getId());
-          var agencies = mapOf(fullConsultant, agencyLookupMap, consultantAgencyLookupMap);
-          var consultantMap = mapOf(consultantBase, fullConsultant, agencies, tenantIdsToNameMap);
-          consultants.add(consultantMap);
-        });
+    var consultantMaps = new ArrayList<Map<String, Object>>();
+    consultantIdPage.stream()
+        .map(consultantLookupMap::get)
+        .filter(Objects::nonNull)
+        .forEach(
+            consultant -> {
+              var agencies = mapOf(consultant, agencyLookupMap, consultantAgencyLookupMap);
+              consultantMaps.add(mapOf(consultant, agencies, tenantIdsToNameMap));
+            });
 
     return Map.of(
         "totalElements",
-        (int) consultantPage.getTotalElements(),
+        (int) consultantIdPage.getTotalElements(),
         "isFirstPage",
-        consultantPage.isFirst(),
+        consultantIdPage.isFirst(),
         "isLastPage",
-        consultantPage.isLast(),
+        consultantIdPage.isLast(),
         "consultants",
-        consultants);
+        consultantMaps);
   }
 
   public Map<String, Object> mapOfAdmin(
@@ -230,7 +231,6 @@ public class UserServiceMapper {
   }
 
   public Map<String, Object> mapOf(
-      ConsultantBase consultantBase,
       Consultant fullConsultant,
       List<Map<String, Object>> agencies,
       Map<Long, String> tenantIdsToNameMap) {
@@ -240,10 +240,10 @@ public class UserServiceMapper {
             : fullConsultant.getStatus().toString();
 
     Map<String, Object> map = new HashMap<>();
-    map.put("id", consultantBase.getId());
-    map.put("email", consultantBase.getEmail());
-    map.put("firstName", consultantBase.getFirstName());
-    map.put("lastName", consultantBase.getLastName());
+    map.put("id", fullConsultant.getId());
+    map.put("email", fullConsultant.getEmail());
+    map.put("firstName", fullConsultant.getFirstName());
+    map.put("lastName", fullConsultant.getLastName());
     map.put("status", status);
     map.put("username", fullConsultant.getUsername());
     map.put("absenceMessage", fullConsultant.getAbsenceMessage());
@@ -346,6 +346,15 @@ public class UserServiceMapper {
     return chatMap.get("userId");
   }
 
+  public boolean isFullPresenceList(Map<String, Object> presenceChangesMap) {
+    return (boolean) presenceChangesMap.get("full");
+  }
+
+  @SuppressWarnings("unchecked")
+  public Map<String, Boolean> availabilityOf(Map<String, Object> presenceChangesMap) {
+    return (Map<String, Boolean>) presenceChangesMap.get("availability");
+  }
+
   public String consultantIdOf(Map<String, Object> appointmentMap) {
     return (String) appointmentMap.get("consultantId");
   }
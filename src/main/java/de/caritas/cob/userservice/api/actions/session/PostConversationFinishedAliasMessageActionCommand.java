@@ -1,5 +1,6 @@
 package de.caritas.cob.userservice.api.actions.session;
 
+import static de.caritas.cob.userservice.api.config.apiclient.ApiClientHeaders.runWithHeaders;
 import static de.caritas.cob.userservice.messageservice.generated.web.model.MessageType.FINISHED_CONVERSATION;
 import static java.util.Objects.nonNull;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
@@ -12,11 +13,11 @@ import de.caritas.cob.userservice.api.port.out.IdentityClient;
 import de.caritas.cob.userservice.api.port.out.IdentityClientConfig;
 import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
 import de.caritas.cob.userservice.api.service.httpheader.TenantHeaderSupplier;
-import de.caritas.cob.userservice.messageservice.generated.ApiClient;
 import de.caritas.cob.userservice.messageservice.generated.web.model.AliasOnlyMessageDTO;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 
 /** Action to post a conversation finished alias message in rocket chat via the message service. */
@@ -41,10 +42,12 @@ public class PostConversationFinishedAliasMessageActionCommand implements Action
     if (nonNull(actionTarget) && isNotBlank(actionTarget.getGroupId())) {
       try {
         var messageControllerApi = messageServiceApiControllerFactory.createControllerApi();
-        addDefaultHeaders(messageControllerApi.getApiClient());
-        messageControllerApi.saveAliasOnlyMessage(
-            actionTarget.getGroupId(),
-            new AliasOnlyMessageDTO().messageType(FINISHED_CONVERSATION));
+        runWithHeaders(
+            buildDefaultHeaders(),
+            () ->
+                messageControllerApi.saveAliasOnlyMessage(
+                    actionTarget.getGroupId(),
+                    new AliasOnlyMessageDTO().messageType(FINISHED_CONVERSATION)));
       } catch (Exception e) {
         log.error("Unable to post conversation finished message");
         log.error(getStackTrace(e));
@@ -53,12 +56,12 @@ public class PostConversationFinishedAliasMessageActionCommand implements Action
   }
 
   @SuppressWarnings("Duplicates")
-  private void addDefaultHeaders(ApiClient apiClient) {
+  private HttpHeaders buildDefaultHeaders() {
     var techUser = identityClientConfig.getTechnicalUser();
     var keycloakLogin = identityClient.loginUser(techUser.getUsername(), techUser.getPassword());
     var headers =
         securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders(keycloakLogin.getAccessToken());
     tenantHeaderSupplier.addTenantHeader(headers);
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
+    return headers;
   }
 }
@@ -0,0 +1,54 @@
+package de.caritas.cob.userservice.api.adapters.keycloak;
+
+import static de.caritas.cob.userservice.api.config.CacheManagerConfig.IDENTITY_AVAILABILITY_CACHE;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Short-lived cache of username and email availability lookups in Keycloak. Entries expire after a
+ * few seconds by the underlying cache configuration and are evicted as soon as a username or email
+ * address is assigned by this service.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdentityAvailabilityCache {
+
+  private static final String USERNAME_PREFIX = "username:";
+  private static final String EMAIL_PREFIX = "email:";
+
+  private final @NonNull CacheManager cacheManager;
+
+  public Optional<Boolean> getUsernameAvailability(String username) {
+    return Optional.ofNullable(availabilityCache().get(USERNAME_PREFIX + username, Boolean.class));
+  }
+
+  public void putUsernameAvailability(String username, boolean available) {
+    availabilityCache().put(USERNAME_PREFIX + username, available);
+  }
+
+  public void evictUsername(String username) {
+    availabilityCache().evict(USERNAME_PREFIX + username);
+  }
+
+  public Optional<Boolean> getEmailAvailability(String email) {
+    return Optional.ofNullable(availabilityCache().get(EMAIL_PREFIX + email, Boolean.class));
+  }
+
+  public void putEmailAvailability(String email, boolean available) {
+    availabilityCache().put(EMAIL_PREFIX + email, available);
+  }
+
+  public void evictEmail(String email) {
+    availabilityCache().evict(EMAIL_PREFIX + email);
+  }
+
+  private Cache availabilityCache() {
+    return requireNonNull(cacheManager.getCache(IDENTITY_AVAILABILITY_CACHE));
+  }
+}
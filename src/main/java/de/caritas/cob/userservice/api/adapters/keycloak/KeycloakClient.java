@@ -1,10 +1,14 @@
 package de.caritas.cob.userservice.api.adapters.keycloak;
 
+import static java.util.Objects.isNull;
+
 import de.caritas.cob.userservice.api.adapters.keycloak.config.KeycloakConfig;
+import java.util.List;
 import lombok.NonNull;
 import org.keycloak.admin.client.Keycloak;
 import org.keycloak.admin.client.resource.RealmResource;
 import org.keycloak.admin.client.resource.UsersResource;
+import org.keycloak.representations.idm.UserRepresentation;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -15,6 +19,7 @@ import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
 @Component
 public class KeycloakClient {
@@ -76,6 +81,32 @@ public class KeycloakClient {
     return restTemplate.exchange(url, HttpMethod.DELETE, entity, responseType);
   }
 
+  /**
+   * Searches the users with exactly the given email address. Only the brief representation of at
+   * most the given number of users is requested.
+   *
+   * @param email the email address
+   * @param maxResults the maximum number of users to return
+   * @return the found users
+   */
+  public List<UserRepresentation> searchByExactEmail(String email, int maxResults) {
+    var uri =
+        UriComponentsBuilder.fromHttpUrl(keycloakConfig.getAuthServerUrl())
+            .path("/admin/realms/{realm}/users")
+            .queryParam("email", "{email}")
+            .queryParam("exact", true)
+            .queryParam("briefRepresentation", true)
+            .queryParam("max", maxResults)
+            .encode()
+            .buildAndExpand(keycloakConfig.getRealm(), email)
+            .toUri();
+    var entity = new HttpEntity<>(headersWithBearerToken(getBearerToken()));
+    var users =
+        restTemplate.exchange(uri, HttpMethod.GET, entity, UserRepresentation[].class).getBody();
+
+    return isNull(users) ? List.of() : List.of(users);
+  }
+
   public UsersResource getUsersResource() {
     return getRealmResource().users();
   }
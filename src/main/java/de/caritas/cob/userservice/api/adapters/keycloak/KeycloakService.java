@@ -7,6 +7,7 @@ import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Striped;
 import de.caritas.cob.userservice.api.adapters.keycloak.dto.KeycloakCreateUserResponseDTO;
 import de.caritas.cob.userservice.api.adapters.keycloak.dto.KeycloakLoginResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.UserDTO;
@@ -31,14 +32,15 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.locks.Lock;
 import java.util.stream.Stream;
 import javax.ws.rs.BadRequestException;
 import javax.ws.rs.core.Response;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import lombok.Synchronized;
 import lombok.extern.slf4j.Slf4j;
 import org.keycloak.admin.client.resource.UserResource;
 import org.keycloak.admin.client.resource.UsersResource;
@@ -78,6 +80,8 @@ public class KeycloakService implements IdentityClient {
   private static final String ENDPOINT_OTP_VERIFY_EMAIL = "/send-verification-mail/{username}";
   private static final String ENDPOINT_OTP_FINISH_EMAIL = "/setup-otp-mail/{username}";
   private static final String LOCALE = "locale";
+  private static final int EMAIL_LOOKUP_LIMIT = 2;
+  private static final int EMAIL_LOCK_STRIPES = 64;
 
   private final @NonNull RestTemplate restTemplate;
   private final @NonNull AuthenticatedUser authenticatedUser;
@@ -86,8 +90,10 @@ public class KeycloakService implements IdentityClient {
   private final @NonNull KeycloakClient keycloakClient;
   private final @NonNull KeycloakMapper keycloakMapper;
   private final @NonNull UserHelper userHelper;
+  private final @NonNull IdentityAvailabilityCache identityAvailabilityCache;
 
   private final UsernameTranscoder usernameTranscoder = new UsernameTranscoder();
+  private final Striped<Lock> emailLocks = Striped.lock(EMAIL_LOCK_STRIPES);
 
   @Value("${keycloak.config.app-client-id}")
   private String keycloakClientId;
@@ -250,6 +256,7 @@ public class KeycloakService implements IdentityClient {
     if (!lowerEmailAddress.equals(userRepresentation.getEmail())) {
       userRepresentation.setEmail(lowerEmailAddress);
       usersResource.get(userRepresentation.getId()).update(userRepresentation);
+      identityAvailabilityCache.evictEmail(normalizeEmail(lowerEmailAddress));
     }
   }
 
@@ -259,8 +266,8 @@ public class KeycloakService implements IdentityClient {
 
   @Override
   public Map<String, String> findUserByEmail(String email) {
-    return keycloakClient.getUsersResource().search(email, 0, Integer.MAX_VALUE).stream()
-        .filter(userRepresentation -> userRepresentation.getEmail().equals(email))
+    return keycloakClient.searchByExactEmail(email, EMAIL_LOOKUP_LIMIT).stream()
+        .filter(userRepresentation -> email.equals(userRepresentation.getEmail()))
         .findFirst()
         .map(keycloakMapper::mapOf)
         .orElseGet(Map::of);
@@ -355,6 +362,7 @@ public class KeycloakService implements IdentityClient {
     var kcUser = getUserRepresentation(user, firstName, lastName, locale);
     try (var response = keycloakClient.getUsersResource().create(kcUser)) {
       if (response.getStatus() == HttpStatus.CREATED.value()) {
+        evictAvailability(user);
         return new KeycloakCreateUserResponseDTO(getCreatedUserId(response.getLocation()));
       }
       handleCreateKeycloakUserError(response);
@@ -364,6 +372,13 @@ public class KeycloakService implements IdentityClient {
             "Could not create Keycloak account for: %s %nKeycloak error: %s", user, keycloakError));
   }
 
+  private void evictAvailability(UserDTO user) {
+    identityAvailabilityCache.evictUsername(usernameTranscoder.decodeUsername(user.getUsername()));
+    if (nonNull(user.getEmail())) {
+      identityAvailabilityCache.evictEmail(normalizeEmail(user.getEmail()));
+    }
+  }
+
   private void handleCreateKeycloakUserError(Response response) {
     String errorMsg = response.readEntity(ErrorRepresentation.class).getErrorMessage();
     if (errorMsg.equals(identityClientConfig.getErrorMessageDuplicatedEmail())) {
@@ -376,12 +391,24 @@ public class KeycloakService implements IdentityClient {
 
   /**
    * Returns true if the given username does not exist in Keycloak yet or false if it already
-   * exists.
+   * exists. The result is cached for a short time.
    *
    * @param username (decoded or encoded)
    * @return true if does not exist, else false
    */
   public boolean isUsernameAvailable(String username) {
+    var decodedUsername = usernameTranscoder.decodeUsername(username);
+    return identityAvailabilityCache
+        .getUsernameAvailability(decodedUsername)
+        .orElseGet(
+            () -> {
+              var available = lookUpUsernameAvailability(username);
+              identityAvailabilityCache.putUsernameAvailability(decodedUsername, available);
+              return available;
+            });
+  }
+
+  private boolean lookUpUsernameAvailability(String username) {
     List<UserRepresentation> keycloakDecodedUserList =
         findByUsername(usernameTranscoder.decodeUsername(username));
     List<UserRepresentation> keycloakEncodedUserList =
@@ -396,10 +423,37 @@ public class KeycloakService implements IdentityClient {
         || user.getUsername().equalsIgnoreCase(usernameTranscoder.encodeUsername(username));
   }
 
-  @Synchronized
+  /*
+   * Only a taken email address is cached. An available one is looked up again before it gets
+   * assigned, so a stale entry can not lead to a duplicated email address.
+   */
   private boolean isEmailNotAvailable(String email) {
-    return keycloakClient.getUsersResource().search(email, 0, Integer.MAX_VALUE).stream()
-        .anyMatch(userRepresentation -> userRepresentation.getEmail().equals(email));
+    var normalizedEmail = normalizeEmail(email);
+    if (identityAvailabilityCache.getEmailAvailability(normalizedEmail).isPresent()) {
+      return true;
+    }
+    var emailTaken =
+        keycloakClient.searchByExactEmail(normalizedEmail, EMAIL_LOOKUP_LIMIT).stream()
+            .map(UserRepresentation::getEmail)
+            .anyMatch(userEmail -> normalizedEmail.equals(normalizeEmail(userEmail)));
+    if (emailTaken) {
+      identityAvailabilityCache.putEmailAvailability(normalizedEmail, false);
+    }
+    return emailTaken;
+  }
+
+  private String normalizeEmail(String email) {
+    return isNull(email) ? "" : email.trim().toLowerCase(Locale.ROOT);
+  }
+
+  private void lockEmail(String email, Runnable emailUpdate) {
+    var lock = emailLocks.get(normalizeEmail(email));
+    lock.lock();
+    try {
+      emailUpdate.run();
+    } finally {
+      lock.unlock();
+    }
   }
 
   private CredentialRepresentation getCredentialRepresentation(final String password) {
@@ -602,8 +656,13 @@ public class KeycloakService implements IdentityClient {
   public void updateUserData(
       final String userId, UserDTO userDTO, String firstName, String lastName) {
     var userResource = keycloakClient.getUsersResource().get(userId);
-    verifyEmail(userResource, userDTO.getEmail());
-    userResource.update(getUserRepresentation(userDTO, firstName, lastName));
+    lockEmail(
+        userDTO.getEmail(),
+        () -> {
+          verifyEmail(userResource, userDTO.getEmail());
+          userResource.update(getUserRepresentation(userDTO, firstName, lastName));
+          identityAvailabilityCache.evictEmail(normalizeEmail(userDTO.getEmail()));
+        });
   }
 
   private void verifyEmail(UserResource userResource, String email) {
@@ -629,10 +688,17 @@ public class KeycloakService implements IdentityClient {
    */
   public void updateEmail(String userId, String emailAddress) {
     var userResource = keycloakClient.getUsersResource().get(userId);
-    verifyEmail(userResource, emailAddress);
-    UserRepresentation representation = userResource.toRepresentation();
-    representation.setEmail(emailAddress);
-    userResource.update(representation);
+    lockEmail(
+        emailAddress,
+        () -> {
+          verifyEmail(userResource, emailAddress);
+          UserRepresentation representation = userResource.toRepresentation();
+          var previousEmailAddress = representation.getEmail();
+          representation.setEmail(emailAddress);
+          userResource.update(representation);
+          identityAvailabilityCache.evictEmail(normalizeEmail(emailAddress));
+          identityAvailabilityCache.evictEmail(normalizeEmail(previousEmailAddress));
+        });
   }
 
   /**
@@ -0,0 +1,74 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat;
+
+import static java.util.Objects.isNull;
+
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.group.GroupDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.group.GroupsListAllResponseDTO;
+import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
+import de.caritas.cob.userservice.api.service.LogService;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Iterator over the paginated groups.listAll endpoint of Rocket.Chat. A page is only requested when
+ * all groups of the previous page have been consumed.
+ */
+class GroupsListAllPageIterator implements Iterator<GroupDTO> {
+
+  private final IntFunction<ResponseEntity<GroupsListAllResponseDTO>> pageLoader;
+  private final int pageSize;
+
+  private Iterator<GroupDTO> currentPage = Collections.emptyIterator();
+  private int nextOffset = 0;
+  private Integer total;
+
+  GroupsListAllPageIterator(
+      IntFunction<ResponseEntity<GroupsListAllResponseDTO>> pageLoader, int pageSize) {
+    this.pageLoader = pageLoader;
+    this.pageSize = pageSize;
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!currentPage.hasNext() && hasMorePages()) {
+      loadNextPage();
+    }
+    return currentPage.hasNext();
+  }
+
+  @Override
+  public GroupDTO next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return currentPage.next();
+  }
+
+  private boolean hasMorePages() {
+    return isNull(total) || nextOffset < total;
+  }
+
+  private void loadNextPage() {
+    var pageResponse = pageLoader.apply(nextOffset);
+    if (pageResponse.getStatusCode() != HttpStatus.OK || isNull(pageResponse.getBody())) {
+      throw new InternalServerErrorException(
+          String.format(
+              "Could not get Rocket.Chat groups list all at offset %s. Reason %s",
+              nextOffset, pageResponse.getStatusCode()),
+          LogService::logRocketChatError);
+    }
+
+    var page = pageResponse.getBody();
+    total = isNull(page.getTotal()) ? 0 : page.getTotal();
+    currentPage =
+        isNull(page.getGroups())
+            ? Collections.emptyIterator()
+            : Arrays.asList(page.getGroups()).iterator();
+    nextOffset += pageSize;
+  }
+}
@@ -185,6 +185,26 @@ public class RocketChatMapper {
     return map;
   }
 
+  public Set<String> mapPresentOf(PresenceListDTO presenceList) {
+    return presenceList.getUsers().stream()
+        .filter(PresenceOtherDTO::isPresent)
+        .map(PresenceOtherDTO::getId)
+        .collect(Collectors.toSet());
+  }
+
+  public Map<String, Object> mapOfPresenceChanges(PresenceListDTO presenceList) {
+    var availability = new HashMap<String, Boolean>();
+    presenceList
+        .getUsers()
+        .forEach(presence -> availability.put(presence.getId(), presence.isAvailable()));
+
+    var map = new HashMap<String, Object>();
+    map.put("full", !Boolean.FALSE.equals(presenceList.getFull()));
+    map.put("availability", availability);
+
+    return map;
+  }
+
   public Set<String> mapAvailableOf(PresenceListDTO presenceList) {
     return presenceList.getUsers().stream()
         .filter(PresenceOtherDTO::isAvailable)
@@ -1,14 +1,19 @@
 package de.caritas.cob.userservice.api.adapters.rocketchat;
 
+import static com.mongodb.client.model.Filters.and;
 import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.lt;
+import static com.mongodb.client.model.Projections.include;
+import static com.mongodb.client.model.Sorts.ascending;
 import static de.caritas.cob.userservice.api.helper.CustomLocalDateTime.nowInUtc;
 import static java.util.Arrays.asList;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.apache.commons.lang3.ArrayUtils.isNotEmpty;
 
-import com.google.common.collect.Lists;
+import com.mongodb.MongoException;
 import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCursor;
 import de.caritas.cob.userservice.api.adapters.rocketchat.config.RocketChatConfig;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.StandardResponseDTO;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.group.GroupAddUserBodyDTO;
@@ -47,7 +52,6 @@ import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatCreateGroup
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatDeleteGroupException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatDeleteUserException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatGetGroupMembersException;
-import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatGetGroupsListAllException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatGetUserIdException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatLeaveFromGroupException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatLoginException;
@@ -56,14 +60,23 @@ import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatRemoveUserF
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatUserNotInitializedException;
 import de.caritas.cob.userservice.api.port.out.MessageClient;
 import de.caritas.cob.userservice.api.service.LogService;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import javax.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.NonNull;
@@ -121,6 +134,7 @@ public class RocketChatService implements MessageClient {
 
   private static final String MONGO_DATABASE_NAME = "rocketchat";
   private static final String MONGO_COLLECTION_SUBSCRIPTION = "rocketchat_subscription";
+  private static final String MONGO_COLLECTION_ROOM = "rocketchat_room";
 
   private static final String ERROR_MESSAGE =
       "Error during rollback: Rocket.Chat group with id " + "%s could not be deleted";
@@ -132,6 +146,7 @@ public class RocketChatService implements MessageClient {
   private static final String USERS_LIST_ERROR_MESSAGE =
       "Could not get users list from Rocket.Chat";
   private static final String USER_LIST_GET_FIELD_SELECTION = "{\"_id\":1}";
+  private static final String GROUPS_SORTED_BY_OWNER = "{\"u._id\":1}";
   private static final Integer PAGE_SIZE = 100;
   private static final String ERROR_ROOM_NOT_FOUND = "error-room-not-found";
   private static final String COULD_NOT_REMOVE_USER_FROM_ROCKET_CHAT_GROUP =
@@ -140,6 +155,7 @@ public class RocketChatService implements MessageClient {
 
   private final LocalDateTime localDateTimeFuture = nowInUtc().plusYears(1L);
   private final @NonNull RestTemplate restTemplate;
+  private final @NonNull RestTemplate roomInformationRestTemplate;
   private final @NonNull RocketChatCredentialsProvider rcCredentialHelper;
 
   private final RocketChatClient rocketChatClient;
@@ -249,6 +265,51 @@ public class RocketChatService implements MessageClient {
     return Set.of();
   }
 
+  @Override
+  public Optional<Map<String, Object>> findPresenceChangesSince(Instant since) {
+    var url = rocketChatConfig.getApiUrl(ENDPOINT_USER_PRESENCE_LIST);
+    if (nonNull(since)) {
+      url += "?from=" + since.truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    try {
+      var presenceList = rocketChatClient.getForEntity(url, PresenceListDTO.class).getBody();
+      if (isNull(presenceList)) {
+        log.warn("Presence changes search inconclusive");
+      } else {
+        return Optional.of(mapper.mapOfPresenceChanges(presenceList));
+      }
+    } catch (HttpClientErrorException exception) {
+      log.error("Presence changes search failed.", exception);
+    }
+
+    return Optional.empty();
+  }
+
+  @Override
+  public Set<String> findLoggedInUserIds(Collection<String> chatUserIds) {
+    if (chatUserIds.isEmpty()) {
+      return Set.of();
+    }
+    var url =
+        rocketChatConfig.getApiUrl(ENDPOINT_USER_PRESENCE_LIST)
+            + "?ids="
+            + String.join(",", chatUserIds);
+
+    try {
+      var presentList = rocketChatClient.getForEntity(url, PresenceListDTO.class).getBody();
+      if (isNull(presentList)) {
+        log.warn("Logged in user search inconclusive");
+      } else {
+        return mapper.mapPresentOf(presentList);
+      }
+    } catch (HttpClientErrorException exception) {
+      log.error("Logged in user search failed.", exception);
+    }
+
+    return Set.of();
+  }
+
   @Override
   public Optional<Boolean> isLoggedIn(String chatUserId) {
     return getUserPresence(chatUserId).flatMap(presenceDTO -> Optional.of(presenceDTO.isPresent()));
@@ -910,6 +971,19 @@ public class RocketChatService implements MessageClient {
    */
   public List<SubscriptionsUpdateDTO> getSubscriptionsOfUser(
       RocketChatCredentials rocketChatCredentials) {
+    return asList(getSubscriptionsOfUserUpdatedSince(rocketChatCredentials, null).getUpdate());
+  }
+
+  /**
+   * Returns the subscriptions for the given user id which have been updated or removed after the
+   * given date. If no date is given, all subscriptions of the user are returned.
+   *
+   * @param rocketChatCredentials {@link RocketChatCredentials}
+   * @param updatedSince the date of the last known update, may be null
+   * @return the {@link SubscriptionsGetDTO} containing updated and removed subscriptions
+   */
+  public SubscriptionsGetDTO getSubscriptionsOfUserUpdatedSince(
+      RocketChatCredentials rocketChatCredentials, Date updatedSince) {
 
     ResponseEntity<SubscriptionsGetDTO> response;
 
@@ -917,8 +991,10 @@ public class RocketChatService implements MessageClient {
       var header = getStandardHttpHeaders(rocketChatCredentials);
       HttpEntity<Void> request = new HttpEntity<>(header);
 
-      var url = rocketChatConfig.getApiUrl(ENDPOINT_SUBSCRIPTION_GET);
-      response = restTemplate.exchange(url, HttpMethod.GET, request, SubscriptionsGetDTO.class);
+      var url = buildUpdatedSincePath(ENDPOINT_SUBSCRIPTION_GET, updatedSince);
+      response =
+          roomInformationRestTemplate.exchange(
+              url, HttpMethod.GET, request, SubscriptionsGetDTO.class);
 
     } catch (HttpStatusCodeException ex) {
       if (ex.getStatusCode().equals(HttpStatus.UNAUTHORIZED)) {
@@ -928,13 +1004,26 @@ public class RocketChatService implements MessageClient {
     }
 
     if (response.getStatusCode() == HttpStatus.OK && nonNull(response.getBody())) {
-      return asList(response.getBody().getUpdate());
+      return response.getBody();
     } else {
       var error = "Could not get Rocket.Chat subscriptions for user id %s";
       throw new InternalServerErrorException(error, LogService::logRocketChatError);
     }
   }
 
+  private String buildUpdatedSincePath(String endpoint, Date updatedSince) {
+    var url = rocketChatConfig.getApiUrl(endpoint);
+    if (isNull(updatedSince)) {
+      return url;
+    }
+
+    return UriComponentsBuilder.fromUriString(url)
+        .queryParam("updatedSince", DateTimeFormatter.ISO_INSTANT.format(updatedSince.toInstant()))
+        .build()
+        .encode()
+        .toUriString();
+  }
+
   @Override
   public Optional<List<Map<String, String>>> findAllChats(String chatUserId) {
     var url = rocketChatConfig.getApiUrl(ENDPOINT_SUBSCRIPTION_GET);
@@ -970,14 +1059,28 @@ public class RocketChatService implements MessageClient {
    * @return the rooms for the user
    */
   public List<RoomsUpdateDTO> getRoomsOfUser(RocketChatCredentials rocketChatCredentials) {
+    return asList(getRoomsOfUserUpdatedSince(rocketChatCredentials, null).getUpdate());
+  }
+
+  /**
+   * Returns the rooms for the given user id which have been updated or removed after the given
+   * date. If no date is given, all rooms of the user are returned.
+   *
+   * @param rocketChatCredentials {@link RocketChatCredentials}
+   * @param updatedSince the date of the last known update, may be null
+   * @return the {@link RoomsGetDTO} containing updated and removed rooms
+   */
+  public RoomsGetDTO getRoomsOfUserUpdatedSince(
+      RocketChatCredentials rocketChatCredentials, Date updatedSince) {
 
     ResponseEntity<RoomsGetDTO> response;
 
     try {
       var header = getStandardHttpHeaders(rocketChatCredentials);
       HttpEntity<Void> request = new HttpEntity<>(header);
-      var url = rocketChatConfig.getApiUrl(ENDPOINT_ROOM_GET);
-      response = restTemplate.exchange(url, HttpMethod.GET, request, RoomsGetDTO.class);
+      var url = buildUpdatedSincePath(ENDPOINT_ROOM_GET, updatedSince);
+      response =
+          roomInformationRestTemplate.exchange(url, HttpMethod.GET, request, RoomsGetDTO.class);
 
     } catch (Exception ex) {
       throw new InternalServerErrorException(
@@ -987,7 +1090,7 @@ public class RocketChatService implements MessageClient {
     }
 
     if (response.getStatusCode() == HttpStatus.OK && nonNull(response.getBody())) {
-      return asList(response.getBody().getUpdate());
+      return response.getBody();
     } else {
       var error =
           String.format(CHAT_ROOM_ERROR_MESSAGE, rocketChatCredentials.getRocketChatUserId());
@@ -1168,90 +1271,129 @@ public class RocketChatService implements MessageClient {
   }
 
   /**
-   * Returns all private Rocket.Chat groups which are inactive (= no messages written) since given
-   * date.
+   * Streams all inactive private Rocket.Chat groups since the given date ordered by the id of their
+   * owner. The groups are requested page by page while the stream is consumed.
    *
    * @param dateTimeSinceInactive the date and time since when the groups should be inactive
-   * @return a {@link List} of {@link GroupDTO} instances
+   * @return a lazy {@link Stream} of {@link GroupDTO} instances
    */
-  public List<GroupDTO> fetchAllInactivePrivateGroupsSinceGivenDate(
-      LocalDateTime dateTimeSinceInactive) throws RocketChatGetGroupsListAllException {
+  public Stream<GroupDTO> streamInactivePrivateGroupsSinceGivenDate(
+      LocalDateTime dateTimeSinceInactive) {
+    var mongoDbQuery = buildInactivePrivateGroupsQuery(dateTimeSinceInactive);
+    var request = new HttpEntity<GroupAddUserBodyDTO>(getStandardHttpHeaders(technicalUser()));
+    var groups =
+        new GroupsListAllPageIterator(
+            offset -> getGroupsListAllPageSortedByOwner(mongoDbQuery, request, offset), PAGE_SIZE);
 
-    String filter =
-        String.format(
-            "{\"lm\": {\"$lt\": {\"$date\": \"%s\"}}, \"$and\": [{\"t\": \"p\"}]}",
-            dateTimeSinceInactive.format(DateTimeFormatter.ofPattern(RC_DATE_TIME_PATTERN)));
-    return getGroupsListAll(filter);
+    return StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(groups, Spliterator.ORDERED | Spliterator.NONNULL),
+        false);
   }
 
   /**
-   * Returns a list of all Rocket.Chat groups.
+   * Streams all inactive private Rocket.Chat groups since the given date ordered by the id of their
+   * owner directly from the room collection of the Rocket.Chat database. Only the group id and the
+   * owner are read. The stream must be closed to release the database cursor.
    *
-   * @param mongoDbQuery mongoDB Query as {@link String}
-   * @return a {@link List} of {@link GroupDTO} instances
-   * @throws RocketChatGetGroupsListAllException when request fails
+   * @param dateTimeSinceInactive the date and time since when the groups should be inactive
+   * @return a lazy {@link Stream} of {@link GroupDTO} instances
    */
-  private List<GroupDTO> getGroupsListAll(String mongoDbQuery)
-      throws RocketChatGetGroupsListAllException {
-
+  public Stream<GroupDTO> streamInactivePrivateGroupsSinceGivenDateFromDatabase(
+      LocalDateTime dateTimeSinceInactive) {
+    MongoCursor<Document> cursor;
     try {
-      var technicalUser = rcCredentialHelper.getTechnicalUser();
-      var header = getStandardHttpHeaders(technicalUser);
-      HttpEntity<GroupAddUserBodyDTO> request = new HttpEntity<>(header);
-
-      return getGroupListAllCombiningPages(mongoDbQuery, request);
-    } catch (Exception ex) {
-      log.error("Rocket.Chat Error: Could not get Rocket.Chat groups list all. Reason: ", ex);
-      throw new RocketChatGetGroupsListAllException(GROUPS_LIST_ALL_ERROR_MESSAGE, ex);
+      cursor =
+          mongoClient
+              .getDatabase(MONGO_DATABASE_NAME)
+              .getCollection(MONGO_COLLECTION_ROOM)
+              .find(
+                  and(
+                      eq("t", "p"),
+                      lt("lm", Date.from(dateTimeSinceInactive.toInstant(ZoneOffset.UTC)))))
+              .projection(include("_id", "u"))
+              .sort(ascending("u._id"))
+              .allowDiskUse(true)
+              .batchSize(PAGE_SIZE)
+              .iterator();
+    } catch (MongoException ex) {
+      throw groupsListAllDatabaseError(ex);
     }
-  }
 
-  private List<GroupDTO> getGroupListAllCombiningPages(
-      String mongoDbQuery, HttpEntity<GroupAddUserBodyDTO> request)
-      throws RocketChatGetGroupsListAllException {
-    List<GroupDTO> result = Lists.newArrayList();
-    int currentOffset = 0;
-    var pageResponse =
-        getGroupsListAllResponseDTOResponseEntityForCurrentOffset(
-            mongoDbQuery, request, currentOffset);
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                failingWithInternalServerError(cursor), Spliterator.ORDERED | Spliterator.NONNULL),
+            false)
+        .map(this::toGroupDTO)
+        .onClose(cursor::close);
+  }
+
+  private Iterator<Document> failingWithInternalServerError(MongoCursor<Document> cursor) {
+    return new Iterator<>() {
+      @Override
+      public boolean hasNext() {
+        try {
+          return cursor.hasNext();
+        } catch (MongoException ex) {
+          throw groupsListAllDatabaseError(ex);
+        }
+      }
 
-    var totalResultSize = 0;
-    if (isResponseSuccessful(pageResponse)) {
-      totalResultSize = pageResponse.getBody().getTotal();
-    }
+      @Override
+      public Document next() {
+        try {
+          return cursor.next();
+        } catch (MongoException ex) {
+          throw groupsListAllDatabaseError(ex);
+        }
+      }
+    };
+  }
 
-    while (isResponseSuccessful(pageResponse) && currentOffset < totalResultSize) {
-      result.addAll(asList(pageResponse.getBody().getGroups()));
-      currentOffset += PAGE_SIZE;
-      pageResponse =
-          getGroupsListAllResponseDTOResponseEntityForCurrentOffset(
-              mongoDbQuery, request, currentOffset);
-    }
-    if (pageResponse.getStatusCode() != HttpStatus.OK || isNull(pageResponse.getBody())) {
-      log.error(
-          "Could not get Rocket.Chat groups list all. Reason {} {}. Url {}",
-          pageResponse.getStatusCode(),
-          pageResponse.getBody(),
-          getGroupAllPaginatedUrl(currentOffset));
-      throw new RocketChatGetGroupsListAllException(GROUPS_LIST_ALL_ERROR_MESSAGE);
+  private InternalServerErrorException groupsListAllDatabaseError(MongoException ex) {
+    return new InternalServerErrorException(
+        GROUPS_LIST_ALL_ERROR_MESSAGE, ex, LogService::logRocketChatError);
+  }
+
+  private GroupDTO toGroupDTO(Document room) {
+    var group = new GroupDTO();
+    group.setId(room.getString("_id"));
+    var owner = (Document) room.get("u");
+    if (nonNull(owner)) {
+      group.setUser(
+          new RocketChatUserDTO(owner.getString("_id"), owner.getString("username"), null, null));
     }
+    return group;
+  }
 
-    return result;
+  private String buildInactivePrivateGroupsQuery(LocalDateTime dateTimeSinceInactive) {
+    return String.format(
+        "{\"lm\": {\"$lt\": {\"$date\": \"%s\"}}, \"$and\": [{\"t\": \"p\"}]}",
+        dateTimeSinceInactive.format(DateTimeFormatter.ofPattern(RC_DATE_TIME_PATTERN)));
   }
 
-  private boolean isResponseSuccessful(ResponseEntity<GroupsListAllResponseDTO> pageResponse) {
-    return pageResponse.getStatusCode() == HttpStatus.OK && nonNull(pageResponse.getBody());
+  private RocketChatCredentials technicalUser() {
+    try {
+      return rcCredentialHelper.getTechnicalUser();
+    } catch (RocketChatUserNotInitializedException ex) {
+      throw new InternalServerErrorException(
+          GROUPS_LIST_ALL_ERROR_MESSAGE, ex, LogService::logRocketChatError);
+    }
   }
 
-  private ResponseEntity<GroupsListAllResponseDTO>
-      getGroupsListAllResponseDTOResponseEntityForCurrentOffset(
-          String mongoDbQuery, HttpEntity<GroupAddUserBodyDTO> request, int currentOffset) {
-    ResponseEntity<GroupsListAllResponseDTO> response;
-    var url = getGroupAllPaginatedUrl(currentOffset);
-    response =
-        restTemplate.exchange(
-            url, HttpMethod.GET, request, GroupsListAllResponseDTO.class, mongoDbQuery);
-    return response;
+  private ResponseEntity<GroupsListAllResponseDTO> getGroupsListAllPageSortedByOwner(
+      String mongoDbQuery, HttpEntity<GroupAddUserBodyDTO> request, int offset) {
+    try {
+      return restTemplate.exchange(
+          getGroupAllPaginatedUrl(offset) + "&sort={sort}",
+          HttpMethod.GET,
+          request,
+          GroupsListAllResponseDTO.class,
+          mongoDbQuery,
+          GROUPS_SORTED_BY_OWNER);
+    } catch (Exception ex) {
+      throw new InternalServerErrorException(
+          GROUPS_LIST_ALL_ERROR_MESSAGE, ex, LogService::logRocketChatError);
+    }
   }
 
   private String getGroupAllPaginatedUrl(int currentOffset) {
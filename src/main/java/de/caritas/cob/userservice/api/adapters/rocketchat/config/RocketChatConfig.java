@@ -15,8 +15,10 @@ import javax.servlet.http.HttpServletRequest;
 import javax.validation.constraints.AssertTrue;
 import javax.validation.constraints.NotBlank;
 import lombok.Data;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.logging.log4j.core.util.CronExpression;
 import org.hibernate.validator.constraints.URL;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
@@ -24,6 +26,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Scope;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.client.RestTemplate;
@@ -55,6 +58,26 @@ public class RocketChatConfig {
         .build();
   }
 
+  /**
+   * Rocket.Chat rest template for the rooms and subscriptions of the session lists. Its read
+   * timeout matches the room information timeout, so a request the session list stopped waiting for
+   * does not keep its thread of the bounded Rocket.Chat pool.
+   */
+  @Bean("roomInformationRestTemplate")
+  public RestTemplate roomInformationRestTemplate(
+      RestTemplateBuilder restTemplateBuilder,
+      CloseableHttpClient pooledHttpClient,
+      @Value("${rocket.chat.room.information.timeoutMillis}") int timeoutMillis) {
+    var requestFactory = new HttpComponentsClientHttpRequestFactory(pooledHttpClient);
+    requestFactory.setReadTimeout(timeoutMillis);
+    var restTemplate =
+        restTemplateBuilder
+            .defaultHeader(CONTENT_TYPE, MediaType.APPLICATION_JSON.toString())
+            .build();
+    restTemplate.setRequestFactory(requestFactory);
+    return restTemplate;
+  }
+
   @Bean
   @Scope(scopeName = WebApplicationContext.SCOPE_REQUEST, proxyMode = ScopedProxyMode.TARGET_CLASS)
   public RocketChatCredentials rocketChatCredentials() {
@@ -9,4 +9,7 @@ public class PresenceListDTO {
   private List<PresenceOtherDTO> users;
 
   private Boolean success;
+
+  /* false if only the changes since the requested date are listed */
+  private Boolean full;
 }
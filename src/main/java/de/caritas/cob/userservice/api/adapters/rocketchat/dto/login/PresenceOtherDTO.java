@@ -21,6 +21,11 @@ public class PresenceOtherDTO {
 
   private PresenceStatus status;
 
+  @JsonIgnore
+  public boolean isPresent() {
+    return nonNull(status) && !status.equals(PresenceStatus.OFFLINE);
+  }
+
   @JsonIgnore
   public boolean isAvailable() {
     return nonNull(status) && status.equals(PresenceStatus.ONLINE);
@@ -13,6 +13,7 @@ import lombok.Setter;
 public class RoomsGetDTO {
 
   private RoomsUpdateDTO[] update;
+  private RoomsUpdateDTO[] remove;
   private boolean success;
   private String status;
   private String message;
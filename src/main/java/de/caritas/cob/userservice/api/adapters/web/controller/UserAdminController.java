@@ -24,12 +24,14 @@ import de.caritas.cob.userservice.api.adapters.web.dto.UpdateAdminConsultantDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.UpdateAgencyAdminDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.UpdateTenantAdminDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.ViolationDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.ViolationReportJobDTO;
 import de.caritas.cob.userservice.api.adapters.web.mapping.AdminDtoMapper;
 import de.caritas.cob.userservice.api.admin.facade.AdminUserFacade;
 import de.caritas.cob.userservice.api.admin.facade.AskerUserAdminFacade;
 import de.caritas.cob.userservice.api.admin.facade.ConsultantAdminFacade;
 import de.caritas.cob.userservice.api.admin.hallink.RootDTOBuilder;
 import de.caritas.cob.userservice.api.admin.report.service.ViolationReportGenerator;
+import de.caritas.cob.userservice.api.admin.report.service.ViolationReportJobService;
 import de.caritas.cob.userservice.api.admin.service.session.SessionAdminService;
 import de.caritas.cob.userservice.api.service.appointment.AppointmentService;
 import de.caritas.cob.userservice.api.service.helper.EmailUrlDecoder;
@@ -44,7 +46,9 @@ import javax.validation.constraints.NotNull;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.validator.routines.EmailValidator;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -58,6 +62,7 @@ public class UserAdminController implements UseradminApi {
 
   private final @NonNull SessionAdminService sessionAdminService;
   private final @NonNull ViolationReportGenerator violationReportGenerator;
+  private final @NonNull ViolationReportJobService violationReportJobService;
   private final @NonNull ConsultantAdminFacade consultantAdminFacade;
   private final @NonNull AskerUserAdminFacade askerUserAdminFacade;
   private final @NonNull AdminUserFacade adminUserFacade;
@@ -119,6 +124,43 @@ public class UserAdminController implements UseradminApi {
     return ResponseEntity.ok(this.violationReportGenerator.generateReport());
   }
 
+  /**
+   * POST /useradmin/report/jobs : Starts the asynchronous generation of a violation report.
+   * [Authorization: Role: user-admin].
+   *
+   * @return the {@link ViolationReportJobDTO} of the started or already running job
+   */
+  @Override
+  public ResponseEntity<ViolationReportJobDTO> startViolationReportJob() {
+    return new ResponseEntity<>(this.violationReportJobService.startJob(), HttpStatus.ACCEPTED);
+  }
+
+  /**
+   * GET /useradmin/report/jobs/{jobId} : Returns the progress of a violation report job.
+   * [Authorization: Role: user-admin].
+   *
+   * @param jobId id of the report job
+   * @return the {@link ViolationReportJobDTO}
+   */
+  @Override
+  public ResponseEntity<ViolationReportJobDTO> getViolationReportJob(@PathVariable String jobId) {
+    return ResponseEntity.ok(this.violationReportJobService.getJob(jobId));
+  }
+
+  /**
+   * GET /useradmin/report/jobs/{jobId}/result : Returns the generated report of a finished
+   * violation report job. [Authorization: Role: user-admin].
+   *
+   * @param jobId id of the report job
+   * @return the report file
+   */
+  @Override
+  public ResponseEntity<Resource> getViolationReportJobResult(@PathVariable String jobId) {
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(this.violationReportJobService.getJobResult(jobId));
+  }
+
   /**
    * Entry point to create a new consultant [Authorization: Role: user-admin].
    *
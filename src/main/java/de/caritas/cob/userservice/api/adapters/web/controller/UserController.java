@@ -964,8 +964,14 @@ public class UserController implements UsersApi {
       throw new InternalServerErrorException(message);
     }
 
-    if (isFalse(messenger.updateE2eKeys(chatUserId, e2eKeyDTO.getPublicKey()))) {
-      var message = String.format("Setting E2E keys in user %s's chats failed", username);
+    var failedRoomIds =
+        messenger.updateE2eKeys(chatUserId, e2eKeyDTO.getPublicKey()).entrySet().stream()
+            .filter(updated -> isFalse(updated.getValue()))
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList());
+    if (!failedRoomIds.isEmpty()) {
+      var message =
+          String.format("Setting E2E keys in user %s's chats %s failed", username, failedRoomIds);
       throw new InternalServerErrorException(message);
     }
 
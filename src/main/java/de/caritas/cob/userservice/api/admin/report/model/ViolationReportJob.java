@@ -0,0 +1,128 @@
+package de.caritas.cob.userservice.api.admin.report.model;
+
+import static de.caritas.cob.userservice.api.helper.CustomLocalDateTime.nowInUtc;
+import static org.apache.commons.lang3.StringUtils.abbreviate;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress and result location of an asynchronously generated violation report. The job is stored
+ * in the database, so every instance of the service can serve its progress. Progress listeners are
+ * notified after each processed rule and every {@value #VIOLATIONS_PER_PROGRESS_UPDATE} written
+ * violations.
+ */
+@Entity
+@Table(name = "violation_report_job")
+@NoArgsConstructor
+@Getter
+public class ViolationReportJob {
+
+  public enum Status {
+    RUNNING,
+    FINISHED,
+    FAILED
+  }
+
+  private static final long VIOLATIONS_PER_PROGRESS_UPDATE = 1000L;
+  private static final int ERROR_MAX_LENGTH = 255;
+
+  @Id
+  @Column(name = "id", updatable = false, nullable = false, length = 36)
+  private String id;
+
+  @Column(name = "report_file", updatable = false, nullable = false)
+  private String reportFilePath;
+
+  @Column(name = "start_date", updatable = false, nullable = false)
+  private LocalDateTime startDate;
+
+  @Column(name = "update_date", nullable = false)
+  private LocalDateTime updateDate;
+
+  @Column(name = "finish_date")
+  private LocalDateTime finishDate;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", nullable = false, length = 8)
+  private Status status;
+
+  @Column(name = "processed_rules", nullable = false)
+  private int processedRules;
+
+  @Column(name = "total_rules", nullable = false)
+  private int totalRules;
+
+  @Column(name = "violations", nullable = false)
+  private long violations;
+
+  @Column(name = "error")
+  private String error;
+
+  @Transient private Runnable progressListener = () -> {};
+
+  public ViolationReportJob(String id, Path reportFile) {
+    this.id = id;
+    this.reportFilePath = reportFile.toString();
+    this.startDate = nowInUtc();
+    this.updateDate = this.startDate;
+    this.status = Status.RUNNING;
+  }
+
+  public Path getReportFile() {
+    return Paths.get(this.reportFilePath);
+  }
+
+  public void onProgress(Runnable progressListener) {
+    this.progressListener = progressListener;
+  }
+
+  public void start(int totalRules) {
+    this.totalRules = totalRules;
+    progressed();
+  }
+
+  public void ruleProcessed() {
+    this.processedRules++;
+    progressed();
+  }
+
+  public void violationWritten() {
+    this.violations++;
+    if (this.violations % VIOLATIONS_PER_PROGRESS_UPDATE == 0) {
+      progressed();
+    }
+  }
+
+  public void finish() {
+    this.finishDate = nowInUtc();
+    this.updateDate = this.finishDate;
+    this.status = Status.FINISHED;
+  }
+
+  public void fail(String error) {
+    this.finishDate = nowInUtc();
+    this.updateDate = this.finishDate;
+    this.error = abbreviate(error, ERROR_MAX_LENGTH);
+    this.status = Status.FAILED;
+  }
+
+  public boolean isRunning() {
+    return this.status == Status.RUNNING;
+  }
+
+  private void progressed() {
+    this.updateDate = nowInUtc();
+    this.progressListener.run();
+  }
+}
@@ -2,6 +2,7 @@ package de.caritas.cob.userservice.api.admin.report.model;
 
 import de.caritas.cob.userservice.api.adapters.web.dto.ViolationDTO;
 import java.util.List;
+import java.util.function.Consumer;
 
 /** Representation of an rule used to generate violation reports. */
 public interface ViolationReportRule {
@@ -12,4 +13,14 @@ public interface ViolationReportRule {
    * @return a list of found {@link ViolationDTO}
    */
   List<ViolationDTO> generateViolations();
+
+  /**
+   * Hands all violations on implemented condition to the given consumer. Rules checking large
+   * amounts of data override this to pass on violations as soon as they are found.
+   *
+   * @param violationConsumer the consumer of the found {@link ViolationDTO}s
+   */
+  default void streamViolations(Consumer<ViolationDTO> violationConsumer) {
+    generateViolations().forEach(violationConsumer);
+  }
 }
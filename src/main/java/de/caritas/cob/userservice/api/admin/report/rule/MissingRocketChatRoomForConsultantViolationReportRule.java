@@ -1,9 +1,11 @@
 package de.caritas.cob.userservice.api.admin.report.rule;
 
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
+import com.google.common.collect.Lists;
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService;
-import de.caritas.cob.userservice.api.adapters.rocketchat.dto.user.UserInfoResponseDTO;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.user.UserRoomDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.ViolationDTO;
 import de.caritas.cob.userservice.api.admin.report.builder.ViolationByConsultantBuilder;
@@ -11,29 +13,44 @@ import de.caritas.cob.userservice.api.admin.report.model.ViolationReportRule;
 import de.caritas.cob.userservice.api.model.Consultant;
 import de.caritas.cob.userservice.api.model.Session;
 import de.caritas.cob.userservice.api.model.Session.SessionStatus;
-import de.caritas.cob.userservice.api.port.out.ConsultantRepository;
 import de.caritas.cob.userservice.api.port.out.SessionRepository;
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
-import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Violation rule to find consultants without necessary rocket chat room for directly assigned
- * sessions.
+ * sessions. The rooms of each consultant are loaded once from Rocket.Chat, chunks of consultants
+ * are checked concurrently.
  */
 @Component
-@RequiredArgsConstructor
 public class MissingRocketChatRoomForConsultantViolationReportRule implements ViolationReportRule {
 
-  private final @NonNull ConsultantRepository consultantRepository;
-  private final @NonNull SessionRepository sessionRepository;
-  private final @NonNull RocketChatService rocketChatService;
+  private final SessionRepository sessionRepository;
+  private final RocketChatService rocketChatService;
+  private final Executor rocketChatTaskExecutor;
+
+  @Value("${violation.report.rocketchat.chunkSize}")
+  private int chunkSize;
+
+  public MissingRocketChatRoomForConsultantViolationReportRule(
+      SessionRepository sessionRepository,
+      RocketChatService rocketChatService,
+      @Qualifier("rocketChatTaskExecutor") Executor rocketChatTaskExecutor) {
+    this.sessionRepository = requireNonNull(sessionRepository);
+    this.rocketChatService = requireNonNull(rocketChatService);
+    this.rocketChatTaskExecutor = requireNonNull(rocketChatTaskExecutor);
+  }
 
   /**
    * Generates all violations for {@link Consultant} without required rocket chat room assignment.
@@ -41,53 +58,77 @@ public class MissingRocketChatRoomForConsultantViolationReportRule implements Vi
    * @return the generated violations
    */
   @Override
-  @Transactional
+  @Transactional(readOnly = true)
   public List<ViolationDTO> generateViolations() {
-    return StreamSupport.stream(this.consultantRepository.findAll().spliterator(), false)
+    var violations = new ArrayList<ViolationDTO>();
+    streamViolations(violations::add);
+    return violations;
+  }
+
+  /**
+   * Hands all violations for {@link Consultant} without required rocket chat room assignment to the
+   * given consumer, chunk by chunk of checked consultants.
+   *
+   * @param violationConsumer the consumer of the found {@link ViolationDTO}s
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public void streamViolations(Consumer<ViolationDTO> violationConsumer) {
+    var sessionsByConsultant =
+        this.sessionRepository.findByStatus(SessionStatus.IN_PROGRESS).stream()
+            .filter(session -> nonNull(session.getConsultant()))
+            .collect(
+                Collectors.groupingBy(
+                    Session::getConsultant, LinkedHashMap::new, Collectors.toList()));
+
+    Lists.partition(new ArrayList<>(sessionsByConsultant.entrySet()), chunkSize)
+        .forEach(chunk -> checkChunk(chunk, violationConsumer));
+  }
+
+  private void checkChunk(
+      List<Entry<Consultant, List<Session>>> consultantSessions,
+      Consumer<ViolationDTO> violationConsumer) {
+    consultantSessions.stream()
         .map(
-            consultant ->
-                this.sessionRepository.findByConsultantAndStatus(
-                    consultant, SessionStatus.IN_PROGRESS))
-        .flatMap(Collection::stream)
-        .map(this::fromMissingSession)
-        .filter(Objects::nonNull)
-        .collect(Collectors.toList());
+            entry ->
+                CompletableFuture.supplyAsync(
+                    () -> fromMissingSessions(entry.getKey(), entry.getValue()),
+                    rocketChatTaskExecutor))
+        .collect(Collectors.toList())
+        .forEach(violations -> violations.join().forEach(violationConsumer));
   }
 
-  private ViolationDTO fromMissingSession(Session session) {
-    UserInfoResponseDTO userInfoWithRooms;
+  private List<ViolationDTO> fromMissingSessions(Consultant consultant, List<Session> sessions) {
+    List<UserRoomDTO> rooms;
     try {
-      userInfoWithRooms =
-          this.rocketChatService.getUserInfo(session.getConsultant().getRocketChatId());
+      rooms = this.rocketChatService.getUserInfo(consultant.getRocketChatId()).getUser().getRooms();
     } catch (Exception e) {
-      return ViolationByConsultantBuilder.getInstance(session.getConsultant())
-          .withReason(e.getCause().getMessage())
-          .build();
+      return sessions.stream()
+          .map(
+              session ->
+                  ViolationByConsultantBuilder.getInstance(consultant)
+                      .withReason(e.getCause().getMessage())
+                      .build())
+          .collect(Collectors.toList());
     }
-    List<UserRoomDTO> rooms = userInfoWithRooms.getUser().getRooms();
-    List<String> rocketChatRoomsOfUser =
-        rooms.stream().map(UserRoomDTO::getRoomId).collect(Collectors.toList());
 
-    String violationMessage = buildPossibleViolationMessage(session, rocketChatRoomsOfUser);
-    if (isNotBlank(violationMessage)) {
-      return ViolationByConsultantBuilder.getInstance(session.getConsultant())
-          .withReason(violationMessage)
-          .build();
-    }
-    return null;
+    var rocketChatRoomsOfUser =
+        rooms.stream().map(UserRoomDTO::getRoomId).collect(Collectors.toSet());
+    return sessions.stream()
+        .filter(session -> isGroupMissing(session.getGroupId(), rocketChatRoomsOfUser))
+        .map(
+            session ->
+                ViolationByConsultantBuilder.getInstance(consultant)
+                    .withReason(buildViolationMessage(session))
+                    .build())
+        .collect(Collectors.toList());
   }
 
-  private String buildPossibleViolationMessage(
-      Session session, List<String> rocketChatRoomsOfUser) {
-    String violationMessage = "";
-
-    if (isGroupMissing(session.getGroupId(), rocketChatRoomsOfUser)) {
-      violationMessage += "Missing room with id " + session.getGroupId() + " in rocket chat";
-    }
-    return violationMessage;
+  private String buildViolationMessage(Session session) {
+    return "Missing room with id " + session.getGroupId() + " in rocket chat";
   }
 
-  private boolean isGroupMissing(String groupId, List<String> rocketChatRooms) {
+  private boolean isGroupMissing(String groupId, Set<String> rocketChatRooms) {
     return isNotBlank(groupId) && !rocketChatRooms.contains(groupId);
   }
 }
@@ -0,0 +1,40 @@
+package de.caritas.cob.userservice.api.admin.report.scheduler;
+
+import de.caritas.cob.userservice.api.admin.report.service.ViolationReportJobService;
+import de.caritas.cob.userservice.api.service.schedulerlock.SchedulerLockService;
+import de.caritas.cob.userservice.api.tenant.TenantContext;
+import de.caritas.cob.userservice.api.tenant.TenantContextProvider;
+import java.time.Duration;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/** Scheduler to remove expired and to fail stale violation report jobs on one instance. */
+@Component
+@RequiredArgsConstructor
+public class ViolationReportJobCleanupScheduler {
+
+  private static final String LOCK_NAME = "violationReportJobCleanup";
+  private static final Duration LOCK_LEASE = Duration.ofMinutes(10);
+
+  private final @NonNull ViolationReportJobService violationReportJobService;
+  private final @NonNull SchedulerLockService schedulerLockService;
+  private final @NonNull TenantContextProvider tenantContextProvider;
+
+  /** Entry method to clean up the violation report jobs. */
+  @Scheduled(cron = "${violation.report.job.cleanup.cron}")
+  public void cleanUpViolationReportJobs() {
+    if (!schedulerLockService.tryLock(LOCK_NAME, LOCK_LEASE)) {
+      return;
+    }
+
+    tenantContextProvider.setTechnicalContextIfMultiTenancyIsEnabled();
+    try {
+      violationReportJobService.cleanUpJobs();
+    } finally {
+      TenantContext.clear();
+      schedulerLockService.unlock(LOCK_NAME);
+    }
+  }
+}
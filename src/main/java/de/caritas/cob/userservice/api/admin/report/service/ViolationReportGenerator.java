@@ -3,28 +3,33 @@ package de.caritas.cob.userservice.api.admin.report.service;
 import static de.caritas.cob.userservice.api.helper.CustomLocalDateTime.nowInUtc;
 import static java.time.format.DateTimeFormatter.ofPattern;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import de.caritas.cob.userservice.agencyadminserivce.generated.web.model.AgencyAdminResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.ViolationDTO;
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportJob;
 import de.caritas.cob.userservice.api.admin.report.model.ViolationReportRule;
 import de.caritas.cob.userservice.api.admin.report.registry.ViolationRuleRegistry;
-import de.caritas.cob.userservice.api.admin.service.agency.AgencyAdminService;
+import de.caritas.cob.userservice.api.admin.service.agency.AgencyCatalogue;
 import io.swagger.util.Json;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
 import java.time.format.DateTimeFormatter;
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.UUID;
+import java.util.function.Consumer;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.springframework.stereotype.Service;
 
-/** Generator for all {@link ViolationReportRule} beans. */
+/**
+ * Generator for all {@link ViolationReportRule} beans. Violations are written to the report file as
+ * soon as a rule hands them out, so the report is never held in memory as a whole.
+ */
 @Service
 @RequiredArgsConstructor
 public class ViolationReportGenerator {
@@ -33,7 +38,7 @@ public class ViolationReportGenerator {
   private static final DateTimeFormatter DATE_TIME_FORMAT = ofPattern("yyyy-MM-dd--hh-mm");
 
   private final @NonNull ViolationRuleRegistry violationRuleRegistry;
-  private final @NonNull AgencyAdminService agencyAdminService;
+  private final @NonNull AgencyCatalogue agencyCatalogue;
 
   /**
    * Generates a list of all located known violations.
@@ -42,25 +47,56 @@ public class ViolationReportGenerator {
    */
   @SneakyThrows
   public List<ViolationDTO> generateReport() {
-    List<AgencyAdminResponseDTO> allAgencies = this.agencyAdminService.retrieveAllAgencies();
-    List<ViolationDTO> violations =
-        this.violationRuleRegistry.getViolationReportRules(allAgencies).stream()
-            .map(ViolationReportRule::generateViolations)
-            .flatMap(Collection::parallelStream)
-            .collect(Collectors.toList());
-
-    String violationJson = Json.pretty().writeValueAsString(violations);
-    Files.write(
-        buildFilePath(), violationJson.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE);
+    var violations = new ArrayList<ViolationDTO>();
+    var reportFile =
+        Paths.get(VIOLATION_REPORT_BASE_PATH + nowInUtc().format(DATE_TIME_FORMAT) + ".json");
+    writeReport(new ViolationReportJob(UUID.randomUUID().toString(), reportFile), violations::add);
 
     return violations;
   }
 
-  private Path buildFilePath() throws IOException {
-    String path = VIOLATION_REPORT_BASE_PATH + nowInUtc().format(DATE_TIME_FORMAT) + ".json";
-    if (!Paths.get(path).getParent().toFile().exists()) {
-      Files.createDirectory(Paths.get(path).getParent());
+  /**
+   * Writes all located known violations as json array to the report file of the given job and keeps
+   * track of the progress in the job.
+   *
+   * @param job the {@link ViolationReportJob} to generate the report for
+   */
+  @SneakyThrows
+  public void writeReport(ViolationReportJob job) {
+    writeReport(job, violation -> {});
+  }
+
+  private void writeReport(ViolationReportJob job, Consumer<ViolationDTO> violationConsumer)
+      throws IOException {
+    List<AgencyAdminResponseDTO> allAgencies = this.agencyCatalogue.getAllAgencies();
+    var reportRules = this.violationRuleRegistry.getViolationReportRules(allAgencies);
+    job.start(reportRules.size());
+
+    Files.createDirectories(job.getReportFile().getParent());
+    try (var outputStream = Files.newOutputStream(job.getReportFile());
+        var jsonGenerator =
+            Json.mapper().getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+      jsonGenerator.useDefaultPrettyPrinter();
+      jsonGenerator.writeStartArray();
+      reportRules.forEach(
+          reportRule -> {
+            reportRule.streamViolations(
+                violation -> {
+                  writeViolation(jsonGenerator, violation);
+                  job.violationWritten();
+                  violationConsumer.accept(violation);
+                });
+            job.ruleProcessed();
+          });
+      jsonGenerator.writeEndArray();
+    }
+  }
+
+  private void writeViolation(JsonGenerator jsonGenerator, ViolationDTO violation) {
+    try {
+      jsonGenerator.writeObject(violation);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
     }
-    return Paths.get(path);
   }
 }
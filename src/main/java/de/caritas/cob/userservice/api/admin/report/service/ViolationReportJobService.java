@@ -0,0 +1,223 @@
+package de.caritas.cob.userservice.api.admin.report.service;
+
+import static de.caritas.cob.userservice.api.helper.CustomLocalDateTime.nowInUtc;
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+import de.caritas.cob.userservice.api.adapters.web.dto.ViolationReportJobDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.ViolationReportJobDTO.StatusEnum;
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportJob;
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportJob.Status;
+import de.caritas.cob.userservice.api.exception.httpresponses.ConflictException;
+import de.caritas.cob.userservice.api.exception.httpresponses.NotFoundException;
+import de.caritas.cob.userservice.api.port.out.ViolationReportJobRepository;
+import de.caritas.cob.userservice.api.service.schedulerlock.SchedulerLockService;
+import de.caritas.cob.userservice.api.tenant.TenantContext;
+import de.caritas.cob.userservice.api.tenant.TenantData;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs the violation report generation as asynchronous job. Only one job runs at a time, the
+ * progress is polled by the job id and the finished report is served from its file. The report is
+ * generated in the tenant context of the user starting the job.
+ *
+ * <p>Jobs are stored in the database and the reports are written to the configured report
+ * directory, which has to be shared by all instances of the service. Finished jobs and their files
+ * are removed after the configured retention time, running jobs without progress for the configured
+ * stale time are marked as failed.
+ */
+@Slf4j
+@Service
+public class ViolationReportJobService {
+
+  private static final String START_LOCK_NAME = "violationReportJobStart";
+  private static final Duration START_LOCK_LEASE = Duration.ofMinutes(1);
+
+  private final ViolationReportGenerator violationReportGenerator;
+  private final ViolationReportJobRepository violationReportJobRepository;
+  private final SchedulerLockService schedulerLockService;
+  private final Executor taskExecutor;
+
+  @Value("${violation.report.job.retentionHours}")
+  private long retentionHours;
+
+  @Value("${violation.report.job.staleMinutes}")
+  private long staleMinutes;
+
+  @Value("${violation.report.job.directory}")
+  private String reportDirectory;
+
+  public ViolationReportJobService(
+      ViolationReportGenerator violationReportGenerator,
+      ViolationReportJobRepository violationReportJobRepository,
+      SchedulerLockService schedulerLockService,
+      @Qualifier("taskExecutor") Executor taskExecutor) {
+    this.violationReportGenerator = requireNonNull(violationReportGenerator);
+    this.violationReportJobRepository = requireNonNull(violationReportJobRepository);
+    this.schedulerLockService = requireNonNull(schedulerLockService);
+    this.taskExecutor = requireNonNull(taskExecutor);
+  }
+
+  /**
+   * Starts a new report job, if no other job is running.
+   *
+   * @return the {@link ViolationReportJobDTO} of the started or the already running job
+   */
+  public synchronized ViolationReportJobDTO startJob() {
+    if (!schedulerLockService.tryLock(START_LOCK_NAME, START_LOCK_LEASE)) {
+      throw new ConflictException("Another violation report job is being started");
+    }
+
+    try {
+      failStaleJobs();
+      var runningJob = violationReportJobRepository.findFirstByStatus(Status.RUNNING);
+      if (runningJob.isPresent()) {
+        return toDto(runningJob.get());
+      }
+
+      return toDto(submitNewJob());
+    } finally {
+      schedulerLockService.unlock(START_LOCK_NAME);
+    }
+  }
+
+  private ViolationReportJob submitNewJob() {
+    var jobId = UUID.randomUUID().toString();
+    var job =
+        violationReportJobRepository.save(
+            new ViolationReportJob(jobId, Paths.get(reportDirectory, reportFileName(jobId))));
+    var tenantData = TenantContext.getCurrentTenantData();
+    try {
+      taskExecutor.execute(() -> generateReport(job, tenantData));
+    } catch (TaskRejectedException e) {
+      violationReportJobRepository.delete(job);
+      throw e;
+    }
+
+    return job;
+  }
+
+  /**
+   * Returns the progress of a report job.
+   *
+   * @param jobId the id of the job
+   * @return the {@link ViolationReportJobDTO}
+   */
+  public ViolationReportJobDTO getJob(String jobId) {
+    return toDto(findJob(jobId));
+  }
+
+  /**
+   * Returns the report file of a finished report job.
+   *
+   * @param jobId the id of the job
+   * @return the report file as {@link Resource}
+   */
+  public Resource getJobResult(String jobId) {
+    var job = findJob(jobId);
+    if (job.getStatus() != Status.FINISHED) {
+      throw new ConflictException(
+          String.format("Violation report job %s is not finished successfully", jobId));
+    }
+    if (!Files.isReadable(job.getReportFile())) {
+      throw new NotFoundException("Report file of violation report job %s not found", jobId);
+    }
+
+    return new FileSystemResource(job.getReportFile());
+  }
+
+  /**
+   * Marks running jobs without progress for the stale time as failed and removes finished jobs and
+   * their report files after the retention time.
+   */
+  public void cleanUpJobs() {
+    failStaleJobs();
+    removeExpiredJobs();
+  }
+
+  private void generateReport(ViolationReportJob job, TenantData tenantData) {
+    TenantContext.setCurrentTenantData(tenantData);
+    job.onProgress(() -> violationReportJobRepository.save(job));
+    try {
+      violationReportGenerator.writeReport(job);
+      job.finish();
+    } catch (Exception e) {
+      log.error("Violation report job {} failed", job.getId(), e);
+      job.fail(e.getMessage());
+    } finally {
+      violationReportJobRepository.save(job);
+      TenantContext.clear();
+    }
+  }
+
+  private ViolationReportJob findJob(String jobId) {
+    return violationReportJobRepository
+        .findById(jobId)
+        .orElseThrow(() -> new NotFoundException("Violation report job %s not found", jobId));
+  }
+
+  private void failStaleJobs() {
+    var staleDate = nowInUtc().minusMinutes(staleMinutes);
+    violationReportJobRepository
+        .findByStatusAndUpdateDateBefore(Status.RUNNING, staleDate)
+        .forEach(
+            job -> {
+              log.warn(
+                  "Violation report job {} made no progress and is marked as failed", job.getId());
+              job.fail("No progress since " + job.getUpdateDate());
+              violationReportJobRepository.save(job);
+            });
+  }
+
+  private void removeExpiredJobs() {
+    var expiryDate = nowInUtc().minusHours(retentionHours);
+    violationReportJobRepository
+        .findByStatusNotAndFinishDateBefore(Status.RUNNING, expiryDate)
+        .forEach(
+            job -> {
+              deleteReportFile(job);
+              violationReportJobRepository.delete(job);
+            });
+  }
+
+  private void deleteReportFile(ViolationReportJob job) {
+    try {
+      Files.deleteIfExists(job.getReportFile());
+    } catch (IOException e) {
+      log.warn("Report file of violation report job {} could not be deleted", job.getId(), e);
+    }
+  }
+
+  private ViolationReportJobDTO toDto(ViolationReportJob job) {
+    return new ViolationReportJobDTO()
+        .id(job.getId())
+        .status(StatusEnum.fromValue(job.getStatus().name()))
+        .processedRules(job.getProcessedRules())
+        .totalRules(job.getTotalRules())
+        .violations(job.getViolations())
+        .startedAt(toIsoString(job.getStartDate()))
+        .finishedAt(toIsoString(job.getFinishDate()))
+        .error(job.getError());
+  }
+
+  private String toIsoString(LocalDateTime dateTime) {
+    return isNull(dateTime) ? null : dateTime.toString();
+  }
+
+  private static String reportFileName(String jobId) {
+    return "violation_report_" + jobId + ".json";
+  }
+}
@@ -8,7 +8,7 @@ import de.caritas.cob.userservice.api.adapters.web.dto.AgencyAdminResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.CreateAdminAgencyRelationDTO;
 import de.caritas.cob.userservice.api.admin.service.admin.create.agencyrelation.CreateAdminAgencyRelationService;
 import de.caritas.cob.userservice.api.admin.service.admin.update.agencyrelation.SynchronizeAdminAgencyRelation;
-import de.caritas.cob.userservice.api.admin.service.agency.AgencyAdminService;
+import de.caritas.cob.userservice.api.admin.service.agency.AgencyCatalogue;
 import de.caritas.cob.userservice.api.exception.httpresponses.CustomValidationHttpStatusException;
 import de.caritas.cob.userservice.api.model.AdminAgency;
 import de.caritas.cob.userservice.api.model.AdminAgency.AdminAgencyBase;
@@ -27,7 +27,7 @@ import org.springframework.stereotype.Service;
 public class AdminAgencyRelationService {
 
   private final @NonNull AdminAgencyRepository adminAgencyRepository;
-  private final @NonNull AgencyAdminService agencyAdminService;
+  private final @NonNull AgencyCatalogue agencyCatalogue;
   private final @NonNull CreateAdminAgencyRelationService createAdminAgencyRelationService;
   private final @NonNull SynchronizeAdminAgencyRelation synchronizeAdminAgencyRelation;
 
@@ -61,8 +61,7 @@ public class AdminAgencyRelationService {
         adminAgencies.stream().map(AdminAgencyBase::getAgencyId).collect(Collectors.toSet());
 
     var agencies =
-        this.agencyAdminService.retrieveAllAgencies().stream()
-            .filter(agency -> agencyIds.contains(agency.getId()))
+        this.agencyCatalogue.findAgencies(agencyIds).stream()
             .map(this::buildCopiedAgency)
             .collect(Collectors.toList());
 
@@ -1,18 +1,22 @@
 package de.caritas.cob.userservice.api.admin.service.agency;
 
-import static java.util.Objects.requireNonNull;
+import static de.caritas.cob.userservice.api.config.apiclient.ApiClientHeaders.callWithHeaders;
+import static java.util.Objects.nonNull;
+import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 
-import de.caritas.cob.userservice.agencyadminserivce.generated.ApiClient;
 import de.caritas.cob.userservice.agencyadminserivce.generated.web.AdminAgencyControllerApi;
 import de.caritas.cob.userservice.agencyadminserivce.generated.web.model.AgencyAdminFullResponseDTO;
 import de.caritas.cob.userservice.agencyadminserivce.generated.web.model.AgencyAdminResponseDTO;
 import de.caritas.cob.userservice.api.config.apiclient.AgencyAdminServiceApiControllerFactory;
+import de.caritas.cob.userservice.api.port.out.IdentityClient;
+import de.caritas.cob.userservice.api.port.out.IdentityClientConfig;
 import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
 import de.caritas.cob.userservice.api.service.httpheader.TenantHeaderSupplier;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 
@@ -26,27 +30,69 @@ public class AgencyAdminService {
 
   private final @NonNull AgencyAdminServiceApiControllerFactory
       agencyAdminServiceApiControllerFactory;
+  private final @NonNull IdentityClient identityClient;
+  private final @NonNull IdentityClientConfig identityClientConfig;
+
+  @Value("${agency.admin.service.pageSize}")
+  private int pageSize;
 
   /**
-   * Retrieves all agencies provided by agency service. Important hint: Depending on the amount of
-   * existing agencies that call might need a few seconds to be performed.
+   * Retrieves all agencies provided by agency service page by page. Important hint: Depending on
+   * the amount of existing agencies that call might need a few seconds to be performed.
    *
    * @return all existing agencies
    */
   public List<AgencyAdminResponseDTO> retrieveAllAgencies() {
+    return retrieveAllAgencies(buildDefaultHeaders());
+  }
+
+  /**
+   * Retrieves all agencies provided by agency service page by page, authorized as technical user.
+   *
+   * @return all existing agencies
+   */
+  public List<AgencyAdminResponseDTO> retrieveAllAgenciesAsTechnicalUser() {
+    return retrieveAllAgencies(buildTechnicalUserHeaders());
+  }
+
+  private List<AgencyAdminResponseDTO> retrieveAllAgencies(HttpHeaders headers) {
     AdminAgencyControllerApi controllerApi =
         agencyAdminServiceApiControllerFactory.createControllerApi();
-    addDefaultHeaders(controllerApi.getApiClient());
-    return requireNonNull(
-            controllerApi.searchAgencies(0, Integer.MAX_VALUE, null, null).getEmbedded())
-        .stream()
-        .map(AgencyAdminFullResponseDTO::getEmbedded)
-        .collect(Collectors.toList());
+    return callWithHeaders(headers, () -> searchAllAgencies(controllerApi));
+  }
+
+  private List<AgencyAdminResponseDTO> searchAllAgencies(AdminAgencyControllerApi controllerApi) {
+    var agencies = new ArrayList<AgencyAdminResponseDTO>();
+    for (var page = 1; ; page++) {
+      var searchResult = controllerApi.searchAgencies(page, pageSize, null, null);
+      var pageAgencies = searchResult.getEmbedded();
+      if (isEmpty(pageAgencies)) {
+        break;
+      }
+      pageAgencies.stream().map(AgencyAdminFullResponseDTO::getEmbedded).forEach(agencies::add);
+      if (pageAgencies.size() < pageSize || isComplete(agencies, searchResult.getTotal())) {
+        break;
+      }
+    }
+    return agencies;
+  }
+
+  private boolean isComplete(List<AgencyAdminResponseDTO> agencies, Integer total) {
+    return nonNull(total) && agencies.size() >= total;
   }
 
-  public void addDefaultHeaders(ApiClient apiClient) {
+  private HttpHeaders buildDefaultHeaders() {
     HttpHeaders headers = this.securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders();
     tenantHeaderSupplier.addTenantHeader(headers);
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
+    return headers;
+  }
+
+  private HttpHeaders buildTechnicalUserHeaders() {
+    var techUser = identityClientConfig.getTechnicalUser();
+    var keycloakLogin = identityClient.loginUser(techUser.getUsername(), techUser.getPassword());
+    var headers =
+        securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders(keycloakLogin.getAccessToken());
+    tenantHeaderSupplier.addTenantHeader(headers);
+    return headers;
   }
 }
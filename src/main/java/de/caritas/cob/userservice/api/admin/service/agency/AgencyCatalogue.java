@@ -0,0 +1,152 @@
+package de.caritas.cob.userservice.api.admin.service.agency;
+
+import static de.caritas.cob.userservice.api.helper.CustomLocalDateTime.nowInUtc;
+import static de.caritas.cob.userservice.api.tenant.TenantContext.TECHNICAL_TENANT_ID;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import de.caritas.cob.userservice.agencyadminserivce.generated.web.model.AgencyAdminResponseDTO;
+import de.caritas.cob.userservice.api.tenant.TenantContext;
+import de.caritas.cob.userservice.api.tenant.TenantContextProvider;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local snapshots of the agencies of the agency service, one per tenant. The snapshot of a tenant
+ * is loaded page by page as technical user with the tenant header of the calling tenant on first
+ * access and refreshed in the background, so admin requests only look up the agencies they need
+ * instead of downloading all agencies. Calls without tenant and technical or super admin calls
+ * share the snapshot of all agencies. Lookups of agencies unknown to the snapshot trigger a reload,
+ * at most once per configured interval.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AgencyCatalogue {
+
+  private final @NonNull AgencyAdminService agencyAdminService;
+  private final @NonNull TenantContextProvider tenantContextProvider;
+
+  @Value("${agency.catalogue.minReloadIntervalMillis}")
+  private long minReloadIntervalMillis;
+
+  private final Map<Long, AgencyCatalogueSnapshot> snapshotsByTenant = new ConcurrentHashMap<>();
+
+  /**
+   * Returns all agencies of the tenant of the caller.
+   *
+   * @return all agencies of the current snapshot of the tenant
+   */
+  public List<AgencyAdminResponseDTO> getAllAgencies() {
+    return currentSnapshot().getAgencies();
+  }
+
+  /**
+   * Returns the agencies with the given ids, unknown ids are skipped.
+   *
+   * @param agencyIds the ids of the agencies
+   * @return the known agencies
+   */
+  public List<AgencyAdminResponseDTO> findAgencies(Collection<Long> agencyIds) {
+    var currentSnapshot = currentSnapshot();
+    if (!currentSnapshot.containsAll(agencyIds) && isReloadAllowed(currentSnapshot)) {
+      currentSnapshot = reload(currentTenantKey(), currentSnapshot.getVersion());
+    }
+    return currentSnapshot.findAgencies(agencyIds);
+  }
+
+  /**
+   * Returns the agency with the given id.
+   *
+   * @param agencyId the id of the agency
+   * @return an {@link Optional} of the agency
+   */
+  public Optional<AgencyAdminResponseDTO> findAgency(Long agencyId) {
+    return findAgencies(List.of(agencyId)).stream().findFirst();
+  }
+
+  /**
+   * Returns the agencies of the given consulting type.
+   *
+   * @param consultingTypeId the id of the consulting type
+   * @return the agencies of the consulting type
+   */
+  public List<AgencyAdminResponseDTO> findAgenciesByConsultingType(int consultingTypeId) {
+    return currentSnapshot().findAgenciesByConsultingType(consultingTypeId);
+  }
+
+  /** Replaces the loaded snapshots with the current agencies of the agency service. */
+  @Scheduled(
+      fixedDelayString = "${agency.catalogue.refreshMillis}",
+      initialDelayString = "${agency.catalogue.refreshMillis}")
+  public void refresh() {
+    snapshotsByTenant.forEach(
+        (tenantKey, snapshot) -> {
+          try {
+            reload(tenantKey, snapshot.getVersion());
+          } catch (Exception e) {
+            log.warn(
+                "Agency catalogue of tenant {} could not be refreshed, keeping the current snapshot",
+                tenantKey,
+                e);
+          }
+        });
+  }
+
+  private AgencyCatalogueSnapshot currentSnapshot() {
+    var tenantKey = currentTenantKey();
+    var currentSnapshot = snapshotsByTenant.get(tenantKey);
+    return isNull(currentSnapshot) ? reload(tenantKey, 0L) : currentSnapshot;
+  }
+
+  private Long currentTenantKey() {
+    var tenantId = TenantContext.getCurrentTenant();
+    return isNull(tenantId) ? TECHNICAL_TENANT_ID : tenantId;
+  }
+
+  private boolean isReloadAllowed(AgencyCatalogueSnapshot currentSnapshot) {
+    return currentSnapshot
+        .getLoadDate()
+        .plus(Duration.ofMillis(minReloadIntervalMillis))
+        .isBefore(nowInUtc());
+  }
+
+  private synchronized AgencyCatalogueSnapshot reload(Long tenantKey, long outdatedVersion) {
+    var snapshot = snapshotsByTenant.get(tenantKey);
+    if (nonNull(snapshot) && snapshot.getVersion() > outdatedVersion) {
+      return snapshot;
+    }
+
+    var callerTenantData = TenantContext.getCurrentTenantData();
+    try {
+      TenantContext.clear();
+      if (TECHNICAL_TENANT_ID.equals(tenantKey)) {
+        tenantContextProvider.setTechnicalContextIfMultiTenancyIsEnabled();
+      } else {
+        TenantContext.setCurrentTenant(tenantKey);
+      }
+      var agencies = agencyAdminService.retrieveAllAgenciesAsTechnicalUser();
+      var version = outdatedVersion + 1;
+      snapshot = new AgencyCatalogueSnapshot(version, nowInUtc(), agencies);
+      snapshotsByTenant.put(tenantKey, snapshot);
+      log.debug(
+          "Loaded {} agencies of tenant {} into catalogue version {}",
+          agencies.size(),
+          tenantKey,
+          version);
+      return snapshot;
+    } finally {
+      TenantContext.setCurrentTenantData(callerTenantData);
+    }
+  }
+}
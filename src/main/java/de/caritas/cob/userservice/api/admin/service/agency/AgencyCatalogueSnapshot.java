@@ -0,0 +1,73 @@
+package de.caritas.cob.userservice.api.admin.service.agency;
+
+import static java.util.Objects.nonNull;
+
+import de.caritas.cob.userservice.agencyadminserivce.generated.web.model.AgencyAdminResponseDTO;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+/** Immutable version of all agencies, indexed by id and consulting type. */
+@Getter
+public class AgencyCatalogueSnapshot {
+
+  private final long version;
+  private final LocalDateTime loadDate;
+  private final List<AgencyAdminResponseDTO> agencies;
+  private final Map<Long, AgencyAdminResponseDTO> agenciesById;
+  private final Map<Integer, List<AgencyAdminResponseDTO>> agenciesByConsultingType;
+
+  AgencyCatalogueSnapshot(
+      long version, LocalDateTime loadDate, List<AgencyAdminResponseDTO> agencies) {
+    this.version = version;
+    this.loadDate = loadDate;
+    this.agencies = List.copyOf(agencies);
+    this.agenciesById =
+        agencies.stream()
+            .filter(agency -> nonNull(agency.getId()))
+            .collect(
+                Collectors.toMap(
+                    AgencyAdminResponseDTO::getId,
+                    Function.identity(),
+                    (existing, replacement) -> existing,
+                    LinkedHashMap::new));
+    this.agenciesByConsultingType =
+        agencies.stream()
+            .filter(agency -> nonNull(agency.getConsultingType()))
+            .collect(Collectors.groupingBy(AgencyAdminResponseDTO::getConsultingType));
+  }
+
+  /**
+   * Returns the agencies with the given ids, unknown ids are skipped.
+   *
+   * @param agencyIds the ids of the agencies
+   * @return the known agencies
+   */
+  public List<AgencyAdminResponseDTO> findAgencies(Collection<Long> agencyIds) {
+    return agencyIds.stream()
+        .distinct()
+        .map(agenciesById::get)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Returns the agencies of the given consulting type.
+   *
+   * @param consultingTypeId the id of the consulting type
+   * @return the agencies of the consulting type
+   */
+  public List<AgencyAdminResponseDTO> findAgenciesByConsultingType(int consultingTypeId) {
+    return agenciesByConsultingType.getOrDefault(consultingTypeId, List.of());
+  }
+
+  public boolean containsAll(Collection<Long> agencyIds) {
+    return agenciesById.keySet().containsAll(agencyIds);
+  }
+}
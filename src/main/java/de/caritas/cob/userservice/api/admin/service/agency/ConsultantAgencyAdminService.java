@@ -41,7 +41,7 @@ public class ConsultantAgencyAdminService {
   private final @NonNull SessionRepository sessionRepository;
   private final @NonNull RemoveConsultantFromRocketChatService removeFromRocketChatService;
   private final @NonNull AgencyService agencyService;
-  private final @NonNull AgencyAdminService agencyAdminService;
+  private final @NonNull AgencyCatalogue agencyCatalogue;
   private final @NonNull ConsultantAgencyDeletionValidationService agencyDeletionValidationService;
 
   /**
@@ -63,10 +63,7 @@ public class ConsultantAgencyAdminService {
             .map(ConsultantAgency::getAgencyId)
             .collect(Collectors.toList());
 
-    var agencyList =
-        this.agencyAdminService.retrieveAllAgencies().stream()
-            .filter(agency -> consultantAgencyIds.contains(agency.getId()))
-            .collect(Collectors.toList());
+    var agencyList = this.agencyCatalogue.findAgencies(consultantAgencyIds);
 
     return ConsultantResponseDTOBuilder.getInstance()
         .withConsultantId(consultantId)
@@ -83,8 +80,7 @@ public class ConsultantAgencyAdminService {
         consultantAgencies.stream().map(ConsultantAgency::getAgencyId).collect(Collectors.toSet());
 
     var agencies =
-        this.agencyAdminService.retrieveAllAgencies().stream()
-            .filter(agency -> agencyIds.contains(agency.getId()))
+        this.agencyCatalogue.findAgencies(agencyIds).stream()
             .map(this::buildCopiedAgency)
             .collect(Collectors.toList());
 
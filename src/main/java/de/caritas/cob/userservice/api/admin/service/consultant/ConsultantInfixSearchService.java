@@ -0,0 +1,133 @@
+package de.caritas.cob.userservice.api.admin.service.consultant;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import de.caritas.cob.userservice.api.admin.service.consultant.querybuilder.ConsultantInfixQueryBuilder;
+import de.caritas.cob.userservice.api.model.Consultant;
+import de.caritas.cob.userservice.api.model.Consultant.ConsultantBase;
+import de.caritas.cob.userservice.api.port.out.ConsultantRepository;
+import de.caritas.cob.userservice.api.tenant.TenantContext;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManagerFactory;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.lucene.search.SortField;
+import org.hibernate.search.engine.ProjectionConstants;
+import org.hibernate.search.jpa.Search;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service to search consultants by an infix of their id, first name, last name or email. Infixes
+ * with at least the length of one trigram are looked up in the trigram fields of the search index,
+ * shorter infixes and the wildcard are resolved by the database, because they match most of the
+ * consultants anyway. Names and emails are sorted by their lowercase value in the search index, so
+ * both ways return the order of the case insensitive database collation.
+ */
+@Service
+@RequiredArgsConstructor
+public class ConsultantInfixSearchService {
+
+  private static final String ALL_CONSULTANTS = "*";
+  private static final int MIN_INDEXED_INFIX_LENGTH = 3;
+  private static final String FIELD_TENANT_ID = "tenantId";
+  private static final Set<String> NORMALIZED_SORT_FIELDS =
+      Set.of("firstName", "lastName", "email");
+  private static final String NORMALIZED_SORT_FIELD_SUFFIX = "Sort";
+
+  private final @NonNull EntityManagerFactory entityManagerFactory;
+  private final @NonNull ConsultantRepository consultantRepository;
+
+  /**
+   * Searches the ids of the consultants matching the given infix. Infixes looked up in the search
+   * index do not touch the database.
+   *
+   * @param infix the infix to search for, or * for all consultants
+   * @param agencyIds the agencies the consultants must be assigned to, null for all agencies
+   * @param pageable the requested page and sort
+   * @return the {@link Page} of the matching consultant ids
+   */
+  public Page<String> findConsultantIdsByInfix(
+      String infix, @Nullable Collection<Long> agencyIds, Pageable pageable) {
+    if (ALL_CONSULTANTS.equals(infix) || infix.length() < MIN_INDEXED_INFIX_LENGTH) {
+      var consultantPage =
+          isNull(agencyIds)
+              ? consultantRepository.findAllByInfix(infix, pageable)
+              : consultantRepository.findAllByInfixAndAgencyIds(infix, agencyIds, pageable);
+      return consultantPage.map(ConsultantBase::getId);
+    }
+    if (nonNull(agencyIds) && agencyIds.isEmpty()) {
+      return Page.empty(pageable);
+    }
+
+    var fullTextEntityManager =
+        Search.getFullTextEntityManager(entityManagerFactory.createEntityManager());
+    try {
+      var queryBuilder =
+          fullTextEntityManager
+              .getSearchFactory()
+              .buildQueryBuilder()
+              .forEntity(Consultant.class)
+              .get();
+      var query =
+          ConsultantInfixQueryBuilder.getInstance(queryBuilder)
+              .onInfix(infix)
+              .onAgencyIds(agencyIds)
+              .onTenantId(currentTenantIdToFilter())
+              .buildQuery();
+
+      var fullTextQuery = fullTextEntityManager.createFullTextQuery(query, Consultant.class);
+      fullTextQuery.setProjection(ProjectionConstants.ID);
+      fullTextQuery.setFirstResult((int) pageable.getOffset());
+      fullTextQuery.setMaxResults(pageable.getPageSize());
+      fullTextQuery.setSort(buildSort(pageable.getSort()));
+
+      @SuppressWarnings("unchecked")
+      List<Object[]> projections = fullTextQuery.getResultList();
+      var consultantIds =
+          projections.stream()
+              .map(projection -> (String) projection[0])
+              .collect(Collectors.toList());
+
+      return new PageImpl<>(consultantIds, pageable, fullTextQuery.getResultSize());
+    } finally {
+      fullTextEntityManager.close();
+    }
+  }
+
+  private Long currentTenantIdToFilter() {
+    return TenantContext.contextIsSet() && !TenantContext.isTechnicalOrSuperAdminContext()
+        ? TenantContext.getCurrentTenant()
+        : null;
+  }
+
+  private org.apache.lucene.search.Sort buildSort(Sort sort) {
+    var luceneSort = new org.apache.lucene.search.Sort();
+    var sortFields = sort.stream().map(this::toSortField).toArray(SortField[]::new);
+    if (sortFields.length > 0) {
+      luceneSort.setSort(sortFields);
+    }
+
+    return luceneSort;
+  }
+
+  private SortField toSortField(Sort.Order order) {
+    var property = order.getProperty();
+    if (FIELD_TENANT_ID.equals(property)) {
+      return new SortField(property, SortField.Type.LONG, order.isDescending());
+    }
+    var sortField =
+        NORMALIZED_SORT_FIELDS.contains(property)
+            ? property + NORMALIZED_SORT_FIELD_SUFFIX
+            : property;
+    return new SortField(sortField, SortField.Type.STRING, order.isDescending());
+  }
+}
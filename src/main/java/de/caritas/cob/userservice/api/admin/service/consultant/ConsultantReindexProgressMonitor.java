@@ -0,0 +1,55 @@
+package de.caritas.cob.userservice.api.admin.service.consultant;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hibernate.search.batchindexing.MassIndexerProgressMonitor;
+
+/** Exposes the progress of a running full reindex as gauges. */
+class ConsultantReindexProgressMonitor implements MassIndexerProgressMonitor {
+
+  private final AtomicLong totalDocuments = new AtomicLong();
+  private final AtomicLong indexedDocuments = new AtomicLong();
+
+  ConsultantReindexProgressMonitor(MeterRegistry meterRegistry) {
+    meterRegistry.gauge("userservice.search.reindex.documents.total", totalDocuments);
+    meterRegistry.gauge("userservice.search.reindex.documents.indexed", indexedDocuments);
+  }
+
+  void reset() {
+    totalDocuments.set(0);
+    indexedDocuments.set(0);
+  }
+
+  long getTotalDocuments() {
+    return totalDocuments.get();
+  }
+
+  long getIndexedDocuments() {
+    return indexedDocuments.get();
+  }
+
+  @Override
+  public void documentsAdded(long increment) {
+    indexedDocuments.addAndGet(increment);
+  }
+
+  @Override
+  public void documentsBuilt(int number) {
+    // only added documents are tracked
+  }
+
+  @Override
+  public void entitiesLoaded(int size) {
+    // only added documents are tracked
+  }
+
+  @Override
+  public void addToTotalCount(long count) {
+    totalDocuments.addAndGet(count);
+  }
+
+  @Override
+  public void indexingCompleted() {
+    // the final state is kept in the gauges until the next reindex
+  }
+}
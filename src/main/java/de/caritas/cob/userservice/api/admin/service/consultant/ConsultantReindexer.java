@@ -1,21 +1,68 @@
 package de.caritas.cob.userservice.api.admin.service.consultant;
 
-import de.caritas.cob.userservice.api.service.LogService;
-import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
-import org.hibernate.search.jpa.FullTextEntityManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.search.jpa.Search;
 import org.springframework.beans.factory.InitializingBean;
 
-/** Reindexer class for all indexed entities. */
-@RequiredArgsConstructor
+/**
+ * Reindexer class for all indexed entities. Changes of indexed entities are written to the index by
+ * the automatic indexing of hibernate search, the full reindex is only done on startup and
+ * periodically by the reindex scheduler to catch up changes done by other instances or outside of
+ * the JPA context.
+ */
+@Slf4j
 public class ConsultantReindexer implements InitializingBean {
 
-  private final @NonNull FullTextEntityManager fullTextEntityManager;
+  private final EntityManagerFactory entityManagerFactory;
+  private final ConsultantReindexProgressMonitor progressMonitor;
+  private final Timer reindexTimer;
+  private final AtomicBoolean reindexRunning = new AtomicBoolean(false);
+
+  public ConsultantReindexer(
+      EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+    this.entityManagerFactory = entityManagerFactory;
+    this.progressMonitor = new ConsultantReindexProgressMonitor(meterRegistry);
+    this.reindexTimer = meterRegistry.timer("userservice.search.reindex.duration");
+  }
 
   /** Indexes all entity fields marked as indexed on startup. */
   @Override
   public void afterPropertiesSet() throws Exception {
-    LogService.logInfo("Going to index entities");
-    this.fullTextEntityManager.createIndexer().startAndWait();
+    reindexAll();
+  }
+
+  /**
+   * Rebuilds the whole search index. A reindex requested while another one is still running is
+   * skipped.
+   *
+   * @throws InterruptedException if the indexing thread is interrupted
+   */
+  public void reindexAll() throws InterruptedException {
+    if (!reindexRunning.compareAndSet(false, true)) {
+      log.info("Skipping reindex of entities, because another reindex is still running");
+      return;
+    }
+
+    var fullTextEntityManager =
+        Search.getFullTextEntityManager(entityManagerFactory.createEntityManager());
+    var sample = Timer.start();
+    try {
+      log.info("Going to index entities");
+      progressMonitor.reset();
+      fullTextEntityManager.createIndexer().progressMonitor(progressMonitor).startAndWait();
+    } finally {
+      var durationNanos = sample.stop(reindexTimer);
+      log.info(
+          "Indexed {} of {} entities in {} ms",
+          progressMonitor.getIndexedDocuments(),
+          progressMonitor.getTotalDocuments(),
+          durationNanos / 1_000_000);
+      fullTextEntityManager.close();
+      reindexRunning.set(false);
+    }
   }
 }
@@ -2,12 +2,10 @@ package de.caritas.cob.userservice.api.admin.service.consultant.create.agencyrel
 
 import static de.caritas.cob.userservice.api.service.emailsupplier.EmailSupplier.TEMPLATE_FREE_TEXT;
 import static java.util.Arrays.asList;
+import static java.util.Objects.isNull;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
 
 import de.caritas.cob.userservice.api.adapters.web.dto.AgencyDTO;
-import de.caritas.cob.userservice.api.admin.service.rocketchat.RocketChatAddToGroupOperationService;
-import de.caritas.cob.userservice.api.facade.RocketChatFacade;
-import de.caritas.cob.userservice.api.manager.consultingtype.ConsultingTypeManager;
 import de.caritas.cob.userservice.api.model.Consultant;
 import de.caritas.cob.userservice.api.model.ConsultantAgency;
 import de.caritas.cob.userservice.api.model.ConsultantAgencyStatus;
@@ -16,12 +14,15 @@ import de.caritas.cob.userservice.api.model.Session;
 import de.caritas.cob.userservice.api.model.Session.SessionStatus;
 import de.caritas.cob.userservice.api.port.out.ConsultantAgencyRepository;
 import de.caritas.cob.userservice.api.port.out.ConsultantRepository;
-import de.caritas.cob.userservice.api.port.out.IdentityClient;
 import de.caritas.cob.userservice.api.port.out.SessionRepository;
+import de.caritas.cob.userservice.api.service.LogService;
 import de.caritas.cob.userservice.api.service.helper.MailService;
+import de.caritas.cob.userservice.api.service.schedulerlock.SchedulerLockService;
 import de.caritas.cob.userservice.api.tenant.TenantContext;
+import de.caritas.cob.userservice.api.tenant.TenantData;
 import de.caritas.cob.userservice.mailservice.generated.web.model.ErrorMailDTO;
 import de.caritas.cob.userservice.mailservice.generated.web.model.TemplateDataDTO;
+import java.time.Duration;
 import java.util.List;
 import java.util.function.Consumer;
 import lombok.NonNull;
@@ -30,62 +31,149 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RocketChatAsyncHelper {
 
-  private final @NonNull RocketChatFacade rocketChatFacade;
+  private static final String GROUP_ASSIGNMENT_LOCK_NAME_PREFIX = "rocketChatGroupAssignment-";
+
   private final @NonNull SessionRepository sessionRepository;
-  private final @NonNull IdentityClient identityClient;
-  private final @NonNull ConsultingTypeManager consultingTypeManager;
+  private final @NonNull RocketChatGroupAssignmentService groupAssignmentService;
   private final @NonNull ConsultantRepository consultantRepository;
   private final @NonNull ConsultantAgencyRepository consultantAgencyRepository;
   private final @NonNull MailService mailService;
+  private final @NonNull SchedulerLockService schedulerLockService;
 
   @Value("${app.base.url}")
   private String applicationBaseUrl;
 
+  @Value("${rocketchat.group.assignment.lockLeaseMillis}")
+  private long groupAssignmentLockLeaseMillis;
+
+  /**
+   * Adds the consultant to the Rocket.Chat groups of the relevant sessions of the agency. The
+   * sessions are registered as group assignments of the new relation first, so an interrupted or
+   * partly failed assignment is resumed by {@link #resumeGroupAssignments(Long)}.
+   *
+   * @param consultant the {@link Consultant}
+   * @param agency the {@link AgencyDTO} of the new relation
+   * @param logMethod the method used for logging
+   * @param tenantId the id of the tenant
+   */
   @Async
-  @Transactional
   public void addConsultantToSessions(
       Consultant consultant, AgencyDTO agency, Consumer<String> logMethod, Long tenantId) {
     try {
       TenantContext.setCurrentTenant(tenantId);
+      var consultantAgency =
+          consultantAgencyRepository.findByConsultantIdAndAgencyIdAndStatusAndDeleteDateIsNull(
+              consultant.getId(), agency.getId(), ConsultantAgencyStatus.IN_PROGRESS);
       List<Session> relevantSessions = collectRelevantSessionsToAddConsultant(agency);
-      RocketChatAddToGroupOperationService.getInstance(
-              this.rocketChatFacade, identityClient, logMethod, consultingTypeManager)
-          .onSessions(relevantSessions)
-          .withConsultant(consultant)
-          .addToGroupsOrRollbackOnFailure();
-      updateConsultantStatus(consultant, agency);
+      groupAssignmentService.registerSessions(consultantAgency, relevantSessions);
+      assignGroups(consultantAgency, logMethod);
     } catch (Exception e) {
-      consultant.setStatus(ConsultantStatus.ERROR);
-      consultantRepository.save(consultant);
-      sendErrorEmail(consultant, e);
+      markConsultantAsFailed(consultant, e.getMessage());
       log.error("Error happened during rocket chat session assignments", e);
+    } finally {
+      TenantContext.clear();
+    }
+  }
+
+  /**
+   * Resumes the open group assignments of a consultant agency relation, e.g. after a restart or to
+   * retry failed assignments. A relation without open assignments gets its final status from its
+   * assignments, so a relation left in progress by an interrupted run is finished as well.
+   * Assignments of relations which are not in progress anymore are removed.
+   *
+   * @param consultantAgencyId the id of the {@link ConsultantAgency}
+   */
+  public void resumeGroupAssignments(Long consultantAgencyId) {
+    var callerTenantData = TenantContext.getCurrentTenantData();
+    try {
+      var consultantAgency =
+          consultantAgencyRepository
+              .findById(consultantAgencyId)
+              .filter(relation -> isNull(relation.getDeleteDate()))
+              .filter(relation -> ConsultantAgencyStatus.IN_PROGRESS.equals(relation.getStatus()));
+      if (consultantAgency.isEmpty()) {
+        groupAssignmentService.removeAssignments(consultantAgencyId);
+        return;
+      }
+      TenantContext.setCurrentTenantData(
+          new TenantData(consultantAgency.get().getTenantId(), null));
+      assignGroups(consultantAgency.get(), LogService::logInfo);
+    } catch (Exception e) {
+      log.error("Error happened during resume of rocket chat session assignments", e);
+    } finally {
+      TenantContext.setCurrentTenantData(callerTenantData);
     }
-    TenantContext.clear();
   }
 
-  private void updateConsultantStatus(Consultant consultant, AgencyDTO agencyDTO) {
-    ConsultantAgency consultantAgency =
-        consultantAgencyRepository.findByConsultantIdAndAgencyIdAndStatusAndDeleteDateIsNull(
-            consultant.getId(), agencyDTO.getId(), ConsultantAgencyStatus.IN_PROGRESS);
+  private void assignGroups(ConsultantAgency consultantAgency, Consumer<String> logMethod) {
+    var lockName = GROUP_ASSIGNMENT_LOCK_NAME_PREFIX + consultantAgency.getId();
+    if (!schedulerLockService.tryLock(
+        lockName, Duration.ofMillis(groupAssignmentLockLeaseMillis))) {
+      log.info(
+          "Group assignment of consultant agency {} is already running", consultantAgency.getId());
+      return;
+    }
+
+    try {
+      groupAssignmentService.processOpenAssignments(consultantAgency, logMethod);
+      finishAssignments(consultantAgency);
+    } finally {
+      schedulerLockService.unlock(lockName);
+    }
+  }
+
+  private void finishAssignments(ConsultantAgency consultantAgency) {
+
+    var progress = groupAssignmentService.progressOf(consultantAgency.getId());
+    if (progress.hasOpenAssignments()) {
+      log.info(
+          "Consultant agency {}: {} of {} rocket chat groups assigned, open ones are retried",
+          consultantAgency.getId(),
+          progress.getAssigned(),
+          progress.getTotal());
+      return;
+    }
+
+    if (progress.hasFailedAssignments()) {
+      consultantAgency.setStatus(ConsultantAgencyStatus.ERROR);
+      consultantAgencyRepository.save(consultantAgency);
+      markConsultantAsFailed(
+          consultantAgency.getConsultant(),
+          String.format(
+              "%d of %d rocket chat groups could not be assigned for agency %d",
+              progress.getFailed(), progress.getTotal(), consultantAgency.getAgencyId()));
+      return;
+    }
 
     consultantAgency.setStatus(ConsultantAgencyStatus.CREATED);
+    consultantAgencyRepository.save(consultantAgency);
+    groupAssignmentService.removeAssignments(consultantAgency.getId());
+    updateConsultantStatus(consultantAgency.getConsultant());
+  }
+
+  private void updateConsultantStatus(Consultant consultant) {
     List<ConsultantAgency> consultantAgencies =
         consultantAgencyRepository.findByConsultantIdAndStatusAndDeleteDateIsNull(
             consultant.getId(), ConsultantAgencyStatus.IN_PROGRESS);
-    if (consultantAgencies.size() == 0) {
+    if (consultantAgencies.isEmpty()) {
       consultant.setStatus(ConsultantStatus.CREATED);
       consultantRepository.save(consultant);
     }
   }
 
-  private void sendErrorEmail(Consultant consultant, Exception exception) {
+  private void markConsultantAsFailed(Consultant consultant, String errorMessage) {
+    consultant.setStatus(ConsultantStatus.ERROR);
+    consultantRepository.save(consultant);
+    sendErrorEmail(consultant, errorMessage);
+  }
+
+  private void sendErrorEmail(Consultant consultant, String errorMessage) {
     ErrorMailDTO errorMailDTO =
         new ErrorMailDTO()
             .template(TEMPLATE_FREE_TEXT)
@@ -95,15 +183,17 @@ public class RocketChatAsyncHelper {
                         .key("subject")
                         .value("RocketChat sessions assignment error"),
                     new TemplateDataDTO().key("url").value(this.applicationBaseUrl),
-                    new TemplateDataDTO().key("text").value(getEmailText(consultant, exception))));
+                    new TemplateDataDTO()
+                        .key("text")
+                        .value(getEmailText(consultant, errorMessage))));
     this.mailService.sendErrorEmailNotification(errorMailDTO);
   }
 
-  private String getEmailText(Consultant consultant, Exception exception) {
+  private String getEmailText(Consultant consultant, String errorMessage) {
     return "Error happened during rocket chat session assignments for consultant "
         + consultant.getUsername()
         + ". Error message: "
-        + exception.getMessage();
+        + errorMessage;
   }
 
   private List<Session> collectRelevantSessionsToAddConsultant(AgencyDTO agency) {
@@ -0,0 +1,256 @@
+package de.caritas.cob.userservice.api.admin.service.consultant.create.agencyrelation;
+
+import static de.caritas.cob.userservice.api.helper.CustomLocalDateTime.nowInUtc;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+import static org.apache.commons.lang3.StringUtils.abbreviate;
+
+import com.google.common.util.concurrent.RateLimiter;
+import de.caritas.cob.userservice.api.admin.service.rocketchat.RocketChatAddToGroupOperationService;
+import de.caritas.cob.userservice.api.facade.RocketChatFacade;
+import de.caritas.cob.userservice.api.manager.consultingtype.ConsultingTypeManager;
+import de.caritas.cob.userservice.api.model.ConsultantAgency;
+import de.caritas.cob.userservice.api.model.RocketChatGroupAssignment;
+import de.caritas.cob.userservice.api.model.RocketChatGroupAssignment.AssignmentStatus;
+import de.caritas.cob.userservice.api.model.Session;
+import de.caritas.cob.userservice.api.port.out.IdentityClient;
+import de.caritas.cob.userservice.api.port.out.RocketChatGroupAssignmentRepository;
+import de.caritas.cob.userservice.api.port.out.SessionRepository;
+import de.caritas.cob.userservice.api.tenant.TenantContext;
+import de.caritas.cob.userservice.api.tenant.TenantData;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Adds consultants to the Rocket.Chat groups of the sessions of a new consultant agency relation.
+ * The progress is persisted per session, so an interrupted assignment is resumed where it stopped
+ * and only failed sessions are retried. Sessions are processed in chunks, the Rocket.Chat calls of
+ * a chunk run concurrently on the bounded Rocket.Chat executor and are rate limited.
+ */
+@Service
+public class RocketChatGroupAssignmentService {
+
+  private static final int MAX_ERROR_LENGTH = 255;
+
+  private final RocketChatGroupAssignmentRepository groupAssignmentRepository;
+  private final SessionRepository sessionRepository;
+  private final RocketChatFacade rocketChatFacade;
+  private final IdentityClient identityClient;
+  private final ConsultingTypeManager consultingTypeManager;
+  private final Executor rocketChatTaskExecutor;
+  private final RateLimiter rateLimiter;
+  private final int chunkSize;
+  private final int maxAttempts;
+
+  public RocketChatGroupAssignmentService(
+      RocketChatGroupAssignmentRepository groupAssignmentRepository,
+      SessionRepository sessionRepository,
+      RocketChatFacade rocketChatFacade,
+      IdentityClient identityClient,
+      ConsultingTypeManager consultingTypeManager,
+      @Qualifier("rocketChatTaskExecutor") Executor rocketChatTaskExecutor,
+      @Value("${rocketchat.group.assignment.requestsPerSecond}") double requestsPerSecond,
+      @Value("${rocketchat.group.assignment.chunkSize}") int chunkSize,
+      @Value("${rocketchat.group.assignment.maxAttempts}") int maxAttempts) {
+    this.groupAssignmentRepository = requireNonNull(groupAssignmentRepository);
+    this.sessionRepository = requireNonNull(sessionRepository);
+    this.rocketChatFacade = requireNonNull(rocketChatFacade);
+    this.identityClient = requireNonNull(identityClient);
+    this.consultingTypeManager = requireNonNull(consultingTypeManager);
+    this.rocketChatTaskExecutor = requireNonNull(rocketChatTaskExecutor);
+    this.rateLimiter = RateLimiter.create(requestsPerSecond);
+    this.chunkSize = chunkSize;
+    this.maxAttempts = maxAttempts;
+  }
+
+  /**
+   * Registers the sessions whose groups the consultant of the relation has to be added to. Already
+   * registered sessions are skipped.
+   *
+   * @param consultantAgency the new {@link ConsultantAgency}
+   * @param sessions the relevant {@link Session}s of the agency
+   */
+  @Transactional
+  public void registerSessions(ConsultantAgency consultantAgency, Collection<Session> sessions) {
+    var registeredSessionIds =
+        groupAssignmentRepository.findSessionIdsByConsultantAgencyId(consultantAgency.getId());
+    var now = nowInUtc();
+    var newAssignments =
+        sessions.stream()
+            .map(Session::getId)
+            .distinct()
+            .filter(sessionId -> !registeredSessionIds.contains(sessionId))
+            .map(
+                sessionId ->
+                    RocketChatGroupAssignment.builder()
+                        .consultantAgencyId(consultantAgency.getId())
+                        .sessionId(sessionId)
+                        .status(AssignmentStatus.PENDING)
+                        .tenantId(consultantAgency.getTenantId())
+                        .createDate(now)
+                        .updateDate(now)
+                        .build())
+            .collect(Collectors.toList());
+    groupAssignmentRepository.saveAll(newAssignments);
+  }
+
+  /**
+   * Processes all open assignments of the relation chunk by chunk. Assignments failing in this run
+   * are retried by the next run, until their attempts are used up. Callers have to make sure that
+   * only one instance processes the relation at a time.
+   *
+   * @param consultantAgency the {@link ConsultantAgency}
+   * @param logMethod the method used for logging
+   */
+  public void processOpenAssignments(
+      ConsultantAgency consultantAgency, Consumer<String> logMethod) {
+    var consultantAgencyId = consultantAgency.getId();
+    var operation =
+        RocketChatAddToGroupOperationService.getInstance(
+                rocketChatFacade, identityClient, synchronizedLog(logMethod), consultingTypeManager)
+            .withConsultant(consultantAgency.getConsultant());
+    var lastProcessedId = -1L;
+    var chunk = findOpenAssignments(consultantAgencyId, lastProcessedId);
+    while (!chunk.isEmpty()) {
+      processChunk(chunk, operation);
+      lastProcessedId = chunk.get(chunk.size() - 1).getId();
+      chunk = findOpenAssignments(consultantAgencyId, lastProcessedId);
+    }
+  }
+
+  /**
+   * Returns the progress of the assignments of the relation.
+   *
+   * @param consultantAgencyId the id of the {@link ConsultantAgency}
+   * @return the {@link AssignmentProgress}
+   */
+  public AssignmentProgress progressOf(Long consultantAgencyId) {
+    return new AssignmentProgress(
+        groupAssignmentRepository.countByConsultantAgencyId(consultantAgencyId),
+        groupAssignmentRepository.countByConsultantAgencyIdAndStatus(
+            consultantAgencyId, AssignmentStatus.ASSIGNED),
+        groupAssignmentRepository.countByConsultantAgencyIdAndStatusAndAttemptsGreaterThanEqual(
+            consultantAgencyId, AssignmentStatus.FAILED, maxAttempts));
+  }
+
+  /**
+   * Returns the ids of all relations having assignments. Besides the relations with open
+   * assignments these are the relations whose assignments are finished, but whose status was not
+   * updated yet.
+   *
+   * @return the ids of the {@link ConsultantAgency} relations
+   */
+  public List<Long> findConsultantAgencyIdsWithAssignments() {
+    return groupAssignmentRepository.findConsultantAgencyIds();
+  }
+
+  /**
+   * Removes all assignments of the relation.
+   *
+   * @param consultantAgencyId the id of the {@link ConsultantAgency}
+   */
+  @Transactional
+  public void removeAssignments(Long consultantAgencyId) {
+    groupAssignmentRepository.deleteByConsultantAgencyId(consultantAgencyId);
+  }
+
+  private List<RocketChatGroupAssignment> findOpenAssignments(
+      Long consultantAgencyId, Long lastProcessedId) {
+    return groupAssignmentRepository.findOpenAssignments(
+        consultantAgencyId,
+        AssignmentStatus.ASSIGNED,
+        maxAttempts,
+        lastProcessedId,
+        PageRequest.of(0, chunkSize));
+  }
+
+  private void processChunk(
+      List<RocketChatGroupAssignment> chunk, RocketChatAddToGroupOperationService operation) {
+    var sessionIds =
+        chunk.stream().map(RocketChatGroupAssignment::getSessionId).collect(Collectors.toList());
+    Map<Long, Session> sessionsById =
+        StreamSupport.stream(sessionRepository.findAllById(sessionIds).spliterator(), false)
+            .collect(Collectors.toMap(Session::getId, Function.identity()));
+    var tenantData = TenantContext.getCurrentTenantData();
+
+    chunk.stream()
+        .map(
+            assignment ->
+                CompletableFuture.runAsync(
+                    () ->
+                        assign(
+                            assignment,
+                            sessionsById.get(assignment.getSessionId()),
+                            operation,
+                            tenantData),
+                    rocketChatTaskExecutor))
+        .collect(Collectors.toList())
+        .forEach(CompletableFuture::join);
+
+    groupAssignmentRepository.saveAll(chunk);
+  }
+
+  private void assign(
+      RocketChatGroupAssignment assignment,
+      Session session,
+      RocketChatAddToGroupOperationService operation,
+      TenantData tenantData) {
+    var callerTenantData = TenantContext.getCurrentTenantData();
+    TenantContext.setCurrentTenantData(tenantData);
+    try {
+      if (nonNull(session)) {
+        rateLimiter.acquire();
+        operation.addToGroupOfSession(session);
+      }
+      assignment.setStatus(AssignmentStatus.ASSIGNED);
+      assignment.setError(null);
+    } catch (Exception e) {
+      assignment.setStatus(AssignmentStatus.FAILED);
+      assignment.setError(abbreviate(String.valueOf(e.getMessage()), MAX_ERROR_LENGTH));
+    } finally {
+      assignment.setAttempts(assignment.getAttempts() + 1);
+      assignment.setUpdateDate(nowInUtc());
+      TenantContext.setCurrentTenantData(callerTenantData);
+    }
+  }
+
+  private Consumer<String> synchronizedLog(Consumer<String> logMethod) {
+    return message -> {
+      synchronized (logMethod) {
+        logMethod.accept(message);
+      }
+    };
+  }
+
+  /** Progress of the Rocket.Chat group assignments of one consultant agency relation. */
+  @Getter
+  @RequiredArgsConstructor
+  public static class AssignmentProgress {
+
+    private final long total;
+    private final long assigned;
+    private final long failed;
+
+    public boolean hasOpenAssignments() {
+      return assigned + failed < total;
+    }
+
+    public boolean hasFailedAssignments() {
+      return failed > 0;
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package de.caritas.cob.userservice.api.admin.service.consultant.querybuilder;
+
+import static java.util.Objects.nonNull;
+
+import de.caritas.cob.userservice.api.admin.service.FilterQueryBuilder;
+import java.util.Collection;
+import java.util.Locale;
+import org.apache.lucene.search.Query;
+import org.hibernate.search.query.dsl.BooleanJunction;
+import org.hibernate.search.query.dsl.QueryBuilder;
+
+/**
+ * Builder for the infix query on the trigram indexed consultant fields used by hibernate search.
+ */
+public class ConsultantInfixQueryBuilder extends FilterQueryBuilder {
+
+  private static final String FIELD_ID = "id";
+  private static final String FIELD_FIRST_NAME_INFIX = "firstNameInfix";
+  private static final String FIELD_LAST_NAME_INFIX = "lastNameInfix";
+  private static final String FIELD_EMAIL_INFIX = "emailInfix";
+  private static final String FIELD_AGENCY_IDS = "consultantAgencies.agencyId";
+  private static final String FIELD_TENANT_ID = "tenantId";
+
+  private String infix;
+  private Collection<Long> agencyIds;
+  private Long tenantId;
+
+  private ConsultantInfixQueryBuilder(QueryBuilder queryBuilder) {
+    super(queryBuilder);
+  }
+
+  /**
+   * Creates the {@link ConsultantInfixQueryBuilder} instance.
+   *
+   * @param queryBuilder the query builder to build the query on
+   * @return the {@link ConsultantInfixQueryBuilder} instance
+   */
+  public static ConsultantInfixQueryBuilder getInstance(QueryBuilder queryBuilder) {
+    return new ConsultantInfixQueryBuilder(queryBuilder);
+  }
+
+  /**
+   * Sets the infix to search for in first name, last name and email. The infix must have at least
+   * the length of one trigram.
+   *
+   * @param infix the infix
+   * @return the current {@link ConsultantInfixQueryBuilder}
+   */
+  public ConsultantInfixQueryBuilder onInfix(String infix) {
+    this.infix = infix;
+    return this;
+  }
+
+  /**
+   * Restricts the result to consultants of at least one of the given agencies.
+   *
+   * @param agencyIds the agency ids, null to not restrict by agencies
+   * @return the current {@link ConsultantInfixQueryBuilder}
+   */
+  public ConsultantInfixQueryBuilder onAgencyIds(Collection<Long> agencyIds) {
+    this.agencyIds = agencyIds;
+    return this;
+  }
+
+  /**
+   * Restricts the result to consultants of the given tenant.
+   *
+   * @param tenantId the tenant id, null to not restrict by tenant
+   * @return the current {@link ConsultantInfixQueryBuilder}
+   */
+  public ConsultantInfixQueryBuilder onTenantId(Long tenantId) {
+    this.tenantId = tenantId;
+    return this;
+  }
+
+  /**
+   * Builds the infix query for hibernate search.
+   *
+   * @return the created {@link Query}
+   */
+  public Query buildQuery() {
+    return buildFilteredQuery();
+  }
+
+  protected Query buildFilteredQuery() {
+    BooleanJunction<BooleanJunction> junction = this.queryBuilder.bool();
+    junction.must(buildInfixQuery());
+
+    if (nonNull(this.agencyIds)) {
+      BooleanJunction<BooleanJunction> agencyJunction = this.queryBuilder.bool();
+      this.agencyIds.forEach(
+          agencyId ->
+              agencyJunction.should(
+                  this.queryBuilder
+                      .keyword()
+                      .onField(FIELD_AGENCY_IDS)
+                      .matching(agencyId)
+                      .createQuery()));
+      junction.must(agencyJunction.createQuery());
+    }
+    addObjectFilterCondition(this.tenantId, FIELD_TENANT_ID, junction);
+
+    return junction.createQuery();
+  }
+
+  private Query buildInfixQuery() {
+    return this.queryBuilder
+        .bool()
+        .should(idQuery(this.infix))
+        .should(idQuery(this.infix.toLowerCase(Locale.ROOT)))
+        .should(trigramPhraseQuery(FIELD_FIRST_NAME_INFIX))
+        .should(trigramPhraseQuery(FIELD_LAST_NAME_INFIX))
+        .should(trigramPhraseQuery(FIELD_EMAIL_INFIX))
+        .createQuery();
+  }
+
+  private Query idQuery(String id) {
+    return this.queryBuilder.keyword().onField(FIELD_ID).matching(id).createQuery();
+  }
+
+  private Query trigramPhraseQuery(String field) {
+    return this.queryBuilder.phrase().onField(field).sentence(this.infix).createQuery();
+  }
+}
@@ -69,6 +69,25 @@ public class RocketChatAddToGroupOperationService extends RocketChatGroupOperati
     this.sessions.forEach(this::addToSpecificSessionOrRollbackOnFailure);
   }
 
+  /**
+   * Adds the user to the group of the given session. Groups of other sessions are not rolled back
+   * on failure.
+   *
+   * @param session the {@link Session} of the group
+   */
+  public void addToGroupOfSession(Session session) {
+    try {
+      addConsultantToGroupOfSession(session, this.consultant, this.consultingTypeManager);
+    } catch (Exception e) {
+      throw new InternalServerErrorException(
+          String.format(
+              "ERROR: Consultant could not be added to rc group %s (%s).",
+              session.getGroupId(), resolveTypeOfSession(session)),
+          e,
+          LogService::logRocketChatError);
+    }
+  }
+
   private void addToSpecificSessionOrRollbackOnFailure(Session session) {
     try {
       addConsultantToGroupOfSession(session, this.consultant, this.consultingTypeManager);
@@ -1,15 +1,15 @@
 package de.caritas.cob.userservice.api.admin.service.tenant;
 
+import static de.caritas.cob.userservice.api.config.apiclient.ApiClientHeaders.callWithHeaders;
+
 import de.caritas.cob.userservice.api.config.CacheManagerConfig;
 import de.caritas.cob.userservice.api.config.apiclient.TenantAdminServiceApiControllerFactory;
 import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
-import de.caritas.cob.userservice.tenantadminservice.generated.ApiClient;
 import de.caritas.cob.userservice.tenantadminservice.generated.web.TenantAdminControllerApi;
 import de.caritas.cob.userservice.tenantadminservice.generated.web.model.TenantDTO;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClientException;
 
@@ -25,12 +25,8 @@ public class TenantAdminService {
   public TenantDTO getTenantById(Long tenantId) throws RestClientException {
     TenantAdminControllerApi controllerApi =
         this.tenantAdminServiceApiControllerFactory.createControllerApi();
-    addDefaultHeaders(controllerApi.getApiClient());
-    return controllerApi.getTenantById(tenantId);
-  }
-
-  private void addDefaultHeaders(ApiClient apiClient) {
-    HttpHeaders headers = this.securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders();
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
+    return callWithHeaders(
+        this.securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders(),
+        () -> controllerApi.getTenantById(tenantId));
   }
 }
@@ -1,10 +1,10 @@
 package de.caritas.cob.userservice.api.config;
 
 import de.caritas.cob.userservice.api.admin.service.consultant.ConsultantReindexer;
+import de.caritas.cob.userservice.api.config.apiclient.ApiClientHeaderInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Clock;
 import javax.persistence.EntityManagerFactory;
-import org.hibernate.search.jpa.FullTextEntityManager;
-import org.hibernate.search.jpa.Search;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
@@ -34,23 +34,29 @@ public class AppConfig {
     return validatorFactoryBean;
   }
 
-  // RestTemplate Bean
+  /**
+   * RestTemplate of the service api clients. The headers of the calls are added by the {@link
+   * ApiClientHeaderInterceptor}.
+   *
+   * @param builder the {@link RestTemplateBuilder}
+   * @return the {@link RestTemplate}
+   */
   @Bean
   public RestTemplate restTemplate(RestTemplateBuilder builder) {
-    return builder.build();
+    return builder.additionalInterceptors(new ApiClientHeaderInterceptor()).build();
   }
 
   /**
    * Builds an indexer for hibernate search.
    *
    * @param entityManagerFactory the manager factory bean
-   * @return an {@link AgencyReindexer} used to reindex entities
+   * @param meterRegistry the registry to expose the reindex progress
+   * @return an {@link ConsultantReindexer} used to reindex entities
    */
   @Bean
-  public ConsultantReindexer consultantReindexer(EntityManagerFactory entityManagerFactory) {
-    FullTextEntityManager manager =
-        Search.getFullTextEntityManager(entityManagerFactory.createEntityManager());
-    return new ConsultantReindexer(manager);
+  public ConsultantReindexer consultantReindexer(
+      EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+    return new ConsultantReindexer(entityManagerFactory, meterRegistry);
   }
 
   @Bean
@@ -18,9 +18,12 @@ public class CacheManagerConfig {
   public static final String APPLICATION_SETTINGS_CACHE = "applicationSettingsCache";
   public static final String TENANT_CACHE = "tenantCache";
   public static final String TENANT_ADMIN_CACHE = "tenantAdminCache";
-  public static final String TOPICS_CACHE = "topicsCache";
 
   public static final String ROCKET_CHAT_USER_CACHE = "rocketChatUserCache";
+  public static final String ROCKET_CHAT_ROOM_SNAPSHOT_CACHE = "rocketChatRoomSnapshotCache";
+  public static final String ROCKET_CHAT_ACCOUNT_ID_CACHE = "rocketChatAccountIdCache";
+
+  public static final String IDENTITY_AVAILABILITY_CACHE = "identityAvailabilityCache";
 
   @Value("${cache.agencies.configuration.maxEntriesLocalHeap}")
   private long agenciesMaxEntriesLocalHeap;
@@ -58,18 +61,6 @@ public class CacheManagerConfig {
   @Value("${cache.tenant.configuration.timeToLiveSeconds}")
   private long tenantTimeToLiveSeconds;
 
-  @Value("${cache.topic.configuration.maxEntriesLocalHeap}")
-  private long topicMaxEntriesLocalHeap;
-
-  @Value("${cache.topic.configuration.eternal}")
-  private boolean topicEternal;
-
-  @Value("${cache.topic.configuration.timeToIdleSeconds}")
-  private long topicTimeToIdleSeconds;
-
-  @Value("${cache.topic.configuration.timeToLiveSeconds}")
-  private long topicTimeToLiveSeconds;
-
   @Value("${cache.appsettings.configuration.maxEntriesLocalHeap}")
   private long appSettingsMaxEntriesLocalHeap;
 
@@ -94,6 +85,30 @@ public class CacheManagerConfig {
   @Value("${cache.rocketchat.configuration.timeToLiveSeconds}")
   private long rocketchatCacheTimeToLiveSeconds;
 
+  @Value("${cache.rocketchat.room.snapshot.configuration.maxEntriesLocalHeap}")
+  private long roomSnapshotMaxEntriesLocalHeap;
+
+  @Value("${cache.rocketchat.room.snapshot.configuration.eternal}")
+  private boolean roomSnapshotEternal;
+
+  @Value("${cache.rocketchat.room.snapshot.configuration.timeToIdleSeconds}")
+  private long roomSnapshotTimeToIdleSeconds;
+
+  @Value("${cache.rocketchat.room.snapshot.configuration.timeToLiveSeconds}")
+  private long roomSnapshotTimeToLiveSeconds;
+
+  @Value("${cache.rocketchat.account.id.configuration.maxEntriesLocalHeap}")
+  private long accountIdMaxEntriesLocalHeap;
+
+  @Value("${cache.rocketchat.account.id.configuration.timeToLiveSeconds}")
+  private long accountIdTimeToLiveSeconds;
+
+  @Value("${cache.identity.availability.configuration.maxEntriesLocalHeap}")
+  private long identityAvailabilityMaxEntriesLocalHeap;
+
+  @Value("${cache.identity.availability.configuration.timeToLiveSeconds}")
+  private long identityAvailabilityTimeToLiveSeconds;
+
   @Bean
   public CacheManager cacheManager() {
     return new EhCacheCacheManager(ehCacheManager());
@@ -106,10 +121,13 @@ public class CacheManagerConfig {
     config.addCache(buildConsultingTypeCacheConfiguration());
     config.addCache(buildTenantCacheConfiguration());
     config.addCache(buildTenantAdminCacheConfiguration());
-    config.addCache(buildTopicCacheConfiguration());
     config.addCache(buildApplicationSettingsCacheConfiguration());
 
     config.addCache(buildRocketchatUserCacheConfiguration());
+    config.addCache(buildRocketchatRoomSnapshotCacheConfiguration());
+    config.addCache(buildRocketchatAccountIdCacheConfiguration());
+
+    config.addCache(buildIdentityAvailabilityCacheConfiguration());
     return net.sf.ehcache.CacheManager.newInstance(config);
   }
 
@@ -153,16 +171,6 @@ public class CacheManagerConfig {
     return tenantCacheConfiguration;
   }
 
-  private CacheConfiguration buildTopicCacheConfiguration() {
-    var topicCacheConfiguration = new CacheConfiguration();
-    topicCacheConfiguration.setName(TOPICS_CACHE);
-    topicCacheConfiguration.setMaxEntriesLocalHeap(topicMaxEntriesLocalHeap);
-    topicCacheConfiguration.setEternal(topicEternal);
-    topicCacheConfiguration.setTimeToIdleSeconds(topicTimeToIdleSeconds);
-    topicCacheConfiguration.setTimeToLiveSeconds(topicTimeToLiveSeconds);
-    return topicCacheConfiguration;
-  }
-
   private CacheConfiguration buildApplicationSettingsCacheConfiguration() {
     var appSettingsCacheConfiguration = new CacheConfiguration();
     appSettingsCacheConfiguration.setName(APPLICATION_SETTINGS_CACHE);
@@ -182,4 +190,34 @@ public class CacheManagerConfig {
     rocketchatCacheConfiguration.setTimeToLiveSeconds(rocketchatCacheTimeToLiveSeconds);
     return rocketchatCacheConfiguration;
   }
+
+  private CacheConfiguration buildRocketchatRoomSnapshotCacheConfiguration() {
+    var roomSnapshotCacheConfiguration = new CacheConfiguration();
+    roomSnapshotCacheConfiguration.setName(ROCKET_CHAT_ROOM_SNAPSHOT_CACHE);
+    roomSnapshotCacheConfiguration.setMaxEntriesLocalHeap(roomSnapshotMaxEntriesLocalHeap);
+    roomSnapshotCacheConfiguration.setEternal(roomSnapshotEternal);
+    roomSnapshotCacheConfiguration.setTimeToIdleSeconds(roomSnapshotTimeToIdleSeconds);
+    roomSnapshotCacheConfiguration.setTimeToLiveSeconds(roomSnapshotTimeToLiveSeconds);
+    return roomSnapshotCacheConfiguration;
+  }
+
+  private CacheConfiguration buildRocketchatAccountIdCacheConfiguration() {
+    var accountIdCacheConfiguration = new CacheConfiguration();
+    accountIdCacheConfiguration.setName(ROCKET_CHAT_ACCOUNT_ID_CACHE);
+    accountIdCacheConfiguration.setMaxEntriesLocalHeap(accountIdMaxEntriesLocalHeap);
+    accountIdCacheConfiguration.setEternal(false);
+    accountIdCacheConfiguration.setTimeToLiveSeconds(accountIdTimeToLiveSeconds);
+    return accountIdCacheConfiguration;
+  }
+
+  private CacheConfiguration buildIdentityAvailabilityCacheConfiguration() {
+    var identityAvailabilityCacheConfiguration = new CacheConfiguration();
+    identityAvailabilityCacheConfiguration.setName(IDENTITY_AVAILABILITY_CACHE);
+    identityAvailabilityCacheConfiguration.setMaxEntriesLocalHeap(
+        identityAvailabilityMaxEntriesLocalHeap);
+    identityAvailabilityCacheConfiguration.setEternal(false);
+    identityAvailabilityCacheConfiguration.setTimeToLiveSeconds(
+        identityAvailabilityTimeToLiveSeconds);
+    return identityAvailabilityCacheConfiguration;
+  }
 }
@@ -0,0 +1,112 @@
+package de.caritas.cob.userservice.api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * Shared pooled HTTP client for all {@link org.springframework.web.client.RestTemplate}s built by
+ * the {@link org.springframework.boot.web.client.RestTemplateBuilder}, i.e. the generated service
+ * API clients, Rocket.Chat and Keycloak. Each downstream host is a separate route of the pool, so
+ * the per route limit applies to every downstream service on its own.
+ */
+@Configuration
+public class HttpClientConfig {
+
+  @Value("${http.client.maxConnectionsTotal}")
+  private int maxConnectionsTotal;
+
+  @Value("${http.client.maxConnectionsPerRoute}")
+  private int maxConnectionsPerRoute;
+
+  @Value("${http.client.connectTimeoutMillis}")
+  private int connectTimeoutMillis;
+
+  @Value("${http.client.connectionRequestTimeoutMillis}")
+  private int connectionRequestTimeoutMillis;
+
+  @Value("${http.client.readTimeoutMillis}")
+  private int readTimeoutMillis;
+
+  @Value("${http.client.keepAliveMillis}")
+  private long keepAliveMillis;
+
+  @Value("${http.client.idleConnectionEvictionMillis}")
+  private long idleConnectionEvictionMillis;
+
+  /**
+   * Connection pool shared by all outgoing HTTP calls. Pool usage is exposed as metrics.
+   *
+   * @param meterRegistry the registry to expose the pool metrics
+   * @return the {@link PoolingHttpClientConnectionManager}
+   */
+  @Bean(destroyMethod = "close")
+  public PoolingHttpClientConnectionManager httpClientConnectionManager(
+      MeterRegistry meterRegistry) {
+    var connectionManager = new PoolingHttpClientConnectionManager();
+    connectionManager.setMaxTotal(maxConnectionsTotal);
+    connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+    new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "userservice")
+        .bindTo(meterRegistry);
+    return connectionManager;
+  }
+
+  /**
+   * Pooled HTTP client with timeouts and keep-alive. Idle and expired connections are evicted in
+   * the background.
+   *
+   * @param connectionManager the shared {@link PoolingHttpClientConnectionManager}
+   * @return the {@link CloseableHttpClient}
+   */
+  @Bean(destroyMethod = "close")
+  public CloseableHttpClient pooledHttpClient(
+      PoolingHttpClientConnectionManager connectionManager) {
+    var requestConfig =
+        RequestConfig.custom()
+            .setConnectTimeout(connectTimeoutMillis)
+            .setConnectionRequestTimeout(connectionRequestTimeoutMillis)
+            .setSocketTimeout(readTimeoutMillis)
+            .build();
+
+    return HttpClients.custom()
+        .setConnectionManager(connectionManager)
+        .setDefaultRequestConfig(requestConfig)
+        .setKeepAliveStrategy(
+            (response, context) -> {
+              var serverKeepAlive =
+                  DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(
+                      response, context);
+              return serverKeepAlive > 0
+                  ? Math.min(serverKeepAlive, keepAliveMillis)
+                  : keepAliveMillis;
+            })
+        .evictExpiredConnections()
+        .evictIdleConnections(idleConnectionEvictionMillis, TimeUnit.MILLISECONDS)
+        .build();
+  }
+
+  /**
+   * Lets every {@link org.springframework.boot.web.client.RestTemplateBuilder} based rest template
+   * use the pooled HTTP client.
+   *
+   * @param pooledHttpClient the pooled {@link CloseableHttpClient}
+   * @return the {@link RestTemplateCustomizer}
+   */
+  @Bean
+  public RestTemplateCustomizer pooledHttpClientRestTemplateCustomizer(
+      CloseableHttpClient pooledHttpClient) {
+    return restTemplate ->
+        restTemplate.setRequestFactory(
+            new HttpComponentsClientHttpRequestFactory(pooledHttpClient));
+  }
+}
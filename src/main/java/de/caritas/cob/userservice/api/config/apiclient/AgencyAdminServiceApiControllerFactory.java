@@ -2,6 +2,7 @@ package de.caritas.cob.userservice.api.config.apiclient;
 
 import de.caritas.cob.userservice.agencyadminserivce.generated.ApiClient;
 import de.caritas.cob.userservice.agencyadminserivce.generated.web.AdminAgencyControllerApi;
+import javax.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -15,8 +16,21 @@ public class AgencyAdminServiceApiControllerFactory {
 
   @Autowired private RestTemplate restTemplate;
 
-  public AdminAgencyControllerApi createControllerApi() {
+  private AdminAgencyControllerApi controllerApi;
+
+  @PostConstruct
+  public void init() {
     var apiClient = new ApiClient(restTemplate).setBasePath(this.agencyAdminServiceApiUrl);
-    return new AdminAgencyControllerApi(apiClient);
+    this.controllerApi = new AdminAgencyControllerApi(apiClient);
+  }
+
+  /**
+   * Returns the controller api shared by all callers. Request headers are passed with {@link
+   * ApiClientHeaders}.
+   *
+   * @return the {@link AdminAgencyControllerApi}
+   */
+  public AdminAgencyControllerApi createControllerApi() {
+    return controllerApi;
   }
 }
@@ -0,0 +1,32 @@
+package de.caritas.cob.userservice.api.config.apiclient;
+
+import static java.util.Objects.nonNull;
+
+import java.io.IOException;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Adds the {@link ApiClientHeaders} of the current thread to outgoing requests. Headers already set
+ * by the api client itself are kept.
+ */
+public class ApiClientHeaderInterceptor implements ClientHttpRequestInterceptor {
+
+  @Override
+  public ClientHttpResponse intercept(
+      HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+    var headers = ApiClientHeaders.getCurrentHeaders();
+    if (nonNull(headers)) {
+      var requestHeaders = request.getHeaders();
+      headers.forEach(
+          (name, values) -> {
+            if (!requestHeaders.containsKey(name) && !values.isEmpty()) {
+              requestHeaders.add(name, values.get(0));
+            }
+          });
+    }
+    return execution.execute(request, body);
+  }
+}
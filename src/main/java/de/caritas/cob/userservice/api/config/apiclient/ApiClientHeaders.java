@@ -0,0 +1,62 @@
+package de.caritas.cob.userservice.api.config.apiclient;
+
+import java.util.function.Supplier;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Holds the headers of the service api calls made by the current thread. The api clients are shared
+ * by all callers, so request specific headers are not set as default headers of a client. The
+ * {@link ApiClientHeaderInterceptor} adds them to each request instead.
+ */
+public class ApiClientHeaders {
+
+  private static final ThreadLocal<HttpHeaders> currentHeaders = new ThreadLocal<>();
+
+  private ApiClientHeaders() {}
+
+  /**
+   * Performs the given api call with the given headers.
+   *
+   * @param headers the headers to add to the requests of the call
+   * @param apiCall the api call
+   * @param <T> the result type of the call
+   * @return the result of the call
+   */
+  public static <T> T callWithHeaders(HttpHeaders headers, Supplier<T> apiCall) {
+    var previousHeaders = currentHeaders.get();
+    currentHeaders.set(headers);
+    try {
+      return apiCall.get();
+    } finally {
+      if (previousHeaders == null) {
+        currentHeaders.remove();
+      } else {
+        currentHeaders.set(previousHeaders);
+      }
+    }
+  }
+
+  /**
+   * Performs the given api call without result with the given headers.
+   *
+   * @param headers the headers to add to the requests of the call
+   * @param apiCall the api call
+   */
+  public static void runWithHeaders(HttpHeaders headers, Runnable apiCall) {
+    callWithHeaders(
+        headers,
+        () -> {
+          apiCall.run();
+          return null;
+        });
+  }
+
+  /**
+   * Returns the headers of the api call in progress on the current thread.
+   *
+   * @return the headers, null outside of an api call
+   */
+  public static HttpHeaders getCurrentHeaders() {
+    return currentHeaders.get();
+  }
+}
@@ -2,6 +2,7 @@ package de.caritas.cob.userservice.api.config.apiclient;
 
 import de.caritas.cob.userservice.appointmentservice.generated.ApiClient;
 import de.caritas.cob.userservice.appointmentservice.generated.web.AgencyApi;
+import javax.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -15,8 +16,21 @@ public class AppointmentAgencyServiceApiControllerFactory {
 
   @Autowired private RestTemplate restTemplate;
 
-  public AgencyApi createControllerApi() {
+  private AgencyApi controllerApi;
+
+  @PostConstruct
+  public void init() {
     var apiClient = new ApiClient(restTemplate).setBasePath(this.appointmentServiceApiUrl);
-    return new AgencyApi(apiClient);
+    this.controllerApi = new AgencyApi(apiClient);
+  }
+
+  /**
+   * Returns the controller api shared by all callers. Request headers are passed with {@link
+   * ApiClientHeaders}.
+   *
+   * @return the {@link AgencyApi}
+   */
+  public AgencyApi createControllerApi() {
+    return controllerApi;
   }
 }
@@ -2,6 +2,7 @@ package de.caritas.cob.userservice.api.config.apiclient;
 
 import de.caritas.cob.userservice.appointmentservice.generated.ApiClient;
 import de.caritas.cob.userservice.appointmentservice.generated.web.AskerApi;
+import javax.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -15,8 +16,21 @@ public class AppointmentAskerServiceApiControllerFactory {
 
   @Autowired private RestTemplate restTemplate;
 
-  public AskerApi createControllerApi() {
+  private AskerApi controllerApi;
+
+  @PostConstruct
+  public void init() {
     var apiClient = new ApiClient(restTemplate).setBasePath(this.appointmentServiceApiUrl);
-    return new AskerApi(apiClient);
+    this.controllerApi = new AskerApi(apiClient);
+  }
+
+  /**
+   * Returns the controller api shared by all callers. Request headers are passed with {@link
+   * ApiClientHeaders}.
+   *
+   * @return the {@link AskerApi}
+   */
+  public AskerApi createControllerApi() {
+    return controllerApi;
   }
 }
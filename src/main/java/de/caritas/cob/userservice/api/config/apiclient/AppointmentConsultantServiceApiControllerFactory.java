@@ -2,6 +2,7 @@ package de.caritas.cob.userservice.api.config.apiclient;
 
 import de.caritas.cob.userservice.appointmentservice.generated.ApiClient;
 import de.caritas.cob.userservice.appointmentservice.generated.web.ConsultantApi;
+import javax.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -15,8 +16,21 @@ public class AppointmentConsultantServiceApiControllerFactory {
 
   @Autowired private RestTemplate restTemplate;
 
-  public ConsultantApi createControllerApi() {
+  private ConsultantApi controllerApi;
+
+  @PostConstruct
+  public void init() {
     var apiClient = new ApiClient(restTemplate).setBasePath(this.appointmentServiceApiUrl);
-    return new ConsultantApi(apiClient);
+    this.controllerApi = new ConsultantApi(apiClient);
+  }
+
+  /**
+   * Returns the controller api shared by all callers. Request headers are passed with {@link
+   * ApiClientHeaders}.
+   *
+   * @return the {@link ConsultantApi}
+   */
+  public ConsultantApi createControllerApi() {
+    return controllerApi;
   }
 }
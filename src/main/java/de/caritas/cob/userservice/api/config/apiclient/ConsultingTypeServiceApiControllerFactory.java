@@ -2,6 +2,7 @@ package de.caritas.cob.userservice.api.config.apiclient;
 
 import de.caritas.cob.userservice.consultingtypeservice.generated.ApiClient;
 import de.caritas.cob.userservice.consultingtypeservice.generated.web.ConsultingTypeControllerApi;
+import javax.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -15,8 +16,21 @@ public class ConsultingTypeServiceApiControllerFactory {
 
   @Autowired private RestTemplate restTemplate;
 
-  public ConsultingTypeControllerApi createControllerApi() {
+  private ConsultingTypeControllerApi controllerApi;
+
+  @PostConstruct
+  public void init() {
     var apiClient = new ApiClient(restTemplate).setBasePath(this.consultingTypeServiceApiUrl);
-    return new ConsultingTypeControllerApi(apiClient);
+    this.controllerApi = new ConsultingTypeControllerApi(apiClient);
+  }
+
+  /**
+   * Returns the controller api shared by all callers. Request headers are passed with {@link
+   * ApiClientHeaders}.
+   *
+   * @return the {@link ConsultingTypeControllerApi}
+   */
+  public ConsultingTypeControllerApi createControllerApi() {
+    return controllerApi;
   }
 }
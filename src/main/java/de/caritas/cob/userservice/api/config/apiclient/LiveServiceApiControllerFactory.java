@@ -4,22 +4,30 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import de.caritas.cob.userservice.liveservice.generated.ApiClient;
 import de.caritas.cob.userservice.liveservice.generated.web.LiveControllerApi;
 import java.net.http.HttpClient;
-import lombok.RequiredArgsConstructor;
+import java.time.Duration;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * Provides the {@link LiveControllerApi}. The api holds its own {@link HttpClient} with a
+ * connection pool, so one instance is shared instead of creating a new client for every event.
+ */
 @Component
-@RequiredArgsConstructor
 public class LiveServiceApiControllerFactory {
 
-  @Value("${live.service.api.url}")
-  private String liveServiceApiUrl;
+  private final LiveControllerApi liveControllerApi;
 
-  private final ObjectMapper objectMapper;
+  public LiveServiceApiControllerFactory(
+      @Value("${live.service.api.url}") String liveServiceApiUrl,
+      @Value("${http.client.connectTimeoutMillis}") long connectTimeoutMillis,
+      ObjectMapper objectMapper) {
+    var httpClientBuilder =
+        HttpClient.newBuilder().connectTimeout(Duration.ofMillis(connectTimeoutMillis));
+    this.liveControllerApi =
+        new LiveControllerApi(new ApiClient(httpClientBuilder, objectMapper, liveServiceApiUrl));
+  }
 
   public LiveControllerApi createControllerApi() {
-    var apiClient = new ApiClient(HttpClient.newBuilder(), objectMapper, liveServiceApiUrl);
-
-    return new LiveControllerApi(apiClient);
+    return liveControllerApi;
   }
 }
@@ -2,6 +2,7 @@ package de.caritas.cob.userservice.api.config.apiclient;
 
 import de.caritas.cob.userservice.mailservice.generated.ApiClient;
 import de.caritas.cob.userservice.mailservice.generated.web.MailsControllerApi;
+import javax.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -15,8 +16,21 @@ public class MailServiceApiControllerFactory {
 
   @Autowired private RestTemplate restTemplate;
 
-  public MailsControllerApi createControllerApi() {
+  private MailsControllerApi controllerApi;
+
+  @PostConstruct
+  public void init() {
     var apiClient = new ApiClient(restTemplate).setBasePath(this.mailServiceApiUrl);
-    return new MailsControllerApi(apiClient);
+    this.controllerApi = new MailsControllerApi(apiClient);
+  }
+
+  /**
+   * Returns the controller api shared by all callers. Request headers are passed with {@link
+   * ApiClientHeaders}.
+   *
+   * @return the {@link MailsControllerApi}
+   */
+  public MailsControllerApi createControllerApi() {
+    return controllerApi;
   }
 }
@@ -2,6 +2,7 @@ package de.caritas.cob.userservice.api.config.apiclient;
 
 import de.caritas.cob.userservice.messageservice.generated.ApiClient;
 import de.caritas.cob.userservice.messageservice.generated.web.MessageControllerApi;
+import javax.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -15,8 +16,21 @@ public class MessageServiceApiControllerFactory {
 
   @Autowired private RestTemplate restTemplate;
 
-  public MessageControllerApi createControllerApi() {
+  private MessageControllerApi controllerApi;
+
+  @PostConstruct
+  public void init() {
     var apiClient = new ApiClient(restTemplate).setBasePath(this.messageServiceApiUrl);
-    return new MessageControllerApi(apiClient);
+    this.controllerApi = new MessageControllerApi(apiClient);
+  }
+
+  /**
+   * Returns the controller api shared by all callers. Request headers are passed with {@link
+   * ApiClientHeaders}.
+   *
+   * @return the {@link MessageControllerApi}
+   */
+  public MessageControllerApi createControllerApi() {
+    return controllerApi;
   }
 }
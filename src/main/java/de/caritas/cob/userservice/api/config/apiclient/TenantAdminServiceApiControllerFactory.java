@@ -1,6 +1,7 @@
 package de.caritas.cob.userservice.api.config.apiclient;
 
 import de.caritas.cob.userservice.tenantadminservice.generated.web.TenantAdminControllerApi;
+import javax.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -14,9 +15,22 @@ public class TenantAdminServiceApiControllerFactory {
 
   @Autowired private RestTemplate restTemplate;
 
-  public TenantAdminControllerApi createControllerApi() {
+  private TenantAdminControllerApi controllerApi;
+
+  @PostConstruct
+  public void init() {
     var apiClient =
         new TenantAdminServiceApiClient(restTemplate).setBasePath(this.tenantServiceApiUrl);
-    return new TenantAdminControllerApi(apiClient);
+    this.controllerApi = new TenantAdminControllerApi(apiClient);
+  }
+
+  /**
+   * Returns the controller api shared by all callers. Request headers are passed with {@link
+   * ApiClientHeaders}.
+   *
+   * @return the {@link TenantAdminControllerApi}
+   */
+  public TenantAdminControllerApi createControllerApi() {
+    return controllerApi;
   }
 }
@@ -1,6 +1,7 @@
 package de.caritas.cob.userservice.api.config.apiclient;
 
 import de.caritas.cob.userservice.tenantservice.generated.web.TenantControllerApi;
+import javax.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -14,10 +15,22 @@ public class TenantServiceApiControllerFactory {
 
   @Autowired private RestTemplate restTemplate;
 
-  public TenantControllerApi createControllerApi() {
+  private TenantControllerApi controllerApi;
+
+  @PostConstruct
+  public void init() {
     var apiClient = new TenantServiceApiClient(restTemplate).setBasePath(this.tenantServiceApiUrl);
-    TenantControllerApi controllerApi = new TenantControllerApi(apiClient);
-    controllerApi.setApiClient(apiClient);
+    this.controllerApi = new TenantControllerApi(apiClient);
+    this.controllerApi.setApiClient(apiClient);
+  }
+
+  /**
+   * Returns the controller api shared by all callers. Request headers are passed with {@link
+   * ApiClientHeaders}.
+   *
+   * @return the {@link TenantControllerApi}
+   */
+  public TenantControllerApi createControllerApi() {
     return controllerApi;
   }
 }
@@ -1,6 +1,7 @@
 package de.caritas.cob.userservice.api.config.apiclient;
 
 import de.caritas.cob.userservice.topicservice.generated.web.TopicControllerApi;
+import javax.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -14,10 +15,22 @@ public class TopicServiceApiControllerFactory {
 
   @Autowired private RestTemplate restTemplate;
 
-  public TopicControllerApi createControllerApi() {
+  private TopicControllerApi controllerApi;
+
+  @PostConstruct
+  public void init() {
     var apiClient = new TopicServiceApiClient(restTemplate).setBasePath(this.topicServiceApiUrl);
-    TopicControllerApi controllerApi = new TopicControllerApi(apiClient);
-    controllerApi.setApiClient(apiClient);
+    this.controllerApi = new TopicControllerApi(apiClient);
+    this.controllerApi.setApiClient(apiClient);
+  }
+
+  /**
+   * Returns the controller api shared by all callers. Request headers are passed with {@link
+   * ApiClientHeaders}.
+   *
+   * @return the {@link TopicControllerApi}
+   */
+  public TopicControllerApi createControllerApi() {
     return controllerApi;
   }
 }
@@ -0,0 +1,73 @@
+package de.caritas.cob.userservice.api.container;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * {@link Pageable} working on an absolute offset instead of a page number. This keeps the
+ * offset/count semantics of the session list endpoints when the paging is done by the database.
+ */
+@Getter
+@EqualsAndHashCode
+public class OffsetPageRequest implements Pageable {
+
+  private final long offset;
+  private final int pageSize;
+  private final @NonNull Sort sort;
+
+  private OffsetPageRequest(long offset, int pageSize, Sort sort) {
+    if (offset < 0) {
+      throw new IllegalArgumentException("Offset must not be less than zero");
+    }
+    if (pageSize < 1) {
+      throw new IllegalArgumentException("Page size must not be less than one");
+    }
+    this.offset = offset;
+    this.pageSize = pageSize;
+    this.sort = sort;
+  }
+
+  /**
+   * Creates a new unsorted {@link OffsetPageRequest}.
+   *
+   * @param offset the absolute offset of the first element
+   * @param count the maximum number of elements
+   * @return the {@link OffsetPageRequest}
+   */
+  public static OffsetPageRequest of(long offset, int count) {
+    return new OffsetPageRequest(offset, count, Sort.unsorted());
+  }
+
+  @Override
+  public int getPageNumber() {
+    return (int) (offset / pageSize);
+  }
+
+  @Override
+  public Pageable next() {
+    return new OffsetPageRequest(offset + pageSize, pageSize, sort);
+  }
+
+  @Override
+  public Pageable previousOrFirst() {
+    return hasPrevious() ? new OffsetPageRequest(offset - pageSize, pageSize, sort) : first();
+  }
+
+  @Override
+  public Pageable first() {
+    return new OffsetPageRequest(0, pageSize, sort);
+  }
+
+  @Override
+  public Pageable withPage(int pageNumber) {
+    return new OffsetPageRequest((long) pageNumber * pageSize, pageSize, sort);
+  }
+
+  @Override
+  public boolean hasPrevious() {
+    return offset >= pageSize;
+  }
+}
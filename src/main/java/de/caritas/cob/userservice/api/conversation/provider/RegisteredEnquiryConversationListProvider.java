@@ -3,37 +3,45 @@ package de.caritas.cob.userservice.api.conversation.provider;
 import static de.caritas.cob.userservice.api.conversation.model.ConversationListType.REGISTERED_ENQUIRY;
 
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionListResponseDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionResponseDTO;
+import de.caritas.cob.userservice.api.container.OffsetPageRequest;
 import de.caritas.cob.userservice.api.conversation.model.ConversationListType;
 import de.caritas.cob.userservice.api.conversation.model.PageableListRequest;
 import de.caritas.cob.userservice.api.service.session.SessionService;
 import de.caritas.cob.userservice.api.service.sessionlist.ConsultantSessionEnricher;
 import de.caritas.cob.userservice.api.service.user.UserAccountService;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 /** {@link ConversationListProvider} to provide registered enquiry conversations. */
 @Service
-public class RegisteredEnquiryConversationListProvider extends DefaultConversationListProvider {
+@RequiredArgsConstructor
+public class RegisteredEnquiryConversationListProvider implements ConversationListProvider {
 
   private final @NonNull UserAccountService userAccountProvider;
+  private final @NonNull ConsultantSessionEnricher consultantSessionEnricher;
   private final @NonNull SessionService sessionService;
 
-  public RegisteredEnquiryConversationListProvider(
-      @NonNull UserAccountService userAccountProvider,
-      @NonNull ConsultantSessionEnricher consultantSessionEnricher,
-      @NonNull SessionService sessionService) {
-    super(consultantSessionEnricher);
-    this.sessionService = sessionService;
-    this.userAccountProvider = userAccountProvider;
-  }
-
   /** {@inheritDoc} */
   @Override
   public ConsultantSessionListResponseDTO buildConversations(PageableListRequest request) {
     var consultant = this.userAccountProvider.retrieveValidatedConsultant();
-    var registeredEnquiries = sessionService.getRegisteredEnquiriesForConsultant(consultant);
-
-    return buildConversations(request, consultant, registeredEnquiries);
+    var pageable = OffsetPageRequest.of(request.getOffset(), request.getCount());
+    var registeredEnquiries =
+        sessionService.getRegisteredEnquiriesForConsultant(consultant, pageable);
+
+    List<ConsultantSessionResponseDTO> sessions = new ArrayList<>(registeredEnquiries.getContent());
+    consultantSessionEnricher.updateRequiredConsultantSessionValues(
+        sessions, request.getRcToken(), consultant);
+
+    return new ConsultantSessionListResponseDTO()
+        .sessions(sessions)
+        .offset(request.getOffset())
+        .count(sessions.size())
+        .total((int) registeredEnquiries.getTotalElements());
   }
 
   /** {@inheritDoc} */
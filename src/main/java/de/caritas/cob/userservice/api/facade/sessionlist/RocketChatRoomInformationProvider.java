@@ -2,28 +2,37 @@ package de.caritas.cob.userservice.api.facade.sessionlist;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentials;
-import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsLastMessageDTO;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsUpdateDTO;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.subscriptions.SubscriptionsUpdateDTO;
 import de.caritas.cob.userservice.api.container.RocketChatRoomInformation;
+import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
+import de.caritas.cob.userservice.api.service.LogService;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 public class RocketChatRoomInformationProvider {
 
-  private final RocketChatService rocketChatService;
+  private final RocketChatRoomSnapshotCache rocketChatRoomSnapshotCache;
 
-  public RocketChatRoomInformationProvider(RocketChatService rocketChatService) {
-    this.rocketChatService = requireNonNull(rocketChatService);
+  @Value("${feature.rocketchat.room.snapshot.enabled}")
+  private boolean roomSnapshotEnabled;
+
+  public RocketChatRoomInformationProvider(
+      RocketChatRoomSnapshotCache rocketChatRoomSnapshotCache) {
+    this.rocketChatRoomSnapshotCache = requireNonNull(rocketChatRoomSnapshotCache);
   }
 
   /**
@@ -34,15 +43,55 @@ public class RocketChatRoomInformationProvider {
    */
   public RocketChatRoomInformation retrieveRocketChatInformation(
       RocketChatCredentials rocketChatCredentials) {
+    return awaitRocketChatInformation(retrieveRocketChatInformationAsync(rocketChatCredentials));
+  }
 
-    Map<String, Boolean> readMessages = emptyMap();
-    List<RoomsUpdateDTO> roomsForUpdate = emptyList();
+  /**
+   * Waits for the result of {@link #retrieveRocketChatInformationAsync(RocketChatCredentials)} and
+   * rethrows the original exception if the retrieval failed.
+   *
+   * @param rocketChatInformation the pending {@link RocketChatRoomInformation}
+   * @return the {@link RocketChatRoomInformation}
+   */
+  public static RocketChatRoomInformation awaitRocketChatInformation(
+      CompletableFuture<RocketChatRoomInformation> rocketChatInformation) {
+    try {
+      return rocketChatInformation.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new InternalServerErrorException(e.getMessage(), e, LogService::logRocketChatError);
+    }
+  }
 
-    if (nonNull(rocketChatCredentials.getRocketChatUserId())) {
-      readMessages = buildMessagesWithReadInfo(rocketChatCredentials);
-      roomsForUpdate = rocketChatService.getRoomsOfUser(rocketChatCredentials);
+  /**
+   * Get room and update information from Rocket.Chat for a user without blocking the calling
+   * thread. Subscriptions and rooms are requested concurrently, so the caller can do further work
+   * until the information is needed.
+   *
+   * @param rocketChatCredentials the Rocket.Chat credentials of the user
+   * @return a {@link CompletableFuture} of the {@link RocketChatRoomInformation}
+   */
+  public CompletableFuture<RocketChatRoomInformation> retrieveRocketChatInformationAsync(
+      RocketChatCredentials rocketChatCredentials) {
+    if (isNull(rocketChatCredentials.getRocketChatUserId())) {
+      return CompletableFuture.completedFuture(buildRocketChatInformation(emptyMap(), emptyList()));
     }
 
+    var snapshot =
+        roomSnapshotEnabled
+            ? rocketChatRoomSnapshotCache.retrieveSnapshot(rocketChatCredentials)
+            : rocketChatRoomSnapshotCache.retrieveFullSnapshot(rocketChatCredentials);
+    return snapshot.thenApply(
+        roomSnapshot ->
+            buildRocketChatInformation(
+                buildMessagesWithReadInfo(roomSnapshot.getSubscriptionList()),
+                roomSnapshot.getRoomList()));
+  }
+
+  private RocketChatRoomInformation buildRocketChatInformation(
+      Map<String, Boolean> readMessages, List<RoomsUpdateDTO> roomsForUpdate) {
     var userRooms = roomsForUpdate.stream().map(RoomsUpdateDTO::getId).collect(Collectors.toList());
     var lastMessagesRoom = getRcRoomLastMessages(roomsForUpdate);
     var groupIdToLastMessageFallbackDate =
@@ -58,11 +107,7 @@ public class RocketChatRoomInformationProvider {
   }
 
   private Map<String, Boolean> buildMessagesWithReadInfo(
-      RocketChatCredentials rocketChatCredentials) {
-
-    List<SubscriptionsUpdateDTO> subscriptions =
-        rocketChatService.getSubscriptionsOfUser(rocketChatCredentials);
-
+      List<SubscriptionsUpdateDTO> subscriptions) {
     return subscriptions.stream()
         .collect(Collectors.toMap(SubscriptionsUpdateDTO::getRoomId, this::isMessageRead));
   }
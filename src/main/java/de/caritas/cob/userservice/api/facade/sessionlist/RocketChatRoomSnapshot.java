@@ -0,0 +1,129 @@
+package de.caritas.cob.userservice.api.facade.sessionlist;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsGetDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsUpdateDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.subscriptions.SubscriptionsGetDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.subscriptions.SubscriptionsUpdateDTO;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Immutable snapshot of the Rocket.Chat subscriptions and rooms of one user. Besides the data it
+ * holds the latest update date Rocket.Chat reported, which is used to request only the changes on
+ * the next refresh.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class RocketChatRoomSnapshot {
+
+  private final Map<String, SubscriptionsUpdateDTO> subscriptions;
+  private final Map<String, RoomsUpdateDTO> rooms;
+  private final Date subscriptionsUpdatedAt;
+  private final Date roomsUpdatedAt;
+
+  /**
+   * Creates a new snapshot from the full subscription and room lists of a user.
+   *
+   * @param subscriptions all subscriptions of the user
+   * @param rooms all rooms of the user
+   * @return the {@link RocketChatRoomSnapshot}
+   */
+  public static RocketChatRoomSnapshot of(
+      List<SubscriptionsUpdateDTO> subscriptions, List<RoomsUpdateDTO> rooms) {
+    return new RocketChatRoomSnapshot(
+        indexById(subscriptions.stream(), SubscriptionsUpdateDTO::get_id),
+        indexById(rooms.stream(), RoomsUpdateDTO::getId),
+        latestUpdate(subscriptions.stream().map(SubscriptionsUpdateDTO::getUpdatedAt), null),
+        latestUpdate(rooms.stream().map(RoomsUpdateDTO::getUpdatedAt), null));
+  }
+
+  /**
+   * Creates a new snapshot by applying the given changes to this snapshot. If a part of this
+   * snapshot has no known update date, the changes are treated as the full list.
+   *
+   * @param subscriptionChanges updated and removed subscriptions
+   * @param roomChanges updated and removed rooms
+   * @return the merged {@link RocketChatRoomSnapshot}
+   */
+  public RocketChatRoomSnapshot merge(
+      SubscriptionsGetDTO subscriptionChanges, RoomsGetDTO roomChanges) {
+    Map<String, SubscriptionsUpdateDTO> currentSubscriptions =
+        nonNull(subscriptionsUpdatedAt) ? subscriptions : Map.of();
+    Map<String, RoomsUpdateDTO> currentRooms = nonNull(roomsUpdatedAt) ? rooms : Map.of();
+
+    var mergedSubscriptions =
+        mergeById(
+            currentSubscriptions,
+            nullSafeStream(subscriptionChanges.getUpdate()),
+            nullSafeStream(subscriptionChanges.getRemove()),
+            SubscriptionsUpdateDTO::get_id);
+    var mergedRooms =
+        mergeById(
+            currentRooms,
+            nullSafeStream(roomChanges.getUpdate()),
+            nullSafeStream(roomChanges.getRemove()),
+            RoomsUpdateDTO::getId);
+
+    return new RocketChatRoomSnapshot(
+        mergedSubscriptions,
+        mergedRooms,
+        latestUpdate(
+            nullSafeStream(subscriptionChanges.getUpdate())
+                .map(SubscriptionsUpdateDTO::getUpdatedAt),
+            subscriptionsUpdatedAt),
+        latestUpdate(
+            nullSafeStream(roomChanges.getUpdate()).map(RoomsUpdateDTO::getUpdatedAt),
+            roomsUpdatedAt));
+  }
+
+  public List<SubscriptionsUpdateDTO> getSubscriptionList() {
+    return new ArrayList<>(subscriptions.values());
+  }
+
+  public List<RoomsUpdateDTO> getRoomList() {
+    return new ArrayList<>(rooms.values());
+  }
+
+  private static <T> Map<String, T> indexById(Stream<T> elements, Function<T, String> idGetter) {
+    var index = new LinkedHashMap<String, T>();
+    elements
+        .filter(element -> nonNull(idGetter.apply(element)))
+        .forEach(element -> index.put(idGetter.apply(element), element));
+    return Collections.unmodifiableMap(index);
+  }
+
+  private static <T> Map<String, T> mergeById(
+      Map<String, T> current, Stream<T> updated, Stream<T> removed, Function<T, String> idGetter) {
+    var merged = new LinkedHashMap<>(current);
+    updated
+        .filter(element -> nonNull(idGetter.apply(element)))
+        .forEach(element -> merged.put(idGetter.apply(element), element));
+    removed.map(idGetter).filter(Objects::nonNull).forEach(merged::remove);
+    return Collections.unmodifiableMap(merged);
+  }
+
+  private static Date latestUpdate(Stream<Date> updateDates, Date currentLatestUpdate) {
+    return updateDates
+        .filter(Objects::nonNull)
+        .max(Date::compareTo)
+        .filter(date -> isNull(currentLatestUpdate) || date.after(currentLatestUpdate))
+        .orElse(currentLatestUpdate);
+  }
+
+  private static <T> Stream<T> nullSafeStream(T[] elements) {
+    return isNull(elements) ? Stream.empty() : Stream.of(elements);
+  }
+}
@@ -0,0 +1,215 @@
+package de.caritas.cob.userservice.api.facade.sessionlist;
+
+import static de.caritas.cob.userservice.api.config.CacheManagerConfig.ROCKET_CHAT_ROOM_SNAPSHOT_CACHE;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentials;
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService;
+import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
+import de.caritas.cob.userservice.api.service.LogService;
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per user cache of the Rocket.Chat subscriptions and rooms. The first request of a user loads the
+ * full lists, subsequent requests only fetch the changes since the last known update via the
+ * updatedSince parameter of Rocket.Chat and merge them into the cached snapshot. Eviction is done
+ * by the underlying cache configuration.
+ *
+ * <p>Subscriptions and rooms are requested concurrently. If Rocket.Chat does not answer within the
+ * configured timeout, the last cached snapshot of the user is returned instead. Loads which did not
+ * start until then are cancelled, running requests are ended by the read timeout of the {@code
+ * roomInformationRestTemplate}.
+ */
+@Slf4j
+@Component
+public class RocketChatRoomSnapshotCache {
+
+  /* Overlap of the requested delta to not miss changes with the same update timestamp. */
+  private static final long UPDATED_SINCE_OVERLAP_MILLIS = 1000L;
+
+  private final RocketChatService rocketChatService;
+  private final CacheManager cacheManager;
+  private final Executor rocketChatTaskExecutor;
+
+  @Value("${rocket.chat.room.information.timeoutMillis}")
+  private long timeoutMillis;
+
+  public RocketChatRoomSnapshotCache(
+      RocketChatService rocketChatService,
+      CacheManager cacheManager,
+      @Qualifier("rocketChatTaskExecutor") Executor rocketChatTaskExecutor) {
+    this.rocketChatService = requireNonNull(rocketChatService);
+    this.cacheManager = requireNonNull(cacheManager);
+    this.rocketChatTaskExecutor = requireNonNull(rocketChatTaskExecutor);
+  }
+
+  /**
+   * Returns the current {@link RocketChatRoomSnapshot} of the given user. Only the changes since
+   * the cached snapshot are loaded from Rocket.Chat.
+   *
+   * @param rocketChatCredentials the Rocket.Chat credentials of the user
+   * @return a {@link CompletableFuture} of the current {@link RocketChatRoomSnapshot}
+   */
+  public CompletableFuture<RocketChatRoomSnapshot> retrieveSnapshot(
+      RocketChatCredentials rocketChatCredentials) {
+    var cachedSnapshot = cachedSnapshot(rocketChatCredentials);
+    return refresh(
+        rocketChatCredentials,
+        cachedSnapshot,
+        isNull(cachedSnapshot)
+            ? loadFullSnapshot(rocketChatCredentials)
+            : loadChanges(rocketChatCredentials, cachedSnapshot));
+  }
+
+  /**
+   * Loads the full {@link RocketChatRoomSnapshot} of the given user from Rocket.Chat without
+   * reading or writing the cache. Used if the snapshot feature is disabled.
+   *
+   * @param rocketChatCredentials the Rocket.Chat credentials of the user
+   * @return a {@link CompletableFuture} of the loaded {@link RocketChatRoomSnapshot}
+   */
+  public CompletableFuture<RocketChatRoomSnapshot> retrieveFullSnapshot(
+      RocketChatCredentials rocketChatCredentials) {
+    var rcUserId = rocketChatCredentials.getRocketChatUserId();
+
+    return loadFullSnapshot(rocketChatCredentials)
+        .handle(
+            (snapshot, throwable) -> {
+              if (isNull(throwable)) {
+                return snapshot;
+              }
+              var cause = unwrap(throwable);
+              if (cause instanceof TimeoutException) {
+                throw notLoadedInTime(rcUserId, (TimeoutException) cause);
+              }
+              throw asRuntimeException(cause);
+            });
+  }
+
+  /**
+   * Removes the cached snapshot of the given user.
+   *
+   * @param rcUserId the Rocket.Chat user id
+   */
+  public void evict(String rcUserId) {
+    snapshotCache().evict(rcUserId);
+  }
+
+  private CompletableFuture<RocketChatRoomSnapshot> refresh(
+      RocketChatCredentials rocketChatCredentials,
+      RocketChatRoomSnapshot cachedSnapshot,
+      CompletableFuture<RocketChatRoomSnapshot> loadedSnapshot) {
+    var cache = snapshotCache();
+    var rcUserId = rocketChatCredentials.getRocketChatUserId();
+
+    return loadedSnapshot.handle(
+        (snapshot, throwable) -> {
+          if (isNull(throwable)) {
+            cache.put(rcUserId, snapshot);
+            return snapshot;
+          }
+          var cause = unwrap(throwable);
+          if (cause instanceof TimeoutException) {
+            return fallbackSnapshot(rcUserId, cachedSnapshot, (TimeoutException) cause);
+          }
+          cache.evict(rcUserId);
+          throw asRuntimeException(cause);
+        });
+  }
+
+  private RocketChatRoomSnapshot fallbackSnapshot(
+      String rcUserId, RocketChatRoomSnapshot cachedSnapshot, TimeoutException timeoutException) {
+    if (isNull(cachedSnapshot)) {
+      throw notLoadedInTime(rcUserId, timeoutException);
+    }
+    log.warn("Rocket.Chat rooms of user {} not loaded in time, using cached snapshot", rcUserId);
+    return cachedSnapshot;
+  }
+
+  private InternalServerErrorException notLoadedInTime(
+      String rcUserId, TimeoutException timeoutException) {
+    return new InternalServerErrorException(
+        String.format("Rocket.Chat rooms of user %s could not be loaded in time", rcUserId),
+        timeoutException,
+        LogService::logRocketChatError);
+  }
+
+  private RuntimeException asRuntimeException(Throwable cause) {
+    return cause instanceof RuntimeException
+        ? (RuntimeException) cause
+        : new CompletionException(cause);
+  }
+
+  private Throwable unwrap(Throwable throwable) {
+    return throwable instanceof CompletionException && nonNull(throwable.getCause())
+        ? throwable.getCause()
+        : throwable;
+  }
+
+  private CompletableFuture<RocketChatRoomSnapshot> loadFullSnapshot(
+      RocketChatCredentials rocketChatCredentials) {
+    return loadConcurrently(
+        () -> rocketChatService.getSubscriptionsOfUser(rocketChatCredentials),
+        () -> rocketChatService.getRoomsOfUser(rocketChatCredentials),
+        RocketChatRoomSnapshot::of);
+  }
+
+  private CompletableFuture<RocketChatRoomSnapshot> loadChanges(
+      RocketChatCredentials rocketChatCredentials, RocketChatRoomSnapshot snapshot) {
+    return loadConcurrently(
+        () ->
+            rocketChatService.getSubscriptionsOfUserUpdatedSince(
+                rocketChatCredentials, withOverlap(snapshot.getSubscriptionsUpdatedAt())),
+        () ->
+            rocketChatService.getRoomsOfUserUpdatedSince(
+                rocketChatCredentials, withOverlap(snapshot.getRoomsUpdatedAt())),
+        snapshot::merge);
+  }
+
+  private <S, R> CompletableFuture<RocketChatRoomSnapshot> loadConcurrently(
+      Supplier<S> subscriptionLoader,
+      Supplier<R> roomLoader,
+      BiFunction<S, R, RocketChatRoomSnapshot> combiner) {
+    var subscriptions = CompletableFuture.supplyAsync(subscriptionLoader, rocketChatTaskExecutor);
+    var rooms = CompletableFuture.supplyAsync(roomLoader, rocketChatTaskExecutor);
+    var snapshot =
+        subscriptions.thenCombine(rooms, combiner).orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+    snapshot.whenComplete(
+        (loadedSnapshot, throwable) -> {
+          if (nonNull(throwable)) {
+            // loads still queued in the pool are skipped, running ones end by the read timeout
+            subscriptions.cancel(false);
+            rooms.cancel(false);
+          }
+        });
+    return snapshot;
+  }
+
+  private Date withOverlap(Date updatedAt) {
+    return isNull(updatedAt) ? null : new Date(updatedAt.getTime() - UPDATED_SINCE_OVERLAP_MILLIS);
+  }
+
+  private RocketChatRoomSnapshot cachedSnapshot(RocketChatCredentials rocketChatCredentials) {
+    return snapshotCache()
+        .get(rocketChatCredentials.getRocketChatUserId(), RocketChatRoomSnapshot.class);
+  }
+
+  private Cache snapshotCache() {
+    return requireNonNull(cacheManager.getCache(ROCKET_CHAT_ROOM_SNAPSHOT_CACHE));
+  }
+}
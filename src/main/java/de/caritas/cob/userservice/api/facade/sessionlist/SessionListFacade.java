@@ -215,6 +215,11 @@ public class SessionListFacade {
   public ConsultantSessionListResponseDTO retrieveSessionsDtoForAuthenticatedConsultant(
       Consultant consultant, SessionListQueryParameter sessionListQueryParameter) {
 
+    if (SessionStatus.isStatusValueNew(sessionListQueryParameter.getSessionStatus())) {
+      return retrieveEnquiriesPageDtoForAuthenticatedConsultant(
+          consultant, sessionListQueryParameter);
+    }
+
     List<ConsultantSessionResponseDTO> consultantSessions =
         consultantSessionListService.retrieveSessionsForAuthenticatedConsultant(
             consultant, sessionListQueryParameter);
@@ -243,11 +248,29 @@ public class SessionListFacade {
         .total(consultantSessions.size());
   }
 
+  /*
+   * Enquiries are sorted by the enquiry message date, which is known to the database. So paging
+   * and counting is done there and only the requested window gets enriched.
+   */
+  private ConsultantSessionListResponseDTO retrieveEnquiriesPageDtoForAuthenticatedConsultant(
+      Consultant consultant, SessionListQueryParameter sessionListQueryParameter) {
+    var enquiriesPage =
+        consultantSessionListService.retrieveEnquiriesPageForAuthenticatedConsultant(
+            consultant, sessionListQueryParameter);
+
+    return new ConsultantSessionListResponseDTO()
+        .sessions(new ArrayList<>(enquiriesPage.getContent()))
+        .offset(sessionListQueryParameter.getOffset())
+        .count(enquiriesPage.getNumberOfElements())
+        .total((int) enquiriesPage.getTotalElements());
+  }
+
   private void enrichWithTopicData(List<ConsultantSessionResponseDTO> consultantSessionsSublist) {
     if (consultantSessionsSublist != null) {
-      consultantSessionsSublist.stream()
-          .map(ConsultantSessionResponseDTO::getSession)
-          .forEach(sessionTopicEnrichmentService::enrichSessionWithTopicData);
+      sessionTopicEnrichmentService.enrichSessionsWithTopicData(
+          consultantSessionsSublist.stream()
+              .map(ConsultantSessionResponseDTO::getSession)
+              .collect(Collectors.toList()));
     }
   }
 
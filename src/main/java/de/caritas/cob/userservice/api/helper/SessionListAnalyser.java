@@ -40,6 +40,22 @@ public class SessionListAnalyser {
     }
   }
 
+  /**
+   * Decrypts the given Rocket.Chat messages at once.
+   *
+   * @param messagesByGroupId encrypted messages mapped by the Rocket.Chat group id
+   * @return decrypted messages mapped by the Rocket.Chat group id
+   */
+  public Map<String, String> prepareMessagesForSessionList(Map<String, String> messagesByGroupId) {
+    try {
+      return decryptionService.decryptAll(messagesByGroupId);
+    } catch (CustomCryptoException cryptoEx) {
+      throw new InternalServerErrorException(
+          String.format("Could not decrypt messages for group ids %s", messagesByGroupId.keySet()),
+          LogService::logInternalServerError);
+    }
+  }
+
   /**
    * Check, if messages for given session were read by user.
    *
@@ -1,10 +1,13 @@
 package de.caritas.cob.userservice.api.model;
 
 import static de.caritas.cob.userservice.api.model.Consultant.EMAIL_ANALYZER;
+import static de.caritas.cob.userservice.api.model.Consultant.INFIX_ANALYZER;
+import static de.caritas.cob.userservice.api.model.Consultant.SORT_NORMALIZER;
 import static java.util.Objects.isNull;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.neovisionaries.i18n.LanguageCode;
+import de.caritas.cob.userservice.api.model.ConsultantAgency.ConsultantAgencyBase;
 import de.caritas.cob.userservice.mailservice.generated.web.model.Dialect;
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -30,6 +33,7 @@ import lombok.NoArgsConstructor;
 import lombok.NonNull;
 import lombok.Setter;
 import org.apache.lucene.analysis.core.LowerCaseFilterFactory;
+import org.apache.lucene.analysis.ngram.NGramTokenizerFactory;
 import org.apache.lucene.analysis.standard.ClassicTokenizerFactory;
 import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.FilterDef;
@@ -37,9 +41,14 @@ import org.hibernate.annotations.ParamDef;
 import org.hibernate.annotations.Where;
 import org.hibernate.search.annotations.Analyzer;
 import org.hibernate.search.annotations.AnalyzerDef;
+import org.hibernate.search.annotations.AnalyzerDefs;
 import org.hibernate.search.annotations.Field;
+import org.hibernate.search.annotations.Fields;
 import org.hibernate.search.annotations.Indexed;
 import org.hibernate.search.annotations.IndexedEmbedded;
+import org.hibernate.search.annotations.Normalizer;
+import org.hibernate.search.annotations.NormalizerDef;
+import org.hibernate.search.annotations.Parameter;
 import org.hibernate.search.annotations.SortableField;
 import org.hibernate.search.annotations.TokenFilterDef;
 import org.hibernate.search.annotations.TokenizerDef;
@@ -61,9 +70,28 @@ import org.springframework.lang.Nullable;
 @Setter
 @Builder
 @Indexed
-@AnalyzerDef(
-    name = EMAIL_ANALYZER,
-    tokenizer = @TokenizerDef(factory = ClassicTokenizerFactory.class),
+@AnalyzerDefs({
+  @AnalyzerDef(
+      name = EMAIL_ANALYZER,
+      tokenizer = @TokenizerDef(factory = ClassicTokenizerFactory.class),
+      filters = {
+        @TokenFilterDef(factory = LowerCaseFilterFactory.class),
+      }),
+  @AnalyzerDef(
+      name = INFIX_ANALYZER,
+      tokenizer =
+          @TokenizerDef(
+              factory = NGramTokenizerFactory.class,
+              params = {
+                @Parameter(name = "minGramSize", value = "3"),
+                @Parameter(name = "maxGramSize", value = "3")
+              }),
+      filters = {
+        @TokenFilterDef(factory = LowerCaseFilterFactory.class),
+      })
+})
+@NormalizerDef(
+    name = SORT_NORMALIZER,
     filters = {
       @TokenFilterDef(factory = LowerCaseFilterFactory.class),
     })
@@ -75,6 +103,12 @@ public class Consultant implements TenantAware, NotificationsAware {
 
   protected static final String EMAIL_ANALYZER = "emailAnalyzer";
 
+  /* Trigrams of the whole value, an infix is found by a phrase query of its own trigrams. */
+  protected static final String INFIX_ANALYZER = "infixAnalyzer";
+
+  /* Whole lowercase value, sorts like the case insensitive collation of the database. */
+  protected static final String SORT_NORMALIZER = "sortNormalizer";
+
   @Id
   @Column(name = "consultant_id", updatable = false, nullable = false)
   @Size(max = 36)
@@ -96,23 +130,38 @@ public class Consultant implements TenantAware, NotificationsAware {
   @Column(name = "first_name", nullable = false)
   @Size(max = 255)
   @NonNull
-  @Field
-  @SortableField
+  @Fields({
+    @Field,
+    @Field(name = "firstNameInfix", analyzer = @Analyzer(definition = INFIX_ANALYZER)),
+    @Field(name = "firstNameSort", normalizer = @Normalizer(definition = SORT_NORMALIZER))
+  })
+  @SortableField(forField = "firstName")
+  @SortableField(forField = "firstNameSort")
   private String firstName;
 
   @Column(name = "last_name", nullable = false)
   @Size(max = 255)
   @NonNull
-  @Field
-  @SortableField
+  @Fields({
+    @Field,
+    @Field(name = "lastNameInfix", analyzer = @Analyzer(definition = INFIX_ANALYZER)),
+    @Field(name = "lastNameSort", normalizer = @Normalizer(definition = SORT_NORMALIZER))
+  })
+  @SortableField(forField = "lastName")
+  @SortableField(forField = "lastNameSort")
   private String lastName;
 
   @Column(name = "email", nullable = false)
   @Size(max = 255)
   @NonNull
-  @Field
+  @Fields({
+    @Field,
+    @Field(name = "emailInfix", analyzer = @Analyzer(definition = INFIX_ANALYZER)),
+    @Field(name = "emailSort", normalizer = @Normalizer(definition = SORT_NORMALIZER))
+  })
   @Analyzer(definition = EMAIL_ANALYZER)
-  @SortableField
+  @SortableField(forField = "email")
+  @SortableField(forField = "emailSort")
   private String email;
 
   @Column(name = "is_absent", nullable = false, columnDefinition = "tinyint")
@@ -173,6 +222,7 @@ public class Consultant implements TenantAware, NotificationsAware {
 
   @Column(name = "tenant_id")
   @Field
+  @SortableField
   private Long tenantId;
 
   @OneToMany(mappedBy = "consultant", cascade = CascadeType.ALL)
@@ -292,4 +342,26 @@ public class Consultant implements TenantAware, NotificationsAware {
 
     String getEmail();
   }
+
+  /**
+   * A consultant together with one of its agency assignments, deleted assignments included. The
+   * agency properties are null for a consultant without any assignment.
+   */
+  public interface ConsultantWithAgency extends ConsultantAgencyBase {
+
+    Consultant getConsultant();
+  }
+
+  public interface ConsultantRocketChatId {
+
+    String getId();
+
+    String getRocketChatId();
+  }
+
+  /** The Rocket.Chat id of a consultant together with one of its active agency assignments. */
+  public interface ConsultantRocketChatIdWithAgency extends ConsultantRocketChatId {
+
+    Long getAgencyId();
+  }
 }
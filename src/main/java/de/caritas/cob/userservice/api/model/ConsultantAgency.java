@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
@@ -21,6 +22,7 @@ import lombok.Setter;
 import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.FilterDef;
 import org.hibernate.annotations.ParamDef;
+import org.hibernate.search.annotations.ContainedIn;
 import org.hibernate.search.annotations.Field;
 import org.hibernate.search.annotations.FieldBridge;
 import org.hibernate.search.bridge.builtin.LongBridge;
@@ -28,6 +30,7 @@ import org.hibernate.search.bridge.builtin.LongBridge;
 /** Represents the relation between consultant and agency */
 @Entity
 @Table(name = "consultant_agency")
+@EntityListeners(ConsultantAgencyChangeListener.class)
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
@@ -50,6 +53,7 @@ public class ConsultantAgency implements TenantAware {
 
   @ManyToOne
   @JoinColumn(name = "consultant_id", nullable = false)
+  @ContainedIn
   private Consultant consultant;
 
   @Column(name = "agency_id")
@@ -0,0 +1,28 @@
+package de.caritas.cob.userservice.api.model;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes a {@link ConsultantAgencyChangedEvent} for every written {@link ConsultantAgency}, so
+ * local lookups derived from the consultant agency relations can be invalidated.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConsultantAgencyChangeListener {
+
+  private final @NonNull ApplicationEventPublisher applicationEventPublisher;
+
+  @PostPersist
+  @PostUpdate
+  @PostRemove
+  public void consultantAgencyChanged(ConsultantAgency consultantAgency) {
+    applicationEventPublisher.publishEvent(
+        new ConsultantAgencyChangedEvent(consultantAgency.getTenantId()));
+  }
+}
@@ -0,0 +1,10 @@
+package de.caritas.cob.userservice.api.model;
+
+import lombok.Value;
+
+/** Event published after a {@link ConsultantAgency} was created, changed or removed. */
+@Value
+public class ConsultantAgencyChangedEvent {
+
+  Long tenantId;
+}
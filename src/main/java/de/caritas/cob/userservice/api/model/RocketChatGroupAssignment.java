@@ -0,0 +1,71 @@
+package de.caritas.cob.userservice.api.model;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Progress of adding the consultant of a {@link ConsultantAgency} to the Rocket.Chat group of one
+ * {@link Session} of the agency.
+ */
+@Entity
+@Table(name = "rocketchat_group_assignment")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class RocketChatGroupAssignment {
+
+  public enum AssignmentStatus {
+    PENDING,
+    ASSIGNED,
+    FAILED
+  }
+
+  @Id
+  @SequenceGenerator(
+      name = "id_seq",
+      allocationSize = 1,
+      sequenceName = "sequence_rocketchat_group_assignment")
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "id_seq")
+  @Column(name = "id", updatable = false, nullable = false)
+  private Long id;
+
+  @Column(name = "consultant_agency_id", nullable = false)
+  private Long consultantAgencyId;
+
+  @Column(name = "session_id", nullable = false)
+  private Long sessionId;
+
+  @Column(name = "status", length = 8, nullable = false)
+  @Enumerated(EnumType.STRING)
+  private AssignmentStatus status;
+
+  @Column(name = "attempts", nullable = false)
+  private int attempts;
+
+  @Column(name = "error")
+  private String error;
+
+  @Column(name = "tenant_id")
+  private Long tenantId;
+
+  @Column(name = "create_date", nullable = false)
+  private LocalDateTime createDate;
+
+  @Column(name = "update_date", nullable = false)
+  private LocalDateTime updateDate;
+}
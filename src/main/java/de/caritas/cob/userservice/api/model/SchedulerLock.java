@@ -0,0 +1,37 @@
+package de.caritas.cob.userservice.api.model;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Lock shared by all instances of the service, held by one instance until it is released or the
+ * lease has expired.
+ */
+@Entity
+@Table(name = "scheduler_lock")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class SchedulerLock {
+
+  @Id
+  @Column(name = "name", updatable = false, nullable = false, length = 100)
+  private String name;
+
+  @Column(name = "locked_until", nullable = false)
+  private LocalDateTime lockedUntil;
+
+  @Column(name = "locked_at", nullable = false)
+  private LocalDateTime lockedAt;
+
+  @Column(name = "locked_by", nullable = false, length = 100)
+  private String lockedBy;
+}
@@ -80,6 +80,10 @@ public class Session implements TenantAware {
     public static boolean isStatusValueInProgress(int value) {
       return value == IN_PROGRESS.getValue();
     }
+
+    public static boolean isStatusValueNew(int value) {
+      return value == NEW.getValue();
+    }
   }
 
   /** Represents a session of a user */
@@ -229,4 +233,11 @@ public class Session implements TenantAware {
   public boolean isAdvised(String adviceSeekerId) {
     return nonNull(user) && nonNull(adviceSeekerId) && adviceSeekerId.equals(user.getUserId());
   }
+
+  public interface AgencyOpenEnquiries {
+
+    Long getAgencyId();
+
+    Long getOpenEnquiries();
+  }
 }
@@ -0,0 +1,49 @@
+package de.caritas.cob.userservice.api.model;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Statistics event stored in the same transaction as the business change, to be published to the
+ * statistics exchange afterwards.
+ */
+@Entity
+@Table(name = "statistics_outbox_event")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class StatisticsOutboxEvent {
+
+  @Id
+  @SequenceGenerator(
+      name = "id_seq",
+      allocationSize = 1,
+      sequenceName = "sequence_statistics_outbox_event")
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "id_seq")
+  @Column(name = "id", updatable = false, nullable = false)
+  private Long id;
+
+  @Column(name = "event_type", nullable = false)
+  private String eventType;
+
+  @Lob
+  @Column(name = "payload", nullable = false)
+  private String payload;
+
+  @Column(name = "create_date", nullable = false)
+  private LocalDateTime createDate;
+}
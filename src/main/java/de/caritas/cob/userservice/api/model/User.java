@@ -159,4 +159,11 @@ public class User implements TenantAware, NotificationsAware {
   public Dialect getDialect() {
     return isLanguageFormal() ? Dialect.FORMAL : Dialect.INFORMAL;
   }
+
+  public interface UserRcUserId {
+
+    String getUserId();
+
+    String getRcUserId();
+  }
 }
@@ -17,7 +17,7 @@ public interface Messaging {
 
   void unbanUsersInChat(Long chatId, String id);
 
-  Boolean updateE2eKeys(String chatUserId, String publicKey);
+  Map<String, Boolean> updateE2eKeys(String chatUserId, String publicKey);
 
   boolean removeUserFromSession(String chatUserId, String chatId);
 
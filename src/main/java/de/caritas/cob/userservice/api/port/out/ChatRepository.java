@@ -2,6 +2,7 @@ package de.caritas.cob.userservice.api.port.out;
 
 import de.caritas.cob.userservice.api.model.Chat;
 import de.caritas.cob.userservice.api.model.Consultant;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -46,4 +47,20 @@ public interface ChatRepository extends CrudRepository<Chat, Long> {
   List<Chat> findByChatOwner(Consultant chatOwner);
 
   List<Chat> findAllByActiveIsTrue();
+
+  /**
+   * Find the ids of all active chats whose last update plus their duration lies before the given
+   * deactivation time.
+   *
+   * @param deactivationTime the time the end of the chats must lie before
+   * @return the ids of the stale active chats
+   */
+  @Query(
+      value =
+          "SELECT c.id FROM chat c WHERE c.is_active = TRUE "
+              + "AND TIMESTAMPADD(MINUTE, c.duration, c.update_date) < :deactivation_time "
+              + "ORDER BY c.id",
+      nativeQuery = true)
+  List<Long> findStaleActiveChatIds(
+      @Param(value = "deactivation_time") LocalDateTime deactivationTime);
 }
@@ -1,11 +1,29 @@
 package de.caritas.cob.userservice.api.port.out;
 
 import de.caritas.cob.userservice.api.model.ConsultantMobileToken;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
 public interface ConsultantMobileTokenRepository
     extends CrudRepository<ConsultantMobileToken, Long> {
 
   Optional<ConsultantMobileToken> findByMobileAppToken(String mobileAppToken);
+
+  /**
+   * Find the mobile app tokens of all not deleted consultants with the given ids.
+   *
+   * @param consultantIds the consultant ids to search for
+   * @return the mobile app tokens of the consultants
+   */
+  @Query(
+      "SELECT t.mobileAppToken FROM ConsultantMobileToken t "
+          + "WHERE t.consultant.id IN :consultantIds AND t.consultant.deleteDate IS NULL")
+  List<String> findMobileAppTokensByConsultantIds(
+      @Param("consultantIds") Collection<String> consultantIds);
+
+  void deleteByMobileAppTokenIn(Collection<String> mobileAppTokens);
 }
@@ -2,6 +2,9 @@ package de.caritas.cob.userservice.api.port.out;
 
 import de.caritas.cob.userservice.api.model.Consultant;
 import de.caritas.cob.userservice.api.model.Consultant.ConsultantBase;
+import de.caritas.cob.userservice.api.model.Consultant.ConsultantRocketChatId;
+import de.caritas.cob.userservice.api.model.Consultant.ConsultantRocketChatIdWithAgency;
+import de.caritas.cob.userservice.api.model.Consultant.ConsultantWithAgency;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -10,6 +13,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
 public interface ConsultantRepository extends CrudRepository<Consultant, String> {
 
@@ -17,6 +21,19 @@ public interface ConsultantRepository extends CrudRepository<Consultant, String>
 
   Optional<Consultant> findByRocketChatIdAndDeleteDateIsNull(String id);
 
+  /**
+   * Find the ids of all not deleted consultants with one of the given Rocket.Chat user ids.
+   *
+   * @param rocketChatIds the Rocket.Chat user ids to search for
+   * @return the consultant id and Rocket.Chat user id of each found consultant
+   */
+  @Query(
+      "SELECT c.id as id, c.rocketChatId as rocketChatId "
+          + "FROM Consultant c "
+          + "WHERE c.rocketChatId IN :rocketChatIds AND c.deleteDate IS NULL")
+  List<ConsultantRocketChatId> findIdsByRocketChatIdInAndDeleteDateIsNull(
+      @Param("rocketChatIds") Collection<String> rocketChatIds);
+
   Optional<Consultant> findByEmailAndDeleteDateIsNull(String email);
 
   Optional<Consultant> findByUsernameAndDeleteDateIsNull(String username);
@@ -29,6 +46,22 @@ public interface ConsultantRepository extends CrudRepository<Consultant, String>
 
   List<Consultant> findAllByIdIn(List<String> ids);
 
+  /**
+   * Find the consultants with the given ids together with all their agency assignments, including
+   * deleted ones, in one query. Each consultant is returned once per assignment.
+   *
+   * @param consultantIds the consultant ids to search for
+   * @return a {@link ConsultantWithAgency} per consultant and assignment
+   */
+  @Query(
+      "SELECT c as consultant, ca.id as id, ca.agencyId as agencyId, c.id as consultantId, "
+          + "ca.deleteDate as deleteDate "
+          + "FROM Consultant c "
+          + "LEFT JOIN ConsultantAgency ca ON ca.consultant = c "
+          + "WHERE c.id IN :consultantIds")
+  List<ConsultantWithAgency> findAllWithAgenciesByIdIn(
+      @Param("consultantIds") Collection<String> consultantIds);
+
   @Query(
       value =
           "SELECT c.id as id, c.firstName as firstName, c.lastName as lastName, c.email as email "
@@ -74,4 +107,19 @@ public interface ConsultantRepository extends CrudRepository<Consultant, String>
               + "WHERE ca.agencyId IN (?1) "
               + "AND ca.deleteDate IS NULL")
   Set<String> findAllByAgencyIds(Set<Long> agencyIds);
+
+  /**
+   * Find the Rocket.Chat ids of all active consultants together with their active agency
+   * assignments. Each consultant is returned once per assignment.
+   *
+   * @return a {@link ConsultantRocketChatIdWithAgency} per consultant and assignment
+   */
+  @Query(
+      "SELECT c.id as id, c.rocketChatId as rocketChatId, ca.agencyId as agencyId "
+          + "FROM Consultant c "
+          + "INNER JOIN ConsultantAgency ca ON c.id = ca.consultant.id "
+          + "WHERE c.deleteDate IS NULL "
+          + "AND c.rocketChatId IS NOT NULL "
+          + "AND ca.deleteDate IS NULL")
+  List<ConsultantRocketChatIdWithAgency> findAllRocketChatIdsWithAgency();
 }
@@ -1,5 +1,7 @@
 package de.caritas.cob.userservice.api.port.out;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -21,6 +23,10 @@ public interface MessageClient {
 
   Set<String> findAllAvailableUserIds();
 
+  Optional<Map<String, Object>> findPresenceChangesSince(Instant since);
+
+  Set<String> findLoggedInUserIds(Collection<String> chatUserIds);
+
   Optional<Boolean> isAvailable(String chatUserId);
 
   boolean setUserPresence(String username, String status);
@@ -0,0 +1,57 @@
+package de.caritas.cob.userservice.api.port.out;
+
+import de.caritas.cob.userservice.api.model.RocketChatGroupAssignment;
+import de.caritas.cob.userservice.api.model.RocketChatGroupAssignment.AssignmentStatus;
+import java.util.List;
+import java.util.Set;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+public interface RocketChatGroupAssignmentRepository
+    extends CrudRepository<RocketChatGroupAssignment, Long> {
+
+  /**
+   * Find the open assignments of a consultant agency relation, which are not assigned yet and have
+   * attempts left, in insertion order after the given id.
+   *
+   * @param consultantAgencyId the id of the consultant agency relation
+   * @param assigned the {@link AssignmentStatus} of finished assignments
+   * @param maxAttempts the maximal attempts per assignment
+   * @param afterId the id after which assignments are returned
+   * @param pageable the pagination object limiting the chunk size
+   * @return the open {@link RocketChatGroupAssignment}s
+   */
+  @Query(
+      "SELECT a FROM RocketChatGroupAssignment a WHERE a.consultantAgencyId = :consultantAgencyId"
+          + " AND a.status <> :assigned AND a.attempts < :maxAttempts AND a.id > :afterId"
+          + " ORDER BY a.id")
+  List<RocketChatGroupAssignment> findOpenAssignments(
+      @Param("consultantAgencyId") Long consultantAgencyId,
+      @Param("assigned") AssignmentStatus assigned,
+      @Param("maxAttempts") int maxAttempts,
+      @Param("afterId") Long afterId,
+      Pageable pageable);
+
+  @Query("SELECT DISTINCT a.consultantAgencyId FROM RocketChatGroupAssignment a")
+  List<Long> findConsultantAgencyIds();
+
+  @Query(
+      "SELECT a.sessionId FROM RocketChatGroupAssignment a"
+          + " WHERE a.consultantAgencyId = :consultantAgencyId")
+  Set<Long> findSessionIdsByConsultantAgencyId(
+      @Param("consultantAgencyId") Long consultantAgencyId);
+
+  long countByConsultantAgencyId(Long consultantAgencyId);
+
+  long countByConsultantAgencyIdAndStatus(Long consultantAgencyId, AssignmentStatus status);
+
+  long countByConsultantAgencyIdAndStatusAndAttemptsGreaterThanEqual(
+      Long consultantAgencyId, AssignmentStatus status, int attempts);
+
+  @Modifying
+  @Query("DELETE FROM RocketChatGroupAssignment a WHERE a.consultantAgencyId = :consultantAgencyId")
+  void deleteByConsultantAgencyId(@Param("consultantAgencyId") Long consultantAgencyId);
+}
@@ -0,0 +1,59 @@
+package de.caritas.cob.userservice.api.port.out;
+
+import de.caritas.cob.userservice.api.model.SchedulerLock;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+public interface SchedulerLockRepository extends CrudRepository<SchedulerLock, String> {
+
+  /**
+   * Takes over the lock with the given name if its lease has expired.
+   *
+   * @param name the name of the lock
+   * @param lockedBy the instance taking the lock
+   * @param now the current time
+   * @param lockedUntil the end of the lease
+   * @return 1 if the lock was taken, 0 if it is held by an instance or does not exist yet
+   */
+  @Modifying
+  @Query(
+      "UPDATE SchedulerLock l SET l.lockedBy = :lockedBy, l.lockedAt = :now,"
+          + " l.lockedUntil = :lockedUntil WHERE l.name = :name AND l.lockedUntil <= :now")
+  int takeExpiredLock(
+      @Param("name") String name,
+      @Param("lockedBy") String lockedBy,
+      @Param("now") LocalDateTime now,
+      @Param("lockedUntil") LocalDateTime lockedUntil);
+
+  /**
+   * Creates the lock with the given name, failing with a duplicate key if it already exists.
+   *
+   * @param name the name of the lock
+   * @param lockedBy the instance taking the lock
+   * @param now the current time
+   * @param lockedUntil the end of the lease
+   */
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO scheduler_lock (name, locked_until, locked_at, locked_by)"
+              + " VALUES (:name, :lockedUntil, :now, :lockedBy)",
+      nativeQuery = true)
+  void insertLock(
+      @Param("name") String name,
+      @Param("lockedBy") String lockedBy,
+      @Param("now") LocalDateTime now,
+      @Param("lockedUntil") LocalDateTime lockedUntil);
+
+  @Modifying
+  @Query(
+      "UPDATE SchedulerLock l SET l.lockedUntil = :now"
+          + " WHERE l.name = :name AND l.lockedBy = :lockedBy")
+  int releaseLock(
+      @Param("name") String name,
+      @Param("lockedBy") String lockedBy,
+      @Param("now") LocalDateTime now);
+}
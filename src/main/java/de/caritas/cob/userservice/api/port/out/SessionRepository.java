@@ -2,9 +2,12 @@ package de.caritas.cob.userservice.api.port.out;
 
 import de.caritas.cob.userservice.api.model.Consultant;
 import de.caritas.cob.userservice.api.model.Session;
+import de.caritas.cob.userservice.api.model.Session.AgencyOpenEnquiries;
 import de.caritas.cob.userservice.api.model.Session.RegistrationType;
 import de.caritas.cob.userservice.api.model.Session.SessionStatus;
 import de.caritas.cob.userservice.api.model.User;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -34,6 +37,26 @@ public interface SessionRepository extends CrudRepository<Session, Long> {
    */
   List<Session> findByConsultantAndStatusIn(Consultant consultant, List<SessionStatus> statuses);
 
+  /**
+   * Find the {@link Session}s of a consultant with one of the given statuses. User, consultant and
+   * session data are fetched in the same query, so the sessions can be mapped for the session list
+   * without further queries.
+   *
+   * @param consultant {@link Consultant}
+   * @param statuses the {@link SessionStatus}es to search for
+   * @return A list of {@link Session}s for the specific consultant ordered by status
+   */
+  @Query(
+      "SELECT DISTINCT s FROM Session s "
+          + "JOIN FETCH s.user "
+          + "LEFT JOIN FETCH s.consultant "
+          + "LEFT JOIN FETCH s.sessionData "
+          + "WHERE s.consultant = :consultant AND s.status IN :statuses "
+          + "ORDER BY s.status")
+  List<Session> findByConsultantAndStatusInFetchingListData(
+      @Param("consultant") Consultant consultant,
+      @Param("statuses") Collection<SessionStatus> statuses);
+
   /**
    * Find a {@link Session} list by a consultant and a session status ordered by update date desc.
    *
@@ -59,6 +82,23 @@ public interface SessionRepository extends CrudRepository<Session, Long> {
       findByAgencyIdInAndConsultantIsNullAndStatusAndRegistrationTypeOrderByEnquiryMessageDateAsc(
           List<Long> agencyIds, SessionStatus sessionStatus, RegistrationType registrationType);
 
+  /**
+   * Find a page of {@link Session}s with unassigned consultant by agency ids and status ordered by
+   * enquiry message date ascending.
+   *
+   * @param agencyIds ids of agencies to search for
+   * @param sessionStatus {@link SessionStatus} to search for
+   * @param registrationType {@link RegistrationType} to search for
+   * @param pageable the pagination object
+   * @return the result {@link Page} containing the total amount of matching sessions
+   */
+  Page<Session>
+      findByAgencyIdInAndConsultantIsNullAndStatusAndRegistrationTypeOrderByEnquiryMessageDateAsc(
+          List<Long> agencyIds,
+          SessionStatus sessionStatus,
+          RegistrationType registrationType,
+          Pageable pageable);
+
   /**
    * Find a {@link Session} by agency ids with status and team session where consultant is not the
    * given consultant ordered by update date descending.
@@ -187,6 +227,22 @@ public interface SessionRepository extends CrudRepository<Session, Long> {
   /** Find all sessions by a given {@link SessionStatus}. */
   List<Session> findByStatus(SessionStatus status);
 
+  /**
+   * Count the {@link Session}s with the given status per agency, whose enquiry message was written
+   * before the given threshold.
+   *
+   * @param status the {@link SessionStatus} to search for
+   * @param threshold the enquiry message date the sessions must be older than
+   * @return the amount of matching sessions per agency id
+   */
+  @Query(
+      "SELECT s.agencyId as agencyId, COUNT(s) as openEnquiries "
+          + "FROM Session s "
+          + "WHERE s.status = :status AND s.enquiryMessageDate < :threshold "
+          + "GROUP BY s.agencyId")
+  List<AgencyOpenEnquiries> countByStatusAndEnquiryMessageDateBeforeGroupedByAgency(
+      @Param("status") SessionStatus status, @Param("threshold") LocalDateTime threshold);
+
   /** Find all sessions by a given {@link SessionStatus} and {@link RegistrationType}. */
   List<Session> findByStatusInAndRegistrationType(
       Set<SessionStatus> status, RegistrationType registrationType);
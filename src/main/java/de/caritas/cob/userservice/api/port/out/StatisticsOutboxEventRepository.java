@@ -0,0 +1,33 @@
+package de.caritas.cob.userservice.api.port.out;
+
+import de.caritas.cob.userservice.api.model.StatisticsOutboxEvent;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+public interface StatisticsOutboxEventRepository
+    extends CrudRepository<StatisticsOutboxEvent, Long> {
+
+  /**
+   * Find the oldest outbox events and lock them until the end of the transaction, so concurrent
+   * relays do not publish the same events.
+   *
+   * @param pageable the pagination object limiting the batch size
+   * @return the oldest {@link StatisticsOutboxEvent}s in insertion order
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  List<StatisticsOutboxEvent> findAllByOrderByIdAsc(Pageable pageable);
+
+  Optional<StatisticsOutboxEvent> findFirstByOrderByIdAsc();
+
+  @Modifying
+  @Query("DELETE FROM StatisticsOutboxEvent e WHERE e.id IN :ids")
+  void deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -1,10 +1,27 @@
 package de.caritas.cob.userservice.api.port.out;
 
 import de.caritas.cob.userservice.api.model.UserMobileToken;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
 public interface UserMobileTokenRepository extends CrudRepository<UserMobileToken, Long> {
 
   Optional<UserMobileToken> findByMobileAppToken(String mobileAppToken);
+
+  /**
+   * Find the mobile app tokens of all not deleted users with the given ids.
+   *
+   * @param userIds the user ids to search for
+   * @return the mobile app tokens of the users
+   */
+  @Query(
+      "SELECT t.mobileAppToken FROM UserMobileToken t "
+          + "WHERE t.user.userId IN :userIds AND t.user.deleteDate IS NULL")
+  List<String> findMobileAppTokensByUserIds(@Param("userIds") Collection<String> userIds);
+
+  void deleteByMobileAppTokenIn(Collection<String> mobileAppTokens);
 }
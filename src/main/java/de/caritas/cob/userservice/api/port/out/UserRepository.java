@@ -1,12 +1,15 @@
 package de.caritas.cob.userservice.api.port.out;
 
 import de.caritas.cob.userservice.api.model.User;
+import de.caritas.cob.userservice.api.model.User.UserRcUserId;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends CrudRepository<User, String> {
 
@@ -16,8 +19,36 @@ public interface UserRepository extends CrudRepository<User, String> {
 
   Optional<User> findByRcUserIdAndDeleteDateIsNull(String rcUserId);
 
+  /**
+   * Find the ids of all not deleted users with one of the given Rocket.Chat user ids.
+   *
+   * @param rcUserIds the Rocket.Chat user ids to search for
+   * @return the user id and Rocket.Chat user id of each found user
+   */
+  @Query(
+      "SELECT u.userId as userId, u.rcUserId as rcUserId "
+          + "FROM User u "
+          + "WHERE u.rcUserId IN :rcUserIds AND u.deleteDate IS NULL")
+  List<UserRcUserId> findUserIdsByRcUserIdInAndDeleteDateIsNull(
+      @Param("rcUserIds") Collection<String> rcUserIds);
+
   List<User> findAllByDeleteDateNotNull();
 
+  /**
+   * Find the legacy mobile tokens of all not deleted users with the given ids.
+   *
+   * @param userIds the user ids to search for
+   * @return the mobile tokens of the users having one
+   */
+  @Query(
+      "SELECT u.mobileToken FROM User u "
+          + "WHERE u.userId IN :userIds AND u.deleteDate IS NULL AND u.mobileToken IS NOT NULL")
+  List<String> findMobileTokensByUserIds(@Param("userIds") Collection<String> userIds);
+
+  @Modifying
+  @Query("UPDATE User u SET u.mobileToken = NULL WHERE u.mobileToken IN :mobileTokens")
+  void removeMobileTokens(@Param("mobileTokens") Collection<String> mobileTokens);
+
   Optional<User> findByUsernameInAndDeleteDateIsNull(Collection<String> usernames);
 
   /**
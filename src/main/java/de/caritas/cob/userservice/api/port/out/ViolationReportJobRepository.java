@@ -0,0 +1,17 @@
+package de.caritas.cob.userservice.api.port.out;
+
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportJob;
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportJob.Status;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.repository.CrudRepository;
+
+public interface ViolationReportJobRepository extends CrudRepository<ViolationReportJob, String> {
+
+  Optional<ViolationReportJob> findFirstByStatus(Status status);
+
+  List<ViolationReportJob> findByStatusAndUpdateDateBefore(Status status, LocalDateTime date);
+
+  List<ViolationReportJob> findByStatusNotAndFinishDateBefore(Status status, LocalDateTime date);
+}
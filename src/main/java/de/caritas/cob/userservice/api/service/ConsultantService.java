@@ -7,13 +7,17 @@ import de.caritas.cob.userservice.api.helper.AuthenticatedUser;
 import de.caritas.cob.userservice.api.helper.UsernameTranscoder;
 import de.caritas.cob.userservice.api.model.ChatAgency;
 import de.caritas.cob.userservice.api.model.Consultant;
+import de.caritas.cob.userservice.api.model.Consultant.ConsultantRocketChatId;
 import de.caritas.cob.userservice.api.model.ConsultantMobileToken;
 import de.caritas.cob.userservice.api.port.out.ConsultantMobileTokenRepository;
 import de.caritas.cob.userservice.api.port.out.ConsultantRepository;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import javax.transaction.Transactional;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -55,6 +59,21 @@ public class ConsultantService {
     return consultantRepository.findByRocketChatIdAndDeleteDateIsNull(rcUserId);
   }
 
+  /**
+   * Returns the {@link Consultant} ids of the provided Rocket.Chat user IDs in one query.
+   *
+   * @param rcUserIds Rocket.Chat user IDs
+   * @return the ids of all found consultants mapped by their Rocket.Chat user ID
+   */
+  public Map<String, String> getConsultantIdsByRcUserIds(Collection<String> rcUserIds) {
+    return consultantRepository.findIdsByRocketChatIdInAndDeleteDateIsNull(rcUserIds).stream()
+        .collect(
+            Collectors.toMap(
+                ConsultantRocketChatId::getRocketChatId,
+                ConsultantRocketChatId::getId,
+                (first, second) -> first));
+  }
+
   /**
    * Returns a {@link Consultant} by the provided email address.
    *
@@ -157,6 +176,27 @@ public class ConsultantService {
     return consultantRepository.countByTenantIdAndDeleteDateIsNull(tenantId);
   }
 
+  /**
+   * Returns the mobile app tokens of the given consultants in bulk.
+   *
+   * @param consultantIds the consultant IDs
+   * @return the mobile app tokens of the consultants
+   */
+  public List<String> findMobileAppTokensOfConsultants(Collection<String> consultantIds) {
+    return consultantMobileTokenRepository.findMobileAppTokensByConsultantIds(consultantIds);
+  }
+
+  /**
+   * Removes the given mobile app tokens from all consultants, e.g. because the device is no longer
+   * registered.
+   *
+   * @param mobileTokens the mobile app tokens to remove
+   */
+  @Transactional
+  public void removeMobileAppTokens(Collection<String> mobileTokens) {
+    consultantMobileTokenRepository.deleteByMobileAppTokenIn(mobileTokens);
+  }
+
   private void addConsultantToken(Consultant consultant, String mobileToken) {
     verifyTokenDoesNotAlreadyExist(mobileToken);
     var consultantMobileToken = new ConsultantMobileToken();
@@ -1,10 +1,11 @@
 package de.caritas.cob.userservice.api.service;
 
+import static de.caritas.cob.userservice.api.config.apiclient.ApiClientHeaders.callWithHeaders;
+
 import de.caritas.cob.userservice.api.config.CacheManagerConfig;
 import de.caritas.cob.userservice.api.config.apiclient.ConsultingTypeServiceApiControllerFactory;
 import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
 import de.caritas.cob.userservice.api.service.httpheader.TenantHeaderSupplier;
-import de.caritas.cob.userservice.consultingtypeservice.generated.ApiClient;
 import de.caritas.cob.userservice.consultingtypeservice.generated.web.model.BasicConsultingTypeResponseDTO;
 import de.caritas.cob.userservice.consultingtypeservice.generated.web.model.ExtendedConsultingTypeResponseDTO;
 import java.util.List;
@@ -12,6 +13,7 @@ import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
 
@@ -37,8 +39,9 @@ public class ConsultingTypeService {
       int consultingTypeId) throws RestClientException {
     var consultingTypeControllerApi =
         consultingTypeServiceApiControllerFactory.createControllerApi();
-    addDefaultHeaders(consultingTypeControllerApi.getApiClient());
-    return consultingTypeControllerApi.getExtendedConsultingTypeById(consultingTypeId);
+    return callWithHeaders(
+        buildDefaultHeaders(),
+        () -> consultingTypeControllerApi.getExtendedConsultingTypeById(consultingTypeId));
   }
 
   /**
@@ -50,15 +53,16 @@ public class ConsultingTypeService {
   public List<Integer> getAllConsultingTypeIds(Long tenantId) {
     var consultingTypeControllerApi =
         consultingTypeServiceApiControllerFactory.createControllerApi();
-    addDefaultHeaders(consultingTypeControllerApi.getApiClient());
-    return consultingTypeControllerApi.getBasicConsultingTypeList().stream()
+    return callWithHeaders(
+            buildDefaultHeaders(), consultingTypeControllerApi::getBasicConsultingTypeList)
+        .stream()
         .map(BasicConsultingTypeResponseDTO::getId)
         .collect(Collectors.toList());
   }
 
-  private void addDefaultHeaders(ApiClient apiClient) {
+  private HttpHeaders buildDefaultHeaders() {
     var headers = this.securityHeaderSupplier.getCsrfHttpHeaders();
     tenantHeaderSupplier.addTenantHeader(headers);
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
+    return headers;
   }
 }
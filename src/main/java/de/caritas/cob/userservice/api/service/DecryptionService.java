@@ -3,10 +3,16 @@ package de.caritas.cob.userservice.api.service;
 import de.caritas.cob.userservice.api.exception.CustomCryptoException;
 import de.caritas.cob.userservice.api.exception.NoMasterKeyException;
 import java.io.UnsupportedEncodingException;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.spec.SecretKeySpec;
@@ -26,18 +32,27 @@ public class DecryptionService {
 
   private static final String ENCRYPTED_MESSAGE_FLAG = "enc:";
 
+  private static final int MAX_CACHED_SECRET_KEYS = 10_000;
+
+  private static final ThreadLocal<Cipher> CIPHER =
+      ThreadLocal.withInitial(DecryptionService::createCipher);
+
   @Value("${service.encryption.appkey}")
   private String fragment_applicationKey;
 
   private String fragment_masterKey = INITIAL_MASTER_KEY;
 
+  /* Replaced after the master key has been written, so a read cache always fits the master key. */
+  private volatile Map<String, SecretKeySpec> secretKeySpecCache = createSecretKeySpecCache();
+
   /**
-   * Updates the master key fragment
+   * Updates the master key fragment and discards all keys derived from the previous one.
    *
    * @param masterKey The master key fragment
    */
   public void updateMasterKey(String masterKey) {
     this.fragment_masterKey = masterKey;
+    this.secretKeySpecCache = createSecretKeySpecCache();
   }
 
   /**
@@ -58,6 +73,25 @@ public class DecryptionService {
     return this.fragment_applicationKey;
   }
 
+  /**
+   * Returns the cached SecretKeySpec for a given key or derives and caches it.
+   *
+   * @param secret the key for the generation
+   * @return The SecretKeySpec based on the key
+   * @throws NoSuchAlgorithmException
+   * @throws UnsupportedEncodingException
+   */
+  private SecretKeySpec obtainSecretKeySpec(String secret)
+      throws UnsupportedEncodingException, NoSuchAlgorithmException {
+    var cache = this.secretKeySpecCache;
+    var secretKeySpec = cache.get(secret);
+    if (secretKeySpec == null) {
+      secretKeySpec = generateSecretKeySpec(secret);
+      cache.put(secret, secretKeySpec);
+    }
+    return secretKeySpec;
+  }
+
   /**
    * Prepares the SecretKeySpec for a given key
    *
@@ -96,8 +130,8 @@ public class DecryptionService {
     messageToDecrypt = messageToDecrypt.substring(ENCRYPTED_MESSAGE_FLAG.length());
 
     try {
-      SecretKeySpec keySpec = generateSecretKeySpec(secret);
-      Cipher cipher = Cipher.getInstance(CIPHER_METHODS);
+      SecretKeySpec keySpec = obtainSecretKeySpec(secret);
+      Cipher cipher = CIPHER.get();
       cipher.init(Cipher.DECRYPT_MODE, keySpec);
       return new String(cipher.doFinal(Base64.getDecoder().decode(messageToDecrypt)));
     } catch (BadPaddingException e) {
@@ -108,4 +142,39 @@ public class DecryptionService {
       throw new CustomCryptoException(e);
     }
   }
+
+  /**
+   * Decrypts the given messages, each with the secret given as its key.
+   *
+   * @param messagesToDecrypt the messages to decrypt mapped by their secret
+   * @return the decrypted messages mapped by their secret
+   */
+  public Map<String, String> decryptAll(Map<String, String> messagesToDecrypt)
+      throws CustomCryptoException {
+    Map<String, String> decryptedMessages = new HashMap<>(messagesToDecrypt.size());
+    for (Entry<String, String> messageToDecrypt : messagesToDecrypt.entrySet()) {
+      decryptedMessages.put(
+          messageToDecrypt.getKey(),
+          decrypt(messageToDecrypt.getValue(), messageToDecrypt.getKey()));
+    }
+    return decryptedMessages;
+  }
+
+  private static Cipher createCipher() {
+    try {
+      return Cipher.getInstance(CIPHER_METHODS);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Cipher " + CIPHER_METHODS + " is not available", e);
+    }
+  }
+
+  private static Map<String, SecretKeySpec> createSecretKeySpecCache() {
+    return Collections.synchronizedMap(
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Entry<String, SecretKeySpec> eldest) {
+            return size() > MAX_CACHED_SECRET_KEYS;
+          }
+        });
+  }
 }
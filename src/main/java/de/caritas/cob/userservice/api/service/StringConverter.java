@@ -7,6 +7,7 @@ import java.security.GeneralSecurityException;
 import java.security.KeyFactory;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
 import java.security.Security;
 import java.security.spec.MGF1ParameterSpec;
 import java.security.spec.RSAPublicKeySpec;
@@ -28,6 +29,9 @@ public class StringConverter {
 
   private static final String AES_TRANSFORMATION = "AES/CBC/PKCS5Padding";
   private static final String RSA_TRANSFORMATION = "RSA/ECB/OAEPWithSHA-256AndMGF1Padding";
+  private static final OAEPParameterSpec OAEP_SPEC =
+      new OAEPParameterSpec(
+          "SHA-256", "MGF1", MGF1ParameterSpec.SHA256, PSource.PSpecified.DEFAULT);
 
   public StringConverter() {
     Security.addProvider(new BouncyCastleProvider());
@@ -39,29 +43,41 @@ public class StringConverter {
 
   public byte[] rsaEncrypt(final String s, final String mod) {
     try {
-      var cypher = Cipher.getInstance(RSA_TRANSFORMATION);
-      var oaepSpec =
-          new OAEPParameterSpec(
-              "SHA-256", "MGF1", MGF1ParameterSpec.SHA256, PSource.PSpecified.DEFAULT);
-
-      var exponentBytes = Base64.getDecoder().decode("AQAB");
-      var exponent = new BigInteger(1, exponentBytes);
-
-      var modulusBytes = Base64.getUrlDecoder().decode(mod);
-      var modulus = new BigInteger(1, modulusBytes);
-
-      var rsaPublicKeySpec = new RSAPublicKeySpec(modulus, exponent, oaepSpec);
-      var publicKey = KeyFactory.getInstance("RSA").generatePublic(rsaPublicKeySpec);
-      cypher.init(Cipher.ENCRYPT_MODE, publicKey, oaepSpec);
-      var bytes = s.getBytes(StandardCharsets.UTF_8);
-
-      return cypher.doFinal(bytes);
+      return rsaEncrypt(s, rsaPublicKeyOf(mod));
     } catch (GeneralSecurityException exception) {
       log.error("Could not RSA-encrypt string", exception);
       return new byte[0];
     }
   }
 
+  /**
+   * Parses the RSA public key of the given Base64URL encoded modulus, so it can be reused for
+   * several encryptions.
+   *
+   * @param mod the Base64URL encoded modulus
+   * @return the {@link PublicKey}
+   * @throws GeneralSecurityException if the key cannot be generated
+   */
+  public PublicKey rsaPublicKeyOf(final String mod) throws GeneralSecurityException {
+    var exponentBytes = Base64.getDecoder().decode("AQAB");
+    var exponent = new BigInteger(1, exponentBytes);
+
+    var modulusBytes = Base64.getUrlDecoder().decode(mod);
+    var modulus = new BigInteger(1, modulusBytes);
+
+    var rsaPublicKeySpec = new RSAPublicKeySpec(modulus, exponent, OAEP_SPEC);
+    return KeyFactory.getInstance("RSA").generatePublic(rsaPublicKeySpec);
+  }
+
+  public byte[] rsaEncrypt(final String s, final PublicKey publicKey)
+      throws GeneralSecurityException {
+    var cypher = Cipher.getInstance(RSA_TRANSFORMATION);
+    cypher.init(Cipher.ENCRYPT_MODE, publicKey, OAEP_SPEC);
+    var bytes = s.getBytes(StandardCharsets.UTF_8);
+
+    return cypher.doFinal(bytes);
+  }
+
   public int[] int8Array(byte[] bytes) {
     var intArray = new int[bytes.length];
     for (int i = 0; i < bytes.length; i++) {
@@ -1,25 +1,32 @@
 package de.caritas.cob.userservice.api.service.agency;
 
+import static de.caritas.cob.userservice.api.config.apiclient.ApiClientHeaders.callWithHeaders;
 import static java.util.Collections.emptyList;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import de.caritas.cob.userservice.agencyserivce.generated.ApiClient;
 import de.caritas.cob.userservice.agencyserivce.generated.web.AgencyControllerApi;
 import de.caritas.cob.userservice.agencyserivce.generated.web.model.AgencyResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.AgencyDTO;
 import de.caritas.cob.userservice.api.config.CacheManagerConfig;
 import de.caritas.cob.userservice.api.config.apiclient.AgencyServiceApiControllerFactory;
-import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
 import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
 import de.caritas.cob.userservice.api.service.httpheader.TenantHeaderSupplier;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 
 /** Service class to communicate with the AgencyService. */
@@ -30,6 +37,8 @@ public class AgencyService {
   private final @NonNull SecurityHeaderSupplier securityHeaderSupplier;
   private final @NonNull TenantHeaderSupplier tenantHeaderSupplier;
   private final @NonNull AgencyServiceApiControllerFactory agencyServiceApiControllerFactory;
+  private final @NonNull CacheManager cacheManager;
+
   /**
    * Returns the {@link AgencyDTO} for the provided agencyId. Agency will be cached for further
    * requests.
@@ -55,14 +64,45 @@ public class AgencyService {
 
   /**
    * Returns List of {@link AgencyDTO} for provided agencyIds. Agencies will be cached for further
-   * requests.
+   * requests. On a cache miss of the id list the agencies are looked up one by one in the agency
+   * cache, only the missing ones are fetched from the AgencyService in one request and cached per
+   * id. The agencies are returned in the order of the provided ids.
    *
    * @param agencyIds List of {@link AgencyDTO#getId()}
    * @return List<AgencyDTO> List of {@link AgencyDTO}
    */
   @Cacheable(value = CacheManagerConfig.AGENCY_CACHE, key = "#agencyIds")
   public List<AgencyDTO> getAgencies(List<Long> agencyIds) {
-    return getAgenciesFromAgencyService(agencyIds);
+    if (isEmpty(agencyIds)) {
+      return emptyList();
+    }
+    var agencyCache = requireNonNull(cacheManager.getCache(CacheManagerConfig.AGENCY_CACHE));
+    Map<Long, AgencyDTO> agenciesById = new HashMap<>();
+    List<Long> missingAgencyIds = new ArrayList<>();
+    agencyIds.stream()
+        .distinct()
+        .forEach(
+            agencyId -> {
+              var cachedAgency = agencyCache.get(agencyId, AgencyDTO.class);
+              if (isNull(cachedAgency)) {
+                missingAgencyIds.add(agencyId);
+              } else {
+                agenciesById.put(agencyId, cachedAgency);
+              }
+            });
+
+    getAgenciesFromAgencyService(missingAgencyIds).stream()
+        .filter(agency -> nonNull(agency.getId()))
+        .forEach(
+            agency -> {
+              agencyCache.put(agency.getId(), agency);
+              agenciesById.put(agency.getId(), agency);
+            });
+    return agencyIds.stream()
+        .distinct()
+        .map(agenciesById::get)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
   }
 
   public List<AgencyDTO> getAgenciesNotCached(List<Long> agencyIds) {
@@ -78,8 +118,9 @@ public class AgencyService {
   private List<AgencyDTO> getAgenciesFromAgencyService(List<Long> agencyIds) {
     if (isNotEmpty(agencyIds)) {
       AgencyControllerApi agencyControllerApi = this.getAgencyControllerApi();
-      addDefaultHeaders(agencyControllerApi.getApiClient());
-      return agencyControllerApi.getAgenciesByIds(agencyIds).stream()
+      return callWithHeaders(
+              buildDefaultHeaders(), () -> agencyControllerApi.getAgenciesByIds(agencyIds))
+          .stream()
           .map(this::fromOriginalAgency)
           .collect(Collectors.toList());
     }
@@ -98,28 +139,32 @@ public class AgencyService {
    */
   public List<AgencyDTO> getAgenciesByConsultingType(int consultingTypeId) {
     var agencyControllerApi = getAgencyControllerApi();
-    addDefaultHeaders(agencyControllerApi.getApiClient());
-    return agencyControllerApi.getAgenciesByConsultingType(consultingTypeId).stream()
+    return callWithHeaders(
+            buildDefaultHeaders(),
+            () -> agencyControllerApi.getAgenciesByConsultingType(consultingTypeId))
+        .stream()
         .map(this::fromOriginalAgency)
         .collect(Collectors.toList());
   }
 
-  private void addDefaultHeaders(ApiClient apiClient) {
+  private HttpHeaders buildDefaultHeaders() {
     var headers = this.securityHeaderSupplier.getCsrfHttpHeaders();
     tenantHeaderSupplier.addTenantHeader(headers);
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
+    return headers;
   }
 
   private AgencyDTO fromOriginalAgency(AgencyResponseDTO agencyResponseDTO) {
-    var objectMapper = new ObjectMapper();
-    try {
-      return objectMapper.readValue(
-          objectMapper.writeValueAsString(agencyResponseDTO), AgencyDTO.class);
-    } catch (JsonProcessingException e) {
-      throw new InternalServerErrorException(
-          "Model definition of agency in userservice does not "
-              + "match the definition of agencyservice");
-    }
+    return new AgencyDTO()
+        .id(agencyResponseDTO.getId())
+        .name(agencyResponseDTO.getName())
+        .postcode(agencyResponseDTO.getPostcode())
+        .city(agencyResponseDTO.getCity())
+        .description(agencyResponseDTO.getDescription())
+        .teamAgency(agencyResponseDTO.getTeamAgency())
+        .offline(agencyResponseDTO.getOffline())
+        .consultingType(agencyResponseDTO.getConsultingType())
+        .tenantId(agencyResponseDTO.getTenantId())
+        .topicIds(agencyResponseDTO.getTopicIds());
   }
 
   /**
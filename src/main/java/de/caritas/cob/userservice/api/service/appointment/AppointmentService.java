@@ -1,5 +1,8 @@
 package de.caritas.cob.userservice.api.service.appointment;
 
+import static de.caritas.cob.userservice.api.config.apiclient.ApiClientHeaders.callWithHeaders;
+import static de.caritas.cob.userservice.api.config.apiclient.ApiClientHeaders.runWithHeaders;
+
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -14,7 +17,6 @@ import de.caritas.cob.userservice.api.port.out.IdentityClient;
 import de.caritas.cob.userservice.api.port.out.IdentityClientConfig;
 import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
 import de.caritas.cob.userservice.api.service.httpheader.TenantHeaderSupplier;
-import de.caritas.cob.userservice.appointmentservice.generated.ApiClient;
 import de.caritas.cob.userservice.appointmentservice.generated.web.AgencyApi;
 import de.caritas.cob.userservice.appointmentservice.generated.web.ConsultantApi;
 import de.caritas.cob.userservice.appointmentservice.generated.web.model.AgencyConsultantSyncRequestDTO;
@@ -64,10 +66,10 @@ public class AppointmentService {
       ObjectMapper mapper = getObjectMapper(false);
       ConsultantApi appointmentConsultantApi =
           this.appointmentConsultantServiceApiControllerFactory.createControllerApi();
-      addTechnicalUserHeaders(appointmentConsultantApi.getApiClient());
       de.caritas.cob.userservice.appointmentservice.generated.web.model.ConsultantDTO consultant =
           getConsultantDTO(consultantAdminResponseDTO, mapper);
-      appointmentConsultantApi.createConsultant(consultant);
+      callWithHeaders(
+          buildTechnicalUserHeaders(), () -> appointmentConsultantApi.createConsultant(consultant));
     }
   }
 
@@ -108,14 +110,16 @@ public class AppointmentService {
 
     if (consultantAdminResponseDTO != null) {
       ObjectMapper mapper = getObjectMapper(false);
-      addTechnicalUserHeaders(appointmentConsultantApi.getApiClient());
+      var headers = buildTechnicalUserHeaders();
       try {
         de.caritas.cob.userservice.appointmentservice.generated.web.model.ConsultantDTO consultant =
             mapper.readValue(
                 mapper.writeValueAsString(consultantAdminResponseDTO.getEmbedded()),
                 de.caritas.cob.userservice.appointmentservice.generated.web.model.ConsultantDTO
                     .class);
-        appointmentConsultantApi.updateConsultant(consultant.getId(), consultant);
+        callWithHeaders(
+            headers,
+            () -> appointmentConsultantApi.updateConsultant(consultant.getId(), consultant));
       } catch (Exception e) {
         log.error(e.getMessage());
       }
@@ -141,9 +145,9 @@ public class AppointmentService {
         this.appointmentConsultantServiceApiControllerFactory.createControllerApi();
 
     if (consultantId != null && !consultantId.isEmpty()) {
-      addTechnicalUserHeaders(appointmentConsultantApi.getApiClient());
+      var headers = buildTechnicalUserHeaders();
       try {
-        appointmentConsultantApi.deleteConsultant(consultantId);
+        runWithHeaders(headers, () -> appointmentConsultantApi.deleteConsultant(consultantId));
       } catch (HttpClientErrorException ex) {
         acceptDeletionIfConsultantNotFoundInAppointmentService(ex, consultantId);
       }
@@ -162,13 +166,13 @@ public class AppointmentService {
   }
 
   @SuppressWarnings("Duplicates")
-  private void addTechnicalUserHeaders(ApiClient apiClient) {
+  private HttpHeaders buildTechnicalUserHeaders() {
     var techUser = identityClientConfig.getTechnicalUser();
     var keycloakLogin = identityClient.loginUser(techUser.getUsername(), techUser.getPassword());
     var headers =
         securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders(keycloakLogin.getAccessToken());
     tenantHeaderSupplier.addTenantHeader(headers);
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
+    return headers;
   }
 
   public void syncAgencies(String consultantId, List<CreateConsultantAgencyDTO> agencyList) {
@@ -179,7 +183,6 @@ public class AppointmentService {
     AgencyApi controllerApi =
         this.appointmentAgencyServiceApiControllerFactory.createControllerApi();
 
-    addTechnicalUserHeaders(controllerApi.getApiClient());
     var agencies =
         agencyList.stream()
             .map(CreateConsultantAgencyDTO::getAgencyId)
@@ -187,7 +190,7 @@ public class AppointmentService {
     AgencyConsultantSyncRequestDTO request = new AgencyConsultantSyncRequestDTO();
     request.setAgencies(agencies);
     request.setConsultantId(consultantId);
-    controllerApi.agencyConsultantsSync(request);
+    runWithHeaders(buildTechnicalUserHeaders(), () -> controllerApi.agencyConsultantsSync(request));
   }
 
   public void deleteAsker(String askerId) {
@@ -196,8 +199,7 @@ public class AppointmentService {
     }
     de.caritas.cob.userservice.appointmentservice.generated.web.AskerApi controllerApi =
         this.appointmentAskerServiceApiControllerFactory.createControllerApi();
-    addTechnicalUserHeaders(controllerApi.getApiClient());
-    controllerApi.deleteAskerData(askerId);
+    runWithHeaders(buildTechnicalUserHeaders(), () -> controllerApi.deleteAskerData(askerId));
   }
 
   public void updateAskerEmail(String askerId, String email) {
@@ -206,21 +208,20 @@ public class AppointmentService {
     }
     de.caritas.cob.userservice.appointmentservice.generated.web.AskerApi askerApi =
         this.appointmentAskerServiceApiControllerFactory.createControllerApi();
-    addDefaultHeaders(askerApi.getApiClient());
+    var headers = buildDefaultHeaders();
     try {
       de.caritas.cob.userservice.appointmentservice.generated.web.model.AskerDTO askerDTO =
           new AskerDTO().id(askerId).email(email);
-      askerApi.updateAskerEmail(askerId, askerDTO);
+      runWithHeaders(headers, () -> askerApi.updateAskerEmail(askerId, askerDTO));
     } catch (Exception e) {
       log.error(e.getMessage());
     }
   }
 
-  private void addDefaultHeaders(
-      de.caritas.cob.userservice.appointmentservice.generated.ApiClient apiClient) {
+  private HttpHeaders buildDefaultHeaders() {
     HttpHeaders headers = this.securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders();
     tenantHeaderSupplier.addTenantHeader(headers);
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
+    return headers;
   }
 
   public void patchConsultant(String consultantId, String displayName) {
@@ -231,12 +232,16 @@ public class AppointmentService {
         this.appointmentConsultantServiceApiControllerFactory.createControllerApi();
 
     if (consultantId != null && !consultantId.isEmpty()) {
-      addTechnicalUserHeaders(appointmentConsultantApi.getApiClient());
+      var headers = buildTechnicalUserHeaders();
       try {
-        appointmentConsultantApi.patchConsultant(
-            consultantId,
-            new de.caritas.cob.userservice.appointmentservice.generated.web.model.ConsultantDTO()
-                .displayName(displayName));
+        runWithHeaders(
+            headers,
+            () ->
+                appointmentConsultantApi.patchConsultant(
+                    consultantId,
+                    new de.caritas.cob.userservice.appointmentservice.generated.web.model
+                            .ConsultantDTO()
+                        .displayName(displayName)));
       } catch (HttpClientErrorException ex) {
         acceptDeletionIfConsultantNotFoundInAppointmentService(ex, consultantId);
       }
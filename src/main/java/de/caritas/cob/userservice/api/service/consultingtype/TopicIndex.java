@@ -0,0 +1,116 @@
+package de.caritas.cob.userservice.api.service.consultingtype;
+
+import static java.util.Objects.isNull;
+
+import de.caritas.cob.userservice.api.tenant.TenantContext;
+import de.caritas.cob.userservice.topicservice.generated.web.model.TopicDTO;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process index of all topics per tenant. An outdated index is still served while it is
+ * refreshed in the background, only a missing or expired index is loaded on the calling thread. The
+ * topics keep the order of the loader.
+ */
+@Component
+@Slf4j
+public class TopicIndex {
+
+  private static final Long NO_TENANT = -1L;
+
+  private final Executor taskExecutor;
+  private final Clock clock;
+  private final Map<Long, TenantTopics> tenantTopics = new ConcurrentHashMap<>();
+  private final Set<Long> refreshingTenants = ConcurrentHashMap.newKeySet();
+
+  @Value("${topic.index.refreshSeconds}")
+  private long refreshSeconds;
+
+  @Value("${topic.index.expireSeconds}")
+  private long expireSeconds;
+
+  public TopicIndex(@Qualifier("taskExecutor") Executor taskExecutor, Clock clock) {
+    this.taskExecutor = taskExecutor;
+    this.clock = clock;
+  }
+
+  /**
+   * Returns the topics of the current tenant mapped by their id.
+   *
+   * @param topicLoader loads all topics of the current tenant, may be called on another thread
+   * @return an immutable {@link Map} of the topics
+   */
+  public Map<Long, TopicDTO> getTopics(Supplier<Map<Long, TopicDTO>> topicLoader) {
+    var tenantId = Objects.requireNonNullElse(TenantContext.getCurrentTenant(), NO_TENANT);
+    var currentTopics = tenantTopics.get(tenantId);
+
+    if (isNull(currentTopics) || currentTopics.isOlderThan(expireSeconds, clock)) {
+      return load(tenantId, topicLoader).getTopics();
+    }
+    if (currentTopics.isOlderThan(refreshSeconds, clock)) {
+      refreshInBackground(tenantId, topicLoader);
+    }
+    return currentTopics.getTopics();
+  }
+
+  private TenantTopics load(Long tenantId, Supplier<Map<Long, TopicDTO>> topicLoader) {
+    var loadedTopics =
+        new TenantTopics(
+            Collections.unmodifiableMap(new LinkedHashMap<>(topicLoader.get())), clock.instant());
+    tenantTopics.put(tenantId, loadedTopics);
+    return loadedTopics;
+  }
+
+  private void refreshInBackground(Long tenantId, Supplier<Map<Long, TopicDTO>> topicLoader) {
+    if (!refreshingTenants.add(tenantId)) {
+      return;
+    }
+    try {
+      taskExecutor.execute(
+          () -> {
+            try {
+              load(tenantId, topicLoader);
+            } catch (Exception e) {
+              log.warn("Unable to refresh topics of tenant {}", tenantId, e);
+            } finally {
+              refreshingTenants.remove(tenantId);
+            }
+          });
+    } catch (RuntimeException e) {
+      refreshingTenants.remove(tenantId);
+      log.warn("Unable to schedule refresh of topics of tenant {}", tenantId, e);
+    }
+  }
+
+  private static class TenantTopics {
+
+    private final Map<Long, TopicDTO> topics;
+    private final Instant loadedAt;
+
+    private TenantTopics(Map<Long, TopicDTO> topics, Instant loadedAt) {
+      this.topics = topics;
+      this.loadedAt = loadedAt;
+    }
+
+    private Map<Long, TopicDTO> getTopics() {
+      return topics;
+    }
+
+    private boolean isOlderThan(long seconds, Clock clock) {
+      return loadedAt.plus(Duration.ofSeconds(seconds)).isBefore(clock.instant());
+    }
+  }
+}
@@ -1,15 +1,17 @@
 package de.caritas.cob.userservice.api.service.consultingtype;
 
+import static de.caritas.cob.userservice.api.config.apiclient.ApiClientHeaders.callWithHeaders;
+
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import de.caritas.cob.userservice.api.config.CacheManagerConfig;
 import de.caritas.cob.userservice.api.config.apiclient.TopicServiceApiControllerFactory;
 import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
 import de.caritas.cob.userservice.api.service.httpheader.TenantHeaderSupplier;
-import de.caritas.cob.userservice.topicservice.generated.ApiClient;
 import de.caritas.cob.userservice.topicservice.generated.web.TopicControllerApi;
 import de.caritas.cob.userservice.topicservice.generated.web.model.TopicDTO;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -18,7 +20,6 @@ import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 
@@ -30,41 +31,54 @@ public class TopicService {
   private final @NonNull TopicServiceApiControllerFactory topicServiceApiControllerFactory;
   private final @NonNull SecurityHeaderSupplier securityHeaderSupplier;
   private final @NonNull TenantHeaderSupplier tenantHeaderSupplier;
+  private final @NonNull TopicIndex topicIndex;
 
-  @Cacheable(cacheNames = CacheManagerConfig.TOPICS_CACHE)
+  /**
+   * Returns all topics of the current tenant from the {@link TopicIndex}, in the order of the topic
+   * service.
+   *
+   * @return all topics
+   */
   public List<TopicDTO> getAllTopics() {
+    return new ArrayList<>(getAllTopicsMap().values());
+  }
+
+  private List<TopicDTO> fetchAllTopics(HttpHeaders headers) {
     log.info("Calling topic service to get all topics");
     TopicControllerApi controllerApi = topicServiceApiControllerFactory.createControllerApi();
-    addDefaultHeaders(controllerApi.getApiClient());
-    return controllerApi.getAllTopics();
+    return callWithHeaders(headers, controllerApi::getAllTopics);
   }
 
   public List<TopicDTO> getAllActiveTopics() {
     // Public endpoints needs to be called without Authentication header as not to cause a 401 error
     TopicControllerApi controllerApi = topicServiceApiControllerFactory.createControllerApi();
-    addTenantHeaders(controllerApi.getApiClient());
-    log.info("Calling topic service to get all active topics");
-    return controllerApi.getAllActiveTopics();
-  }
-
-  private void addTenantHeaders(ApiClient apiClient) {
     var headers = new HttpHeaders();
     tenantHeaderSupplier.addTenantHeader(headers);
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
+    log.info("Calling topic service to get all active topics");
+    return callWithHeaders(headers, controllerApi::getAllActiveTopics);
   }
 
-  private void addDefaultHeaders(ApiClient apiClient) {
+  private HttpHeaders buildDefaultHeaders() {
     var headers = this.securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders();
     tenantHeaderSupplier.addTenantHeader(headers);
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
+    return headers;
   }
 
-  @Cacheable(cacheNames = CacheManagerConfig.TOPICS_CACHE)
+  /**
+   * Returns all topics of the current tenant from the {@link TopicIndex}. The request headers are
+   * built on the calling thread, so the index is able to refresh itself in the background.
+   *
+   * @return all topics mapped by their id
+   */
   public Map<Long, TopicDTO> getAllTopicsMap() {
-    var allTopics = this.getAllTopics();
-    return allTopics == null || allTopics.isEmpty()
-        ? Maps.newHashMap()
-        : getAllTopicsMap(allTopics);
+    var headers = buildDefaultHeaders();
+    return topicIndex.getTopics(
+        () -> {
+          var allTopics = fetchAllTopics(headers);
+          return allTopics == null || allTopics.isEmpty()
+              ? Maps.newHashMap()
+              : getAllTopicsMap(allTopics);
+        });
   }
 
   public Map<Long, TopicDTO> getAllActiveTopicsMap() {
@@ -73,7 +87,13 @@ public class TopicService {
   }
 
   private Map<Long, TopicDTO> getAllTopicsMap(List<TopicDTO> allTopics) {
-    return allTopics.stream().collect(Collectors.toMap(TopicDTO::getId, Function.identity()));
+    return allTopics.stream()
+        .collect(
+            Collectors.toMap(
+                TopicDTO::getId,
+                Function.identity(),
+                (topic, duplicate) -> topic,
+                LinkedHashMap::new));
   }
 
   public List<String> findTopicsInternalAttributes(Collection<Long> topicsList) {
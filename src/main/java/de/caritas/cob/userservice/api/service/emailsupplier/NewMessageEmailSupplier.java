@@ -33,6 +33,7 @@ import de.caritas.cob.userservice.mailservice.generated.web.model.MailDTO;
 import de.caritas.cob.userservice.mailservice.generated.web.model.TemplateDataDTO;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -105,10 +106,18 @@ public class NewMessageEmailSupplier implements EmailSupplier {
   private List<MailDTO> buildMailsForSession() {
     List<ConsultantAgency> consultantList = retrieveDependentConsultantAgencies();
     if (isNotEmpty(consultantList)) {
-      return consultantList.stream()
-          .filter(agency -> checkThatConsultantEmailNotEmpty(agency))
-          .filter(agency -> wantsToReceiveNotifications(agency.getConsultant()))
-          .filter(isConsultantLoggedOut())
+      var newNotificationToggleEnabled = isNewNotificationToggleEnabled();
+      var consultantsToNotify =
+          consultantList.stream()
+              .filter(agency -> checkThatConsultantEmailNotEmpty(agency))
+              .filter(
+                  agency ->
+                      wantsToReceiveNotifications(
+                          agency.getConsultant(), newNotificationToggleEnabled))
+              .collect(Collectors.toList());
+
+      return consultantsToNotify.stream()
+          .filter(isConsultantLoggedOut(consultantsToNotify))
           .map(this::toNewConsultantMessageMailDTO)
           .collect(Collectors.toList());
     }
@@ -125,9 +134,10 @@ public class NewMessageEmailSupplier implements EmailSupplier {
     return !isEmpty;
   }
 
-  private boolean wantsToReceiveNotifications(Consultant consultant) {
+  private boolean wantsToReceiveNotifications(
+      Consultant consultant, boolean newNotificationToggleEnabled) {
 
-    if (isNewNotificationToggleEnabled()) {
+    if (newNotificationToggleEnabled) {
       var wantsToReceiveNotifications = wantsToReceiveNotificationsAboutNewMessage(consultant);
       if (!wantsToReceiveNotifications) {
         log.debug(
@@ -153,11 +163,13 @@ public class NewMessageEmailSupplier implements EmailSupplier {
 
   private boolean wantsToReceiveNotificationsAboutNewMessage(
       NotificationsAware notificationsAware) {
+    if (!notificationsAware.isNotificationsEnabled()) {
+      return false;
+    }
     NotificationSettings notificationSettings =
         deserializeNotificationSettingsOrDefaultIfNull(notificationsAware);
-    boolean notificationsEnabled = notificationsAware.isNotificationsEnabled();
 
-    return notificationsEnabled && notificationSettings.isNewChatMessageNotificationEnabled();
+    return notificationSettings.isNewChatMessageNotificationEnabled();
   }
 
   private boolean isNotTheFirstMessage() {
@@ -234,17 +246,22 @@ public class NewMessageEmailSupplier implements EmailSupplier {
     return emptyList();
   }
 
-  private Predicate<ConsultantAgency> isConsultantLoggedOut() {
-    return this::checkIfConsultantIsLoggedIn;
-  }
-
-  private boolean checkIfConsultantIsLoggedIn(ConsultantAgency agency) {
-    var isLoggedOut =
-        !messageClient.isLoggedIn(agency.getConsultant().getRocketChatId()).orElse(false);
-    if (!isLoggedOut) {
-      log.debug("Skipping send email notification for new message: consultant is logged in");
-    }
-    return isLoggedOut;
+  private Predicate<ConsultantAgency> isConsultantLoggedOut(
+      List<ConsultantAgency> consultantAgencies) {
+    var rocketChatIds =
+        consultantAgencies.stream()
+            .map(agency -> agency.getConsultant().getRocketChatId())
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+    var loggedInRocketChatIds = messageClient.findLoggedInUserIds(rocketChatIds);
+
+    return agency -> {
+      var isLoggedOut = !loggedInRocketChatIds.contains(agency.getConsultant().getRocketChatId());
+      if (!isLoggedOut) {
+        log.debug("Skipping send email notification for new message: consultant is logged in");
+      }
+      return isLoggedOut;
+    };
   }
 
   private boolean isAdviceSeekerLoggedOut() {
@@ -0,0 +1,205 @@
+package de.caritas.cob.userservice.api.service.liveevents;
+
+import static de.caritas.cob.userservice.liveservice.generated.web.model.EventType.DIRECTMESSAGE;
+
+import de.caritas.cob.userservice.api.config.apiclient.LiveServiceApiControllerFactory;
+import de.caritas.cob.userservice.api.tenant.TenantContext;
+import de.caritas.cob.userservice.liveservice.generated.ApiException;
+import de.caritas.cob.userservice.liveservice.generated.web.model.LiveEventMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends live events on a dedicated worker pool, so the round trips to the live service and the push
+ * notification providers are not part of the request. Direct message events for the same user
+ * within the coalescing window are merged into one {@link LiveEventMessage}. Failed events are
+ * retried with an exponential backoff, tasks exceeding the queue capacity are dropped.
+ */
+@Slf4j
+@Component
+public class LiveEventDispatcher implements DisposableBean {
+
+  private static final long SHUTDOWN_TIMEOUT_SECONDS = 5L;
+
+  private final LiveServiceApiControllerFactory liveServiceApiControllerFactory;
+  private final ScheduledExecutorService executor;
+  private final Set<String> pendingDirectMessageUserIds = ConcurrentHashMap.newKeySet();
+  private final AtomicBoolean directMessageFlushScheduled = new AtomicBoolean(false);
+  private final AtomicInteger queuedTasks = new AtomicInteger();
+  private final Counter droppedTasksCounter;
+  private final Counter coalescedEventsCounter;
+  private final Counter failedEventsCounter;
+
+  @Value("${live.event.dispatcher.queueCapacity}")
+  private int queueCapacity;
+
+  @Value("${live.event.dispatcher.coalesceWindowMillis}")
+  private long coalesceWindowMillis;
+
+  @Value("${live.event.dispatcher.maxRetries}")
+  private int maxRetries;
+
+  @Value("${live.event.dispatcher.retryBackoffMillis}")
+  private long retryBackoffMillis;
+
+  @Autowired
+  public LiveEventDispatcher(
+      LiveServiceApiControllerFactory liveServiceApiControllerFactory,
+      MeterRegistry meterRegistry,
+      @Value("${live.event.dispatcher.poolSize}") int poolSize) {
+    this(
+        liveServiceApiControllerFactory,
+        meterRegistry,
+        Executors.newScheduledThreadPool(poolSize, new CustomizableThreadFactory("LiveEvent-")));
+  }
+
+  LiveEventDispatcher(
+      LiveServiceApiControllerFactory liveServiceApiControllerFactory,
+      MeterRegistry meterRegistry,
+      ScheduledExecutorService executor) {
+    this.liveServiceApiControllerFactory = liveServiceApiControllerFactory;
+    this.executor = executor;
+    meterRegistry.gauge("userservice.liveevent.queue.depth", queuedTasks);
+    meterRegistry.gauge(
+        "userservice.liveevent.directmessage.pending", pendingDirectMessageUserIds, Set::size);
+    this.droppedTasksCounter = meterRegistry.counter("userservice.liveevent.dropped");
+    this.coalescedEventsCounter = meterRegistry.counter("userservice.liveevent.coalesced");
+    this.failedEventsCounter = meterRegistry.counter("userservice.liveevent.failed");
+  }
+
+  /**
+   * Runs the given task on the live event worker pool with the tenant context of the caller. The
+   * task is dropped if the queue capacity is exceeded.
+   *
+   * @param task the task to run
+   */
+  public void submit(Runnable task) {
+    if (queuedTasks.incrementAndGet() > queueCapacity) {
+      queuedTasks.decrementAndGet();
+      droppedTasksCounter.increment();
+      log.warn("Live event queue capacity of {} exceeded, dropping live event task", queueCapacity);
+      return;
+    }
+
+    var tenantData = TenantContext.getCurrentTenantData();
+    try {
+      executor.execute(
+          () -> {
+            TenantContext.setCurrentTenantData(tenantData);
+            try {
+              task.run();
+            } catch (Exception e) {
+              log.error("Internal Server Error: Live event task failed", e);
+            } finally {
+              TenantContext.clear();
+              queuedTasks.decrementAndGet();
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      queuedTasks.decrementAndGet();
+      droppedTasksCounter.increment();
+      log.warn("Live event dispatcher is shut down, dropping live event task");
+    }
+  }
+
+  /**
+   * Sends the given live event message asynchronously.
+   *
+   * @param liveEventMessage the {@link LiveEventMessage} to send
+   * @param errorMessageSupplier the message to log if the event could not be sent
+   */
+  public void sendLiveEvent(
+      LiveEventMessage liveEventMessage, Supplier<String> errorMessageSupplier) {
+    submit(() -> send(liveEventMessage, errorMessageSupplier, 0));
+  }
+
+  /**
+   * Sends a direct message event to the given users. Users already waiting for a direct message
+   * event within the current coalescing window receive only one event.
+   *
+   * @param userIds the ids of the users to notify
+   */
+  public void sendDirectMessageEvent(Collection<String> userIds) {
+    userIds.forEach(
+        userId -> {
+          if (!pendingDirectMessageUserIds.add(userId)) {
+            coalescedEventsCounter.increment();
+          }
+        });
+
+    if (directMessageFlushScheduled.compareAndSet(false, true)) {
+      schedule(this::flushDirectMessageEvents, coalesceWindowMillis);
+    }
+  }
+
+  private void flushDirectMessageEvents() {
+    directMessageFlushScheduled.set(false);
+    var userIds = new ArrayList<String>();
+    pendingDirectMessageUserIds.removeIf(userIds::add);
+
+    if (!userIds.isEmpty()) {
+      var liveEventMessage = new LiveEventMessage().eventType(DIRECTMESSAGE).userIds(userIds);
+      send(
+          liveEventMessage,
+          () ->
+              String.format(
+                  "Unable to trigger %s live event message for %s users",
+                  DIRECTMESSAGE, userIds.size()),
+          0);
+    }
+  }
+
+  private void send(
+      LiveEventMessage liveEventMessage, Supplier<String> errorMessageSupplier, int attempt) {
+    try {
+      this.liveServiceApiControllerFactory.createControllerApi().sendLiveEvent(liveEventMessage);
+    } catch (ApiException e) {
+      if (attempt < maxRetries) {
+        schedule(
+            () -> send(liveEventMessage, errorMessageSupplier, attempt + 1),
+            retryBackoffMillis << attempt);
+      } else {
+        failedEventsCounter.increment();
+        log.error("Internal Server Error: {}", errorMessageSupplier.get(), e);
+      }
+    }
+  }
+
+  private void schedule(Runnable task, long delayMillis) {
+    try {
+      executor.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      droppedTasksCounter.increment();
+      log.warn("Live event dispatcher is shut down, dropping scheduled live event task");
+    }
+  }
+
+  /**
+   * Stops the worker pool. Running and queued tasks get up to {@value SHUTDOWN_TIMEOUT_SECONDS}
+   * seconds to complete, the remaining tasks and events are dropped.
+   */
+  @Override
+  public void destroy() throws InterruptedException {
+    executor.shutdown();
+    if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+      executor.shutdownNow();
+    }
+  }
+}
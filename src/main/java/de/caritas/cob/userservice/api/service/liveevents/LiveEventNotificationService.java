@@ -2,39 +2,38 @@ package de.caritas.cob.userservice.api.service.liveevents;
 
 import static de.caritas.cob.userservice.liveservice.generated.web.model.EventType.ANONYMOUSCONVERSATIONFINISHED;
 import static de.caritas.cob.userservice.liveservice.generated.web.model.EventType.ANONYMOUSENQUIRYACCEPTED;
-import static de.caritas.cob.userservice.liveservice.generated.web.model.EventType.DIRECTMESSAGE;
 import static de.caritas.cob.userservice.liveservice.generated.web.model.EventType.NEWANONYMOUSENQUIRY;
 import static java.util.Collections.singletonList;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
-import de.caritas.cob.userservice.api.config.apiclient.LiveServiceApiControllerFactory;
 import de.caritas.cob.userservice.api.helper.AuthenticatedUser;
 import de.caritas.cob.userservice.api.service.mobilepushmessage.MobilePushNotificationService;
-import de.caritas.cob.userservice.liveservice.generated.ApiException;
 import de.caritas.cob.userservice.liveservice.generated.web.model.LiveEventMessage;
 import de.caritas.cob.userservice.liveservice.generated.web.model.StatusSource;
 import de.caritas.cob.userservice.liveservice.generated.web.model.StatusSource.FinishConversationPhaseEnum;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-/** Service class to provide live event triggers to the live service. */
-@Slf4j
+/**
+ * Service class to provide live event triggers to the live service. The events are sent by the
+ * {@link LiveEventDispatcher}, so the live service and mobile push round trips are not part of the
+ * request.
+ */
 @Service
 @RequiredArgsConstructor
 public class LiveEventNotificationService {
 
-  private final @NonNull LiveServiceApiControllerFactory liveServiceApiControllerFactory;
+  private final @NonNull LiveEventDispatcher liveEventDispatcher;
   private final @NonNull UserIdsProviderFactory userIdsProviderFactory;
   private final @NonNull AuthenticatedUser authenticatedUser;
   private final @NonNull MobilePushNotificationService mobilePushNotificationService;
 
-  private static final String RC_GROUP_ID_MESSAGE_TEMPLATE = "Rocket.Chat group ID: %s";
   private static final String NEW_ANONYMOUS_ENQUIRY_MESSAGE_TEMPLATE = "Anonymous Enquiry ID: %s";
 
   /**
@@ -58,48 +57,37 @@ public class LiveEventNotificationService {
 
   private void sendLiveEventMessage(
       LiveEventMessage liveEventMessage, Supplier<String> errorMessageSupplier) {
-    try {
-      this.liveServiceApiControllerFactory.createControllerApi().sendLiveEvent(liveEventMessage);
-    } catch (ApiException e) {
-      log.error("Internal Server Error: {}", errorMessageSupplier.get(), e);
-    }
+    this.liveEventDispatcher.sendLiveEvent(liveEventMessage, errorMessageSupplier);
   }
 
   /**
    * Collects all relevant user or consultant ids of chats and sessions and sends a new direct
-   * message to the live service.
+   * message to the live service. Collecting the ids and sending the events is done asynchronously.
    *
    * @param rcGroupId the rocket chat group id used to observe relevant users
    */
   public void sendLiveDirectMessageEventToUsers(String rcGroupId) {
     if (isNotBlank(rcGroupId)) {
-      var userIds =
-          this.userIdsProviderFactory
-              .byRocketChatGroup(rcGroupId)
-              .collectUserIds(rcGroupId)
-              .stream()
-              .filter(this::notInitiatingUser)
-              .collect(Collectors.toList());
-
-      triggerDirectMessageLiveEvent(userIds, rcGroupId);
-      this.mobilePushNotificationService.triggerMobilePushNotification(userIds);
+      var initiatingUserId = this.authenticatedUser.getUserId();
+      this.liveEventDispatcher.submit(
+          () -> {
+            var userIds =
+                this.userIdsProviderFactory
+                    .byRocketChatGroup(rcGroupId)
+                    .collectUserIds(rcGroupId)
+                    .stream()
+                    .filter(userId -> !userId.equals(initiatingUserId))
+                    .collect(Collectors.toList());
+
+            triggerDirectMessageLiveEvent(userIds);
+            this.mobilePushNotificationService.triggerMobilePushNotification(userIds);
+          });
     }
   }
 
-  private boolean notInitiatingUser(String userId) {
-    return !userId.equals(this.authenticatedUser.getUserId());
-  }
-
-  private void triggerDirectMessageLiveEvent(List<String> userIds, String rcGroupId) {
+  private void triggerDirectMessageLiveEvent(Collection<String> userIds) {
     if (isNotEmpty(userIds)) {
-      var liveEventMessage = new LiveEventMessage().eventType(DIRECTMESSAGE).userIds(userIds);
-
-      sendLiveEventMessage(
-          liveEventMessage,
-          () -> {
-            var rcMessage = String.format(RC_GROUP_ID_MESSAGE_TEMPLATE, rcGroupId);
-            return makeUserIdsEventTypeMessage(liveEventMessage, rcMessage);
-          });
+      this.liveEventDispatcher.sendDirectMessageEvent(userIds);
     }
   }
 
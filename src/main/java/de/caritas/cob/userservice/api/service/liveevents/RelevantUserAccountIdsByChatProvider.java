@@ -1,21 +1,32 @@
 package de.caritas.cob.userservice.api.service.liveevents;
 
+import static de.caritas.cob.userservice.api.config.CacheManagerConfig.ROCKET_CHAT_ACCOUNT_ID_CACHE;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.group.GroupMemberDTO;
-import de.caritas.cob.userservice.api.model.Consultant;
-import de.caritas.cob.userservice.api.model.User;
 import de.caritas.cob.userservice.api.service.ConsultantService;
 import de.caritas.cob.userservice.api.service.user.UserService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 
-/** Provider to observe all assigned chat user ids instead of initiator. */
-@Slf4j
+/**
+ * Provider to observe all assigned chat user ids instead of initiator. The account ids of all chat
+ * members are resolved with one query for users and one for consultants, already known account ids
+ * are taken from a cache.
+ */
 @Component
 @RequiredArgsConstructor
 public class RelevantUserAccountIdsByChatProvider implements UserIdsProvider {
@@ -23,6 +34,7 @@ public class RelevantUserAccountIdsByChatProvider implements UserIdsProvider {
   private final @NonNull RocketChatService rocketChatService;
   private final @NonNull UserService userService;
   private final @NonNull ConsultantService consultantService;
+  private final @NonNull CacheManager cacheManager;
 
   /**
    * Collects all relevant user ids of a chat.
@@ -32,21 +44,63 @@ public class RelevantUserAccountIdsByChatProvider implements UserIdsProvider {
    */
   @Override
   public List<String> collectUserIds(String rcGroupId) {
-    return this.rocketChatService.getChatUsers(rcGroupId).parallelStream()
-        .map(GroupMemberDTO::get_id)
-        .map(this::toUserAccountId)
+    Set<String> rcUserIds =
+        this.rocketChatService.getChatUsers(rcGroupId).stream()
+            .map(GroupMemberDTO::get_id)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    var accountIds = toUserAccountIds(rcUserIds);
+
+    return rcUserIds.stream()
+        .map(accountIds::get)
         .filter(Objects::nonNull)
         .collect(Collectors.toList());
   }
 
-  private String toUserAccountId(String rcUserId) {
-    return this.userService
-        .findUserByRcUserId(rcUserId)
-        .map(User::getUserId)
-        .orElse(
-            this.consultantService
-                .getConsultantByRcUserId(rcUserId)
-                .map(Consultant::getId)
-                .orElse(null));
+  /**
+   * Removes the cached account id of the given Rocket.Chat user, e.g. after the account was
+   * deleted.
+   *
+   * @param rcUserId the Rocket.Chat user id
+   */
+  public void evictAccountId(String rcUserId) {
+    if (nonNull(rcUserId)) {
+      accountIdCache().evict(rcUserId);
+    }
+  }
+
+  private Map<String, String> toUserAccountIds(Set<String> rcUserIds) {
+    var cache = accountIdCache();
+    var accountIds = new HashMap<String, String>();
+    var unknownRcUserIds = new ArrayList<String>();
+    rcUserIds.forEach(
+        rcUserId -> {
+          var cachedAccountId = cache.get(rcUserId, String.class);
+          if (nonNull(cachedAccountId)) {
+            accountIds.put(rcUserId, cachedAccountId);
+          } else {
+            unknownRcUserIds.add(rcUserId);
+          }
+        });
+
+    if (!unknownRcUserIds.isEmpty()) {
+      var loadedAccountIds =
+          new HashMap<>(this.userService.findUserIdsByRcUserIds(unknownRcUserIds));
+      var consultantRcUserIds =
+          unknownRcUserIds.stream()
+              .filter(rcUserId -> !loadedAccountIds.containsKey(rcUserId))
+              .collect(Collectors.toList());
+      if (!consultantRcUserIds.isEmpty()) {
+        loadedAccountIds.putAll(
+            this.consultantService.getConsultantIdsByRcUserIds(consultantRcUserIds));
+      }
+      loadedAccountIds.forEach(cache::put);
+      accountIds.putAll(loadedAccountIds);
+    }
+
+    return accountIds;
+  }
+
+  private Cache accountIdCache() {
+    return requireNonNull(cacheManager.getCache(ROCKET_CHAT_ACCOUNT_ID_CACHE));
   }
 }
@@ -1,5 +1,7 @@
 package de.caritas.cob.userservice.api.service.message;
 
+import static de.caritas.cob.userservice.api.config.apiclient.ApiClientHeaders.callWithHeaders;
+import static de.caritas.cob.userservice.api.config.apiclient.ApiClientHeaders.runWithHeaders;
 import static java.util.Objects.isNull;
 import static org.apache.commons.lang3.BooleanUtils.isFalse;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
@@ -16,7 +18,6 @@ import de.caritas.cob.userservice.api.model.User;
 import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
 import de.caritas.cob.userservice.api.service.httpheader.TenantHeaderSupplier;
 import de.caritas.cob.userservice.consultingtypeservice.generated.web.model.ExtendedConsultingTypeResponseDTO;
-import de.caritas.cob.userservice.messageservice.generated.ApiClient;
 import de.caritas.cob.userservice.messageservice.generated.web.MessageControllerApi;
 import de.caritas.cob.userservice.messageservice.generated.web.model.AliasMessageDTO;
 import de.caritas.cob.userservice.messageservice.generated.web.model.AliasOnlyMessageDTO;
@@ -28,6 +29,7 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.text.StringSubstitutor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClientException;
 
@@ -70,13 +72,15 @@ public class MessageServiceProvider {
   private MessageResponseDTO postMessage(RocketChatData rocketChatData) {
     var rcCredentials = rocketChatData.getRocketChatCredentials();
     MessageControllerApi controllerApi = messageServiceApiControllerFactory.createControllerApi();
-    addDefaultHeaders(controllerApi.getApiClient());
     var message = new MessageDTO().message(rocketChatData.getMessage()).t(rocketChatData.getType());
-    return controllerApi.createMessage(
-        rcCredentials.getRocketChatToken(),
-        rcCredentials.getRocketChatUserId(),
-        rocketChatData.getRcGroupId(),
-        message);
+    return callWithHeaders(
+        buildDefaultHeaders(),
+        () ->
+            controllerApi.createMessage(
+                rcCredentials.getRocketChatToken(),
+                rcCredentials.getRocketChatUserId(),
+                rocketChatData.getRcGroupId(),
+                message));
   }
 
   /**
@@ -147,10 +151,14 @@ public class MessageServiceProvider {
       String rcGroupId, CreateEnquiryExceptionInformation exceptionInformation)
       throws RocketChatPostFurtherStepsMessageException {
     MessageControllerApi controllerApi = messageServiceApiControllerFactory.createControllerApi();
-    addDefaultHeaders(controllerApi.getApiClient());
+    var headers = buildDefaultHeaders();
     try {
-      return controllerApi.saveAliasMessageWithContent(
-          rcGroupId, new AliasMessageDTO().messageType(MessageType.INITIAL_APPOINTMENT_DEFINED));
+      return callWithHeaders(
+          headers,
+          () ->
+              controllerApi.saveAliasMessageWithContent(
+                  rcGroupId,
+                  new AliasMessageDTO().messageType(MessageType.INITIAL_APPOINTMENT_DEFINED)));
 
     } catch (RestClientException exception) {
       throw new RocketChatPostFurtherStepsMessageException(
@@ -167,10 +175,13 @@ public class MessageServiceProvider {
       CreateEnquiryExceptionInformation exceptionInformation)
       throws RocketChatPostFurtherStepsMessageException {
     MessageControllerApi controllerApi = messageServiceApiControllerFactory.createControllerApi();
-    addDefaultHeaders(controllerApi.getApiClient());
+    var headers = buildDefaultHeaders();
     try {
-      controllerApi.saveAliasOnlyMessage(
-          rcGroupId, new AliasOnlyMessageDTO().messageType(messageType));
+      runWithHeaders(
+          headers,
+          () ->
+              controllerApi.saveAliasOnlyMessage(
+                  rcGroupId, new AliasOnlyMessageDTO().messageType(messageType)));
 
     } catch (RestClientException exception) {
       throw new RocketChatPostFurtherStepsMessageException(
@@ -181,9 +192,9 @@ public class MessageServiceProvider {
     }
   }
 
-  private void addDefaultHeaders(ApiClient apiClient) {
+  private HttpHeaders buildDefaultHeaders() {
     var headers = this.securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders();
     tenantHeaderSupplier.addTenantHeader(headers);
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
+    return headers;
   }
 }
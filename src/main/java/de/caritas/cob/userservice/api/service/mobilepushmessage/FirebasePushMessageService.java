@@ -1,14 +1,28 @@
 package de.caritas.cob.userservice.api.service.mobilepushmessage;
 
+import static java.util.Objects.nonNull;
+
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
 import com.google.auth.oauth2.GoogleCredentials;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
+import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
 import com.google.firebase.messaging.Notification;
 import de.caritas.cob.userservice.api.service.LogService;
 import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 import lombok.SneakyThrows;
 import org.apache.commons.io.FileUtils;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,6 +34,9 @@ import org.springframework.stereotype.Service;
 @Service
 public class FirebasePushMessageService {
 
+  /* Maximum amount of registration tokens Firebase accepts in one multicast message. */
+  private static final int MAX_MULTICAST_TOKENS = 500;
+
   @Value("${firebase.configuration.push-notifications.enabled}")
   private boolean isEnabled;
 
@@ -52,24 +69,84 @@ public class FirebasePushMessageService {
   }
 
   /**
-   * Sends a push notification message to mobile device with given registration token.
+   * Returns whether push notifications are enabled.
+   *
+   * @return true if push notifications are enabled
+   */
+  public boolean isEnabled() {
+    return this.isEnabled;
+  }
+
+  /**
+   * Sends a push notification message to the mobile devices with the given registration tokens. The
+   * tokens are sent asynchronously in multicast messages of up to {@value #MAX_MULTICAST_TOKENS}
+   * tokens.
    *
-   * @param registrationToken the mobile device identifier
+   * @param registrationTokens the mobile device identifiers
+   * @return a {@link CompletableFuture} of the tokens Firebase reported as no longer registered
    */
-  public void pushNewMessageEvent(String registrationToken) {
-    if (!this.isEnabled) {
-      return;
+  public CompletableFuture<Set<String>> pushNewMessageEvents(
+      Collection<String> registrationTokens) {
+    if (!this.isEnabled || registrationTokens.isEmpty()) {
+      return CompletableFuture.completedFuture(Set.of());
     }
+
+    var multicasts =
+        Lists.partition(new ArrayList<>(registrationTokens), MAX_MULTICAST_TOKENS).stream()
+            .map(this::sendMulticast)
+            .collect(Collectors.toList());
+
+    return CompletableFuture.allOf(multicasts.toArray(CompletableFuture[]::new))
+        .thenApply(
+            allSent ->
+                multicasts.stream()
+                    .map(CompletableFuture::join)
+                    .flatMap(Set::stream)
+                    .collect(Collectors.toSet()));
+  }
+
+  private CompletableFuture<Set<String>> sendMulticast(List<String> registrationTokens) {
     var message =
-        Message.builder()
+        MulticastMessage.builder()
             .setNotification(Notification.builder().setBody(this.pushNotificationMessage).build())
-            .setToken(registrationToken)
+            .addAllTokens(registrationTokens)
             .build();
 
-    try {
-      this.firebaseMessaging.send(message);
-    } catch (FirebaseMessagingException e) {
-      LogService.logWarn(e);
+    var unregisteredTokens = new CompletableFuture<Set<String>>();
+    ApiFutures.addCallback(
+        this.firebaseMessaging.sendMulticastAsync(message),
+        new ApiFutureCallback<>() {
+          @Override
+          public void onSuccess(BatchResponse batchResponse) {
+            unregisteredTokens.complete(
+                extractUnregisteredTokens(registrationTokens, batchResponse));
+          }
+
+          @Override
+          public void onFailure(Throwable throwable) {
+            LogService.logWarn(new Exception("Firebase multicast could not be sent", throwable));
+            unregisteredTokens.complete(Set.of());
+          }
+        },
+        MoreExecutors.directExecutor());
+
+    return unregisteredTokens;
+  }
+
+  private Set<String> extractUnregisteredTokens(
+      List<String> registrationTokens, BatchResponse batchResponse) {
+    var responses = batchResponse.getResponses();
+    var unregisteredTokens = new HashSet<String>();
+    for (var i = 0; i < responses.size(); i++) {
+      var exception = responses.get(i).getException();
+      if (nonNull(exception)) {
+        if (exception.getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED) {
+          unregisteredTokens.add(registrationTokens.get(i));
+        } else {
+          LogService.logWarn(exception);
+        }
+      }
     }
+    return unregisteredTokens;
   }
 }
@@ -1,14 +1,16 @@
 package de.caritas.cob.userservice.api.service.mobilepushmessage;
 
-import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
+import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 
-import de.caritas.cob.userservice.api.model.Consultant;
-import de.caritas.cob.userservice.api.model.ConsultantMobileToken;
-import de.caritas.cob.userservice.api.model.User;
-import de.caritas.cob.userservice.api.model.UserMobileToken;
 import de.caritas.cob.userservice.api.service.ConsultantService;
+import de.caritas.cob.userservice.api.service.LogService;
 import de.caritas.cob.userservice.api.service.user.UserService;
+import de.caritas.cob.userservice.api.tenant.TenantContext;
+import de.caritas.cob.userservice.api.tenant.TenantData;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -17,7 +19,8 @@ import org.springframework.stereotype.Service;
 
 /**
  * Collects all relevant mobile tokens and fires push notifications via the {@link
- * FirebasePushMessageService}.
+ * FirebasePushMessageService}. Tokens Firebase reports as no longer registered are removed in the
+ * tenant context of the caller.
  */
 @Service
 @RequiredArgsConstructor
@@ -28,40 +31,52 @@ public class MobilePushNotificationService {
   private final @NonNull FirebasePushMessageService firebasePushMessageService;
 
   /**
-   * Triggers mobile push notifications to users who have a mobile device identifier.
+   * Triggers mobile push notifications to users who have a mobile device identifier. The tokens of
+   * all users are loaded in bulk and sent asynchronously.
    *
    * @param userIds user ids to send push notifications
    */
   public void triggerMobilePushNotification(List<String> userIds) {
-    userIds.forEach(this::sendPushNotificationForUser);
-  }
+    if (isEmpty(userIds) || !this.firebasePushMessageService.isEnabled()) {
+      return;
+    }
 
-  private void sendPushNotificationForUser(String userId) {
-    this.userService.getUser(userId).ifPresent(this::sendPushNotificationIfUserHasMobileTokens);
-    this.consultantService
-        .getConsultant(userId)
-        .ifPresent(this::sendPushNotificationIfConsultantHasMobileTokens);
-  }
+    var mobileTokens =
+        Stream.concat(
+                this.userService.findMobileTokensOfUsers(userIds).stream(),
+                this.consultantService.findMobileAppTokensOfConsultants(userIds).stream())
+            .filter(StringUtils::isNotBlank)
+            .collect(Collectors.toCollection(HashSet::new));
 
-  private void sendPushNotificationIfUserHasMobileTokens(User user) {
-    Stream.concat(Stream.of(user.getMobileToken()), extractMobileAppTokens(user))
-        .filter(StringUtils::isNotBlank)
-        .forEach(this.firebasePushMessageService::pushNewMessageEvent);
+    if (!mobileTokens.isEmpty()) {
+      var tenantData = TenantContext.getCurrentTenantData();
+      this.firebasePushMessageService
+          .pushNewMessageEvents(mobileTokens)
+          .thenAccept(
+              unregisteredMobileTokens ->
+                  removeUnregisteredMobileTokens(unregisteredMobileTokens, tenantData))
+          .exceptionally(
+              throwable -> {
+                LogService.logWarn(
+                    new Exception("Unregistered mobile tokens could not be removed", throwable));
+                return null;
+              });
+    }
   }
 
-  private Stream<String> extractMobileAppTokens(User user) {
-    if (isNotEmpty(user.getUserMobileTokens())) {
-      return user.getUserMobileTokens().stream().map(UserMobileToken::getMobileAppToken);
+  private void removeUnregisteredMobileTokens(
+      Set<String> unregisteredMobileTokens, TenantData tenantData) {
+    if (unregisteredMobileTokens.isEmpty()) {
+      return;
     }
-    return Stream.empty();
-  }
 
-  private void sendPushNotificationIfConsultantHasMobileTokens(Consultant consultant) {
-    if (isNotEmpty(consultant.getConsultantMobileTokens())) {
-      consultant.getConsultantMobileTokens().stream()
-          .map(ConsultantMobileToken::getMobileAppToken)
-          .filter(StringUtils::isNotBlank)
-          .forEach(this.firebasePushMessageService::pushNewMessageEvent);
+    var tenantDataOfCurrentThread = TenantContext.getCurrentTenantData();
+    TenantContext.setCurrentTenantData(tenantData);
+    try {
+      this.userService.removeMobileTokens(unregisteredMobileTokens);
+      this.consultantService.removeMobileAppTokens(unregisteredMobileTokens);
+    } finally {
+      TenantContext.setCurrentTenantData(tenantDataOfCurrentThread);
     }
   }
 }
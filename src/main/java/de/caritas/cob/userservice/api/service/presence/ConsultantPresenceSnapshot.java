@@ -0,0 +1,338 @@
+package de.caritas.cob.userservice.api.service.presence;
+
+import static de.caritas.cob.userservice.api.tenant.TenantContext.TECHNICAL_TENANT_ID;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import de.caritas.cob.userservice.agencyadminserivce.generated.web.model.AgencyAdminResponseDTO;
+import de.caritas.cob.userservice.api.UserServiceMapper;
+import de.caritas.cob.userservice.api.admin.service.agency.AgencyCatalogue;
+import de.caritas.cob.userservice.api.model.ConsultantAgencyChangedEvent;
+import de.caritas.cob.userservice.api.port.out.ConsultantRepository;
+import de.caritas.cob.userservice.api.port.out.MessageClient;
+import de.caritas.cob.userservice.api.tenant.TenantContext;
+import de.caritas.cob.userservice.api.tenant.TenantContextProvider;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory snapshot of the Rocket.Chat availability of all users. The first access loads the full
+ * presence list, afterwards only the changes since the last refresh are fetched in the background
+ * via the from parameter of Rocket.Chat and merged into the snapshot. Rocket.Chat answers with the
+ * full list again if the last refresh is too old, the snapshot is replaced then. If the first load
+ * fails, lookups treat all users as unavailable without calling Rocket.Chat until the retry backoff
+ * has passed.
+ *
+ * <p>The Rocket.Chat ids of the consultants are indexed per tenant by consultant id and by the
+ * consulting types of their agencies, so availability lookups are answered without database or
+ * Rocket.Chat calls. The indexes are rebuilt periodically and dropped as soon as a consultant
+ * agency relation of their tenant changes. If an index cannot be built, the consultants of a
+ * consulting type are read from the database.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConsultantPresenceSnapshot {
+
+  /* Overlap of the requested delta to not miss changes with the same update timestamp. */
+  private static final long FROM_OVERLAP_MILLIS = 1000L;
+
+  private final @NonNull MessageClient messageClient;
+  private final @NonNull ConsultantRepository consultantRepository;
+  private final @NonNull AgencyCatalogue agencyCatalogue;
+  private final @NonNull UserServiceMapper mapper;
+  private final @NonNull TenantContextProvider tenantContextProvider;
+
+  @Value("${feature.consultant.presence.snapshot.enabled}")
+  private boolean enabled;
+
+  @Value("${consultant.presence.snapshot.retryBackoffMillis}")
+  private long retryBackoffMillis;
+
+  private volatile Set<String> availableChatUserIds;
+  private volatile Instant lastPresenceRefresh;
+  private volatile Instant lastFailedPresenceLoad;
+  private final Map<Long, ConsultantIndex> consultantIndexByTenant = new ConcurrentHashMap<>();
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Returns if the given Rocket.Chat user is available.
+   *
+   * @param chatUserId the Rocket.Chat user id
+   * @return true if the user is online
+   */
+  public boolean isAvailable(String chatUserId) {
+    return currentAvailableChatUserIds().contains(chatUserId);
+  }
+
+  /**
+   * Returns the Rocket.Chat ids of the available consultants of the given consulting type.
+   *
+   * @param consultingTypeId the id of the consulting type
+   * @return the Rocket.Chat ids of the available consultants
+   */
+  public Set<String> findAvailableChatUserIds(int consultingTypeId) {
+    var available = currentAvailableChatUserIds();
+
+    return chatUserIdsOfConsultingType(consultingTypeId).stream()
+        .filter(available::contains)
+        .collect(Collectors.toSet());
+  }
+
+  private Set<String> chatUserIdsOfConsultingType(int consultingTypeId) {
+    try {
+      return currentConsultantIndex()
+          .getChatUserIdsByConsultingType()
+          .getOrDefault(consultingTypeId, Set.of());
+    } catch (Exception e) {
+      log.warn(
+          "Consultant presence index could not be loaded, reading consultants from database", e);
+      var agencyIds =
+          agencyCatalogue.findAgenciesByConsultingType(consultingTypeId).stream()
+              .map(AgencyAdminResponseDTO::getId)
+              .collect(Collectors.toSet());
+      return agencyIds.isEmpty() ? Set.of() : consultantRepository.findAllByAgencyIds(agencyIds);
+    }
+  }
+
+  /**
+   * Returns the Rocket.Chat id of the given consultant, if the consultant is indexed.
+   *
+   * @param consultantId the id of the consultant
+   * @return an {@link Optional} of the Rocket.Chat id, empty if the snapshot is disabled
+   */
+  public Optional<String> findChatUserId(String consultantId) {
+    if (!enabled) {
+      return Optional.empty();
+    }
+
+    return Optional.ofNullable(
+        currentConsultantIndex().getChatUserIdsByConsultantId().get(consultantId));
+  }
+
+  /**
+   * Applies an availability change done by this service, so it is visible before the next refresh.
+   *
+   * @param chatUserId the Rocket.Chat user id
+   * @param available the new availability
+   */
+  public void updateAvailability(String chatUserId, boolean available) {
+    var currentAvailableChatUserIds = this.availableChatUserIds;
+    if (isNull(currentAvailableChatUserIds)) {
+      return;
+    }
+    if (available) {
+      currentAvailableChatUserIds.add(chatUserId);
+    } else {
+      currentAvailableChatUserIds.remove(chatUserId);
+    }
+  }
+
+  /** Merges the presence changes since the last refresh into the snapshot. */
+  @Scheduled(
+      fixedDelayString = "${consultant.presence.snapshot.refreshMillis}",
+      initialDelayString = "${consultant.presence.snapshot.refreshMillis}")
+  public void refreshPresence() {
+    if (enabled) {
+      try {
+        loadPresence();
+      } catch (Exception e) {
+        log.warn("Presence snapshot could not be refreshed, keeping the current snapshot", e);
+      }
+    }
+  }
+
+  /** Rebuilds the loaded indexes of the consultants. */
+  @Scheduled(
+      fixedDelayString = "${consultant.presence.snapshot.indexRefreshMillis}",
+      initialDelayString = "${consultant.presence.snapshot.indexRefreshMillis}")
+  public void refreshConsultantIndex() {
+    if (enabled) {
+      consultantIndexByTenant
+          .keySet()
+          .forEach(
+              tenantKey -> {
+                try {
+                  loadConsultantIndex(tenantKey);
+                } catch (Exception e) {
+                  log.warn(
+                      "Consultant presence index of tenant {} could not be refreshed, keeping the"
+                          + " current index",
+                      tenantKey,
+                      e);
+                }
+              });
+    }
+  }
+
+  /**
+   * Drops the consultant indexes containing the changed consultant agency relation, so the next
+   * lookup rebuilds them.
+   *
+   * @param event the {@link ConsultantAgencyChangedEvent}
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onConsultantAgencyChanged(ConsultantAgencyChangedEvent event) {
+    consultantIndexByTenant.remove(TECHNICAL_TENANT_ID);
+    if (nonNull(event.getTenantId())) {
+      consultantIndexByTenant.remove(event.getTenantId());
+    }
+  }
+
+  private Set<String> currentAvailableChatUserIds() {
+    var currentAvailableChatUserIds = this.availableChatUserIds;
+    return isNull(currentAvailableChatUserIds)
+        ? loadPresenceIfAbsent()
+        : currentAvailableChatUserIds;
+  }
+
+  private ConsultantIndex currentConsultantIndex() {
+    var tenantKey = currentTenantKey();
+    var currentConsultantIndex = consultantIndexByTenant.get(tenantKey);
+    return isNull(currentConsultantIndex)
+        ? loadConsultantIndexIfAbsent(tenantKey)
+        : currentConsultantIndex;
+  }
+
+  private Long currentTenantKey() {
+    var tenantId = TenantContext.getCurrentTenant();
+    return isNull(tenantId) ? TECHNICAL_TENANT_ID : tenantId;
+  }
+
+  private synchronized Set<String> loadPresenceIfAbsent() {
+    if (nonNull(availableChatUserIds)) {
+      return availableChatUserIds;
+    }
+    if (nonNull(lastFailedPresenceLoad)
+        && lastFailedPresenceLoad.plusMillis(retryBackoffMillis).isAfter(Instant.now())) {
+      return Set.of();
+    }
+
+    try {
+      var loadedChatUserIds = loadPresence();
+      if (isNull(availableChatUserIds)) {
+        lastFailedPresenceLoad = Instant.now();
+      }
+      return loadedChatUserIds;
+    } catch (Exception e) {
+      lastFailedPresenceLoad = Instant.now();
+      log.warn("Presence snapshot could not be loaded, treating all users as unavailable", e);
+      return Set.of();
+    }
+  }
+
+  private synchronized Set<String> loadPresence() {
+    var requestDate = Instant.now();
+    var since =
+        isNull(availableChatUserIds) ? null : lastPresenceRefresh.minusMillis(FROM_OVERLAP_MILLIS);
+    var presenceChanges = messageClient.findPresenceChangesSince(since);
+    if (presenceChanges.isEmpty()) {
+      return isNull(availableChatUserIds) ? Set.of() : availableChatUserIds;
+    }
+
+    var availability = mapper.availabilityOf(presenceChanges.get());
+    if (isNull(availableChatUserIds) || mapper.isFullPresenceList(presenceChanges.get())) {
+      Set<String> loadedChatUserIds = ConcurrentHashMap.newKeySet();
+      availability.forEach(
+          (chatUserId, available) -> {
+            if (Boolean.TRUE.equals(available)) {
+              loadedChatUserIds.add(chatUserId);
+            }
+          });
+      availableChatUserIds = loadedChatUserIds;
+      log.debug("Loaded presence snapshot with {} available users", loadedChatUserIds.size());
+    } else {
+      availability.forEach(this::updateAvailability);
+    }
+    lastPresenceRefresh = requestDate;
+
+    return availableChatUserIds;
+  }
+
+  private synchronized ConsultantIndex loadConsultantIndexIfAbsent(Long tenantKey) {
+    var consultantIndex = consultantIndexByTenant.get(tenantKey);
+    return isNull(consultantIndex) ? loadConsultantIndex(tenantKey) : consultantIndex;
+  }
+
+  private synchronized ConsultantIndex loadConsultantIndex(Long tenantKey) {
+    var callerTenantData = TenantContext.getCurrentTenantData();
+    try {
+      TenantContext.clear();
+      if (TECHNICAL_TENANT_ID.equals(tenantKey)) {
+        tenantContextProvider.setTechnicalContextIfMultiTenancyIsEnabled();
+      } else {
+        TenantContext.setCurrentTenant(tenantKey);
+      }
+      var consultingTypesByAgencyId =
+          agencyCatalogue.getAllAgencies().stream()
+              .filter(agency -> nonNull(agency.getId()) && nonNull(agency.getConsultingType()))
+              .collect(
+                  Collectors.toMap(
+                      AgencyAdminResponseDTO::getId,
+                      AgencyAdminResponseDTO::getConsultingType,
+                      (existing, replacement) -> existing));
+
+      var chatUserIdsByConsultantId = new HashMap<String, String>();
+      var chatUserIdsByConsultingType = new HashMap<Integer, Set<String>>();
+      consultantRepository
+          .findAllRocketChatIdsWithAgency()
+          .forEach(
+              consultant -> {
+                chatUserIdsByConsultantId.put(consultant.getId(), consultant.getRocketChatId());
+                var consultingType = consultingTypesByAgencyId.get(consultant.getAgencyId());
+                if (nonNull(consultingType)) {
+                  chatUserIdsByConsultingType
+                      .computeIfAbsent(consultingType, type -> new HashSet<>())
+                      .add(consultant.getRocketChatId());
+                }
+              });
+
+      var consultantIndex =
+          new ConsultantIndex(chatUserIdsByConsultantId, chatUserIdsByConsultingType);
+      consultantIndexByTenant.put(tenantKey, consultantIndex);
+      log.debug(
+          "Indexed {} consultants of tenant {} for presence lookups",
+          chatUserIdsByConsultantId.size(),
+          tenantKey);
+      return consultantIndex;
+    } finally {
+      TenantContext.setCurrentTenantData(callerTenantData);
+    }
+  }
+
+  /** Immutable index of the Rocket.Chat ids of the consultants. */
+  @Getter
+  private static class ConsultantIndex {
+
+    private final Map<String, String> chatUserIdsByConsultantId;
+    private final Map<Integer, Set<String>> chatUserIdsByConsultingType;
+
+    ConsultantIndex(
+        Map<String, String> chatUserIdsByConsultantId,
+        Map<Integer, Set<String>> chatUserIdsByConsultingType) {
+      this.chatUserIdsByConsultantId = Map.copyOf(chatUserIdsByConsultantId);
+      this.chatUserIdsByConsultingType =
+          chatUserIdsByConsultingType.entrySet().stream()
+              .collect(
+                  Collectors.toUnmodifiableMap(
+                      Map.Entry::getKey, entry -> Set.copyOf(entry.getValue())));
+    }
+  }
+}
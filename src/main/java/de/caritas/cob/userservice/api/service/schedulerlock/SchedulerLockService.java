@@ -0,0 +1,73 @@
+package de.caritas.cob.userservice.api.service.schedulerlock;
+
+import static de.caritas.cob.userservice.api.helper.CustomLocalDateTime.nowInUtc;
+
+import de.caritas.cob.userservice.api.port.out.SchedulerLockRepository;
+import java.time.Duration;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Provides locks shared by all instances of the service, so a scheduled job or a background task
+ * runs on one instance at a time. A lock is held until it is released or its lease has expired,
+ * which also frees the locks of crashed instances. Each lock operation is committed in its own
+ * transaction.
+ */
+@Slf4j
+@Service
+public class SchedulerLockService {
+
+  private final SchedulerLockRepository schedulerLockRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final String instanceId = UUID.randomUUID().toString();
+
+  public SchedulerLockService(
+      SchedulerLockRepository schedulerLockRepository,
+      PlatformTransactionManager transactionManager) {
+    this.schedulerLockRepository = schedulerLockRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /**
+   * Takes the lock with the given name, if no instance holds it.
+   *
+   * @param name the name of the lock
+   * @param lease the time after which the lock expires if it is not released
+   * @return true if the lock was taken
+   */
+  public boolean tryLock(String name, Duration lease) {
+    var now = nowInUtc();
+    var lockedUntil = now.plus(lease);
+    Integer takenLocks =
+        transactionTemplate.execute(
+            status -> schedulerLockRepository.takeExpiredLock(name, instanceId, now, lockedUntil));
+    if (takenLocks != null && takenLocks > 0) {
+      return true;
+    }
+
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> schedulerLockRepository.insertLock(name, instanceId, now, lockedUntil));
+      return true;
+    } catch (DataIntegrityViolationException e) {
+      log.debug("Scheduler lock {} is held by another instance", name);
+      return false;
+    }
+  }
+
+  /**
+   * Releases the lock with the given name, if this instance holds it.
+   *
+   * @param name the name of the lock
+   */
+  public void unlock(String name) {
+    transactionTemplate.executeWithoutResult(
+        status -> schedulerLockRepository.releaseLock(name, instanceId, nowInUtc()));
+  }
+}
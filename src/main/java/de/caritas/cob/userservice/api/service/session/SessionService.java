@@ -41,13 +41,14 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import javax.ws.rs.BadRequestException;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
@@ -305,6 +306,30 @@ public class SessionService {
             consultantAgencyIds, SessionStatus.NEW, RegistrationType.REGISTERED);
   }
 
+  /**
+   * Retrieves one page of the related registered enquiries of given {@link Consultant}. Paging and
+   * counting is done by the database, so only the requested window is loaded.
+   *
+   * @param consultant the consultant
+   * @param pageable the requested window
+   * @return the {@link Page} of related {@link ConsultantSessionResponseDTO}s
+   */
+  public Page<ConsultantSessionResponseDTO> getRegisteredEnquiriesForConsultant(
+      Consultant consultant, Pageable pageable) {
+    Set<ConsultantAgency> consultantAgencies = consultant.getConsultantAgencies();
+    if (isNotEmpty(consultantAgencies)) {
+      List<Long> consultantAgencyIds =
+          consultantAgencies.stream()
+              .map(ConsultantAgency::getAgencyId)
+              .collect(Collectors.toList());
+      return this.sessionRepository
+          .findByAgencyIdInAndConsultantIsNullAndStatusAndRegistrationTypeOrderByEnquiryMessageDateAsc(
+              consultantAgencyIds, SessionStatus.NEW, RegistrationType.REGISTERED, pageable)
+          .map(session -> new SessionMapper().toConsultantSessionDto(session));
+    }
+    return Page.empty(pageable);
+  }
+
   /**
    * Retrieves all related active sessions of given {@link Consultant}.
    *
@@ -313,19 +338,15 @@ public class SessionService {
    */
   public List<ConsultantSessionResponseDTO> getActiveAndDoneSessionsForConsultant(
       Consultant consultant) {
-    return Stream.of(
-            getSessionsForConsultantByStatus(consultant, SessionStatus.IN_PROGRESS),
-            getSessionsForConsultantByStatus(consultant, SessionStatus.DONE))
-        .flatMap(Collection::stream)
-        .map(session -> new SessionMapper().toConsultantSessionDto(session))
+    var sessionMapper = new SessionMapper();
+    return sessionRepository
+        .findByConsultantAndStatusInFetchingListData(
+            consultant, List.of(SessionStatus.IN_PROGRESS, SessionStatus.DONE))
+        .stream()
+        .map(sessionMapper::toConsultantSessionDto)
         .collect(Collectors.toList());
   }
 
-  private List<Session> getSessionsForConsultantByStatus(
-      Consultant consultant, SessionStatus sessionStatus) {
-    return sessionRepository.findByConsultantAndStatus(consultant, sessionStatus);
-  }
-
   private List<UserSessionResponseDTO> convertToUserSessionResponseDTO(
       List<Session> sessions, List<AgencyDTO> agencies) {
     return sessions.stream()
@@ -4,7 +4,9 @@ import de.caritas.cob.userservice.api.adapters.web.dto.SessionDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.SessionTopicDTO;
 import de.caritas.cob.userservice.api.service.consultingtype.TopicService;
 import de.caritas.cob.userservice.topicservice.generated.web.model.TopicDTO;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,6 +40,22 @@ public class SessionTopicEnrichmentService {
     return session;
   }
 
+  /**
+   * Enriches all given sessions with the topic data by a single lookup of the available topics.
+   *
+   * @param sessions the sessions to enrich
+   */
+  public void enrichSessionsWithTopicData(List<SessionDTO> sessions) {
+    var sessionsToEnrich =
+        sessions.stream().filter(this::shouldEnrichTopic).collect(Collectors.toList());
+    if (sessionsToEnrich.isEmpty()) {
+      return;
+    }
+    var availableTopics = topicService.getAllTopicsMap();
+    log.debug("Enriching {} sessions with information about the topics", sessionsToEnrich.size());
+    sessionsToEnrich.forEach(session -> enrichSession(availableTopics, session));
+  }
+
   private boolean shouldEnrichTopic(SessionDTO session) {
     return session != null && session.getTopic() != null && session.getTopic().getId() != null;
   }
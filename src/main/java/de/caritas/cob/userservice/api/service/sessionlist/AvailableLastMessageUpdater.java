@@ -16,7 +16,11 @@ import de.caritas.cob.userservice.api.helper.Helper;
 import de.caritas.cob.userservice.api.helper.SessionListAnalyser;
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.function.Consumer;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +33,33 @@ public class AvailableLastMessageUpdater {
 
   private final @NonNull SessionListAnalyser sessionListAnalyser;
 
+  private Map<String, String> decryptedLastMessages = Map.of();
+
+  /**
+   * Decrypts the available last messages of the given groups at once, so the following updates of
+   * these groups do not need to decrypt them one by one.
+   *
+   * @param groupIds the Rocket.Chat group ids of the current page
+   * @param rocketChatRoomInformation the {@link RocketChatRoomInformation}
+   * @return this {@link AvailableLastMessageUpdater}
+   */
+  AvailableLastMessageUpdater decryptLastMessages(
+      Collection<String> groupIds, RocketChatRoomInformation rocketChatRoomInformation) {
+    Map<String, String> encryptedLastMessages = new HashMap<>();
+    groupIds.stream()
+        .filter(Objects::nonNull)
+        .forEach(
+            groupId -> {
+              var roomsLastMessage = rocketChatRoomInformation.getLastMessagesRoom().get(groupId);
+              if (nonNull(roomsLastMessage) && isNotBlank(roomsLastMessage.getMessage())) {
+                encryptedLastMessages.put(groupId, roomsLastMessage.getMessage());
+              }
+            });
+    this.decryptedLastMessages =
+        sessionListAnalyser.prepareMessagesForSessionList(encryptedLastMessages);
+    return this;
+  }
+
   /**
    * Updates the given session with further Rocket.Chat last message information.
    *
@@ -93,7 +124,10 @@ public class AvailableLastMessageUpdater {
     lastMessage.setT(roomsLastMessage.getType());
     if (isNotBlank(roomsLastMessage.getMessage())) {
       var message =
-          sessionListAnalyser.prepareMessageForSessionList(roomsLastMessage.getMessage(), groupId);
+          decryptedLastMessages.containsKey(groupId)
+              ? decryptedLastMessages.get(groupId)
+              : sessionListAnalyser.prepareMessageForSessionList(
+                  roomsLastMessage.getMessage(), groupId);
       lastMessage.setMsg(message);
       return lastMessage;
     }
@@ -8,6 +8,7 @@ import de.caritas.cob.userservice.api.helper.SessionListAnalyser;
 import de.caritas.cob.userservice.api.model.Consultant;
 import de.caritas.cob.userservice.api.service.session.SessionTopicEnrichmentService;
 import java.util.List;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -40,17 +41,29 @@ public class ConsultantSessionEnricher {
                 .rocketChatUserId(consultant.getRocketChatId())
                 .build());
 
+    var messageUpdater =
+        new AvailableLastMessageUpdater(this.sessionListAnalyser)
+            .decryptLastMessages(
+                consultantSessionResponseDTOs.stream()
+                    .map(sessionResponse -> sessionResponse.getSession().getGroupId())
+                    .collect(Collectors.toList()),
+                rocketChatRoomInformation);
     consultantSessionResponseDTOs.forEach(
         consultantSessionResponseDTO ->
             this.enrichConsultantSession(
-                consultantSessionResponseDTO, rocketChatRoomInformation, consultant));
+                consultantSessionResponseDTO,
+                rocketChatRoomInformation,
+                consultant,
+                messageUpdater));
+    enrichSessionsWithTopics(consultantSessionResponseDTOs);
     return consultantSessionResponseDTOs;
   }
 
   private void enrichConsultantSession(
       ConsultantSessionResponseDTO consultantSessionResponseDTO,
       RocketChatRoomInformation rocketChatRoomInformation,
-      Consultant consultant) {
+      Consultant consultant,
+      AvailableLastMessageUpdater messageUpdater) {
     var session = consultantSessionResponseDTO.getSession();
     var groupId = session.getGroupId();
 
@@ -58,20 +71,20 @@ public class ConsultantSessionEnricher {
         sessionListAnalyser.areMessagesForRocketChatGroupReadByUser(
             rocketChatRoomInformation.getReadMessages(), groupId));
 
-    var messageUpdater = new AvailableLastMessageUpdater(this.sessionListAnalyser);
     messageUpdater.updateSessionWithAvailableLastMessage(
         consultantSessionResponseDTO.getSession(),
         consultantSessionResponseDTO::setLatestMessage,
         rocketChatRoomInformation,
         consultant.getRocketChatId());
-
-    enrichSessionWithTopic(consultantSessionResponseDTO);
   }
 
-  private void enrichSessionWithTopic(ConsultantSessionResponseDTO consultantSessionResponseDTO) {
+  private void enrichSessionsWithTopics(
+      List<ConsultantSessionResponseDTO> consultantSessionResponseDTOs) {
     if (topicsFeatureEnabled) {
-      sessionTopicEnrichmentService.enrichSessionWithTopicData(
-          consultantSessionResponseDTO.getSession());
+      sessionTopicEnrichmentService.enrichSessionsWithTopicData(
+          consultantSessionResponseDTOs.stream()
+              .map(ConsultantSessionResponseDTO::getSession)
+              .collect(Collectors.toList()));
     }
   }
 }
@@ -6,6 +6,7 @@ import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentials;
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionListResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionResponseDTO;
+import de.caritas.cob.userservice.api.container.OffsetPageRequest;
 import de.caritas.cob.userservice.api.container.SessionListQueryParameter;
 import de.caritas.cob.userservice.api.exception.httpresponses.BadRequestException;
 import de.caritas.cob.userservice.api.model.Consultant;
@@ -20,6 +21,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 
 @RequiredArgsConstructor
@@ -97,6 +99,30 @@ public class ConsultantSessionListService {
     return mergeConsultantSessionsAndChats(consultant, sessions, chats);
   }
 
+  /**
+   * Returns the requested page of registered enquiries for the specified consultant. In contrast to
+   * {@link #retrieveSessionsForAuthenticatedConsultant} only the sessions of the requested window
+   * are loaded and enriched with Rocket.Chat data.
+   *
+   * @param consultant {@link Consultant}
+   * @param sessionListQueryParameter session list query parameters as {@link
+   *     SessionListQueryParameter}
+   * @return the {@link Page} of enriched {@link ConsultantSessionResponseDTO}s
+   */
+  public Page<ConsultantSessionResponseDTO> retrieveEnquiriesPageForAuthenticatedConsultant(
+      Consultant consultant, SessionListQueryParameter sessionListQueryParameter) {
+    var pageable =
+        OffsetPageRequest.of(
+            sessionListQueryParameter.getOffset(), sessionListQueryParameter.getCount());
+    var enquiries = sessionService.getRegisteredEnquiriesForConsultant(consultant, pageable);
+
+    if (enquiries.hasContent()) {
+      updateConsultantSessionValues(
+          enquiries.getContent(), rocketChatCredentials.getRocketChatToken(), consultant);
+    }
+    return enquiries;
+  }
+
   private List<ConsultantSessionResponseDTO> retrieveSessionsForStatus(
       Consultant consultant, Integer status) {
     var sessionStatus = getVerifiedSessionStatus(status);
@@ -1,5 +1,6 @@
 package de.caritas.cob.userservice.api.service.sessionlist;
 
+import static de.caritas.cob.userservice.api.facade.sessionlist.RocketChatRoomInformationProvider.awaitRocketChatInformation;
 import static java.util.Objects.nonNull;
 
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentials;
@@ -16,6 +17,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -48,10 +50,14 @@ public class UserSessionListService {
   public List<UserSessionResponseDTO> retrieveSessionsForAuthenticatedUser(
       String userId, RocketChatCredentials rocketChatCredentials) {
 
+    var rocketChatRoomInformation =
+        rocketChatRoomInformationProvider.retrieveRocketChatInformationAsync(rocketChatCredentials);
     List<UserSessionResponseDTO> sessions = sessionService.getSessionsForUserId(userId);
     List<UserSessionResponseDTO> chats = chatService.getChatsForUserId(userId);
 
-    var mergedSessions = mergeUserSessionsAndChats(sessions, chats, rocketChatCredentials);
+    var mergedSessions =
+        mergeUserSessionsAndChats(
+            sessions, chats, rocketChatRoomInformation, rocketChatCredentials);
     if (featureTopicsEnabled) {
       enrichSessionsWithTopics(mergedSessions);
     }
@@ -59,9 +65,10 @@ public class UserSessionListService {
   }
 
   private void enrichSessionsWithTopics(List<UserSessionResponseDTO> mergedSessions) {
-    mergedSessions.stream()
-        .map(UserSessionResponseDTO::getSession)
-        .forEach(sessionTopicEnrichmentService::enrichSessionWithTopicData);
+    sessionTopicEnrichmentService.enrichSessionsWithTopicData(
+        mergedSessions.stream()
+            .map(UserSessionResponseDTO::getSession)
+            .collect(Collectors.toList()));
   }
 
   /**
@@ -79,11 +86,14 @@ public class UserSessionListService {
       RocketChatCredentials rocketChatCredentials,
       Set<String> roles) {
 
+    var rocketChatRoomInformation =
+        rocketChatRoomInformationProvider.retrieveRocketChatInformationAsync(rocketChatCredentials);
     var groupIds = new HashSet<>(rcGroupIds);
     var sessions = sessionService.getSessionsByUserAndGroupIds(userId, groupIds, roles);
     var chats = chatService.getChatSessionsByGroupIds(groupIds);
 
-    return mergeUserSessionsAndChats(sessions, chats, rocketChatCredentials);
+    return mergeUserSessionsAndChats(
+        sessions, chats, rocketChatRoomInformation, rocketChatCredentials);
   }
 
   /**
@@ -101,6 +111,8 @@ public class UserSessionListService {
       RocketChatCredentials rocketChatCredentials,
       Set<String> roles) {
 
+    var rocketChatRoomInformation =
+        rocketChatRoomInformationProvider.retrieveRocketChatInformationAsync(rocketChatCredentials);
     var uniqueSessionIds = new HashSet<>(sessionIds);
     var sessions = sessionService.getSessionsByUserAndSessionIds(userId, uniqueSessionIds, roles);
     var groupIds =
@@ -108,26 +120,29 @@ public class UserSessionListService {
             .map(sessionResponse -> sessionResponse.getSession().getGroupId())
             .collect(Collectors.toSet());
     var chats = chatService.getChatSessionsByGroupIds(groupIds);
-    return mergeUserSessionsAndChats(sessions, chats, rocketChatCredentials);
+    return mergeUserSessionsAndChats(
+        sessions, chats, rocketChatRoomInformation, rocketChatCredentials);
   }
 
   public List<UserSessionResponseDTO> retrieveChatsForUserAndChatIds(
       List<Long> chatIds, RocketChatCredentials rocketChatCredentials) {
+    var rocketChatRoomInformation =
+        rocketChatRoomInformationProvider.retrieveRocketChatInformationAsync(rocketChatCredentials);
     var uniqueChatIds = new HashSet<>(chatIds);
     var chats = chatService.getChatSessionsByIds(uniqueChatIds);
-    var rocketChatRoomInformation =
-        rocketChatRoomInformationProvider.retrieveRocketChatInformation(rocketChatCredentials);
     return updateUserChatValues(
-        chats, rocketChatRoomInformation, rocketChatCredentials.getRocketChatUserId());
+        chats,
+        awaitRocketChatInformation(rocketChatRoomInformation),
+        rocketChatCredentials.getRocketChatUserId());
   }
 
   private List<UserSessionResponseDTO> mergeUserSessionsAndChats(
       List<UserSessionResponseDTO> sessions,
       List<UserSessionResponseDTO> chats,
+      CompletableFuture<RocketChatRoomInformation> pendingRocketChatRoomInformation,
       RocketChatCredentials rocketChatCredentials) {
 
-    RocketChatRoomInformation rocketChatRoomInformation =
-        rocketChatRoomInformationProvider.retrieveRocketChatInformation(rocketChatCredentials);
+    var rocketChatRoomInformation = awaitRocketChatInformation(pendingRocketChatRoomInformation);
 
     List<UserSessionResponseDTO> allSessions = new ArrayList<>();
     allSessions.addAll(
@@ -145,17 +160,26 @@ public class UserSessionListService {
       RocketChatRoomInformation rocketChatRoomInformation,
       String rcUserId) {
 
+    var messageUpdater =
+        new AvailableLastMessageUpdater(this.sessionListAnalyser)
+            .decryptLastMessages(
+                sessions.stream()
+                    .map(sessionDTO -> sessionDTO.getSession().getGroupId())
+                    .collect(Collectors.toList()),
+                rocketChatRoomInformation);
     return sessions.stream()
         .map(
             sessionDTO ->
-                updateRequiredUserSessionValues(rocketChatRoomInformation, rcUserId, sessionDTO))
+                updateRequiredUserSessionValues(
+                    rocketChatRoomInformation, rcUserId, sessionDTO, messageUpdater))
         .collect(Collectors.toList());
   }
 
   private UserSessionResponseDTO updateRequiredUserSessionValues(
       RocketChatRoomInformation rocketChatRoomInformation,
       String rcUserId,
-      UserSessionResponseDTO userSessionDTO) {
+      UserSessionResponseDTO userSessionDTO,
+      AvailableLastMessageUpdater messageUpdater) {
 
     SessionDTO session = userSessionDTO.getSession();
     String groupId = session.getGroupId();
@@ -163,7 +187,6 @@ public class UserSessionListService {
     session.setMessagesRead(
         sessionListAnalyser.areMessagesForRocketChatGroupReadByUser(
             rocketChatRoomInformation.getReadMessages(), groupId));
-    var messageUpdater = new AvailableLastMessageUpdater(this.sessionListAnalyser);
     messageUpdater.updateSessionWithAvailableLastMessage(
         userSessionDTO.getSession(),
         userSessionDTO::setLatestMessage,
@@ -9,11 +9,17 @@ import de.caritas.cob.userservice.api.exception.httpresponses.ConflictException;
 import de.caritas.cob.userservice.api.helper.AuthenticatedUser;
 import de.caritas.cob.userservice.api.helper.UsernameTranscoder;
 import de.caritas.cob.userservice.api.model.User;
+import de.caritas.cob.userservice.api.model.User.UserRcUserId;
 import de.caritas.cob.userservice.api.model.UserMobileToken;
 import de.caritas.cob.userservice.api.port.out.UserMobileTokenRepository;
 import de.caritas.cob.userservice.api.port.out.UserRepository;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import javax.transaction.Transactional;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.auditing.AuditingHandler;
@@ -120,6 +126,19 @@ public class UserService {
     return userRepository.findByRcUserIdAndDeleteDateIsNull(rcUserId);
   }
 
+  /**
+   * Finds the user ids of the given rocket chat user ids in one query.
+   *
+   * @param rcUserIds the rocket chat user ids to search for
+   * @return the user ids of all found users mapped by their rocket chat user id
+   */
+  public Map<String, String> findUserIdsByRcUserIds(Collection<String> rcUserIds) {
+    return userRepository.findUserIdsByRcUserIdInAndDeleteDateIsNull(rcUserIds).stream()
+        .collect(
+            Collectors.toMap(
+                UserRcUserId::getRcUserId, UserRcUserId::getUserId, (first, second) -> first));
+  }
+
   /**
    * Finds an user by the given username (searches for encoded and decoded version of it).
    *
@@ -162,6 +181,30 @@ public class UserService {
     }
   }
 
+  /**
+   * Finds all mobile tokens of the given users in bulk, including the legacy mobile token.
+   *
+   * @param userIds the ids of the users
+   * @return the mobile tokens of the users
+   */
+  public List<String> findMobileTokensOfUsers(Collection<String> userIds) {
+    var mobileTokens = new ArrayList<>(userRepository.findMobileTokensByUserIds(userIds));
+    mobileTokens.addAll(userMobileTokenRepository.findMobileAppTokensByUserIds(userIds));
+    return mobileTokens;
+  }
+
+  /**
+   * Removes the given mobile tokens from all users, e.g. because the device is no longer
+   * registered.
+   *
+   * @param mobileTokens the mobile tokens to remove
+   */
+  @Transactional
+  public void removeMobileTokens(Collection<String> mobileTokens) {
+    userRepository.removeMobileTokens(mobileTokens);
+    userMobileTokenRepository.deleteByMobileAppTokenIn(mobileTokens);
+  }
+
   private void addUserToken(User user, String mobileToken) {
     verifyTokenDoesNotAlreadyExist(mobileToken);
     var userMobileToken = new UserMobileToken();
@@ -1,45 +1,116 @@
 package de.caritas.cob.userservice.api.workflow.deactivate.service;
 
-import de.caritas.cob.userservice.api.actions.chat.StopChatActionCommand;
-import de.caritas.cob.userservice.api.actions.registry.ActionsRegistry;
-import de.caritas.cob.userservice.api.model.Chat;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.Lists;
 import de.caritas.cob.userservice.api.port.out.ChatRepository;
+import de.caritas.cob.userservice.api.tenant.TenantContext;
+import de.caritas.cob.userservice.api.tenant.TenantContextProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.LocalDateTime;
-import java.util.function.Predicate;
-import javax.transaction.Transactional;
-import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-/** Service to trigger stopping of group chats. */
+/**
+ * Service to trigger stopping of group chats. Stale chats are determined by the database and
+ * stopped in chunks. The chats of a chunk are stopped concurrently on a dedicated pool in the
+ * technical tenant context, each one in its own transaction, so a slow Rocket.Chat call only delays
+ * its own chunk.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class DeactivateGroupChatService {
 
-  private final @NonNull ChatRepository chatRepository;
-  private final @NonNull ActionsRegistry actionsRegistry;
+  private final ChatRepository chatRepository;
+  private final StaleGroupChatDeactivator staleGroupChatDeactivator;
+  private final TenantContextProvider tenantContextProvider;
+  private final Executor groupChatDeactivationTaskExecutor;
+  private final Timer chunkTimer;
+  private final Counter stoppedChatsCounter;
+  private final Counter failedChatsCounter;
 
   @Value("${group.chat.deactivateworkflow.periodMinutes}")
   private long deactivatePeriodMinutes;
 
+  @Value("${group.chat.deactivateworkflow.chunkSize}")
+  private int chunkSize;
+
+  public DeactivateGroupChatService(
+      ChatRepository chatRepository,
+      StaleGroupChatDeactivator staleGroupChatDeactivator,
+      TenantContextProvider tenantContextProvider,
+      @Qualifier("groupChatDeactivationTaskExecutor") Executor groupChatDeactivationTaskExecutor,
+      MeterRegistry meterRegistry) {
+    this.chatRepository = requireNonNull(chatRepository);
+    this.staleGroupChatDeactivator = requireNonNull(staleGroupChatDeactivator);
+    this.tenantContextProvider = requireNonNull(tenantContextProvider);
+    this.groupChatDeactivationTaskExecutor = requireNonNull(groupChatDeactivationTaskExecutor);
+    this.chunkTimer = meterRegistry.timer("userservice.groupchat.deactivation.chunk.duration");
+    this.stoppedChatsCounter = meterRegistry.counter("userservice.groupchat.deactivation.stopped");
+    this.failedChatsCounter = meterRegistry.counter("userservice.groupchat.deactivation.failed");
+  }
+
   /** Stops all still open group chats with special constraints. */
-  @Transactional
   public void deactivateStaleGroupChats() {
     var deactivationTime = LocalDateTime.now().minusMinutes(deactivatePeriodMinutes);
-    this.chatRepository.findAllByActiveIsTrue().stream()
-        .filter(isChatOutsideOfDeactivationTime(deactivationTime))
-        .forEach(this::deactivateStaleActiveChat);
+    var chunks =
+        Lists.partition(this.chatRepository.findStaleActiveChatIds(deactivationTime), chunkSize);
+
+    for (var chunkIndex = 0; chunkIndex < chunks.size(); chunkIndex++) {
+      deactivateChunk(chunks.get(chunkIndex), chunkIndex + 1, chunks.size());
+    }
+  }
+
+  private void deactivateChunk(List<Long> staleChatIds, int chunkNumber, int chunkCount) {
+    var sample = Timer.start();
+    var deactivations =
+        staleChatIds.stream()
+            .map(
+                chatId ->
+                    CompletableFuture.supplyAsync(
+                        () -> deactivateStaleChatInTechnicalContext(chatId),
+                        groupChatDeactivationTaskExecutor))
+            .collect(Collectors.toList());
+    var stoppedChats = deactivations.stream().filter(CompletableFuture::join).count();
+    var durationNanos = sample.stop(chunkTimer);
+
+    log.info(
+        "Stopped {} of {} stale group chats of chunk {}/{} in {} ms",
+        stoppedChats,
+        staleChatIds.size(),
+        chunkNumber,
+        chunkCount,
+        durationNanos / 1_000_000);
   }
 
-  private Predicate<Chat> isChatOutsideOfDeactivationTime(LocalDateTime deactivationTime) {
-    return chat -> chat.getUpdateDate().isBefore(deactivationTime.minusMinutes(chat.getDuration()));
+  private boolean deactivateStaleChatInTechnicalContext(Long chatId) {
+    var tenantDataOfCaller = TenantContext.getCurrentTenantData();
+    TenantContext.clear();
+    tenantContextProvider.setTechnicalContextIfMultiTenancyIsEnabled();
+    try {
+      return deactivateStaleChat(chatId);
+    } finally {
+      TenantContext.setCurrentTenantData(tenantDataOfCaller);
+    }
   }
 
-  private void deactivateStaleActiveChat(Chat staleChat) {
-    this.actionsRegistry
-        .buildContainerForType(Chat.class)
-        .addActionToExecute(StopChatActionCommand.class)
-        .executeActions(staleChat);
+  private boolean deactivateStaleChat(Long chatId) {
+    try {
+      this.staleGroupChatDeactivator.deactivate(chatId);
+      stoppedChatsCounter.increment();
+      return true;
+    } catch (Exception e) {
+      failedChatsCounter.increment();
+      log.error("Stale group chat with id {} could not be stopped", chatId, e);
+      return false;
+    }
   }
 }
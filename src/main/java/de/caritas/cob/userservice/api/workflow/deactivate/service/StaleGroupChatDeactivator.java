@@ -0,0 +1,37 @@
+package de.caritas.cob.userservice.api.workflow.deactivate.service;
+
+import de.caritas.cob.userservice.api.actions.chat.StopChatActionCommand;
+import de.caritas.cob.userservice.api.actions.registry.ActionsRegistry;
+import de.caritas.cob.userservice.api.model.Chat;
+import de.caritas.cob.userservice.api.port.out.ChatRepository;
+import javax.transaction.Transactional;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/** Stops a single stale group chat in its own transaction. */
+@Component
+@RequiredArgsConstructor
+public class StaleGroupChatDeactivator {
+
+  private final @NonNull ChatRepository chatRepository;
+  private final @NonNull ActionsRegistry actionsRegistry;
+
+  /**
+   * Stops the chat with the given id, if it is still active.
+   *
+   * @param chatId the id of the stale chat
+   */
+  @Transactional
+  public void deactivate(Long chatId) {
+    this.chatRepository
+        .findById(chatId)
+        .filter(Chat::isActive)
+        .ifPresent(
+            staleChat ->
+                this.actionsRegistry
+                    .buildContainerForType(Chat.class)
+                    .addActionToExecute(StopChatActionCommand.class)
+                    .executeActions(staleChat));
+  }
+}
@@ -6,6 +6,7 @@ import static de.caritas.cob.userservice.api.workflow.delete.model.DeletionSourc
 import de.caritas.cob.userservice.api.actions.ActionCommand;
 import de.caritas.cob.userservice.api.model.User;
 import de.caritas.cob.userservice.api.port.out.UserRepository;
+import de.caritas.cob.userservice.api.service.liveevents.RelevantUserAccountIdsByChatProvider;
 import de.caritas.cob.userservice.api.workflow.delete.model.AskerDeletionWorkflowDTO;
 import de.caritas.cob.userservice.api.workflow.delete.model.DeletionTargetType;
 import de.caritas.cob.userservice.api.workflow.delete.model.DeletionWorkflowError;
@@ -21,6 +22,7 @@ import org.springframework.stereotype.Component;
 public class DeleteDatabaseAskerAction implements ActionCommand<AskerDeletionWorkflowDTO> {
 
   private final @NonNull UserRepository userRepository;
+  private final @NonNull RelevantUserAccountIdsByChatProvider relevantUserAccountIdsByChatProvider;
 
   /**
    * Deletes the given {@link User} in database.
@@ -31,6 +33,8 @@ public class DeleteDatabaseAskerAction implements ActionCommand<AskerDeletionWor
   public void execute(AskerDeletionWorkflowDTO actionTarget) {
     try {
       this.userRepository.delete(actionTarget.getUser());
+      this.relevantUserAccountIdsByChatProvider.evictAccountId(
+          actionTarget.getUser().getRcUserId());
     } catch (Exception e) {
       log.error("UserService delete workflow error: ", e);
       actionTarget
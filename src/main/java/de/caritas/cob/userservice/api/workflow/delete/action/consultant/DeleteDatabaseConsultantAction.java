@@ -10,6 +10,7 @@ import de.caritas.cob.userservice.api.model.Session;
 import de.caritas.cob.userservice.api.model.Session.SessionStatus;
 import de.caritas.cob.userservice.api.port.out.ConsultantRepository;
 import de.caritas.cob.userservice.api.port.out.SessionRepository;
+import de.caritas.cob.userservice.api.service.liveevents.RelevantUserAccountIdsByChatProvider;
 import de.caritas.cob.userservice.api.workflow.delete.model.ConsultantDeletionWorkflowDTO;
 import de.caritas.cob.userservice.api.workflow.delete.model.DeletionTargetType;
 import de.caritas.cob.userservice.api.workflow.delete.model.DeletionWorkflowError;
@@ -27,6 +28,7 @@ public class DeleteDatabaseConsultantAction
 
   private final @NonNull ConsultantRepository consultantRepository;
   private final @NonNull SessionRepository sessionRepository;
+  private final @NonNull RelevantUserAccountIdsByChatProvider relevantUserAccountIdsByChatProvider;
 
   /**
    * Deletes the given {@link Consultant} in database.
@@ -53,6 +55,8 @@ public class DeleteDatabaseConsultantAction
 
     try {
       this.consultantRepository.delete(actionTarget.getConsultant());
+      this.relevantUserAccountIdsByChatProvider.evictAccountId(
+          actionTarget.getConsultant().getRocketChatId());
     } catch (Exception e) {
       handleExceptionWithMessage(actionTarget, e, "Unable to delete consultant in database");
     }
@@ -11,8 +11,6 @@ import de.caritas.cob.userservice.api.workflow.delete.service.provider.InactiveP
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import javax.persistence.NonUniqueResultException;
@@ -41,18 +39,14 @@ public class DeleteInactiveSessionsAndUserService {
 
   /**
    * Deletes all inactive sessions and even the asker accounts, if there are no more active
-   * sessions.
+   * sessions. The users are processed while their inactive groups are streamed in.
    */
   public void deleteInactiveSessionsAndUsers() {
 
-    Map<String, List<String>> userWithInactiveGroupsMap =
-        inactivePrivateGroupsProvider.retrieveUserWithInactiveGroupsMap();
-
-    List<DeletionWorkflowError> workflowErrors =
-        userWithInactiveGroupsMap.entrySet().stream()
-            .map(this::performDeletionWorkflow)
-            .flatMap(Collection::stream)
-            .collect(Collectors.toList());
+    List<DeletionWorkflowError> workflowErrors = new ArrayList<>();
+    inactivePrivateGroupsProvider.forEachUserWithInactiveGroups(
+        (rcUserId, inactiveGroupIds) ->
+            workflowErrors.addAll(performDeletionWorkflow(rcUserId, inactiveGroupIds)));
 
     findWorkflowErrorByReason(workflowErrors);
   }
@@ -77,48 +71,46 @@ public class DeleteInactiveSessionsAndUserService {
   }
 
   private List<DeletionWorkflowError> performDeletionWorkflow(
-      Entry<String, List<String>> userInactiveGroupEntry) {
+      String rcUserId, List<String> inactiveGroupIds) {
 
     List<DeletionWorkflowError> workflowErrors = new ArrayList<>();
 
     try {
-      Optional<User> user =
-          userRepository.findByRcUserIdAndDeleteDateIsNull(userInactiveGroupEntry.getKey());
+      Optional<User> user = userRepository.findByRcUserIdAndDeleteDateIsNull(rcUserId);
       user.ifPresentOrElse(
-          u -> workflowErrors.addAll(deleteInactiveGroupsOrUser(userInactiveGroupEntry, u)),
+          u -> workflowErrors.addAll(deleteInactiveGroupsOrUser(inactiveGroupIds, u)),
           () ->
               workflowErrors.addAll(
-                  performUserSessionDeletionForNonExistingUser(userInactiveGroupEntry.getValue())));
+                  performUserSessionDeletionForNonExistingUser(inactiveGroupIds)));
     } catch (NonUniqueResultException ex) {
       log.error(
-          "Non unique result for findByRcUserIdAndDeleteDateIsNull found. RcUserId:",
-          userInactiveGroupEntry.getKey());
+          "Non unique result for findByRcUserIdAndDeleteDateIsNull found. RcUserId:", rcUserId);
       return workflowErrors;
     }
     return workflowErrors;
   }
 
   private List<DeletionWorkflowError> deleteInactiveGroupsOrUser(
-      Entry<String, List<String>> userInactiveGroupEntry, User user) {
+      List<String> inactiveGroupIds, User user) {
 
     List<Session> userSessionList = sessionRepository.findByUser(user);
-    if (allSessionsOfUserAreInactive(userInactiveGroupEntry, userSessionList)) {
+    if (allSessionsOfUserAreInactive(inactiveGroupIds, userSessionList)) {
       return deleteUserAccountService.performUserDeletion(user);
     }
-    return perfomUserSessionDeletion(userInactiveGroupEntry, userSessionList);
+    return perfomUserSessionDeletion(inactiveGroupIds, userSessionList);
   }
 
   private List<DeletionWorkflowError> perfomUserSessionDeletion(
-      Entry<String, List<String>> userInactiveGroupEntry, List<Session> userSessionList) {
-    return userInactiveGroupEntry.getValue().stream()
+      List<String> inactiveGroupIds, List<Session> userSessionList) {
+    return inactiveGroupIds.stream()
         .map(rcGroupId -> performSessionDeletion(rcGroupId, userSessionList))
         .flatMap(Collection::stream)
         .collect(Collectors.toList());
   }
 
   private boolean allSessionsOfUserAreInactive(
-      Entry<String, List<String>> userInactiveGroupEntry, List<Session> userSessionList) {
-    return userInactiveGroupEntry.getValue().size() == userSessionList.size();
+      List<String> inactiveGroupIds, List<Session> userSessionList) {
+    return inactiveGroupIds.size() == userSessionList.size();
   }
 
   private List<DeletionWorkflowError> performSessionDeletion(
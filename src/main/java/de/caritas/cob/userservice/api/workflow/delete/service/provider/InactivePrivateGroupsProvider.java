@@ -1,28 +1,29 @@
 package de.caritas.cob.userservice.api.workflow.delete.service.provider;
 
+import static java.util.Objects.nonNull;
+
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.group.GroupDTO;
-import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatGetGroupsListAllException;
+import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
 import de.caritas.cob.userservice.api.helper.CustomLocalDateTime;
 import de.caritas.cob.userservice.api.model.Chat;
 import de.caritas.cob.userservice.api.port.out.ChatRepository;
-import de.caritas.cob.userservice.api.service.LogService;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.IterableUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-/** Provider for user to inactive Rocket.Chat group map. */
+/** Provider for users and their inactive Rocket.Chat groups. */
 @Service
 @RequiredArgsConstructor
 public class InactivePrivateGroupsProvider {
@@ -33,25 +34,51 @@ public class InactivePrivateGroupsProvider {
   @Value("${session.inactive.deleteWorkflow.check.days}")
   private int sessionInactiveDeleteWorkflowCheckDays;
 
+  @Value("${session.inactive.deleteWorkflow.readGroupsFromDatabase}")
+  private boolean readGroupsFromDatabase;
+
   /**
-   * Get a map with users and their related inactive Rocket.Chat group ids. Group chats are
-   * excluded.
+   * Streams the inactive Rocket.Chat groups and passes each user with the ids of their inactive
+   * groups to the given consumer, as soon as all groups of the user have been read. Group chats are
+   * excluded. If reading the groups fails, the users read so far are kept and the remaining ones
+   * are skipped.
    *
-   * @return a map with users and related inactive Rocket.Chat groups ids
+   * @param userWithInactiveGroupsConsumer consumer of the Rocket.Chat user id and the ids of the
+   *     inactive groups of the user
    */
-  public Map<String, List<String>> retrieveUserWithInactiveGroupsMap() {
+  public void forEachUserWithInactiveGroups(
+      BiConsumer<String, List<String>> userWithInactiveGroupsConsumer) {
 
     Set<String> groupChatIdSet = buildSetOfGroupChatGroupdIds();
 
-    Map<String, List<String>> userWithInactiveGroupsMap = new HashMap<>();
-    fetchAllInactivePrivateGroups().stream()
-        .filter(group -> !groupChatIdSet.contains(group.getId()))
-        .forEach(
-            group ->
-                userWithInactiveGroupsMap
-                    .computeIfAbsent(group.getUser().getId(), v -> new ArrayList<>())
-                    .add(group.getId()));
-    return userWithInactiveGroupsMap;
+    try (var inactiveGroups = streamAllInactivePrivateGroups()) {
+      forEachUserOfGroupsSortedByOwner(
+          inactiveGroups.filter(group -> !groupChatIdSet.contains(group.getId())).iterator(),
+          userWithInactiveGroupsConsumer);
+    } catch (InternalServerErrorException ex) {
+      ex.executeLogging();
+    }
+  }
+
+  private void forEachUserOfGroupsSortedByOwner(
+      Iterator<GroupDTO> groups, BiConsumer<String, List<String>> userWithInactiveGroupsConsumer) {
+    String currentUserId = null;
+    List<String> currentUserGroupIds = new ArrayList<>();
+    while (groups.hasNext()) {
+      var group = groups.next();
+      var userId = group.getUser().getId();
+      if (!userId.equals(currentUserId)) {
+        if (nonNull(currentUserId)) {
+          userWithInactiveGroupsConsumer.accept(currentUserId, currentUserGroupIds);
+        }
+        currentUserId = userId;
+        currentUserGroupIds = new ArrayList<>();
+      }
+      currentUserGroupIds.add(group.getId());
+    }
+    if (nonNull(currentUserId)) {
+      userWithInactiveGroupsConsumer.accept(currentUserId, currentUserGroupIds);
+    }
   }
 
   private Set<String> buildSetOfGroupChatGroupdIds() {
@@ -59,16 +86,13 @@ public class InactivePrivateGroupsProvider {
     return chatList.stream().map(Chat::getGroupId).collect(Collectors.toSet());
   }
 
-  private List<GroupDTO> fetchAllInactivePrivateGroups() {
+  private Stream<GroupDTO> streamAllInactivePrivateGroups() {
     LocalDateTime dateTimeToCheck =
         CustomLocalDateTime.nowInUtc()
             .with(LocalTime.MIDNIGHT)
             .minusDays(sessionInactiveDeleteWorkflowCheckDays);
-    try {
-      return rocketChatService.fetchAllInactivePrivateGroupsSinceGivenDate(dateTimeToCheck);
-    } catch (RocketChatGetGroupsListAllException ex) {
-      LogService.logRocketChatError(ex);
-    }
-    return Collections.emptyList();
+    return readGroupsFromDatabase
+        ? rocketChatService.streamInactivePrivateGroupsSinceGivenDateFromDatabase(dateTimeToCheck)
+        : rocketChatService.streamInactivePrivateGroupsSinceGivenDate(dateTimeToCheck);
   }
 }
@@ -4,14 +4,12 @@ import static de.caritas.cob.userservice.api.helper.CustomLocalDateTime.nowInUtc
 import static de.caritas.cob.userservice.api.helper.EmailNotificationUtils.deserializeNotificationSettingsOrDefaultIfNull;
 import static de.caritas.cob.userservice.api.service.emailsupplier.EmailSupplier.TEMPLATE_DAILY_ENQUIRY_NOTIFICATION;
 import static java.util.Arrays.asList;
-import static java.util.Objects.nonNull;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 
 import com.neovisionaries.i18n.LanguageCode;
 import de.caritas.cob.userservice.api.adapters.web.dto.AgencyDTO;
 import de.caritas.cob.userservice.api.model.Consultant;
-import de.caritas.cob.userservice.api.model.ConsultantAgency;
-import de.caritas.cob.userservice.api.model.Session;
+import de.caritas.cob.userservice.api.model.Session.AgencyOpenEnquiries;
 import de.caritas.cob.userservice.api.model.Session.SessionStatus;
 import de.caritas.cob.userservice.api.port.out.SessionRepository;
 import de.caritas.cob.userservice.api.service.ConsultantAgencyService;
@@ -67,24 +65,17 @@ public class EnquiryNotificationService {
     var mailsContentForAgencies =
         createMailsContentForAgencies(agencyIdsWithOpenEnquiries, agencyIdToAgency);
 
-    mailsContentForAgencies.forEach(this::buildAndSendEnquiryNotificationMails);
+    buildAndSendEnquiryNotificationMails(mailsContentForAgencies);
   }
 
   private Map<Long, Long> findAgencyIdsWithOpenEnquiries() {
-    return sessionRepository.findByStatus(SessionStatus.NEW).stream()
-        .filter(this::longerOpenThanCheckHours)
-        .map(Session::getAgencyId)
-        .collect(Collectors.groupingBy(e -> e, Collectors.counting()));
-  }
-
-  private boolean longerOpenThanCheckHours(Session session) {
-    var rightNow = nowInUtc();
-    var enquiryMessageDate = session.getEnquiryMessageDate();
-
-    if (nonNull(enquiryMessageDate)) {
-      return rightNow.minusHours(openEnquiryCheckHours).isAfter(enquiryMessageDate);
-    }
-    return false;
+    return sessionRepository
+        .countByStatusAndEnquiryMessageDateBeforeGroupedByAgency(
+            SessionStatus.NEW, nowInUtc().minusHours(openEnquiryCheckHours))
+        .stream()
+        .collect(
+            Collectors.toMap(
+                AgencyOpenEnquiries::getAgencyId, AgencyOpenEnquiries::getOpenEnquiries));
   }
 
   private Collection<EnquiriesNotificationMailContent> createMailsContentForAgencies(
@@ -110,12 +101,26 @@ public class EnquiryNotificationService {
   }
 
   private void buildAndSendEnquiryNotificationMails(
-      EnquiriesNotificationMailContent enquiryMailContent) {
+      Collection<EnquiriesNotificationMailContent> mailsContentForAgencies) {
+    if (mailsContentForAgencies.isEmpty()) {
+      return;
+    }
+    var agencyIdToMailContent =
+        mailsContentForAgencies.stream()
+            .collect(
+                Collectors.toMap(
+                    EnquiriesNotificationMailContent::getAgencyId, Function.identity()));
     var mailDTOs =
-        consultantAgencyService.findConsultantsByAgencyId(enquiryMailContent.getAgencyId()).stream()
-            .map(ConsultantAgency::getConsultant)
-            .filter(c -> wantsToReceiveNotifications(c))
-            .map(consultant -> buildMailTO(consultant, enquiryMailContent))
+        consultantAgencyService
+            .getConsultantsOfAgencies(new ArrayList<>(agencyIdToMailContent.keySet()))
+            .stream()
+            .filter(
+                consultantAgency -> wantsToReceiveNotifications(consultantAgency.getConsultant()))
+            .map(
+                consultantAgency ->
+                    buildMailTO(
+                        consultantAgency.getConsultant(),
+                        agencyIdToMailContent.get(consultantAgency.getAgencyId())))
             .collect(Collectors.toList());
 
     buildAndSendNotificationEmail(mailDTOs);
@@ -0,0 +1,34 @@
+package de.caritas.cob.userservice.api.workflow.groupassignment.scheduler;
+
+import de.caritas.cob.userservice.api.admin.service.consultant.create.agencyrelation.RocketChatAsyncHelper;
+import de.caritas.cob.userservice.api.admin.service.consultant.create.agencyrelation.RocketChatGroupAssignmentService;
+import de.caritas.cob.userservice.api.tenant.TenantContextProvider;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler to resume interrupted Rocket.Chat group assignments of new consultant agency relations
+ * and to retry their failed assignments. Relations whose assignments are all finished, but which
+ * are still in progress, get their final status.
+ */
+@Component
+@RequiredArgsConstructor
+public class RocketChatGroupAssignmentScheduler {
+
+  private final @NonNull RocketChatGroupAssignmentService groupAssignmentService;
+  private final @NonNull RocketChatAsyncHelper rocketChatAsyncHelper;
+  private final @NonNull TenantContextProvider tenantContextProvider;
+
+  /** Entry method to resume the open group assignments. */
+  @Scheduled(
+      fixedDelayString = "${rocketchat.group.assignment.resume.fixedDelayMillis}",
+      initialDelayString = "${rocketchat.group.assignment.resume.fixedDelayMillis}")
+  public void resumeGroupAssignments() {
+    tenantContextProvider.setTechnicalContextIfMultiTenancyIsEnabled();
+    groupAssignmentService
+        .findConsultantAgencyIdsWithAssignments()
+        .forEach(rocketChatAsyncHelper::resumeGroupAssignments);
+  }
+}
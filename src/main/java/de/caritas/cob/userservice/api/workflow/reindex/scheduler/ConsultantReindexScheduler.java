@@ -0,0 +1,36 @@
+package de.caritas.cob.userservice.api.workflow.reindex.scheduler;
+
+import static org.apache.commons.lang3.BooleanUtils.isTrue;
+
+import de.caritas.cob.userservice.api.admin.service.consultant.ConsultantReindexer;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/** Scheduler for the periodic full rebuild of the consultant search index. */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ConsultantReindexScheduler {
+
+  private final @NonNull ConsultantReindexer consultantReindexer;
+
+  @Value("${consultant.search.reindex.enabled}")
+  private Boolean reindexEnabled;
+
+  /** Entry method to rebuild the search index. */
+  @Scheduled(cron = "${consultant.search.reindex.cron}")
+  public void performReindex() {
+    if (isTrue(reindexEnabled)) {
+      try {
+        consultantReindexer.reindexAll();
+      } catch (InterruptedException e) {
+        log.info("Lucene index building was interrupted.");
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
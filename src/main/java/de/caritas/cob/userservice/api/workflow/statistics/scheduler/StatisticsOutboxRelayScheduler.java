@@ -0,0 +1,66 @@
+package de.caritas.cob.userservice.api.workflow.statistics.scheduler;
+
+import static org.apache.commons.lang3.BooleanUtils.isTrue;
+
+import de.caritas.cob.userservice.api.service.schedulerlock.SchedulerLockService;
+import de.caritas.cob.userservice.api.tenant.TenantContext;
+import de.caritas.cob.userservice.api.tenant.TenantContextProvider;
+import de.caritas.cob.userservice.api.workflow.statistics.service.StatisticsOutboxRelayService;
+import java.time.Duration;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler to drain the statistics outbox. A run publishes at most the configured amount of
+ * batches and stops at the first failing batch, so a slow or unavailable RabbitMQ is retried with
+ * the next run instead of being hammered. Runs are guarded by a {@link SchedulerLockService} lock,
+ * so only one instance drains the outbox at a time.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatisticsOutboxRelayScheduler {
+
+  private static final String LOCK_NAME = "statisticsOutboxRelay";
+
+  private final @NonNull StatisticsOutboxRelayService statisticsOutboxRelayService;
+  private final @NonNull SchedulerLockService schedulerLockService;
+  private final @NonNull TenantContextProvider tenantContextProvider;
+
+  @Value("${statistics.enabled}")
+  private Boolean statisticsEnabled;
+
+  @Value("${statistics.outbox.relay.maxBatchesPerRun}")
+  private int maxBatchesPerRun;
+
+  @Value("${statistics.outbox.relay.lockLeaseMillis}")
+  private long lockLeaseMillis;
+
+  /** Entry method to publish the pending statistics events. */
+  @Scheduled(fixedDelayString = "${statistics.outbox.relay.fixedDelayMillis}")
+  public void relayStatisticsEvents() {
+    if (!isTrue(statisticsEnabled)
+        || !schedulerLockService.tryLock(LOCK_NAME, Duration.ofMillis(lockLeaseMillis))) {
+      return;
+    }
+
+    tenantContextProvider.setTechnicalContextIfMultiTenancyIsEnabled();
+    try {
+      for (var batch = 0; batch < maxBatchesPerRun; batch++) {
+        if (!statisticsOutboxRelayService.relayNextBatch()) {
+          break;
+        }
+      }
+    } catch (Exception e) {
+      log.warn("StatisticsEventProcessing warning: Relaying the statistics outbox failed", e);
+    } finally {
+      statisticsOutboxRelayService.updateLag();
+      TenantContext.clear();
+      schedulerLockService.unlock(LOCK_NAME);
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package de.caritas.cob.userservice.api.workflow.statistics.service;
+
+import static de.caritas.cob.userservice.api.helper.CustomLocalDateTime.nowInUtc;
+
+import de.caritas.cob.userservice.api.model.StatisticsOutboxEvent;
+import de.caritas.cob.userservice.api.port.out.StatisticsOutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Publishes the events of the statistics outbox to the statistics exchange. Each batch is sent on
+ * one channel and waits for the publisher confirms of RabbitMQ before the events are removed from
+ * the outbox, so events are published at least once.
+ */
+@Slf4j
+@Service
+public class StatisticsOutboxRelayService {
+
+  private final StatisticsOutboxEventRepository statisticsOutboxEventRepository;
+  private final RabbitTemplate rabbitTemplate;
+  private final AtomicLong lagSeconds = new AtomicLong();
+  private final Counter publishedEventsCounter;
+  private final Counter failedBatchesCounter;
+
+  @Value("${statistics.rabbitmq.exchange.name}")
+  private String rabbitMqExchangeName;
+
+  @Value("${statistics.outbox.relay.batchSize}")
+  private int batchSize;
+
+  @Value("${statistics.outbox.relay.confirmTimeoutMillis}")
+  private long confirmTimeoutMillis;
+
+  public StatisticsOutboxRelayService(
+      StatisticsOutboxEventRepository statisticsOutboxEventRepository,
+      RabbitTemplate rabbitTemplate,
+      MeterRegistry meterRegistry) {
+    this.statisticsOutboxEventRepository = statisticsOutboxEventRepository;
+    this.rabbitTemplate = rabbitTemplate;
+    meterRegistry.gauge("userservice.statistics.outbox.lag.seconds", lagSeconds);
+    this.publishedEventsCounter = meterRegistry.counter("userservice.statistics.outbox.published");
+    this.failedBatchesCounter = meterRegistry.counter("userservice.statistics.outbox.failed");
+  }
+
+  /**
+   * Publishes the oldest batch of outbox events and removes them from the outbox after RabbitMQ has
+   * confirmed them. If publishing fails, the events stay in the outbox for the next run.
+   *
+   * @return true if the batch was full, i.e. further events may be pending
+   */
+  @Transactional
+  public boolean relayNextBatch() {
+    var events =
+        statisticsOutboxEventRepository.findAllByOrderByIdAsc(PageRequest.of(0, batchSize));
+    if (events.isEmpty()) {
+      return false;
+    }
+
+    publishConfirmed(events);
+    statisticsOutboxEventRepository.deleteByIdIn(
+        events.stream().map(StatisticsOutboxEvent::getId).collect(Collectors.toList()));
+    publishedEventsCounter.increment(events.size());
+
+    return events.size() == batchSize;
+  }
+
+  /** Updates the lag metric with the age of the oldest event not yet published. */
+  public void updateLag() {
+    lagSeconds.set(
+        statisticsOutboxEventRepository
+            .findFirstByOrderByIdAsc()
+            .map(event -> Duration.between(event.getCreateDate(), nowInUtc()).toSeconds())
+            .orElse(0L));
+  }
+
+  private void publishConfirmed(List<StatisticsOutboxEvent> events) {
+    try {
+      rabbitTemplate.invoke(
+          operations -> {
+            events.forEach(
+                event ->
+                    operations.send(rabbitMqExchangeName, event.getEventType(), toMessage(event)));
+            operations.waitForConfirmsOrDie(confirmTimeoutMillis);
+            return null;
+          });
+    } catch (AmqpException e) {
+      failedBatchesCounter.increment();
+      log.warn(
+          "StatisticsEventProcessing warning: Publishing {} outbox events failed", events.size());
+      throw e;
+    }
+  }
+
+  private Message toMessage(StatisticsOutboxEvent event) {
+    return MessageBuilder.withBody(event.getPayload().getBytes(StandardCharsets.UTF_8))
+        .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+        .setMessageId(String.valueOf(event.getId()))
+        .build();
+  }
+}
@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS `userservice`.`statistics_outbox_event` (
+    `id` bigint(21) unsigned NOT NULL,
+    `event_type` varchar(50) COLLATE utf8_unicode_ci NOT NULL,
+    `payload` longtext COLLATE utf8_unicode_ci NOT NULL,
+    `create_date` datetime NOT NULL DEFAULT (UTC_TIMESTAMP),
+    PRIMARY KEY (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE=utf8_unicode_ci;
+CREATE SEQUENCE IF NOT EXISTS `userservice`.`sequence_statistics_outbox_event`
+    INCREMENT BY 1
+    MINVALUE = 0
+NOMAXVALUE
+START WITH 0
+CACHE 100;
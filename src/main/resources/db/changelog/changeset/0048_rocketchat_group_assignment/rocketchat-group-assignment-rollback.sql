@@ -0,0 +1,2 @@
+DROP SEQUENCE IF EXISTS `userservice`.`sequence_rocketchat_group_assignment`;
+DROP TABLE IF EXISTS `userservice`.`rocketchat_group_assignment`;
@@ -0,0 +1,20 @@
+CREATE TABLE IF NOT EXISTS `userservice`.`rocketchat_group_assignment` (
+    `id` bigint(21) unsigned NOT NULL,
+    `consultant_agency_id` bigint(21) unsigned NOT NULL,
+    `session_id` bigint(21) unsigned NOT NULL,
+    `status` varchar(8) COLLATE utf8_unicode_ci NOT NULL,
+    `attempts` int(11) NOT NULL DEFAULT 0,
+    `error` varchar(255) COLLATE utf8_unicode_ci NULL,
+    `tenant_id` bigint(21) NULL,
+    `create_date` datetime NOT NULL DEFAULT (UTC_TIMESTAMP),
+    `update_date` datetime NOT NULL DEFAULT (UTC_TIMESTAMP),
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `rocketchat_group_assignment_session` (`consultant_agency_id`, `session_id`),
+    KEY `rocketchat_group_assignment_status` (`status`, `attempts`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE=utf8_unicode_ci;
+CREATE SEQUENCE IF NOT EXISTS `userservice`.`sequence_rocketchat_group_assignment`
+    INCREMENT BY 1
+    MINVALUE = 0
+NOMAXVALUE
+START WITH 0
+CACHE 100;
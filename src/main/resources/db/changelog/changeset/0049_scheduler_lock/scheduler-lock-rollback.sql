@@ -0,0 +1 @@
+DROP TABLE IF EXISTS `userservice`.`scheduler_lock`;
@@ -0,0 +1 @@
+DROP TABLE IF EXISTS `userservice`.`violation_report_job`;
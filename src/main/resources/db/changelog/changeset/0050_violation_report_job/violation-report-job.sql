@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS `userservice`.`violation_report_job` (
+    `id` varchar(36) COLLATE utf8_unicode_ci NOT NULL,
+    `report_file` varchar(255) COLLATE utf8_unicode_ci NOT NULL,
+    `start_date` datetime NOT NULL,
+    `update_date` datetime NOT NULL,
+    `finish_date` datetime NULL,
+    `status` varchar(8) COLLATE utf8_unicode_ci NOT NULL,
+    `processed_rules` int(11) NOT NULL DEFAULT 0,
+    `total_rules` int(11) NOT NULL DEFAULT 0,
+    `violations` bigint(21) NOT NULL DEFAULT 0,
+    `error` varchar(255) COLLATE utf8_unicode_ci NULL,
+    PRIMARY KEY (`id`),
+    KEY `violation_report_job_status` (`status`, `update_date`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE=utf8_unicode_ci;
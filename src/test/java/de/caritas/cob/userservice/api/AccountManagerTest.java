@@ -1,11 +1,16 @@
 package de.caritas.cob.userservice.api;
 
 import com.google.common.collect.Lists;
+import de.caritas.cob.userservice.api.admin.service.consultant.ConsultantInfixSearchService;
 import de.caritas.cob.userservice.api.admin.service.tenant.TenantService;
 import de.caritas.cob.userservice.api.model.Consultant;
+import de.caritas.cob.userservice.api.model.Consultant.ConsultantWithAgency;
 import de.caritas.cob.userservice.api.port.out.ConsultantAgencyRepository;
 import de.caritas.cob.userservice.api.port.out.ConsultantRepository;
 import de.caritas.cob.userservice.api.service.agency.AgencyService;
+import de.caritas.cob.userservice.tenantservice.generated.web.model.RestrictedTenantDTO;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -18,10 +23,14 @@ import org.springframework.data.domain.PageRequest;
 @ExtendWith(MockitoExtension.class)
 class AccountManagerTest {
 
+  private static final Long TENANT_ID = 1L;
+
   @InjectMocks AccountManager accountManager;
 
   @Mock ConsultantRepository consultantRepository;
 
+  @Mock ConsultantInfixSearchService consultantInfixSearchService;
+
   @Mock ConsultantAgencyRepository consultantAgencyRepository;
 
   @Mock UserServiceMapper userServiceMapper;
@@ -30,14 +39,14 @@ class AccountManagerTest {
 
   @Mock TenantService tenantService;
 
-  @Mock Page<Consultant.ConsultantBase> page;
+  @Mock Page<String> page;
 
   @Test
   void findConsultantsByInfix_Should_NotFilterByAgenciesIfAgencyListIsEmpty() {
     // given
     Mockito.when(
-            consultantRepository.findAllByInfix(
-                Mockito.eq("infix"), Mockito.any(PageRequest.class)))
+            consultantInfixSearchService.findConsultantIdsByInfix(
+                Mockito.eq("infix"), Mockito.isNull(), Mockito.any(PageRequest.class)))
         .thenReturn(page);
 
     // when
@@ -45,15 +54,16 @@ class AccountManagerTest {
         "infix", false, Lists.newArrayList(), 1, 10, "email", true);
 
     // then
-    Mockito.verify(consultantRepository)
-        .findAllByInfix(Mockito.eq("infix"), Mockito.any(PageRequest.class));
+    Mockito.verify(consultantInfixSearchService)
+        .findConsultantIdsByInfix(
+            Mockito.eq("infix"), Mockito.isNull(), Mockito.any(PageRequest.class));
   }
 
   @Test
   void findConsultantsByInfix_Should_FilterByAgenciesIfAgencyListIsNotEmpty() {
     // given
     Mockito.when(
-            consultantRepository.findAllByInfixAndAgencyIds(
+            consultantInfixSearchService.findConsultantIdsByInfix(
                 Mockito.eq("infix"), Mockito.anyCollection(), Mockito.any(PageRequest.class)))
         .thenReturn(page);
 
@@ -62,10 +72,62 @@ class AccountManagerTest {
         "infix", true, Lists.newArrayList(1L), 1, 10, "email", true);
 
     // then
-    Mockito.verify(consultantRepository)
-        .findAllByInfixAndAgencyIds(
+    Mockito.verify(consultantInfixSearchService)
+        .findConsultantIdsByInfix(
             Mockito.eq("infix"),
             Mockito.eq(Lists.newArrayList(1L)),
             Mockito.any(PageRequest.class));
   }
+
+  @Test
+  void findConsultantsByInfix_Should_LoadConsultantsWithAgenciesAtOnceAndResolveEachTenantOnce() {
+    // given
+    Mockito.when(
+            consultantInfixSearchService.findConsultantIdsByInfix(
+                Mockito.eq("infix"), Mockito.isNull(), Mockito.any(PageRequest.class)))
+        .thenReturn(page);
+    Mockito.when(page.getContent()).thenReturn(List.of("id1", "id2"));
+    var firstConsultant = consultant("id1");
+    var secondConsultant = consultant("id2");
+    var consultantsWithAgencies =
+        List.of(
+            consultantWithAgency(firstConsultant, 1L),
+            consultantWithAgency(firstConsultant, 2L),
+            consultantWithAgency(secondConsultant, null));
+    Mockito.when(consultantRepository.findAllWithAgenciesByIdIn(List.of("id1", "id2")))
+        .thenReturn(consultantsWithAgencies);
+    Mockito.when(userServiceMapper.agencyIdsOf(Mockito.anyList())).thenReturn(List.of(1L, 2L));
+    Mockito.when(tenantService.getRestrictedTenantData(TENANT_ID))
+        .thenReturn(new RestrictedTenantDTO().name("tenant"));
+
+    // when
+    accountManager.findConsultantsByInfix(
+        "infix", false, Lists.newArrayList(), 1, 10, "email", true);
+
+    // then
+    Mockito.verify(agencyService).getAgencies(List.of(1L, 2L));
+    Mockito.verify(tenantService).getRestrictedTenantData(TENANT_ID);
+    Mockito.verify(userServiceMapper)
+        .mapOf(
+            Mockito.eq(page),
+            Mockito.eq(List.of(firstConsultant, secondConsultant)),
+            Mockito.any(),
+            Mockito.argThat(consultantAgencies -> consultantAgencies.size() == 2),
+            Mockito.eq(Map.of(TENANT_ID, "tenant")));
+    Mockito.verifyNoInteractions(consultantAgencyRepository);
+  }
+
+  private Consultant consultant(String id) {
+    var consultant = new Consultant();
+    consultant.setId(id);
+    consultant.setTenantId(TENANT_ID);
+    return consultant;
+  }
+
+  private ConsultantWithAgency consultantWithAgency(Consultant consultant, Long agencyId) {
+    var consultantWithAgency = Mockito.mock(ConsultantWithAgency.class);
+    Mockito.when(consultantWithAgency.getConsultant()).thenReturn(consultant);
+    Mockito.when(consultantWithAgency.getId()).thenReturn(agencyId);
+    return consultantWithAgency;
+  }
 }
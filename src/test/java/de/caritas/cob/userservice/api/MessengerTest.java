@@ -0,0 +1,273 @@
+package de.caritas.cob.userservice.api;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.api.helper.UsernameTranscoder;
+import de.caritas.cob.userservice.api.port.out.ChatRepository;
+import de.caritas.cob.userservice.api.port.out.ConsultantRepository;
+import de.caritas.cob.userservice.api.port.out.MessageClient;
+import de.caritas.cob.userservice.api.port.out.SessionRepository;
+import de.caritas.cob.userservice.api.port.out.UserRepository;
+import de.caritas.cob.userservice.api.service.StringConverter;
+import de.caritas.cob.userservice.api.service.agency.AgencyService;
+import de.caritas.cob.userservice.api.service.presence.ConsultantPresenceSnapshot;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.security.PublicKey;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@ExtendWith(MockitoExtension.class)
+class MessengerTest {
+
+  private static final String CHAT_USER_ID = "chatUserId";
+  private static final String PUBLIC_KEY = "publicKey";
+  private static final String MASTER_KEY = "masterKey";
+
+  @Mock private MessageClient messageClient;
+
+  @Mock private UserRepository userRepository;
+
+  @Mock private ConsultantRepository consultantRepository;
+
+  @Mock private ChatRepository chatRepository;
+
+  @Mock private SessionRepository sessionRepository;
+
+  @Mock private UsernameTranscoder usernameTranscoder;
+
+  @Mock private StringConverter stringConverter;
+
+  @Mock private AgencyService agencyService;
+
+  @Mock private ConsultantPresenceSnapshot consultantPresenceSnapshot;
+
+  @Mock private PublicKey rsaPublicKey;
+
+  private Messenger messenger;
+
+  private ExecutorService executorService;
+
+  @BeforeEach
+  void setup() {
+    this.messenger = messengerWithExecutor(Runnable::run);
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+    if (executorService != null) {
+      executorService.shutdownNow();
+    }
+  }
+
+  @Test
+  void updateE2eKeys_Should_updateChatsConcurrentlyAndKeepTheirOrder_When_executorHasThreads()
+      throws GeneralSecurityException {
+    executorService = Executors.newFixedThreadPool(2);
+    var concurrentMessenger = messengerWithExecutor(executorService);
+    givenChats(
+        chat("room1", "tmp.0123456789abroomKey1"), chat("room2", "tmp.0123456789abroomKey2"));
+    givenWorkingCrypto();
+    var bothUpdatesStarted = new CountDownLatch(2);
+    when(messageClient.updateChatE2eKey(eq("userId"), anyString(), anyString()))
+        .thenAnswer(
+            invocation -> {
+              bothUpdatesStarted.countDown();
+              return bothUpdatesStarted.await(5, TimeUnit.SECONDS);
+            });
+
+    var updated = concurrentMessenger.updateE2eKeys(CHAT_USER_ID, PUBLIC_KEY);
+
+    assertThat(updated, is(Map.of("room1", true, "room2", true)));
+    assertThat(updated.keySet(), contains("room1", "room2"));
+  }
+
+  @Test
+  void updateE2eKeys_Should_passRequestAttributesToExecutorThreadsAndResetThemAfterwards()
+      throws Exception {
+    executorService = Executors.newSingleThreadExecutor();
+    var concurrentMessenger = messengerWithExecutor(executorService);
+    givenChats(
+        chat("room1", "tmp.0123456789abroomKey1"), chat("room2", "tmp.0123456789abroomKey2"));
+    givenWorkingCrypto();
+    var requestAttributes = new ServletRequestAttributes(new MockHttpServletRequest());
+    RequestContextHolder.setRequestAttributes(requestAttributes);
+    Set<RequestAttributes> attributesOfUpdates = ConcurrentHashMap.newKeySet();
+    when(messageClient.updateChatE2eKey(eq("userId"), anyString(), anyString()))
+        .thenAnswer(
+            invocation -> {
+              attributesOfUpdates.add(RequestContextHolder.getRequestAttributes());
+              return true;
+            });
+
+    concurrentMessenger.updateE2eKeys(CHAT_USER_ID, PUBLIC_KEY);
+
+    assertThat(attributesOfUpdates, contains(sameInstance(requestAttributes)));
+    assertThat(
+        executorService.submit(RequestContextHolder::getRequestAttributes).get(), is(nullValue()));
+  }
+
+  @Test
+  void updateE2eKeys_Should_parsePublicKeyOnceAndUpdateAllTemporarilyEncryptedChats()
+      throws GeneralSecurityException {
+    givenChats(
+        chat("room1", "tmp.0123456789abroomKey1"), chat("room2", "tmp.0123456789abroomKey2"));
+    givenWorkingCrypto();
+    when(messageClient.updateChatE2eKey(eq("userId"), anyString(), anyString())).thenReturn(true);
+
+    var updated = messenger.updateE2eKeys(CHAT_USER_ID, PUBLIC_KEY);
+
+    assertThat(updated, is(Map.of("room1", true, "room2", true)));
+    verify(stringConverter).rsaPublicKeyOf(PUBLIC_KEY);
+    verify(stringConverter, times(2)).rsaEncrypt(anyString(), eq(rsaPublicKey));
+  }
+
+  @Test
+  void updateE2eKeys_Should_updateRemainingChats_When_oneUpdateFails()
+      throws GeneralSecurityException {
+    givenChats(
+        chat("room1", "tmp.0123456789abroomKey1"), chat("room2", "tmp.0123456789abroomKey2"));
+    givenWorkingCrypto();
+    when(messageClient.updateChatE2eKey(eq("userId"), eq("room1"), anyString())).thenReturn(false);
+    when(messageClient.updateChatE2eKey(eq("userId"), eq("room2"), anyString())).thenReturn(true);
+
+    var updated = messenger.updateE2eKeys(CHAT_USER_ID, PUBLIC_KEY);
+
+    assertThat(updated, is(Map.of("room1", false, "room2", true)));
+  }
+
+  @Test
+  void updateE2eKeys_Should_reportChatAsFailed_When_roomKeyCannotBeDecrypted()
+      throws GeneralSecurityException {
+    givenChats(chat("room1", "tmp.0123456789abroomKey1"));
+    when(stringConverter.hashOf(CHAT_USER_ID)).thenReturn(MASTER_KEY);
+    when(stringConverter.rsaPublicKeyOf(PUBLIC_KEY)).thenReturn(rsaPublicKey);
+    when(stringConverter.aesDecrypt(anyString(), eq(MASTER_KEY)))
+        .thenThrow(new RuntimeException("bad padding"));
+
+    var updated = messenger.updateE2eKeys(CHAT_USER_ID, PUBLIC_KEY);
+
+    assertThat(updated, is(Map.of("room1", false)));
+    verify(messageClient, never()).updateChatE2eKey(any(), any(), any());
+  }
+
+  @Test
+  void updateE2eKeys_Should_reportAllChatsAsFailed_When_publicKeyCannotBeParsed()
+      throws GeneralSecurityException {
+    givenChats(
+        chat("room1", "tmp.0123456789abroomKey1"), chat("room2", "tmp.0123456789abroomKey2"));
+    when(stringConverter.rsaPublicKeyOf(PUBLIC_KEY)).thenThrow(new InvalidKeyException());
+
+    var updated = messenger.updateE2eKeys(CHAT_USER_ID, PUBLIC_KEY);
+
+    assertThat(updated, is(Map.of("room1", false, "room2", false)));
+    verify(messageClient, never()).updateChatE2eKey(any(), any(), any());
+  }
+
+  @Test
+  void updateE2eKeys_Should_ignoreChatsWhichAreNotTemporarilyEncrypted() {
+    givenChats(chat("room1", "final"));
+
+    var updated = messenger.updateE2eKeys(CHAT_USER_ID, PUBLIC_KEY);
+
+    assertThat(updated, is(anEmptyMap()));
+    verifyNoInteractions(stringConverter);
+  }
+
+  @Test
+  void findAvailableConsultants_Should_answerFromPresenceSnapshot_When_snapshotIsEnabled() {
+    when(consultantPresenceSnapshot.isEnabled()).thenReturn(true);
+    when(consultantPresenceSnapshot.findAvailableChatUserIds(1)).thenReturn(Set.of("rcId"));
+
+    var availableConsultants = messenger.findAvailableConsultants(1);
+
+    assertThat(availableConsultants, is(Set.of("rcId")));
+    verifyNoInteractions(messageClient, agencyService, consultantRepository);
+  }
+
+  @Test
+  void getAvailability_Should_answerFromPresenceSnapshot_When_consultantIsIndexed() {
+    when(consultantPresenceSnapshot.findChatUserId("consultantId")).thenReturn(Optional.of("rcId"));
+    when(consultantPresenceSnapshot.isEnabled()).thenReturn(true);
+    when(consultantPresenceSnapshot.isAvailable("rcId")).thenReturn(true);
+
+    assertThat(messenger.getAvailability("consultantId"), is(true));
+    verifyNoInteractions(messageClient, consultantRepository);
+  }
+
+  @Test
+  void setAvailability_Should_updatePresenceSnapshot_When_rocketChatAcceptedTheStatus() {
+    when(consultantPresenceSnapshot.findChatUserId("consultantId")).thenReturn(Optional.of("rcId"));
+    when(messageClient.setUserPresence("rcId", "online")).thenReturn(true);
+
+    messenger.setAvailability("consultantId", true);
+
+    verify(consultantPresenceSnapshot).updateAvailability("rcId", true);
+    verifyNoInteractions(consultantRepository);
+  }
+
+  private Messenger messengerWithExecutor(Executor executor) {
+    return new Messenger(
+        messageClient,
+        userRepository,
+        consultantRepository,
+        chatRepository,
+        sessionRepository,
+        new UserServiceMapper(usernameTranscoder),
+        stringConverter,
+        agencyService,
+        executor,
+        consultantPresenceSnapshot);
+  }
+
+  @SafeVarargs
+  private void givenChats(Map<String, String>... chats) {
+    when(messageClient.findAllChats(CHAT_USER_ID)).thenReturn(Optional.of(List.of(chats)));
+  }
+
+  private void givenWorkingCrypto() throws GeneralSecurityException {
+    when(stringConverter.hashOf(CHAT_USER_ID)).thenReturn(MASTER_KEY);
+    when(stringConverter.rsaPublicKeyOf(PUBLIC_KEY)).thenReturn(rsaPublicKey);
+    when(stringConverter.aesDecrypt(anyString(), eq(MASTER_KEY))).thenReturn("roomKey");
+    when(stringConverter.rsaEncrypt("roomKey", rsaPublicKey)).thenReturn(new byte[] {1});
+    when(stringConverter.int8Array(any())).thenReturn(new int[] {1});
+    when(stringConverter.jsonStringify(any())).thenReturn("{\"0\":1}");
+    when(stringConverter.base64AsciiEncode(anyString())).thenReturn("eyIwIjoxfQ==");
+  }
+
+  private Map<String, String> chat(String roomId, String e2eKey) {
+    return Map.of("roomId", roomId, "userId", "userId", "e2eKey", e2eKey);
+  }
+}
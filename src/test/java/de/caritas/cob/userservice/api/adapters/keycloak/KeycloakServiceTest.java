@@ -13,11 +13,13 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -42,6 +44,7 @@ import de.caritas.cob.userservice.api.port.out.IdentityClientConfig;
 import de.caritas.cob.userservice.api.tenant.TenantContext;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Optional;
 import javax.ws.rs.BadRequestException;
 import javax.ws.rs.core.Response;
 import org.apache.commons.lang3.RandomStringUtils;
@@ -101,6 +104,7 @@ public class KeycloakServiceTest {
 
   @Mock private UsernameTranscoder usernameTranscoder;
   @Mock private UserHelper userHelper;
+  @Mock private IdentityAvailabilityCache identityAvailabilityCache;
 
   @Mock UsersResource usersResource;
 
@@ -488,6 +492,18 @@ public class KeycloakServiceTest {
     assertThat(isAvailable, is(true));
   }
 
+  @Test
+  public void isUsernameAvailable_Should_returnCachedAvailability_When_usernameWasLookedUpBefore() {
+    when(usernameTranscoder.decodeUsername("username")).thenReturn("username");
+    when(identityAvailabilityCache.getUsernameAvailability("username"))
+        .thenReturn(Optional.of(false));
+
+    boolean isAvailable = this.keycloakService.isUsernameAvailable("username");
+
+    assertThat(isAvailable, is(false));
+    verify(keycloakClient, never()).getUsersResource();
+  }
+
   @Test
   public void isUsernameAvailable_Should_returnFalse_When_DecodedUsernameIsNotAvailable() {
     String notUnique = "NotUnique";
@@ -722,13 +738,30 @@ public class KeycloakServiceTest {
     verify(userResource, times(1)).update(any());
   }
 
+  @Test
+  public void updateUserData_Should_notSearchKeycloak_When_emailIsCachedAsNotAvailable() {
+    UserRepresentation userRepresentation = givenUserRepresentation("email");
+    UserResource userResource = givenUserResourceWithRepresentation(userRepresentation);
+    UsersResource usersResource = givenUsersResourceWithAnyUserId(userResource);
+    when(keycloakClient.getUsersResource()).thenReturn(usersResource);
+    when(identityAvailabilityCache.getEmailAvailability("newemail")).thenReturn(Optional.of(false));
+    UserDTO userDTO = new UserDTO();
+    userDTO.setEmail("newemail");
+
+    assertThrows(
+        CustomValidationHttpStatusException.class,
+        () -> this.keycloakService.updateUserData("userId", userDTO, "firstName", "lastName"));
+    verify(keycloakClient, never()).searchByExactEmail(any(), anyInt());
+    verify(userResource, never()).update(any());
+  }
+
   @Test
   public void updateUserData_Should_throwCustomException_When_emailIsChangedButNotAvailable() {
     UserRepresentation userRepresentation = givenUserRepresentation("email");
     UserRepresentation otherUserRepresentation = givenUserRepresentation("newemail");
     UserResource userResource = givenUserResourceWithRepresentation(userRepresentation);
     UsersResource usersResource = givenUsersResourceWithAnyUserId(userResource);
-    when(usersResource.search(any(), any(), any()))
+    when(keycloakClient.searchByExactEmail("newemail", 2))
         .thenReturn(singletonList(otherUserRepresentation));
     when(keycloakClient.getUsersResource()).thenReturn(usersResource);
     UserDTO userDTO = new UserDTO();
@@ -100,6 +100,10 @@ class ConversationControllerE2EIT {
   @Qualifier("restTemplate")
   private RestTemplate restTemplate;
 
+  @MockBean
+  @Qualifier("roomInformationRestTemplate")
+  private RestTemplate roomInformationRestTemplate;
+
   @MockBean
   @Qualifier("rocketChatRestTemplate")
   private RestTemplate rocketChatRestTemplate;
@@ -308,7 +312,7 @@ class ConversationControllerE2EIT {
     var roomsGetDTO = new RoomsGetDTO();
     RoomsUpdateDTO[] roomUpdates = {easyRandom.nextObject(RoomsUpdateDTO.class)};
     roomsGetDTO.setUpdate(roomUpdates);
-    when(restTemplate.exchange(anyString(), any(), any(), eq(RoomsGetDTO.class)))
+    when(roomInformationRestTemplate.exchange(anyString(), any(), any(), eq(RoomsGetDTO.class)))
         .thenReturn(ResponseEntity.ok(roomsGetDTO));
   }
 
@@ -349,7 +353,8 @@ class ConversationControllerE2EIT {
       easyRandom.nextObject(SubscriptionsUpdateDTO.class)
     };
     subscriptionsGetDTO.setUpdate(subscriptionUpdates);
-    when(restTemplate.exchange(anyString(), any(), any(), eq(SubscriptionsGetDTO.class)))
+    when(roomInformationRestTemplate.exchange(
+            anyString(), any(), any(), eq(SubscriptionsGetDTO.class)))
         .thenReturn(ResponseEntity.ok(subscriptionsGetDTO));
   }
 
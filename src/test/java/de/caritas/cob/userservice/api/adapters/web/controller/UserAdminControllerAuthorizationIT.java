@@ -30,6 +30,7 @@ import de.caritas.cob.userservice.api.adapters.web.dto.UpdateAdminConsultantDTO;
 import de.caritas.cob.userservice.api.admin.facade.AskerUserAdminFacade;
 import de.caritas.cob.userservice.api.admin.facade.ConsultantAdminFacade;
 import de.caritas.cob.userservice.api.admin.report.service.ViolationReportGenerator;
+import de.caritas.cob.userservice.api.admin.report.service.ViolationReportJobService;
 import de.caritas.cob.userservice.api.admin.service.session.SessionAdminService;
 import de.caritas.cob.userservice.api.config.auth.Authority.AuthorityValue;
 import de.caritas.cob.userservice.api.service.session.SessionTopicEnrichmentService;
@@ -69,6 +70,8 @@ class UserAdminControllerAuthorizationIT {
 
   @MockBean private ViolationReportGenerator violationReportGenerator;
 
+  @MockBean private ViolationReportJobService violationReportJobService;
+
   @MockBean private ConsultantAdminFacade consultantAdminFacade;
 
   @MockBean private AskerUserAdminFacade askerUserAdminFacade;
@@ -13,6 +13,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -28,12 +29,14 @@ import de.caritas.cob.userservice.api.admin.facade.AdminUserFacade;
 import de.caritas.cob.userservice.api.admin.facade.AskerUserAdminFacade;
 import de.caritas.cob.userservice.api.admin.facade.ConsultantAdminFacade;
 import de.caritas.cob.userservice.api.admin.report.service.ViolationReportGenerator;
+import de.caritas.cob.userservice.api.admin.report.service.ViolationReportJobService;
 import de.caritas.cob.userservice.api.admin.service.session.SessionAdminService;
 import de.caritas.cob.userservice.api.config.auth.RoleAuthorizationAuthorityMapper;
 import de.caritas.cob.userservice.api.exception.httpresponses.ForbiddenException;
 import de.caritas.cob.userservice.api.exception.httpresponses.NoContentException;
 import de.caritas.cob.userservice.api.helper.AuthenticatedUser;
 import de.caritas.cob.userservice.api.service.appointment.AppointmentService;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.UUID;
 import org.jeasy.random.EasyRandom;
@@ -46,6 +49,7 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.hateoas.client.LinkDiscoverers;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -58,6 +62,7 @@ class UserAdminControllerIT {
   protected static final String ROOT_PATH = "/useradmin";
   protected static final String SESSION_PATH = ROOT_PATH + "/sessions";
   protected static final String REPORT_PATH = ROOT_PATH + "/report";
+  protected static final String REPORT_JOBS_PATH = REPORT_PATH + "/jobs";
   protected static final String FILTERED_CONSULTANTS_PATH = ROOT_PATH + "/consultants";
   protected static final String CONSULTANT_PATH = ROOT_PATH + "/consultants/";
   protected static final String DELETE_CONSULTANT_PATH = CONSULTANT_PATH + "1234";
@@ -93,6 +98,8 @@ class UserAdminControllerIT {
 
   @MockBean private ViolationReportGenerator violationReportGenerator;
 
+  @MockBean private ViolationReportJobService violationReportJobService;
+
   @MockBean
   @SuppressWarnings("unused")
   private LinkDiscoverers linkDiscoverers;
@@ -164,6 +171,31 @@ class UserAdminControllerIT {
     verify(this.violationReportGenerator, times(1)).generateReport();
   }
 
+  @Test
+  void startViolationReportJob_Should_returnAccepted() throws Exception {
+    this.mvc.perform(post(REPORT_JOBS_PATH)).andExpect(status().isAccepted());
+
+    verify(this.violationReportJobService, times(1)).startJob();
+  }
+
+  @Test
+  void getViolationReportJob_Should_returnOk() throws Exception {
+    this.mvc.perform(get(REPORT_JOBS_PATH + "/jobId")).andExpect(status().isOk());
+
+    verify(this.violationReportJobService, times(1)).getJob("jobId");
+  }
+
+  @Test
+  void getViolationReportJobResult_Should_returnReportFile() throws Exception {
+    when(this.violationReportJobService.getJobResult("jobId"))
+        .thenReturn(new ByteArrayResource("[]".getBytes(StandardCharsets.UTF_8)));
+
+    this.mvc
+        .perform(get(REPORT_JOBS_PATH + "/jobId/result"))
+        .andExpect(status().isOk())
+        .andExpect(content().json("[]"));
+  }
+
   @Test
   void getConsultants_Should_returnBadRequest_When_requiredPaginationParamsAreMissing()
       throws Exception {
@@ -164,6 +164,10 @@ class UserControllerChatE2EIT {
   @Qualifier("restTemplate")
   private RestTemplate restTemplate;
 
+  @MockBean
+  @Qualifier("roomInformationRestTemplate")
+  private RestTemplate roomInformationRestTemplate;
+
   @MockBean
   @Qualifier("rocketChatRestTemplate")
   private RestTemplate rocketChatRestTemplate;
@@ -899,7 +903,8 @@ class UserControllerChatE2EIT {
     givenACorrectlyFormattedE2eKeyDTO();
     givenAValidRocketChatSystemUser();
     givenAValidRocketChatInfoUserResponse();
-    givenAValidRocketChatGetSubscriptionsResponse(easyRandom.nextInt(4) + 1, true);
+    var subscriptionSize = easyRandom.nextInt(4) + 1;
+    givenAValidRocketChatGetSubscriptionsResponse(subscriptionSize, true);
     givenFailedRocketChatGroupKeyUpdateResponses();
 
     mockMvc
@@ -929,7 +934,7 @@ class UserControllerChatE2EIT {
             eq(SubscriptionsGetDTO.class));
 
     urlSuffix = "/api/v1/e2e.updateGroupKey";
-    verify(rocketChatRestTemplate)
+    verify(rocketChatRestTemplate, times(subscriptionSize))
         .postForEntity(endsWith(urlSuffix), any(HttpEntity.class), eq(StandardResponseDTO.class));
   }
 
@@ -1496,7 +1501,7 @@ class UserControllerChatE2EIT {
     var response = new SubscriptionsGetDTO();
     var subscriptionsUpdate = new SubscriptionsUpdateDTO[0];
     response.setUpdate(subscriptionsUpdate);
-    when(restTemplate.exchange(
+    when(roomInformationRestTemplate.exchange(
             anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(SubscriptionsGetDTO.class)))
         .thenReturn(ResponseEntity.ok(response));
   }
@@ -1505,7 +1510,7 @@ class UserControllerChatE2EIT {
     var response = new RoomsGetDTO();
     var roomsUpdate = new RoomsUpdateDTO[0];
     response.setUpdate(roomsUpdate);
-    when(restTemplate.exchange(
+    when(roomInformationRestTemplate.exchange(
             anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(RoomsGetDTO.class)))
         .thenReturn(ResponseEntity.ok(response));
   }
@@ -398,7 +398,7 @@ class UserControllerConsultantE2EIT {
     var previousFirstName = foundConsultants.get(0).getEmbedded().getFirstname();
     for (var foundConsultant : foundConsultants) {
       var currentFirstname = foundConsultant.getEmbedded().getFirstname();
-      assertTrue(previousFirstName.compareTo(currentFirstname) <= 0);
+      assertTrue(previousFirstName.compareToIgnoreCase(currentFirstname) <= 0);
       previousFirstName = currentFirstname;
     }
   }
@@ -500,7 +500,7 @@ class UserControllerConsultantE2EIT {
     var previousLastName = foundConsultants.get(0).getEmbedded().getLastname();
     for (var foundConsultant : foundConsultants) {
       var currentLastname = foundConsultant.getEmbedded().getLastname();
-      assertTrue(previousLastName.compareTo(currentLastname) >= 0);
+      assertTrue(previousLastName.compareToIgnoreCase(currentLastname) >= 0);
       previousLastName = currentLastname;
     }
 
@@ -202,6 +202,10 @@ class UserControllerE2EIT {
   @Qualifier("restTemplate")
   private RestTemplate restTemplate;
 
+  @MockBean
+  @Qualifier("roomInformationRestTemplate")
+  private RestTemplate roomInformationRestTemplate;
+
   @MockBean
   @Qualifier("keycloakRestTemplate")
   private RestTemplate keycloakRestTemplate;
@@ -1881,7 +1885,7 @@ class UserControllerE2EIT {
   private void givenAValidRocketChatRoomsResponse() {
     var roomsGetDTO = new RoomsGetDTO();
     roomsGetDTO.setUpdate(new RoomsUpdateDTO[] {});
-    when(restTemplate.exchange(
+    when(roomInformationRestTemplate.exchange(
             Mockito.anyString(), eq(HttpMethod.GET),
             any(HttpEntity.class), eq(RoomsGetDTO.class)))
         .thenReturn(ResponseEntity.ok(roomsGetDTO));
@@ -1918,7 +1922,7 @@ class UserControllerE2EIT {
             any(HttpEntity.class), eq(SubscriptionsGetDTO.class)))
         .thenReturn(ResponseEntity.ok(subscriptionsGetDTO));
 
-    when(restTemplate.exchange(
+    when(roomInformationRestTemplate.exchange(
             Mockito.anyString(), eq(HttpMethod.GET),
             any(HttpEntity.class), eq(SubscriptionsGetDTO.class)))
         .thenReturn(ResponseEntity.ok(subscriptionsGetDTO));
@@ -198,6 +198,10 @@ class UserControllerSessionE2EIT {
   @Qualifier("restTemplate")
   private RestTemplate restTemplate;
 
+  @MockBean
+  @Qualifier("roomInformationRestTemplate")
+  private RestTemplate roomInformationRestTemplate;
+
   @MockBean
   @Qualifier("rocketChatRestTemplate")
   private RestTemplate rocketChatRestTemplate;
@@ -1078,7 +1082,7 @@ class UserControllerSessionE2EIT {
     subscriptionsGetResponse.setUpdate(s);
 
     var urlSuffix = "/api/v1/subscriptions.get";
-    when(restTemplate.exchange(
+    when(roomInformationRestTemplate.exchange(
             endsWith(urlSuffix), eq(HttpMethod.GET),
             any(HttpEntity.class), eq(SubscriptionsGetDTO.class)))
         .thenReturn(ResponseEntity.ok(subscriptionsGetResponse));
@@ -1192,7 +1196,7 @@ class UserControllerSessionE2EIT {
     updateUserResponse.setUpdate(roomsUpdateDTOs);
 
     final var urlSuffix = "/api/v1/rooms.get";
-    when(restTemplate.exchange(
+    when(roomInformationRestTemplate.exchange(
             endsWith(urlSuffix), eq(HttpMethod.GET), any(HttpEntity.class), eq(RoomsGetDTO.class)))
         .thenReturn(ResponseEntity.ok(updateUserResponse));
   }
@@ -1211,7 +1215,7 @@ class UserControllerSessionE2EIT {
     var response = new RoomsGetDTO();
     var roomsUpdate = new RoomsUpdateDTO[0];
     response.setUpdate(roomsUpdate);
-    when(restTemplate.exchange(
+    when(roomInformationRestTemplate.exchange(
             anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(RoomsGetDTO.class)))
         .thenReturn(ResponseEntity.ok(response));
   }
@@ -1237,7 +1241,7 @@ class UserControllerSessionE2EIT {
     var response = new SubscriptionsGetDTO();
     var subscriptionsUpdate = new SubscriptionsUpdateDTO[0];
     response.setUpdate(subscriptionsUpdate);
-    when(restTemplate.exchange(
+    when(roomInformationRestTemplate.exchange(
             anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(SubscriptionsGetDTO.class)))
         .thenReturn(ResponseEntity.ok(response));
   }
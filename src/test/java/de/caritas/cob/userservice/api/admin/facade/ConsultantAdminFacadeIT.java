@@ -5,6 +5,7 @@ import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.core.Is.is;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.when;
 
@@ -17,7 +18,7 @@ import de.caritas.cob.userservice.api.adapters.web.dto.CreateConsultantAgencyDTO
 import de.caritas.cob.userservice.api.adapters.web.dto.Sort;
 import de.caritas.cob.userservice.api.adapters.web.dto.Sort.FieldEnum;
 import de.caritas.cob.userservice.api.adapters.web.dto.Sort.OrderEnum;
-import de.caritas.cob.userservice.api.admin.service.agency.AgencyAdminService;
+import de.caritas.cob.userservice.api.admin.service.agency.AgencyCatalogue;
 import de.caritas.cob.userservice.api.config.apiclient.AgencyServiceApiControllerFactory;
 import de.caritas.cob.userservice.api.manager.consultingtype.ConsultingTypeManager;
 import de.caritas.cob.userservice.api.model.Consultant;
@@ -29,6 +30,7 @@ import de.caritas.cob.userservice.api.testConfig.TestAgencyControllerApi;
 import de.caritas.cob.userservice.consultingtypeservice.generated.web.model.ExtendedConsultingTypeResponseDTO;
 import de.caritas.cob.userservice.consultingtypeservice.generated.web.model.RolesDTO;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -57,7 +59,7 @@ class ConsultantAdminFacadeIT {
 
   @Autowired private ConsultantAgencyRepository consultantAgencyRepository;
 
-  @MockBean private AgencyAdminService agencyAdminService;
+  @MockBean private AgencyCatalogue agencyCatalogue;
 
   @MockBean private ConsultingTypeManager consultingTypeManager;
 
@@ -137,7 +139,7 @@ class ConsultantAdminFacadeIT {
                         .id(consultantAgency.getAgencyId())
                         .deleteDate(String.valueOf(consultantAgency.getDeleteDate())))
             .collect(Collectors.toList());
-    when(agencyAdminService.retrieveAllAgencies()).thenReturn(mockedAgencies);
+    givenAgencyCatalogueContaining(mockedAgencies);
   }
 
   private EasyRandomParameters baseConsultantParameters() {
@@ -243,7 +245,7 @@ class ConsultantAdminFacadeIT {
     AgencyAdminResponseDTO agency2 = new AgencyAdminResponseDTO();
     agency2.setId(121L);
     result.add(agency2);
-    when(this.agencyAdminService.retrieveAllAgencies()).thenReturn(result);
+    givenAgencyCatalogueContaining(result);
 
     List<CreateConsultantAgencyDTO> newList = new ArrayList<CreateConsultantAgencyDTO>();
     CreateConsultantAgencyDTO consultantAgency1 = new CreateConsultantAgencyDTO();
@@ -272,7 +274,7 @@ class ConsultantAdminFacadeIT {
     AgencyAdminResponseDTO agency2 = new AgencyAdminResponseDTO();
     agency2.setId(121L);
     result.add(agency2);
-    when(this.agencyAdminService.retrieveAllAgencies()).thenReturn(result);
+    givenAgencyCatalogueContaining(result);
 
     List<CreateConsultantAgencyDTO> newList = new ArrayList<CreateConsultantAgencyDTO>();
     CreateConsultantAgencyDTO consultantAgency1 = new CreateConsultantAgencyDTO();
@@ -290,4 +292,15 @@ class ConsultantAdminFacadeIT {
     consultantAdminFacade.filterAgencyListForCreation(consultantId, newList);
     assertThat(newList.size(), is(1));
   }
+
+  private void givenAgencyCatalogueContaining(List<AgencyAdminResponseDTO> agencies) {
+    when(agencyCatalogue.findAgencies(anyCollection()))
+        .thenAnswer(
+            invocation -> {
+              Collection<Long> agencyIds = invocation.getArgument(0);
+              return agencies.stream()
+                  .filter(agency -> agencyIds.contains(agency.getId()))
+                  .collect(Collectors.toList());
+            });
+  }
 }
@@ -2,12 +2,13 @@ package de.caritas.cob.userservice.api.admin.report.rule;
 
 import static de.caritas.cob.userservice.api.adapters.web.dto.ViolationDTO.ViolationTypeEnum.CONSULTANT;
 import static java.util.Collections.emptyList;
-import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService;
@@ -17,28 +18,35 @@ import de.caritas.cob.userservice.api.adapters.web.dto.ViolationDTO;
 import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
 import de.caritas.cob.userservice.api.model.Consultant;
 import de.caritas.cob.userservice.api.model.Session;
-import de.caritas.cob.userservice.api.port.out.ConsultantRepository;
+import de.caritas.cob.userservice.api.model.Session.SessionStatus;
 import de.caritas.cob.userservice.api.port.out.SessionRepository;
 import de.caritas.cob.userservice.api.service.LogService;
 import java.util.List;
 import org.jeasy.random.EasyRandom;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class MissingRocketChatRoomForConsultantViolationReportRuleTest {
 
-  @InjectMocks private MissingRocketChatRoomForConsultantViolationReportRule reportRule;
-
-  @Mock private ConsultantRepository consultantRepository;
+  private MissingRocketChatRoomForConsultantViolationReportRule reportRule;
 
   @Mock private SessionRepository sessionRepository;
 
   @Mock private RocketChatService rocketChatService;
 
+  @BeforeEach
+  void setup() {
+    this.reportRule =
+        new MissingRocketChatRoomForConsultantViolationReportRule(
+            sessionRepository, rocketChatService, Runnable::run);
+    ReflectionTestUtils.setField(reportRule, "chunkSize", 2);
+  }
+
   @Test
   void generateViolations_Should_returnEmptyList_When_noViolationExists() {
     List<ViolationDTO> violations = this.reportRule.generateViolations();
@@ -48,15 +56,12 @@ class MissingRocketChatRoomForConsultantViolationReportRuleTest {
 
   @Test
   void generateViolations_Should_returnExpectedViolation_When_oneViolatedSessionExists() {
-    Consultant violatedConsultant = new EasyRandom().nextObject(Consultant.class);
-    violatedConsultant.setSessions(null);
     Session violatedSession = new EasyRandom().nextObject(Session.class);
     UserInfoResponseDTO userInfoResponseDTO =
         new EasyRandom().nextObject(UserInfoResponseDTO.class);
     userInfoResponseDTO.getUser().setRooms(emptyList());
 
-    when(this.consultantRepository.findAll()).thenReturn(singletonList(violatedConsultant));
-    when(this.sessionRepository.findByConsultantAndStatus(any(), any()))
+    when(this.sessionRepository.findByStatus(SessionStatus.IN_PROGRESS))
         .thenReturn(singletonList(violatedSession));
     when(this.rocketChatService.getUserInfo(any())).thenReturn(userInfoResponseDTO);
 
@@ -74,15 +79,12 @@ class MissingRocketChatRoomForConsultantViolationReportRuleTest {
   @Test
   void
       generateViolations_Should_returnViolationMessageOfRoom_When_oneViolatedStandardSessionExists() {
-    Consultant violatedConsultant = new EasyRandom().nextObject(Consultant.class);
     Session violatedSession = new EasyRandom().nextObject(Session.class);
-    violatedConsultant.setSessions(singleton(violatedSession));
     UserInfoResponseDTO userInfoResponseDTO =
         new EasyRandom().nextObject(UserInfoResponseDTO.class);
     userInfoResponseDTO.getUser().setRooms(singletonList(new UserRoomDTO("A")));
 
-    when(this.consultantRepository.findAll()).thenReturn(singletonList(violatedConsultant));
-    when(this.sessionRepository.findByConsultantAndStatus(any(), any()))
+    when(this.sessionRepository.findByStatus(SessionStatus.IN_PROGRESS))
         .thenReturn(singletonList(violatedSession));
     when(this.rocketChatService.getUserInfo(any())).thenReturn(userInfoResponseDTO);
 
@@ -99,15 +101,12 @@ class MissingRocketChatRoomForConsultantViolationReportRuleTest {
 
   @Test
   void generateViolations_Should_returnNoViolation_When_allRoomsExist() {
-    Consultant violatedConsultant = new EasyRandom().nextObject(Consultant.class);
     Session violatedSession = new EasyRandom().nextObject(Session.class);
-    violatedConsultant.setSessions(singleton(violatedSession));
     UserInfoResponseDTO userInfoResponseDTO =
         new EasyRandom().nextObject(UserInfoResponseDTO.class);
     userInfoResponseDTO.getUser().setRooms(List.of(new UserRoomDTO(violatedSession.getGroupId())));
 
-    when(this.consultantRepository.findAll()).thenReturn(singletonList(violatedConsultant));
-    when(this.sessionRepository.findByConsultantAndStatus(any(), any()))
+    when(this.sessionRepository.findByStatus(SessionStatus.IN_PROGRESS))
         .thenReturn(singletonList(violatedSession));
     when(this.rocketChatService.getUserInfo(any())).thenReturn(userInfoResponseDTO);
 
@@ -118,15 +117,12 @@ class MissingRocketChatRoomForConsultantViolationReportRuleTest {
 
   @Test
   void generateViolations_Should_returnViolation_When_userDoesNotExistInRocketChat() {
-    Consultant violatedConsultant = new EasyRandom().nextObject(Consultant.class);
     Session violatedSession = new EasyRandom().nextObject(Session.class);
-    violatedConsultant.setSessions(singleton(violatedSession));
     UserInfoResponseDTO userInfoResponseDTO =
         new EasyRandom().nextObject(UserInfoResponseDTO.class);
     userInfoResponseDTO.getUser().setRooms(List.of(new UserRoomDTO(violatedSession.getGroupId())));
 
-    when(this.consultantRepository.findAll()).thenReturn(singletonList(violatedConsultant));
-    when(this.sessionRepository.findByConsultantAndStatus(any(), any()))
+    when(this.sessionRepository.findByStatus(SessionStatus.IN_PROGRESS))
         .thenReturn(singletonList(violatedSession));
     when(this.rocketChatService.getUserInfo(any()))
         .thenThrow(
@@ -140,4 +136,27 @@ class MissingRocketChatRoomForConsultantViolationReportRuleTest {
     assertThat(violations, hasSize(1));
     assertThat(violations.get(0).getReason(), is("caused message"));
   }
+
+  @Test
+  void generateViolations_Should_loadRoomsOncePerConsultant_When_consultantHasSeveralSessions() {
+    var easyRandom = new EasyRandom();
+    Consultant consultant = easyRandom.nextObject(Consultant.class);
+    Session firstSession = easyRandom.nextObject(Session.class);
+    firstSession.setConsultant(consultant);
+    Session secondSession = easyRandom.nextObject(Session.class);
+    secondSession.setConsultant(consultant);
+    Session otherConsultantSession = easyRandom.nextObject(Session.class);
+    UserInfoResponseDTO userInfoResponseDTO = easyRandom.nextObject(UserInfoResponseDTO.class);
+    userInfoResponseDTO.getUser().setRooms(List.of(new UserRoomDTO(firstSession.getGroupId())));
+
+    when(this.sessionRepository.findByStatus(SessionStatus.IN_PROGRESS))
+        .thenReturn(List.of(firstSession, secondSession, otherConsultantSession));
+    when(this.rocketChatService.getUserInfo(any())).thenReturn(userInfoResponseDTO);
+
+    List<ViolationDTO> violations = this.reportRule.generateViolations();
+
+    assertThat(violations, hasSize(2));
+    verify(this.rocketChatService, times(1)).getUserInfo(consultant.getRocketChatId());
+    verify(this.rocketChatService, times(2)).getUserInfo(any());
+  }
 }
@@ -0,0 +1,63 @@
+package de.caritas.cob.userservice.api.admin.report.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.api.admin.report.service.ViolationReportJobService;
+import de.caritas.cob.userservice.api.service.schedulerlock.SchedulerLockService;
+import de.caritas.cob.userservice.api.tenant.TenantContextProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ViolationReportJobCleanupSchedulerTest {
+
+  @InjectMocks private ViolationReportJobCleanupScheduler violationReportJobCleanupScheduler;
+
+  @Mock private ViolationReportJobService violationReportJobService;
+
+  @Mock private SchedulerLockService schedulerLockService;
+
+  @Mock private TenantContextProvider tenantContextProvider;
+
+  @Test
+  void cleanUpViolationReportJobs_Should_cleanUpJobsAndReleaseLock_When_lockIsFree() {
+    when(schedulerLockService.tryLock(any(), any())).thenReturn(true);
+
+    violationReportJobCleanupScheduler.cleanUpViolationReportJobs();
+
+    verify(tenantContextProvider).setTechnicalContextIfMultiTenancyIsEnabled();
+    verify(violationReportJobService).cleanUpJobs();
+    verify(schedulerLockService).unlock(any());
+  }
+
+  @Test
+  void cleanUpViolationReportJobs_Should_releaseLock_When_cleanUpFails() {
+    when(schedulerLockService.tryLock(any(), any())).thenReturn(true);
+    doThrow(new IllegalStateException()).when(violationReportJobService).cleanUpJobs();
+
+    assertThrows(
+        IllegalStateException.class,
+        () -> violationReportJobCleanupScheduler.cleanUpViolationReportJobs());
+
+    verify(schedulerLockService).unlock(any());
+  }
+
+  @Test
+  void cleanUpViolationReportJobs_Should_notCleanUp_When_lockIsHeldByAnotherInstance() {
+    when(schedulerLockService.tryLock(any(), any())).thenReturn(false);
+
+    violationReportJobCleanupScheduler.cleanUpViolationReportJobs();
+
+    verifyNoInteractions(violationReportJobService);
+    verify(schedulerLockService, never()).unlock(any());
+  }
+}
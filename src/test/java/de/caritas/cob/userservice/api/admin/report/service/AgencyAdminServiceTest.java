@@ -1,14 +1,32 @@
 package de.caritas.cob.userservice.api.admin.report.service;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import de.caritas.cob.userservice.agencyadminserivce.generated.ApiClient;
 import de.caritas.cob.userservice.agencyadminserivce.generated.web.AdminAgencyControllerApi;
+import de.caritas.cob.userservice.agencyadminserivce.generated.web.model.AgencyAdminFullResponseDTO;
+import de.caritas.cob.userservice.agencyadminserivce.generated.web.model.AgencyAdminResponseDTO;
+import de.caritas.cob.userservice.agencyadminserivce.generated.web.model.AgencyAdminSearchResultDTO;
+import de.caritas.cob.userservice.api.adapters.keycloak.dto.KeycloakLoginResponseDTO;
 import de.caritas.cob.userservice.api.admin.service.agency.AgencyAdminService;
 import de.caritas.cob.userservice.api.config.apiclient.AgencyAdminServiceApiControllerFactory;
+import de.caritas.cob.userservice.api.config.apiclient.ApiClientHeaders;
+import de.caritas.cob.userservice.api.config.auth.TechnicalUserConfig;
+import de.caritas.cob.userservice.api.port.out.IdentityClient;
+import de.caritas.cob.userservice.api.port.out.IdentityClientConfig;
 import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
 import de.caritas.cob.userservice.api.service.httpheader.TenantHeaderSupplier;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -30,22 +48,100 @@ class AgencyAdminServiceTest {
 
   @Mock private AgencyAdminServiceApiControllerFactory agencyAdminServiceApiControllerFactory;
 
+  @Mock private IdentityClient identityClient;
+
+  @Mock private IdentityClientConfig identityClientConfig;
+
+  @Mock private AdminAgencyControllerApi adminAgencyControllerApi;
+
   @Test
   void agencyAdminControllerShouldHaveCorrectHeaders() {
+    ReflectionTestUtils.setField(agencyAdminService, "pageSize", 2);
     var headers = new HttpHeaders();
     headers.add("header1", "header1");
     when(securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders()).thenReturn(headers);
-    AdminAgencyControllerApi api = new AdminAgencyControllerApi();
-    api.setApiClient(new ApiClient());
-    when(agencyAdminServiceApiControllerFactory.createControllerApi()).thenReturn(api);
-
-    AdminAgencyControllerApi controllerApi =
-        this.agencyAdminServiceApiControllerFactory.createControllerApi();
-    ApiClient apiClient = controllerApi.getApiClient();
-    agencyAdminService.addDefaultHeaders(apiClient);
-
-    HttpHeaders defaultHeaders =
-        (HttpHeaders) ReflectionTestUtils.getField(apiClient, "defaultHeaders");
-    assertEquals("header1", defaultHeaders.get("header1").get(0));
+    when(agencyAdminServiceApiControllerFactory.createControllerApi())
+        .thenReturn(adminAgencyControllerApi);
+    var callHeaders = new AtomicReference<HttpHeaders>();
+    when(adminAgencyControllerApi.searchAgencies(1, 2, null, null))
+        .thenAnswer(
+            invocation -> {
+              callHeaders.set(ApiClientHeaders.getCurrentHeaders());
+              return searchResult(1, 1L);
+            });
+
+    agencyAdminService.retrieveAllAgencies();
+
+    assertEquals("header1", callHeaders.get().get("header1").get(0));
+    assertNull(ApiClientHeaders.getCurrentHeaders());
+  }
+
+  @Test
+  void retrieveAllAgencies_Should_loadAgenciesPageByPage_Until_lastPageIsReached() {
+    ReflectionTestUtils.setField(agencyAdminService, "pageSize", 2);
+    when(securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders()).thenReturn(new HttpHeaders());
+    when(agencyAdminServiceApiControllerFactory.createControllerApi())
+        .thenReturn(adminAgencyControllerApi);
+    when(adminAgencyControllerApi.searchAgencies(1, 2, null, null))
+        .thenReturn(searchResult(3, 1L, 2L));
+    when(adminAgencyControllerApi.searchAgencies(2, 2, null, null)).thenReturn(searchResult(3, 3L));
+
+    var agencies = agencyAdminService.retrieveAllAgencies();
+
+    assertThat(agencies, hasSize(3));
+    assertThat(agencies.get(2).getId(), is(3L));
+    verify(adminAgencyControllerApi, times(2)).searchAgencies(anyInt(), anyInt(), any(), any());
+  }
+
+  @Test
+  void retrieveAllAgencies_Should_stopLoading_When_totalAmountIsReached() {
+    ReflectionTestUtils.setField(agencyAdminService, "pageSize", 2);
+    when(securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders()).thenReturn(new HttpHeaders());
+    when(agencyAdminServiceApiControllerFactory.createControllerApi())
+        .thenReturn(adminAgencyControllerApi);
+    when(adminAgencyControllerApi.searchAgencies(1, 2, null, null))
+        .thenReturn(searchResult(2, 1L, 2L));
+
+    var agencies = agencyAdminService.retrieveAllAgencies();
+
+    assertThat(agencies, hasSize(2));
+    verify(adminAgencyControllerApi, times(1)).searchAgencies(anyInt(), anyInt(), any(), any());
+  }
+
+  @Test
+  void retrieveAllAgenciesAsTechnicalUser_Should_addHeadersOfTechnicalUser() {
+    ReflectionTestUtils.setField(agencyAdminService, "pageSize", 2);
+    var technicalUser = new TechnicalUserConfig();
+    technicalUser.setUsername("technical");
+    technicalUser.setPassword("password");
+    when(identityClientConfig.getTechnicalUser()).thenReturn(technicalUser);
+    var keycloakLogin = new KeycloakLoginResponseDTO();
+    keycloakLogin.setAccessToken("token");
+    when(identityClient.loginUser("technical", "password")).thenReturn(keycloakLogin);
+    var headers = new HttpHeaders();
+    headers.add("Authorization", "Bearer token");
+    when(securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders("token")).thenReturn(headers);
+    when(agencyAdminServiceApiControllerFactory.createControllerApi())
+        .thenReturn(adminAgencyControllerApi);
+    var callHeaders = new AtomicReference<HttpHeaders>();
+    when(adminAgencyControllerApi.searchAgencies(1, 2, null, null))
+        .thenAnswer(
+            invocation -> {
+              callHeaders.set(ApiClientHeaders.getCurrentHeaders());
+              return searchResult(1, 1L);
+            });
+
+    agencyAdminService.retrieveAllAgenciesAsTechnicalUser();
+
+    assertEquals("Bearer token", callHeaders.get().get("Authorization").get(0));
+  }
+
+  private AgencyAdminSearchResultDTO searchResult(int total, Long... agencyIds) {
+    var agencies =
+        Arrays.stream(agencyIds)
+            .map(id -> new AgencyAdminResponseDTO().id(id))
+            .map(agency -> new AgencyAdminFullResponseDTO().embedded(agency))
+            .collect(Collectors.toList());
+    return new AgencyAdminSearchResultDTO().embedded(agencies).total(total);
   }
 }
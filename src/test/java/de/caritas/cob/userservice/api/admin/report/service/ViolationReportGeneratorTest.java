@@ -2,16 +2,21 @@ package de.caritas.cob.userservice.api.admin.report.service;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 import de.caritas.cob.userservice.api.adapters.web.dto.ViolationDTO;
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportJob;
 import de.caritas.cob.userservice.api.admin.report.registry.ViolationRuleRegistry;
-import de.caritas.cob.userservice.api.admin.service.agency.AgencyAdminService;
+import de.caritas.cob.userservice.api.admin.service.agency.AgencyCatalogue;
+import io.swagger.util.Json;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.List;
 import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.AfterEach;
@@ -28,7 +33,7 @@ public class ViolationReportGeneratorTest {
 
   @Mock private ViolationRuleRegistry violationRuleRegistry;
 
-  @Mock private AgencyAdminService agencyAdminService;
+  @Mock private AgencyCatalogue agencyCatalogue;
 
   @AfterEach
   public void cleanGeneratedFiles() throws IOException {
@@ -57,6 +62,25 @@ public class ViolationReportGeneratorTest {
     violations.forEach(violationDTO -> assertThat(violationDTO.getIdentifier(), notNullValue()));
   }
 
+  @Test
+  public void writeReport_Should_writeViolationsToJobFileAndTrackProgress() throws IOException {
+    when(this.violationRuleRegistry.getViolationReportRules(any()))
+        .thenReturn(
+            asList(
+                () -> asList(identifiedViolation("first"), identifiedViolation("second")),
+                () -> asList(identifiedViolation("third"))));
+    var job = new ViolationReportJob("jobId", Paths.get("report", "violation_report_jobId.json"));
+
+    this.violationReportGenerator.writeReport(job);
+
+    var writtenViolations =
+        Json.mapper().readValue(job.getReportFile().toFile(), ViolationDTO[].class);
+    assertThat(writtenViolations, arrayWithSize(3));
+    assertThat(job.getTotalRules(), is(2));
+    assertThat(job.getProcessedRules(), is(2));
+    assertThat(job.getViolations(), is(3L));
+  }
+
   private ViolationDTO identifiedViolation(String identifier) {
     return new ViolationDTO().identifier(identifier);
   }
@@ -0,0 +1,240 @@
+package de.caritas.cob.userservice.api.admin.report.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.api.adapters.web.dto.ViolationReportJobDTO.StatusEnum;
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportJob;
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportJob.Status;
+import de.caritas.cob.userservice.api.exception.httpresponses.ConflictException;
+import de.caritas.cob.userservice.api.exception.httpresponses.NotFoundException;
+import de.caritas.cob.userservice.api.port.out.ViolationReportJobRepository;
+import de.caritas.cob.userservice.api.service.schedulerlock.SchedulerLockService;
+import de.caritas.cob.userservice.api.tenant.TenantContext;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ViolationReportJobServiceTest {
+
+  @Mock private ViolationReportGenerator violationReportGenerator;
+
+  @Mock private ViolationReportJobRepository violationReportJobRepository;
+
+  @Mock private SchedulerLockService schedulerLockService;
+
+  @TempDir Path reportDirectory;
+
+  private final List<Runnable> submittedTasks = new ArrayList<>();
+
+  private final Map<String, ViolationReportJob> storedJobs = new LinkedHashMap<>();
+
+  private ViolationReportJobService violationReportJobService;
+
+  @BeforeEach
+  void setup() {
+    this.violationReportJobService =
+        new ViolationReportJobService(
+            violationReportGenerator,
+            violationReportJobRepository,
+            schedulerLockService,
+            submittedTasks::add);
+    ReflectionTestUtils.setField(violationReportJobService, "retentionHours", 24L);
+    ReflectionTestUtils.setField(violationReportJobService, "staleMinutes", 60L);
+    ReflectionTestUtils.setField(
+        violationReportJobService, "reportDirectory", reportDirectory.toString());
+    when(schedulerLockService.tryLock(any(), any())).thenReturn(true);
+    givenRepositoryStoresJobs();
+  }
+
+  private void givenRepositoryStoresJobs() {
+    when(violationReportJobRepository.save(any()))
+        .then(
+            invocation -> {
+              ViolationReportJob job = invocation.getArgument(0);
+              storedJobs.put(job.getId(), job);
+              return job;
+            });
+    doAnswer(invocation -> storedJobs.remove(invocation.<ViolationReportJob>getArgument(0).getId()))
+        .when(violationReportJobRepository)
+        .delete(any());
+    when(violationReportJobRepository.findById(any()))
+        .then(invocation -> Optional.ofNullable(storedJobs.get(invocation.<String>getArgument(0))));
+    when(violationReportJobRepository.findFirstByStatus(any()))
+        .then(
+            invocation ->
+                storedJobs.values().stream()
+                    .filter(job -> job.getStatus() == invocation.getArgument(0))
+                    .findFirst());
+  }
+
+  @Test
+  void startJob_Should_returnRunningJob_When_reportIsNotGeneratedYet() {
+    var job = violationReportJobService.startJob();
+
+    assertThat(job.getStatus(), is(StatusEnum.RUNNING));
+    assertThat(submittedTasks.size(), is(1));
+  }
+
+  @Test
+  void startJob_Should_returnAlreadyRunningJob_When_jobIsRunning() {
+    var firstJob = violationReportJobService.startJob();
+
+    var secondJob = violationReportJobService.startJob();
+
+    assertThat(secondJob.getId(), is(firstJob.getId()));
+    assertThat(submittedTasks.size(), is(1));
+  }
+
+  @Test
+  void getJob_Should_returnFinishedJob_When_reportIsGenerated() {
+    var jobId = violationReportJobService.startJob().getId();
+
+    submittedTasks.forEach(Runnable::run);
+
+    assertThat(violationReportJobService.getJob(jobId).getStatus(), is(StatusEnum.FINISHED));
+    verify(violationReportGenerator, times(1)).writeReport(any());
+  }
+
+  @Test
+  void getJob_Should_returnFailedJob_When_reportGenerationFails() {
+    doThrow(new IllegalStateException("error")).when(violationReportGenerator).writeReport(any());
+    var jobId = violationReportJobService.startJob().getId();
+
+    submittedTasks.forEach(Runnable::run);
+
+    var job = violationReportJobService.getJob(jobId);
+    assertThat(job.getStatus(), is(StatusEnum.FAILED));
+    assertThat(job.getError(), is("error"));
+  }
+
+  @Test
+  void startJob_Should_generateReportInTenantContextOfCaller() {
+    var tenantIdOfReport = new AtomicReference<Long>();
+    doAnswer(invocation -> tenantIdOfReport.getAndSet(TenantContext.getCurrentTenant()))
+        .when(violationReportGenerator)
+        .writeReport(any());
+    TenantContext.setCurrentTenant(1L);
+    try {
+      violationReportJobService.startJob();
+    } finally {
+      TenantContext.clear();
+    }
+
+    submittedTasks.forEach(Runnable::run);
+
+    assertThat(tenantIdOfReport.get(), is(1L));
+    assertThat(TenantContext.getCurrentTenantData(), is(nullValue()));
+  }
+
+  @Test
+  void getJob_Should_throwNotFoundException_When_jobDoesNotExist() {
+    assertThrows(NotFoundException.class, () -> violationReportJobService.getJob("unknown"));
+  }
+
+  @Test
+  void getJobResult_Should_throwConflictException_When_jobIsStillRunning() {
+    var jobId = violationReportJobService.startJob().getId();
+
+    assertThrows(ConflictException.class, () -> violationReportJobService.getJobResult(jobId));
+  }
+
+  @Test
+  void getJobResult_Should_returnReportFileOfSharedDirectory_When_jobIsFinished()
+      throws IOException {
+    doAnswer(
+            invocation -> {
+              ViolationReportJob job = invocation.getArgument(0);
+              Files.writeString(job.getReportFile(), "[]");
+              return null;
+            })
+        .when(violationReportGenerator)
+        .writeReport(any());
+    var jobId = violationReportJobService.startJob().getId();
+    submittedTasks.forEach(Runnable::run);
+
+    var result = violationReportJobService.getJobResult(jobId);
+
+    assertThat(result.getFile().toPath().getParent(), is(reportDirectory));
+  }
+
+  @Test
+  void getJobResult_Should_throwNotFoundException_When_reportFileIsMissing() {
+    var jobId = violationReportJobService.startJob().getId();
+    submittedTasks.forEach(Runnable::run);
+
+    assertThrows(NotFoundException.class, () -> violationReportJobService.getJobResult(jobId));
+  }
+
+  @Test
+  void startJob_Should_throwConflictException_When_anotherInstanceStartsJob() {
+    when(schedulerLockService.tryLock(any(), any())).thenReturn(false);
+
+    assertThrows(ConflictException.class, () -> violationReportJobService.startJob());
+    assertThat(submittedTasks.size(), is(0));
+  }
+
+  @Test
+  void startJob_Should_storeProgressOfRunningJob() {
+    doAnswer(
+            invocation -> {
+              ViolationReportJob job = invocation.getArgument(0);
+              job.start(2);
+              job.ruleProcessed();
+              return null;
+            })
+        .when(violationReportGenerator)
+        .writeReport(any());
+    violationReportJobService.startJob();
+
+    submittedTasks.forEach(Runnable::run);
+
+    verify(violationReportJobRepository, times(4)).save(any());
+  }
+
+  @Test
+  void cleanUpJobs_Should_failStaleJobsAndRemoveExpiredJobsWithReportFile() throws IOException {
+    var staleJob = new ViolationReportJob("stale", reportDirectory.resolve("stale.json"));
+    var expiredJob = new ViolationReportJob("expired", reportDirectory.resolve("expired.json"));
+    expiredJob.finish();
+    Files.writeString(expiredJob.getReportFile(), "[]");
+    when(violationReportJobRepository.findByStatusAndUpdateDateBefore(eq(Status.RUNNING), any()))
+        .thenReturn(List.of(staleJob));
+    when(violationReportJobRepository.findByStatusNotAndFinishDateBefore(eq(Status.RUNNING), any()))
+        .thenReturn(List.of(expiredJob));
+    storedJobs.put(expiredJob.getId(), expiredJob);
+
+    violationReportJobService.cleanUpJobs();
+
+    assertThat(staleJob.getStatus(), is(Status.FAILED));
+    assertThat(storedJobs.get(staleJob.getId()), is(staleJob));
+    assertThat(storedJobs.containsKey(expiredJob.getId()), is(false));
+    assertThat(Files.exists(expiredJob.getReportFile()), is(false));
+  }
+}
@@ -0,0 +1,162 @@
+package de.caritas.cob.userservice.api.admin.service.agency;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.agencyadminserivce.generated.web.model.AgencyAdminResponseDTO;
+import de.caritas.cob.userservice.api.tenant.TenantContext;
+import de.caritas.cob.userservice.api.tenant.TenantContextProvider;
+import de.caritas.cob.userservice.api.tenant.TenantData;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class AgencyCatalogueTest {
+
+  @InjectMocks private AgencyCatalogue agencyCatalogue;
+
+  @Mock private AgencyAdminService agencyAdminService;
+
+  @Mock private TenantContextProvider tenantContextProvider;
+
+  @AfterEach
+  void tearDown() {
+    TenantContext.clear();
+  }
+
+  @Test
+  void findAgencies_Should_loadAllAgenciesOnlyOnce_When_catalogueIsAccessedRepeatedly() {
+    when(agencyAdminService.retrieveAllAgenciesAsTechnicalUser())
+        .thenReturn(List.of(agency(1L, 1), agency(2L, 1), agency(3L, 2)));
+
+    agencyCatalogue.findAgencies(List.of(1L));
+    var agencies = agencyCatalogue.findAgencies(List.of(3L, 1L, 3L));
+
+    assertThat(agencies, hasSize(2));
+    assertThat(agencies.get(0).getId(), is(3L));
+    assertThat(agencies.get(1).getId(), is(1L));
+    verify(agencyAdminService, times(1)).retrieveAllAgenciesAsTechnicalUser();
+  }
+
+  @Test
+  void findAgencies_Should_reloadCatalogue_When_unknownAgencyIsRequestedAfterReloadInterval() {
+    ReflectionTestUtils.setField(agencyCatalogue, "minReloadIntervalMillis", -1L);
+    when(agencyAdminService.retrieveAllAgenciesAsTechnicalUser())
+        .thenReturn(List.of(agency(1L, 1)))
+        .thenReturn(List.of(agency(1L, 1), agency(2L, 1)));
+
+    agencyCatalogue.findAgencies(List.of(1L));
+    var agencies = agencyCatalogue.findAgencies(List.of(2L));
+
+    assertThat(agencies, hasSize(1));
+    assertThat(agencies.get(0).getId(), is(2L));
+    verify(agencyAdminService, times(2)).retrieveAllAgenciesAsTechnicalUser();
+  }
+
+  @Test
+  void findAgencies_Should_skipUnknownAgency_When_reloadIntervalHasNotPassed() {
+    ReflectionTestUtils.setField(agencyCatalogue, "minReloadIntervalMillis", 60000L);
+    when(agencyAdminService.retrieveAllAgenciesAsTechnicalUser())
+        .thenReturn(List.of(agency(1L, 1)));
+
+    var agencies = agencyCatalogue.findAgencies(List.of(1L, 2L));
+
+    assertThat(agencies, hasSize(1));
+    verify(agencyAdminService, times(1)).retrieveAllAgenciesAsTechnicalUser();
+  }
+
+  @Test
+  void findAgenciesByConsultingType_Should_returnAgenciesOfConsultingType() {
+    when(agencyAdminService.retrieveAllAgenciesAsTechnicalUser())
+        .thenReturn(List.of(agency(1L, 1), agency(2L, 2), agency(3L, 1)));
+
+    var agencies = agencyCatalogue.findAgenciesByConsultingType(1);
+
+    assertThat(agencies, contains(agency(1L, 1), agency(3L, 1)));
+  }
+
+  @Test
+  void refresh_Should_keepCurrentSnapshot_When_agencyServiceFails() {
+    when(agencyAdminService.retrieveAllAgenciesAsTechnicalUser())
+        .thenReturn(List.of(agency(1L, 1)))
+        .thenThrow(new IllegalStateException("agency service not available"));
+
+    agencyCatalogue.getAllAgencies();
+    agencyCatalogue.refresh();
+
+    assertThat(agencyCatalogue.getAllAgencies(), hasSize(1));
+  }
+
+  @Test
+  void refresh_Should_restoreTenantContextOfCaller() {
+    when(agencyAdminService.retrieveAllAgenciesAsTechnicalUser()).thenReturn(List.of());
+    agencyCatalogue.getAllAgencies();
+    var tenantData = new TenantData(1L, "tenant");
+    TenantContext.setCurrentTenantData(tenantData);
+
+    agencyCatalogue.refresh();
+
+    verify(tenantContextProvider, times(2)).setTechnicalContextIfMultiTenancyIsEnabled();
+    assertThat(TenantContext.getCurrentTenantData(), is(tenantData));
+  }
+
+  @Test
+  void getAllAgencies_Should_loadAgenciesOfTenantOfCaller_When_callerBelongsToTenant() {
+    var tenantIdsOfLoads = new ArrayList<Long>();
+    when(agencyAdminService.retrieveAllAgenciesAsTechnicalUser())
+        .then(
+            invocation -> {
+              tenantIdsOfLoads.add(TenantContext.getCurrentTenant());
+              return TenantContext.getCurrentTenant() == 1L
+                  ? List.of(agency(1L, 1))
+                  : List.of(agency(2L, 1));
+            });
+
+    TenantContext.setCurrentTenant(1L);
+    var agenciesOfFirstTenant = agencyCatalogue.getAllAgencies();
+    TenantContext.setCurrentTenant(2L);
+    var agenciesOfSecondTenant = agencyCatalogue.getAllAgencies();
+    agencyCatalogue.getAllAgencies();
+
+    assertThat(agenciesOfFirstTenant, contains(agency(1L, 1)));
+    assertThat(agenciesOfSecondTenant, contains(agency(2L, 1)));
+    assertThat(tenantIdsOfLoads, contains(1L, 2L));
+    assertThat(TenantContext.getCurrentTenant(), is(2L));
+  }
+
+  @Test
+  void refresh_Should_reloadSnapshotOfEachLoadedTenantInItsTenantContext() {
+    var tenantIdsOfLoads = new ArrayList<Long>();
+    when(agencyAdminService.retrieveAllAgenciesAsTechnicalUser())
+        .then(
+            invocation -> {
+              tenantIdsOfLoads.add(TenantContext.getCurrentTenant());
+              return List.of();
+            });
+    TenantContext.setCurrentTenant(1L);
+    agencyCatalogue.getAllAgencies();
+    TenantContext.clear();
+
+    agencyCatalogue.refresh();
+
+    assertThat(tenantIdsOfLoads, contains(1L, 1L));
+    assertThat(TenantContext.getCurrentTenantData(), is(nullValue()));
+  }
+
+  private AgencyAdminResponseDTO agency(Long id, int consultingType) {
+    return new AgencyAdminResponseDTO().id(id).consultingType(consultingType);
+  }
+}
@@ -13,6 +13,7 @@ import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -26,6 +27,7 @@ import de.caritas.cob.userservice.api.model.ConsultantAgency;
 import de.caritas.cob.userservice.api.port.out.ConsultantAgencyRepository;
 import de.caritas.cob.userservice.api.port.out.ConsultantRepository;
 import de.caritas.cob.userservice.api.service.agency.AgencyService;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -51,7 +53,7 @@ public class ConsultantAgencyAdminUserServiceIT {
 
   @MockBean private AgencyService agencyService;
 
-  @MockBean private AgencyAdminService agencyAdminService;
+  @MockBean private AgencyCatalogue agencyCatalogue;
 
   @MockBean private RemoveConsultantFromRocketChatService removeConsultantFromRocketChatService;
 
@@ -62,8 +64,7 @@ public class ConsultantAgencyAdminUserServiceIT {
     agencyAdminResponseDTO.setId(0L);
     var anotherAgencyAdminResponseDTO = new EasyRandom().nextObject(AgencyAdminResponseDTO.class);
     anotherAgencyAdminResponseDTO.setId(1L);
-    when(this.agencyAdminService.retrieveAllAgencies())
-        .thenReturn(List.of(agencyAdminResponseDTO, anotherAgencyAdminResponseDTO));
+    givenAgencyCatalogueContaining(List.of(agencyAdminResponseDTO, anotherAgencyAdminResponseDTO));
 
     var consultantAgencies =
         consultantAgencyAdminService.findConsultantAgencies("5674839f-d0a3-47e2-8f9c-bb49fc2ddbbe");
@@ -80,8 +81,7 @@ public class ConsultantAgencyAdminUserServiceIT {
   public void findConsultantAgencies_Should_returnFullMappedSessionAdminDTO() {
     var agencyAdminResponseDTO = new EasyRandom().nextObject(AgencyAdminResponseDTO.class);
     agencyAdminResponseDTO.setId(0L);
-    when(this.agencyAdminService.retrieveAllAgencies())
-        .thenReturn(singletonList(agencyAdminResponseDTO));
+    givenAgencyCatalogueContaining(singletonList(agencyAdminResponseDTO));
 
     var consultantAgencies =
         consultantAgencyAdminService.findConsultantAgencies("5674839f-d0a3-47e2-8f9c-bb49fc2ddbbe");
@@ -225,11 +225,22 @@ public class ConsultantAgencyAdminUserServiceIT {
             .getEmbedded();
     var agencyOfConsultant = new EasyRandom().nextObject(AgencyAdminResponseDTO.class);
     agencyOfConsultant.setId(1731L);
-    when(agencyAdminService.retrieveAllAgencies()).thenReturn(List.of(agencyOfConsultant));
+    givenAgencyCatalogueContaining(List.of(agencyOfConsultant));
 
     this.consultantAgencyAdminService.appendAgenciesForConsultants(Set.of(consultantDTO));
 
     assertThat(consultantDTO.getAgencies(), hasSize(1));
     assertThat(consultantDTO.getAgencies().get(0).getName(), is(agencyOfConsultant.getName()));
   }
+
+  private void givenAgencyCatalogueContaining(List<AgencyAdminResponseDTO> agencies) {
+    when(agencyCatalogue.findAgencies(anyCollection()))
+        .thenAnswer(
+            invocation -> {
+              Collection<Long> agencyIds = invocation.getArgument(0);
+              return agencies.stream()
+                  .filter(agency -> agencyIds.contains(agency.getId()))
+                  .collect(Collectors.toList());
+            });
+  }
 }
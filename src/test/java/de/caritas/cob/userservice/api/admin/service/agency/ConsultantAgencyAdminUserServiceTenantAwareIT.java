@@ -11,6 +11,7 @@ import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -29,8 +30,10 @@ import de.caritas.cob.userservice.api.port.out.ConsultantAgencyRepository;
 import de.caritas.cob.userservice.api.port.out.ConsultantRepository;
 import de.caritas.cob.userservice.api.service.agency.AgencyService;
 import de.caritas.cob.userservice.api.tenant.TenantContext;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 import org.jeasy.random.EasyRandom;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -63,7 +66,7 @@ public class ConsultantAgencyAdminUserServiceTenantAwareIT {
 
   @MockBean private AgencyService agencyService;
 
-  @MockBean private AgencyAdminService agencyAdminService;
+  @MockBean private AgencyCatalogue agencyCatalogue;
 
   @MockBean private RemoveConsultantFromRocketChatService removeConsultantFromRocketChatService;
 
@@ -90,8 +93,7 @@ public class ConsultantAgencyAdminUserServiceTenantAwareIT {
     agencyAdminResponseDTO.setId(0L);
     var anotherAgencyAdminResponseDTO = new EasyRandom().nextObject(AgencyAdminResponseDTO.class);
     anotherAgencyAdminResponseDTO.setId(1L);
-    when(this.agencyAdminService.retrieveAllAgencies())
-        .thenReturn(List.of(agencyAdminResponseDTO, anotherAgencyAdminResponseDTO));
+    givenAgencyCatalogueContaining(List.of(agencyAdminResponseDTO, anotherAgencyAdminResponseDTO));
 
     var consultantAgencies = consultantAgencyAdminService.findConsultantAgencies(CONSULTANT1_ID);
 
@@ -108,8 +110,7 @@ public class ConsultantAgencyAdminUserServiceTenantAwareIT {
     givenAValidConsultantPersisted(CONSULTANT2_ID);
     var agencyAdminResponseDTO = new EasyRandom().nextObject(AgencyAdminResponseDTO.class);
     agencyAdminResponseDTO.setId(1L);
-    when(this.agencyAdminService.retrieveAllAgencies())
-        .thenReturn(singletonList(agencyAdminResponseDTO));
+    givenAgencyCatalogueContaining(singletonList(agencyAdminResponseDTO));
 
     var consultantAgencies =
         consultantAgencyAdminService.findConsultantAgencies("0b3b1cc6-be98-4787-aa56-212259d811b7");
@@ -268,4 +269,15 @@ public class ConsultantAgencyAdminUserServiceTenantAwareIT {
 
     return consultant;
   }
+
+  private void givenAgencyCatalogueContaining(List<AgencyAdminResponseDTO> agencies) {
+    when(agencyCatalogue.findAgencies(anyCollection()))
+        .thenAnswer(
+            invocation -> {
+              Collection<Long> agencyIds = invocation.getArgument(0);
+              return agencies.stream()
+                  .filter(agency -> agencyIds.contains(agency.getId()))
+                  .collect(Collectors.toList());
+            });
+  }
 }
@@ -48,7 +48,7 @@ public class ConsultantAgencyAdminUserServiceTest {
 
   @Mock private AgencyService agencyService;
 
-  @Mock private AgencyAdminService agencyAdminService;
+  @Mock private AgencyCatalogue agencyCatalogue;
 
   @Mock private ConsultantAgencyDeletionValidationService agencyDeletionValidationService;
 
@@ -0,0 +1,210 @@
+package de.caritas.cob.userservice.api.admin.service.consultant;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.core.LowerCaseFilterFactory;
+import org.apache.lucene.analysis.custom.CustomAnalyzer;
+import org.apache.lucene.analysis.ngram.NGramTokenizerFactory;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field.Store;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.store.RAMDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.QueryBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of one page of the consultant infix search at 10k and 100k consultants. Compares the
+ * UPPER LIKE query of the database, which scans the whole table, with the trigram phrase query on
+ * the search index sorted by the normalized last name. The database is an in-memory H2, the index
+ * an in-memory Lucene index with the analyzers of the consultant mapping. Run it with the main
+ * method from the test classpath, it is not part of the test suite.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConsultantInfixSearchBenchmark {
+
+  private static final int PAGE_SIZE = 20;
+  private static final String[] INFIX_FIELDS = {"firstNameInfix", "lastNameInfix", "emailInfix"};
+  private static final String LIKE_QUERY =
+      "SELECT consultant_id FROM consultant "
+          + "WHERE UPPER(first_name) LIKE CONCAT('%', UPPER(?), '%') "
+          + "OR UPPER(last_name) LIKE CONCAT('%', UPPER(?), '%') "
+          + "OR UPPER(email) LIKE CONCAT('%', UPPER(?), '%') "
+          + "ORDER BY last_name LIMIT ?";
+
+  @Param({"10000", "100000"})
+  private int consultants;
+
+  private String infix;
+  private Connection connection;
+  private PreparedStatement likeStatement;
+  private RAMDirectory directory;
+  private DirectoryReader reader;
+  private IndexSearcher searcher;
+  private Query trigramQuery;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(ConsultantInfixSearchBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+
+  @Setup(Level.Trial)
+  public void setup() throws SQLException, IOException {
+    var random = new Random(42);
+    var rows = new ArrayList<String[]>(consultants);
+    for (var i = 0; i < consultants; i++) {
+      var firstName = randomName(random, 8);
+      var lastName = randomName(random, 10);
+      var email = firstName.toLowerCase(Locale.ROOT) + "." + lastName + "@beratung.de";
+      rows.add(new String[] {"consultant-" + i, firstName, lastName, email});
+    }
+    infix = rows.get(consultants / 2)[2].substring(2, 7).toUpperCase(Locale.ROOT);
+
+    setupDatabase(rows);
+    setupIndex(rows);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException, IOException {
+    likeStatement.close();
+    connection.close();
+    reader.close();
+    directory.close();
+  }
+
+  @Benchmark
+  public List<String> likeQueryOnDatabase() throws SQLException {
+    likeStatement.setString(1, infix);
+    likeStatement.setString(2, infix);
+    likeStatement.setString(3, infix);
+    likeStatement.setInt(4, PAGE_SIZE);
+    var consultantIds = new ArrayList<String>();
+    try (var resultSet = likeStatement.executeQuery()) {
+      while (resultSet.next()) {
+        consultantIds.add(resultSet.getString(1));
+      }
+    }
+    return consultantIds;
+  }
+
+  @Benchmark
+  public List<String> trigramQueryOnSearchIndex() throws IOException {
+    var topDocs =
+        searcher.search(
+            trigramQuery,
+            PAGE_SIZE,
+            new Sort(new SortField("lastNameSort", SortField.Type.STRING)));
+    var consultantIds = new ArrayList<String>();
+    for (var scoreDoc : topDocs.scoreDocs) {
+      consultantIds.add(searcher.doc(scoreDoc.doc).get("id"));
+    }
+    return consultantIds;
+  }
+
+  private void setupDatabase(List<String[]> rows) throws SQLException {
+    connection = DriverManager.getConnection("jdbc:h2:mem:infixbenchmark");
+    try (var statement = connection.createStatement()) {
+      statement.execute(
+          "CREATE TABLE consultant (consultant_id VARCHAR(36) PRIMARY KEY, "
+              + "first_name VARCHAR(255), last_name VARCHAR(255), email VARCHAR(255))");
+      statement.execute(
+          "CREATE INDEX idx_first_name_last_name_email ON consultant (first_name, last_name, email)");
+    }
+    try (var insert = connection.prepareStatement("INSERT INTO consultant VALUES (?, ?, ?, ?)")) {
+      for (var row : rows) {
+        for (var i = 0; i < row.length; i++) {
+          insert.setString(i + 1, row[i]);
+        }
+        insert.addBatch();
+      }
+      insert.executeBatch();
+    }
+    likeStatement = connection.prepareStatement(LIKE_QUERY);
+  }
+
+  private void setupIndex(List<String[]> rows) throws IOException {
+    var analyzer = infixAnalyzer();
+    directory = new RAMDirectory();
+    try (var writer = new IndexWriter(directory, new IndexWriterConfig(analyzer))) {
+      for (var row : rows) {
+        var document = new Document();
+        document.add(new StringField("id", row[0], Store.YES));
+        document.add(new TextField("firstNameInfix", row[1], Store.NO));
+        document.add(new TextField("lastNameInfix", row[2], Store.NO));
+        document.add(new TextField("emailInfix", row[3], Store.NO));
+        document.add(
+            new SortedDocValuesField(
+                "lastNameSort", new BytesRef(row[2].toLowerCase(Locale.ROOT))));
+        writer.addDocument(document);
+      }
+    }
+    reader = DirectoryReader.open(directory);
+    searcher = new IndexSearcher(reader);
+
+    var queryBuilder = new QueryBuilder(analyzer);
+    var infixQuery = new BooleanQuery.Builder();
+    for (var field : INFIX_FIELDS) {
+      infixQuery.add(queryBuilder.createPhraseQuery(field, infix), Occur.SHOULD);
+    }
+    trigramQuery = infixQuery.build();
+  }
+
+  private Analyzer infixAnalyzer() throws IOException {
+    return CustomAnalyzer.builder()
+        .withTokenizer(NGramTokenizerFactory.class, "minGramSize", "3", "maxGramSize", "3")
+        .addTokenFilter(LowerCaseFilterFactory.class)
+        .build();
+  }
+
+  private String randomName(Random random, int length) {
+    var name = new StringBuilder(length);
+    name.append((char) ('A' + random.nextInt(26)));
+    for (var i = 1; i < length; i++) {
+      name.append((char) ('a' + random.nextInt(26)));
+    }
+    return name.toString();
+  }
+}
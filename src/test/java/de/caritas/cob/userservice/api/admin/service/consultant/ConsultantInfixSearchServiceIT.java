@@ -0,0 +1,98 @@
+package de.caritas.cob.userservice.api.admin.service.consultant;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import de.caritas.cob.userservice.api.Organizer;
+import de.caritas.cob.userservice.api.UserServiceApplication;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.test.context.TestPropertySource;
+
+@SpringBootTest(classes = UserServiceApplication.class)
+@TestPropertySource(properties = "spring.profiles.active=testing")
+@AutoConfigureTestDatabase(replace = Replace.ANY)
+class ConsultantInfixSearchServiceIT {
+
+  private static final String CONSULTANT_ID = "0b3b1cc6-be98-4787-aa56-212259d811b9";
+  private static final PageRequest PAGE_REQUEST =
+      PageRequest.of(0, 100, Direction.ASC, "firstName");
+
+  @Autowired private ConsultantInfixSearchService consultantInfixSearchService;
+
+  @Autowired private ConsultantReindexer consultantReindexer;
+
+  @MockBean
+  @SuppressWarnings("unused")
+  private Organizer organizer;
+
+  @BeforeEach
+  void setup() throws InterruptedException {
+    // the test data is inserted after the reindex on startup
+    consultantReindexer.reindexAll();
+  }
+
+  @Test
+  void findConsultantIdsByInfix_Should_findConsultant_When_infixIsPartOfFirstNameInOtherCase() {
+    var consultantIds =
+        consultantInfixSearchService.findConsultantIdsByInfix("MIRAT", null, PAGE_REQUEST);
+
+    assertThat(consultantIds.getContent(), hasItem(CONSULTANT_ID));
+  }
+
+  @Test
+  void findConsultantIdsByInfix_Should_findConsultant_When_infixIsPartOfEmail() {
+    var consultantIds =
+        consultantInfixSearchService.findConsultantIdsByInfix("ration@consul", null, PAGE_REQUEST);
+
+    assertThat(consultantIds.getContent(), hasItem(CONSULTANT_ID));
+  }
+
+  @Test
+  void findConsultantIdsByInfix_Should_findOnlyConsultant_When_infixIsConsultantId() {
+    var consultantIds =
+        consultantInfixSearchService.findConsultantIdsByInfix(CONSULTANT_ID, null, PAGE_REQUEST);
+
+    assertThat(consultantIds.getTotalElements(), is(1L));
+    assertThat(consultantIds.getContent(), hasItem(CONSULTANT_ID));
+  }
+
+  @Test
+  void findConsultantIdsByInfix_Should_notFindConsultant_When_infixSpansFirstAndLastName() {
+    var consultantIds =
+        consultantInfixSearchService.findConsultantIdsByInfix("ionCon", null, PAGE_REQUEST);
+
+    assertThat(consultantIds.getContent(), not(hasItem(CONSULTANT_ID)));
+  }
+
+  @Test
+  void findConsultantIdsByInfix_Should_filterByAgencies_When_agencyIdsAreGiven() {
+    var consultantIdsOfAgency =
+        consultantInfixSearchService.findConsultantIdsByInfix(
+            "Emiration", List.of(1731L), PAGE_REQUEST);
+    var consultantIdsOfOtherAgency =
+        consultantInfixSearchService.findConsultantIdsByInfix(
+            "Emiration", List.of(999999L), PAGE_REQUEST);
+
+    assertThat(consultantIdsOfAgency.getContent(), hasItem(CONSULTANT_ID));
+    assertThat(consultantIdsOfOtherAgency.getTotalElements(), is(0L));
+  }
+
+  @Test
+  void findConsultantIdsByInfix_Should_searchDatabase_When_infixIsShorterThanTrigram() {
+    var consultantIds =
+        consultantInfixSearchService.findConsultantIdsByInfix("mi", null, PAGE_REQUEST);
+
+    assertThat(consultantIds.getContent(), hasItem(CONSULTANT_ID));
+  }
+}
@@ -0,0 +1,191 @@
+package de.caritas.cob.userservice.api.admin.service.consultant.create.agencyrelation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.api.adapters.web.dto.AgencyDTO;
+import de.caritas.cob.userservice.api.admin.service.consultant.create.agencyrelation.RocketChatGroupAssignmentService.AssignmentProgress;
+import de.caritas.cob.userservice.api.model.Consultant;
+import de.caritas.cob.userservice.api.model.ConsultantAgency;
+import de.caritas.cob.userservice.api.model.ConsultantAgencyStatus;
+import de.caritas.cob.userservice.api.model.ConsultantStatus;
+import de.caritas.cob.userservice.api.model.Session.SessionStatus;
+import de.caritas.cob.userservice.api.port.out.ConsultantAgencyRepository;
+import de.caritas.cob.userservice.api.port.out.ConsultantRepository;
+import de.caritas.cob.userservice.api.port.out.SessionRepository;
+import de.caritas.cob.userservice.api.service.helper.MailService;
+import de.caritas.cob.userservice.api.service.schedulerlock.SchedulerLockService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RocketChatAsyncHelperTest {
+
+  private static final Long CONSULTANT_AGENCY_ID = 7L;
+  private static final String LOCK_NAME = "rocketChatGroupAssignment-7";
+
+  @InjectMocks private RocketChatAsyncHelper rocketChatAsyncHelper;
+
+  @Mock private SessionRepository sessionRepository;
+
+  @Mock private RocketChatGroupAssignmentService groupAssignmentService;
+
+  @Mock private ConsultantRepository consultantRepository;
+
+  @Mock private ConsultantAgencyRepository consultantAgencyRepository;
+
+  @Mock private MailService mailService;
+
+  @Mock private SchedulerLockService schedulerLockService;
+
+  @Test
+  void addConsultantToSessions_Should_markRelationAsCreated_When_allGroupsAreAssigned() {
+    var consultantAgency = givenNewRelationInProgress();
+    givenNoOtherRelationInProgress();
+    when(groupAssignmentService.progressOf(CONSULTANT_AGENCY_ID))
+        .thenReturn(new AssignmentProgress(2, 2, 0));
+
+    rocketChatAsyncHelper.addConsultantToSessions(
+        consultantAgency.getConsultant(), new AgencyDTO().id(1L), message -> {}, null);
+
+    verify(groupAssignmentService).registerSessions(any(), any());
+    verify(groupAssignmentService).processOpenAssignments(any(), any());
+    verify(groupAssignmentService).removeAssignments(CONSULTANT_AGENCY_ID);
+    verify(schedulerLockService).unlock(LOCK_NAME);
+    assertThat(consultantAgency.getStatus(), is(ConsultantAgencyStatus.CREATED));
+    assertThat(consultantAgency.getConsultant().getStatus(), is(ConsultantStatus.CREATED));
+  }
+
+  @Test
+  void addConsultantToSessions_Should_keepRelationInProgress_When_assignmentsAreOpen() {
+    var consultantAgency = givenNewRelationInProgress();
+    when(groupAssignmentService.progressOf(CONSULTANT_AGENCY_ID))
+        .thenReturn(new AssignmentProgress(2, 1, 0));
+
+    rocketChatAsyncHelper.addConsultantToSessions(
+        consultantAgency.getConsultant(), new AgencyDTO().id(1L), message -> {}, null);
+
+    verify(groupAssignmentService, never()).removeAssignments(any());
+    assertThat(consultantAgency.getStatus(), is(ConsultantAgencyStatus.IN_PROGRESS));
+    assertThat(consultantAgency.getConsultant().getStatus(), is(ConsultantStatus.IN_PROGRESS));
+  }
+
+  @Test
+  void addConsultantToSessions_Should_markRelationAsError_When_assignmentsFailedFinally() {
+    var consultantAgency = givenNewRelationInProgress();
+    when(groupAssignmentService.progressOf(CONSULTANT_AGENCY_ID))
+        .thenReturn(new AssignmentProgress(2, 1, 1));
+
+    rocketChatAsyncHelper.addConsultantToSessions(
+        consultantAgency.getConsultant(), new AgencyDTO().id(1L), message -> {}, null);
+
+    assertThat(consultantAgency.getStatus(), is(ConsultantAgencyStatus.ERROR));
+    assertThat(consultantAgency.getConsultant().getStatus(), is(ConsultantStatus.ERROR));
+    verify(mailService).sendErrorEmailNotification(any());
+  }
+
+  @Test
+  void
+      resumeGroupAssignments_Should_notProcessAssignments_When_relationIsLockedByAnotherInstance() {
+    var consultantAgency = consultantAgencyInProgress();
+    when(consultantAgencyRepository.findById(CONSULTANT_AGENCY_ID))
+        .thenReturn(Optional.of(consultantAgency));
+    when(schedulerLockService.tryLock(eq(LOCK_NAME), any())).thenReturn(false);
+
+    rocketChatAsyncHelper.resumeGroupAssignments(CONSULTANT_AGENCY_ID);
+
+    verify(groupAssignmentService, never()).processOpenAssignments(any(), any());
+    verify(groupAssignmentService, never()).progressOf(any());
+    verify(schedulerLockService, never()).unlock(any());
+    assertThat(consultantAgency.getStatus(), is(ConsultantAgencyStatus.IN_PROGRESS));
+  }
+
+  @Test
+  void resumeGroupAssignments_Should_markRelationAsError_When_noAssignmentIsOpenAnymore() {
+    var consultantAgency = consultantAgencyInProgress();
+    when(consultantAgencyRepository.findById(CONSULTANT_AGENCY_ID))
+        .thenReturn(Optional.of(consultantAgency));
+    givenGroupAssignmentLockIsFree();
+    when(groupAssignmentService.progressOf(CONSULTANT_AGENCY_ID))
+        .thenReturn(new AssignmentProgress(2, 1, 1));
+
+    rocketChatAsyncHelper.resumeGroupAssignments(CONSULTANT_AGENCY_ID);
+
+    assertThat(consultantAgency.getStatus(), is(ConsultantAgencyStatus.ERROR));
+    verify(schedulerLockService).unlock(LOCK_NAME);
+  }
+
+  @Test
+  void resumeGroupAssignments_Should_removeAssignments_When_relationIsNotInProgressAnymore() {
+    var consultantAgency = ConsultantAgency.builder().id(CONSULTANT_AGENCY_ID).build();
+    consultantAgency.setDeleteDate(LocalDateTime.now());
+    when(consultantAgencyRepository.findById(CONSULTANT_AGENCY_ID))
+        .thenReturn(Optional.of(consultantAgency));
+
+    rocketChatAsyncHelper.resumeGroupAssignments(CONSULTANT_AGENCY_ID);
+
+    verify(groupAssignmentService).removeAssignments(CONSULTANT_AGENCY_ID);
+    verify(groupAssignmentService, never()).processOpenAssignments(any(), any());
+  }
+
+  @Test
+  void resumeGroupAssignments_Should_processOpenAssignments_When_relationIsInProgress() {
+    var consultantAgency = consultantAgencyInProgress();
+    givenNoOtherRelationInProgress();
+    when(consultantAgencyRepository.findById(CONSULTANT_AGENCY_ID))
+        .thenReturn(Optional.of(consultantAgency));
+    givenGroupAssignmentLockIsFree();
+    when(groupAssignmentService.progressOf(CONSULTANT_AGENCY_ID))
+        .thenReturn(new AssignmentProgress(1, 1, 0));
+
+    rocketChatAsyncHelper.resumeGroupAssignments(CONSULTANT_AGENCY_ID);
+
+    verify(groupAssignmentService).processOpenAssignments(any(), any());
+    assertThat(consultantAgency.getStatus(), is(ConsultantAgencyStatus.CREATED));
+  }
+
+  private ConsultantAgency givenNewRelationInProgress() {
+    var consultantAgency = consultantAgencyInProgress();
+    when(consultantAgencyRepository.findByConsultantIdAndAgencyIdAndStatusAndDeleteDateIsNull(
+            "consultantId", 1L, ConsultantAgencyStatus.IN_PROGRESS))
+        .thenReturn(consultantAgency);
+    when(sessionRepository.findByAgencyIdAndStatusAndConsultantIsNull(1L, SessionStatus.NEW))
+        .thenReturn(new ArrayList<>());
+    givenGroupAssignmentLockIsFree();
+    return consultantAgency;
+  }
+
+  private void givenGroupAssignmentLockIsFree() {
+    when(schedulerLockService.tryLock(eq(LOCK_NAME), any())).thenReturn(true);
+  }
+
+  private void givenNoOtherRelationInProgress() {
+    when(consultantAgencyRepository.findByConsultantIdAndStatusAndDeleteDateIsNull(
+            "consultantId", ConsultantAgencyStatus.IN_PROGRESS))
+        .thenReturn(List.of());
+  }
+
+  private ConsultantAgency consultantAgencyInProgress() {
+    var consultant = new Consultant();
+    consultant.setId("consultantId");
+    consultant.setStatus(ConsultantStatus.IN_PROGRESS);
+    return ConsultantAgency.builder()
+        .id(CONSULTANT_AGENCY_ID)
+        .consultant(consultant)
+        .agencyId(1L)
+        .status(ConsultantAgencyStatus.IN_PROGRESS)
+        .build();
+  }
+}
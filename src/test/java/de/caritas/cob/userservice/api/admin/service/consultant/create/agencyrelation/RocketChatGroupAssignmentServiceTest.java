@@ -0,0 +1,227 @@
+package de.caritas.cob.userservice.api.admin.service.consultant.create.agencyrelation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.api.facade.RocketChatFacade;
+import de.caritas.cob.userservice.api.manager.consultingtype.ConsultingTypeManager;
+import de.caritas.cob.userservice.api.model.Consultant;
+import de.caritas.cob.userservice.api.model.ConsultantAgency;
+import de.caritas.cob.userservice.api.model.RocketChatGroupAssignment;
+import de.caritas.cob.userservice.api.model.RocketChatGroupAssignment.AssignmentStatus;
+import de.caritas.cob.userservice.api.model.Session;
+import de.caritas.cob.userservice.api.model.Session.SessionStatus;
+import de.caritas.cob.userservice.api.port.out.IdentityClient;
+import de.caritas.cob.userservice.api.port.out.RocketChatGroupAssignmentRepository;
+import de.caritas.cob.userservice.api.port.out.SessionRepository;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class RocketChatGroupAssignmentServiceTest {
+
+  private static final Long CONSULTANT_AGENCY_ID = 7L;
+  private static final int MAX_ATTEMPTS = 3;
+
+  @Mock private RocketChatGroupAssignmentRepository groupAssignmentRepository;
+
+  @Mock private SessionRepository sessionRepository;
+
+  @Mock private RocketChatFacade rocketChatFacade;
+
+  @Mock private IdentityClient identityClient;
+
+  @Mock private ConsultingTypeManager consultingTypeManager;
+
+  private RocketChatGroupAssignmentService groupAssignmentService;
+
+  @BeforeEach
+  void setup() {
+    this.groupAssignmentService =
+        new RocketChatGroupAssignmentService(
+            groupAssignmentRepository,
+            sessionRepository,
+            rocketChatFacade,
+            identityClient,
+            consultingTypeManager,
+            Runnable::run,
+            1000,
+            2,
+            MAX_ATTEMPTS);
+  }
+
+  @Test
+  void registerSessions_Should_saveOnlySessionsWhichAreNotRegisteredYet() {
+    when(groupAssignmentRepository.findSessionIdsByConsultantAgencyId(CONSULTANT_AGENCY_ID))
+        .thenReturn(Set.of(1L));
+
+    groupAssignmentService.registerSessions(
+        consultantAgency(), List.of(session(1L), session(2L), session(2L)));
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<RocketChatGroupAssignment>> captor = ArgumentCaptor.forClass(List.class);
+    verify(groupAssignmentRepository).saveAll(captor.capture());
+    var savedAssignments = captor.getValue();
+    assertThat(savedAssignments.size(), is(1));
+    assertThat(savedAssignments.get(0).getSessionId(), is(2L));
+    assertThat(savedAssignments.get(0).getStatus(), is(AssignmentStatus.PENDING));
+    assertThat(savedAssignments.get(0).getTenantId(), is(1L));
+  }
+
+  @Test
+  void processOpenAssignments_Should_assignAllChunksAndPersistTheirProgress() {
+    var firstChunk = List.of(assignment(10L, 1L), assignment(11L, 2L));
+    var secondChunk = List.of(assignment(12L, 3L));
+    givenOpenAssignments(firstChunk, secondChunk);
+    when(sessionRepository.findAllById(any()))
+        .thenReturn(List.of(session(1L), session(2L)))
+        .thenReturn(List.of(session(3L)));
+
+    groupAssignmentService.processOpenAssignments(consultantAgency(), message -> {});
+
+    verify(rocketChatFacade, times(3)).addUserToRocketChatGroup(eq("rcId"), anyString());
+    verify(groupAssignmentRepository).saveAll(firstChunk);
+    verify(groupAssignmentRepository).saveAll(secondChunk);
+    firstChunk.forEach(this::assertAssigned);
+    secondChunk.forEach(this::assertAssigned);
+  }
+
+  @Test
+  void processOpenAssignments_Should_markOnlyFailedAssignmentAsFailed_When_rocketChatCallFails() {
+    var failingAssignment = assignment(10L, 1L);
+    var succeedingAssignment = assignment(11L, 2L);
+    givenOpenAssignments(List.of(failingAssignment, succeedingAssignment));
+    when(sessionRepository.findAllById(any())).thenReturn(List.of(session(1L), session(2L)));
+    doThrow(new RuntimeException("rc error"))
+        .when(rocketChatFacade)
+        .addUserToRocketChatGroup("rcId", "group1");
+
+    groupAssignmentService.processOpenAssignments(consultantAgency(), message -> {});
+
+    assertThat(failingAssignment.getStatus(), is(AssignmentStatus.FAILED));
+    assertThat(failingAssignment.getAttempts(), is(1));
+    assertThat(failingAssignment.getError(), notNullValue());
+    assertAssigned(succeedingAssignment);
+  }
+
+  @Test
+  void processOpenAssignments_Should_markAssignmentAsAssigned_When_sessionDoesNotExistAnymore() {
+    var assignment = assignment(10L, 1L);
+    givenOpenAssignments(List.of(assignment));
+    when(sessionRepository.findAllById(any())).thenReturn(List.of());
+
+    groupAssignmentService.processOpenAssignments(consultantAgency(), message -> {});
+
+    assertAssigned(assignment);
+    verifyNoInteractions(rocketChatFacade);
+  }
+
+  @Test
+  void processOpenAssignments_Should_continueAfterLastProcessedAssignment() {
+    givenOpenAssignments(List.of(assignment(10L, 1L), assignment(11L, 2L)));
+    when(sessionRepository.findAllById(any())).thenReturn(List.of(session(1L), session(2L)));
+
+    groupAssignmentService.processOpenAssignments(consultantAgency(), message -> {});
+
+    verify(groupAssignmentRepository)
+        .findOpenAssignments(
+            eq(CONSULTANT_AGENCY_ID),
+            eq(AssignmentStatus.ASSIGNED),
+            eq(MAX_ATTEMPTS),
+            eq(-1L),
+            any(Pageable.class));
+    verify(groupAssignmentRepository)
+        .findOpenAssignments(
+            eq(CONSULTANT_AGENCY_ID),
+            eq(AssignmentStatus.ASSIGNED),
+            eq(MAX_ATTEMPTS),
+            eq(11L),
+            any(Pageable.class));
+    verify(groupAssignmentRepository, never())
+        .findOpenAssignments(any(), any(), eq(MAX_ATTEMPTS), eq(10L), any(Pageable.class));
+  }
+
+  @Test
+  void progressOf_Should_reportOpenAssignments_When_notAllAssignmentsAreFinished() {
+    when(groupAssignmentRepository.countByConsultantAgencyId(CONSULTANT_AGENCY_ID)).thenReturn(5L);
+    when(groupAssignmentRepository.countByConsultantAgencyIdAndStatus(
+            CONSULTANT_AGENCY_ID, AssignmentStatus.ASSIGNED))
+        .thenReturn(3L);
+    when(groupAssignmentRepository.countByConsultantAgencyIdAndStatusAndAttemptsGreaterThanEqual(
+            CONSULTANT_AGENCY_ID, AssignmentStatus.FAILED, MAX_ATTEMPTS))
+        .thenReturn(1L);
+
+    var progress = groupAssignmentService.progressOf(CONSULTANT_AGENCY_ID);
+
+    assertThat(progress.hasOpenAssignments(), is(true));
+    assertThat(progress.hasFailedAssignments(), is(true));
+  }
+
+  @SafeVarargs
+  private void givenOpenAssignments(List<RocketChatGroupAssignment>... chunks) {
+    var stubbing =
+        when(
+            groupAssignmentRepository.findOpenAssignments(
+                eq(CONSULTANT_AGENCY_ID),
+                eq(AssignmentStatus.ASSIGNED),
+                eq(MAX_ATTEMPTS),
+                any(),
+                any(Pageable.class)));
+    for (var chunk : chunks) {
+      stubbing = stubbing.thenReturn(chunk);
+    }
+    stubbing.thenReturn(List.of());
+  }
+
+  private void assertAssigned(RocketChatGroupAssignment assignment) {
+    assertThat(assignment.getStatus(), is(AssignmentStatus.ASSIGNED));
+    assertThat(assignment.getAttempts(), is(1));
+    assertThat(assignment.getError(), nullValue());
+  }
+
+  private ConsultantAgency consultantAgency() {
+    var consultant = new Consultant();
+    consultant.setRocketChatId("rcId");
+    return ConsultantAgency.builder()
+        .id(CONSULTANT_AGENCY_ID)
+        .consultant(consultant)
+        .agencyId(1L)
+        .tenantId(1L)
+        .build();
+  }
+
+  private RocketChatGroupAssignment assignment(Long id, Long sessionId) {
+    return RocketChatGroupAssignment.builder()
+        .id(id)
+        .consultantAgencyId(CONSULTANT_AGENCY_ID)
+        .sessionId(sessionId)
+        .status(AssignmentStatus.PENDING)
+        .build();
+  }
+
+  private Session session(Long id) {
+    var session = new Session();
+    session.setId(id);
+    session.setGroupId("group" + id);
+    session.setStatus(SessionStatus.NEW);
+    return session;
+  }
+}
@@ -9,6 +9,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -138,4 +139,23 @@ class RocketChatAddToGroupOperationServiceTest {
           is("ERROR: Failed to rollback enquiry of group " + session.getGroupId() + ":"));
     }
   }
+
+  @Test
+  void addToGroupOfSession_Should_throwInternalErrorWithoutRollback_When_addUserToGroupFails() {
+    Session session = easyRandom.nextObject(Session.class);
+    session.setStatus(SessionStatus.NEW);
+    Consultant consultant = easyRandom.nextObject(Consultant.class);
+    doThrow(new RuntimeException(""))
+        .when(this.rocketChatFacade)
+        .addUserToRocketChatGroup(anyString(), anyString());
+
+    var operationService =
+        RocketChatAddToGroupOperationService.getInstance(
+                this.rocketChatFacade, this.keycloakService, logMethod, consultingTypeManager)
+            .withConsultant(consultant);
+
+    assertThrows(
+        InternalServerErrorException.class, () -> operationService.addToGroupOfSession(session));
+    verify(this.rocketChatFacade, never()).removeUserFromGroup(anyString(), anyString());
+  }
 }
@@ -0,0 +1,99 @@
+package de.caritas.cob.userservice.api.config.apiclient;
+
+import static de.caritas.cob.userservice.api.config.apiclient.ApiClientHeaders.callWithHeaders;
+import static de.caritas.cob.userservice.api.config.apiclient.ApiClientHeaders.runWithHeaders;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.headerDoesNotExist;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.net.URI;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.RequestEntity;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+class ApiClientHeaderInterceptorTest {
+
+  private static final String URL = "http://localhost/api";
+
+  private RestTemplate restTemplate;
+  private MockRestServiceServer server;
+
+  @BeforeEach
+  void setup() {
+    restTemplate = new RestTemplate();
+    restTemplate.getInterceptors().add(new ApiClientHeaderInterceptor());
+    server = MockRestServiceServer.bindTo(restTemplate).build();
+  }
+
+  @Test
+  void intercept_Should_addHeadersOfCurrentCall() {
+    server
+        .expect(requestTo(URL))
+        .andExpect(header("Authorization", "Bearer token"))
+        .andExpect(header("tenantId", "1"))
+        .andRespond(withSuccess());
+
+    runWithHeaders(headers(), () -> restTemplate.getForObject(URL, String.class));
+
+    server.verify();
+  }
+
+  @Test
+  void intercept_Should_keepHeadersSetByTheRequest() {
+    server
+        .expect(requestTo(URL))
+        .andExpect(header("tenantId", "2"))
+        .andExpect(header("Authorization", "Bearer token"))
+        .andRespond(withSuccess());
+    var request = RequestEntity.get(URI.create(URL)).header("tenantId", "2").build();
+
+    runWithHeaders(headers(), () -> restTemplate.exchange(request, String.class));
+
+    server.verify();
+  }
+
+  @Test
+  void intercept_Should_notAddHeaders_When_requestIsSentOutsideOfApiCall() {
+    server
+        .expect(requestTo(URL))
+        .andExpect(headerDoesNotExist("Authorization"))
+        .andRespond(withSuccess());
+
+    runWithHeaders(headers(), () -> {});
+    restTemplate.getForObject(URL, String.class);
+
+    server.verify();
+    assertThat(ApiClientHeaders.getCurrentHeaders(), is(nullValue()));
+  }
+
+  @Test
+  void callWithHeaders_Should_restoreHeadersOfOuterCall_When_nestedCallIsFinished() {
+    var outerHeaders = headers();
+    var innerHeaders = new HttpHeaders();
+
+    var headersAfterInnerCall =
+        callWithHeaders(
+            outerHeaders,
+            () -> {
+              callWithHeaders(innerHeaders, ApiClientHeaders::getCurrentHeaders);
+              return ApiClientHeaders.getCurrentHeaders();
+            });
+
+    assertThat(headersAfterInnerCall, is(outerHeaders));
+    assertThat(ApiClientHeaders.getCurrentHeaders(), is(nullValue()));
+  }
+
+  private HttpHeaders headers() {
+    var headers = new HttpHeaders();
+    headers.add("Authorization", "Bearer token");
+    headers.add("tenantId", "1");
+    return headers;
+  }
+}
@@ -97,6 +97,19 @@ public class RegisteredEnquiryConversationListProviderIT {
     assertThat(responseDTO.getSessions(), hasSize(1));
   }
 
+  @Test
+  public void buildConversations_Should_keepExactOffset_When_offsetIsNoMultipleOfCount() {
+    saveRegisteredSessions(10);
+    PageableListRequest request = PageableListRequest.builder().count(3).offset(8).build();
+
+    ConsultantSessionListResponseDTO responseDTO =
+        this.registeredEnquiryConversationListProvider.buildConversations(request);
+
+    assertThat(responseDTO.getCount(), is(2));
+    assertThat(responseDTO.getOffset(), is(8));
+    assertThat(responseDTO.getTotal(), is(10));
+  }
+
   @Test
   public void buildConversations_Should_returnElementsInExpectedOrder() {
     saveRegisteredSessions(100);
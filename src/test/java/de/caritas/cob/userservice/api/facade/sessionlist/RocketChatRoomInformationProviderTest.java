@@ -1,5 +1,6 @@
 package de.caritas.cob.userservice.api.facade.sessionlist;
 
+import static de.caritas.cob.userservice.api.config.CacheManagerConfig.ROCKET_CHAT_ROOM_SNAPSHOT_CACHE;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.RC_CREDENTIALS;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.RC_CREDENTIALS_WITH_EMPTY_USER_VALUES;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.RC_GROUP_ID;
@@ -11,28 +12,51 @@ import static de.caritas.cob.userservice.api.testHelper.TestConstants.SUBSCRIPTI
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.USERS_ROOMS_LIST;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.USER_DTO_3;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsGetDTO;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsUpdateDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.subscriptions.SubscriptionsGetDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.subscriptions.SubscriptionsUpdateDTO;
 import de.caritas.cob.userservice.api.container.RocketChatRoomInformation;
+import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.Objects;
 import org.apache.commons.collections.CollectionUtils;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class RocketChatRoomInformationProviderTest {
 
-  @InjectMocks private RocketChatRoomInformationProvider rocketChatRoomInformationProvider;
-
   @Mock private RocketChatService rocketChatService;
 
+  private RocketChatRoomInformationProvider rocketChatRoomInformationProvider;
+
+  @BeforeEach
+  void setup() {
+    var rocketChatRoomSnapshotCache =
+        new RocketChatRoomSnapshotCache(
+            rocketChatService,
+            new ConcurrentMapCacheManager(ROCKET_CHAT_ROOM_SNAPSHOT_CACHE),
+            Runnable::run);
+    ReflectionTestUtils.setField(rocketChatRoomSnapshotCache, "timeoutMillis", 1000L);
+    this.rocketChatRoomInformationProvider =
+        new RocketChatRoomInformationProvider(rocketChatRoomSnapshotCache);
+  }
+
   @Test
   void retrieveRocketChatInformation_Should_Return_CorrectMessagesReadMap() {
 
@@ -138,4 +162,54 @@ class RocketChatRoomInformationProviderTest {
     assertNotNull(rocketChatRoomInformation.getGroupIdToLastMessageFallbackDate());
     assertTrue(rocketChatRoomInformation.getGroupIdToLastMessageFallbackDate().isEmpty());
   }
+
+  @Test
+  void retrieveRocketChatInformation_Should_LoadOnlyChanges_When_SnapshotIsEnabled() {
+    ReflectionTestUtils.setField(rocketChatRoomInformationProvider, "roomSnapshotEnabled", true);
+    var subscription = new SubscriptionsUpdateDTO();
+    subscription.set_id("subscriptionId");
+    subscription.setRoomId(RC_GROUP_ID);
+    subscription.setUnread(0);
+    subscription.setUpdatedAt(new Date());
+    when(rocketChatService.getSubscriptionsOfUser(RC_CREDENTIALS))
+        .thenReturn(List.of(subscription));
+    when(rocketChatService.getRoomsOfUser(RC_CREDENTIALS)).thenReturn(ROOMS_UPDATE_DTO_LIST);
+    when(rocketChatService.getSubscriptionsOfUserUpdatedSince(any(), any()))
+        .thenReturn(new SubscriptionsGetDTO());
+    when(rocketChatService.getRoomsOfUserUpdatedSince(any(), any())).thenReturn(new RoomsGetDTO());
+
+    rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS);
+    RocketChatRoomInformation rocketChatRoomInformation =
+        rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS);
+
+    assertTrue(rocketChatRoomInformation.getReadMessages().get(RC_GROUP_ID));
+    assertEquals(USERS_ROOMS_LIST, rocketChatRoomInformation.getUserRooms());
+    assertEquals(ROOMS_LAST_MESSAGE_DTO_MAP, rocketChatRoomInformation.getLastMessagesRoom());
+    verify(rocketChatService, times(1)).getRoomsOfUser(RC_CREDENTIALS);
+    verify(rocketChatService, times(1)).getSubscriptionsOfUser(RC_CREDENTIALS);
+  }
+
+  @Test
+  void retrieveRocketChatInformation_Should_LoadFullListsEachTime_When_SnapshotIsDisabled() {
+    when(rocketChatService.getSubscriptionsOfUser(RC_CREDENTIALS))
+        .thenReturn(SUBSCRIPTIONS_UPDATE_LIST_DTO);
+    when(rocketChatService.getRoomsOfUser(RC_CREDENTIALS)).thenReturn(ROOMS_UPDATE_DTO_LIST);
+
+    rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS);
+    rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS);
+
+    verify(rocketChatService, times(2)).getRoomsOfUser(RC_CREDENTIALS);
+    verify(rocketChatService, times(2)).getSubscriptionsOfUser(RC_CREDENTIALS);
+    verify(rocketChatService, never()).getRoomsOfUserUpdatedSince(any(), any());
+  }
+
+  @Test
+  void retrieveRocketChatInformation_Should_RethrowOriginalException_When_RocketChatCallFails() {
+    when(rocketChatService.getRoomsOfUser(RC_CREDENTIALS))
+        .thenThrow(new InternalServerErrorException("error"));
+
+    assertThrows(
+        InternalServerErrorException.class,
+        () -> rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS));
+  }
 }
@@ -0,0 +1,207 @@
+package de.caritas.cob.userservice.api.facade.sessionlist;
+
+import static de.caritas.cob.userservice.api.config.CacheManagerConfig.ROCKET_CHAT_ROOM_SNAPSHOT_CACHE;
+import static de.caritas.cob.userservice.api.testHelper.TestConstants.RC_CREDENTIALS;
+import static java.util.Objects.requireNonNull;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsGetDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsUpdateDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.subscriptions.SubscriptionsGetDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.subscriptions.SubscriptionsUpdateDTO;
+import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class RocketChatRoomSnapshotCacheTest {
+
+  private static final Date FIRST_UPDATE = new Date(1_000_000L);
+  private static final Date SECOND_UPDATE = new Date(2_000_000L);
+
+  @Mock private RocketChatService rocketChatService;
+
+  private RocketChatRoomSnapshotCache rocketChatRoomSnapshotCache;
+
+  @BeforeEach
+  void setup() {
+    this.rocketChatRoomSnapshotCache =
+        new RocketChatRoomSnapshotCache(
+            rocketChatService,
+            new ConcurrentMapCacheManager(ROCKET_CHAT_ROOM_SNAPSHOT_CACHE),
+            Runnable::run);
+    ReflectionTestUtils.setField(rocketChatRoomSnapshotCache, "timeoutMillis", 1000L);
+  }
+
+  @Test
+  void retrieveSnapshot_Should_loadFullLists_When_noSnapshotIsCached() {
+    givenFullRocketChatLists();
+
+    var snapshot = rocketChatRoomSnapshotCache.retrieveSnapshot(RC_CREDENTIALS).join();
+
+    assertThat(snapshot.getRoomList(), hasSize(2));
+    assertThat(snapshot.getSubscriptionList(), hasSize(2));
+    assertThat(snapshot.getRoomsUpdatedAt(), is(FIRST_UPDATE));
+    verify(rocketChatService, never()).getRoomsOfUserUpdatedSince(any(), any());
+  }
+
+  @Test
+  void retrieveSnapshot_Should_mergeOnlyChanges_When_snapshotIsCached() {
+    givenFullRocketChatLists();
+    rocketChatRoomSnapshotCache.retrieveSnapshot(RC_CREDENTIALS).join();
+
+    var roomChanges = new RoomsGetDTO();
+    roomChanges.setUpdate(
+        new RoomsUpdateDTO[] {room("room2", SECOND_UPDATE), room("room3", SECOND_UPDATE)});
+    roomChanges.setRemove(new RoomsUpdateDTO[] {room("room1", null)});
+    var subscriptionChanges = new SubscriptionsGetDTO();
+    subscriptionChanges.setUpdate(new SubscriptionsUpdateDTO[] {subscription("sub3", "room3")});
+    subscriptionChanges.setRemove(new SubscriptionsUpdateDTO[] {subscription("sub1", null)});
+    when(rocketChatService.getRoomsOfUserUpdatedSince(any(), any())).thenReturn(roomChanges);
+    when(rocketChatService.getSubscriptionsOfUserUpdatedSince(any(), any()))
+        .thenReturn(subscriptionChanges);
+
+    var snapshot = rocketChatRoomSnapshotCache.retrieveSnapshot(RC_CREDENTIALS).join();
+
+    assertThat(
+        snapshot.getRoomList().stream().map(RoomsUpdateDTO::getId).collect(Collectors.toList()),
+        containsInAnyOrder("room2", "room3"));
+    assertThat(
+        snapshot.getSubscriptionList().stream()
+            .map(SubscriptionsUpdateDTO::getRoomId)
+            .collect(Collectors.toList()),
+        containsInAnyOrder("room2", "room3"));
+    assertThat(snapshot.getRoomsUpdatedAt(), is(SECOND_UPDATE));
+    verify(rocketChatService, times(1)).getRoomsOfUser(RC_CREDENTIALS);
+    verify(rocketChatService, times(1))
+        .getRoomsOfUserUpdatedSince(RC_CREDENTIALS, new Date(FIRST_UPDATE.getTime() - 1000L));
+  }
+
+  @Test
+  void retrieveSnapshot_Should_evictSnapshot_When_loadingChangesFails() {
+    givenFullRocketChatLists();
+    rocketChatRoomSnapshotCache.retrieveSnapshot(RC_CREDENTIALS).join();
+    when(rocketChatService.getSubscriptionsOfUserUpdatedSince(any(), any()))
+        .thenThrow(new InternalServerErrorException("error"));
+
+    var exception =
+        assertThrows(
+            CompletionException.class,
+            () -> rocketChatRoomSnapshotCache.retrieveSnapshot(RC_CREDENTIALS).join());
+    assertThat(exception.getCause(), instanceOf(InternalServerErrorException.class));
+    rocketChatRoomSnapshotCache.retrieveSnapshot(RC_CREDENTIALS).join();
+
+    verify(rocketChatService, times(2)).getRoomsOfUser(RC_CREDENTIALS);
+  }
+
+  @Test
+  void retrieveSnapshot_Should_returnCachedSnapshot_When_rocketChatDoesNotAnswerInTime() {
+    givenFullRocketChatLists();
+    var cachedSnapshot = rocketChatRoomSnapshotCache.retrieveSnapshot(RC_CREDENTIALS).join();
+    var rocketChatCallsNeverRun =
+        new RocketChatRoomSnapshotCache(
+            rocketChatService, cacheManagerContaining(cachedSnapshot), task -> {});
+    ReflectionTestUtils.setField(rocketChatCallsNeverRun, "timeoutMillis", 10L);
+
+    var snapshot = rocketChatCallsNeverRun.retrieveSnapshot(RC_CREDENTIALS).join();
+
+    assertThat(snapshot, is(cachedSnapshot));
+  }
+
+  @Test
+  void retrieveFullSnapshot_Should_fail_When_rocketChatDoesNotAnswerInTimeEvenIfSnapshotIsCached() {
+    givenFullRocketChatLists();
+    var cachedSnapshot = rocketChatRoomSnapshotCache.retrieveSnapshot(RC_CREDENTIALS).join();
+    var rocketChatCallsNeverRun =
+        new RocketChatRoomSnapshotCache(
+            rocketChatService, cacheManagerContaining(cachedSnapshot), task -> {});
+    ReflectionTestUtils.setField(rocketChatCallsNeverRun, "timeoutMillis", 10L);
+
+    var exception =
+        assertThrows(
+            CompletionException.class,
+            () -> rocketChatCallsNeverRun.retrieveFullSnapshot(RC_CREDENTIALS).join());
+    assertThat(exception.getCause(), instanceOf(InternalServerErrorException.class));
+  }
+
+  @Test
+  void retrieveFullSnapshot_Should_notWriteCache() {
+    givenFullRocketChatLists();
+
+    rocketChatRoomSnapshotCache.retrieveFullSnapshot(RC_CREDENTIALS).join();
+    rocketChatRoomSnapshotCache.retrieveSnapshot(RC_CREDENTIALS).join();
+
+    verify(rocketChatService, times(2)).getRoomsOfUser(RC_CREDENTIALS);
+    verify(rocketChatService, never()).getRoomsOfUserUpdatedSince(any(), any());
+  }
+
+  @Test
+  void retrieveSnapshot_Should_skipQueuedRocketChatCalls_When_timeoutIsReached() {
+    var queuedTasks = new ArrayList<Runnable>();
+    var rocketChatCallsQueued =
+        new RocketChatRoomSnapshotCache(
+            rocketChatService,
+            new ConcurrentMapCacheManager(ROCKET_CHAT_ROOM_SNAPSHOT_CACHE),
+            queuedTasks::add);
+    ReflectionTestUtils.setField(rocketChatCallsQueued, "timeoutMillis", 10L);
+
+    assertThrows(
+        CompletionException.class,
+        () -> rocketChatCallsQueued.retrieveSnapshot(RC_CREDENTIALS).join());
+    queuedTasks.forEach(Runnable::run);
+
+    assertThat(queuedTasks, hasSize(2));
+    verifyNoInteractions(rocketChatService);
+  }
+
+  private ConcurrentMapCacheManager cacheManagerContaining(RocketChatRoomSnapshot snapshot) {
+    var cacheManager = new ConcurrentMapCacheManager(ROCKET_CHAT_ROOM_SNAPSHOT_CACHE);
+    requireNonNull(cacheManager.getCache(ROCKET_CHAT_ROOM_SNAPSHOT_CACHE))
+        .put(RC_CREDENTIALS.getRocketChatUserId(), snapshot);
+    return cacheManager;
+  }
+
+  private void givenFullRocketChatLists() {
+    when(rocketChatService.getRoomsOfUser(RC_CREDENTIALS))
+        .thenReturn(List.of(room("room1", FIRST_UPDATE), room("room2", FIRST_UPDATE)));
+    when(rocketChatService.getSubscriptionsOfUser(RC_CREDENTIALS))
+        .thenReturn(List.of(subscription("sub1", "room1"), subscription("sub2", "room2")));
+  }
+
+  private RoomsUpdateDTO room(String id, Date updatedAt) {
+    var room = new RoomsUpdateDTO();
+    room.setId(id);
+    room.setUpdatedAt(updatedAt);
+    return room;
+  }
+
+  private SubscriptionsUpdateDTO subscription(String id, String roomId) {
+    var subscription = new SubscriptionsUpdateDTO();
+    subscription.set_id(id);
+    subscription.setRoomId(roomId);
+    subscription.setUpdatedAt(FIRST_UPDATE);
+    return subscription;
+  }
+}
@@ -10,6 +10,7 @@ import static de.caritas.cob.userservice.api.testHelper.TestConstants.OFFSET_0;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.RC_CREDENTIALS;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.RC_TOKEN;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.SESSION_STATUS_IN_PROGRESS;
+import static de.caritas.cob.userservice.api.testHelper.TestConstants.SESSION_STATUS_NEW;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.USER_ID;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.USER_SESSION_RESPONSE_SESSION_CHAT_DTO_LIST;
 import static java.util.Objects.nonNull;
@@ -20,14 +21,15 @@ import static org.mockito.Mockito.when;
 
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionListResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionResponseDTO;
-import de.caritas.cob.userservice.api.adapters.web.dto.SessionDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.UserSessionListResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.UserSessionResponseDTO;
+import de.caritas.cob.userservice.api.container.OffsetPageRequest;
 import de.caritas.cob.userservice.api.container.SessionListQueryParameter;
 import de.caritas.cob.userservice.api.service.session.SessionFilter;
 import de.caritas.cob.userservice.api.service.session.SessionTopicEnrichmentService;
 import de.caritas.cob.userservice.api.service.sessionlist.ConsultantSessionListService;
 import de.caritas.cob.userservice.api.service.sessionlist.UserSessionListService;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,6 +37,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -149,10 +152,11 @@ public class SessionListFacadeTest {
       assertTrue(previousDate <= dto.getSession().getMessageDate());
     }
 
-    Mockito.verify(
-            sessionTopicEnrichmentService,
-            Mockito.times(CONSULTANT_SESSION_RESPONSE_DTO_LIST.size()))
-        .enrichSessionWithTopicData(Mockito.any(SessionDTO.class));
+    Mockito.verify(sessionTopicEnrichmentService)
+        .enrichSessionsWithTopicData(
+            CONSULTANT_SESSION_RESPONSE_DTO_LIST.stream()
+                .map(ConsultantSessionResponseDTO::getSession)
+                .collect(Collectors.toList()));
 
     ReflectionTestUtils.setField(sessionListFacade, "topicsFeatureEnabled", false);
   }
@@ -269,6 +273,38 @@ public class SessionListFacadeTest {
     assertEquals(CONSULTANT_SESSION_RESPONSE_DTO_LIST.size(), result.getSessions().size());
   }
 
+  @Test
+  public void
+      retrieveSessionsForAuthenticatedConsultant_Should_UsePagedEnquiries_When_StatusIsNew() {
+
+    SessionListQueryParameter sessionListQueryParameter =
+        SessionListQueryParameter.builder()
+            .sessionStatus(SESSION_STATUS_NEW)
+            .offset(OFFSET_0)
+            .count(COUNT_1)
+            .sessionFilter(SessionFilter.ALL)
+            .build();
+    var enquiriesPage =
+        new PageImpl<>(
+            CONSULTANT_SESSION_RESPONSE_DTO_LIST.subList(0, COUNT_1),
+            OffsetPageRequest.of(OFFSET_0, COUNT_1),
+            CONSULTANT_SESSION_RESPONSE_DTO_LIST.size());
+
+    when(consultantSessionListService.retrieveEnquiriesPageForAuthenticatedConsultant(
+            CONSULTANT, sessionListQueryParameter))
+        .thenReturn(enquiriesPage);
+
+    ConsultantSessionListResponseDTO result =
+        sessionListFacade.retrieveSessionsDtoForAuthenticatedConsultant(
+            CONSULTANT, sessionListQueryParameter);
+
+    assertEquals(COUNT_1, result.getSessions().size());
+    assertEquals(Integer.valueOf(COUNT_1), result.getCount());
+    assertEquals(Integer.valueOf(CONSULTANT_SESSION_RESPONSE_DTO_LIST.size()), result.getTotal());
+    Mockito.verify(consultantSessionListService, Mockito.never())
+        .retrieveSessionsForAuthenticatedConsultant(Mockito.any(), Mockito.any());
+  }
+
   /** Method: retrieveTeamSessionsForAuthenticatedConsultant */
   @Test
   public void
@@ -2,6 +2,7 @@ package de.caritas.cob.userservice.api.port.out;
 
 import static java.util.Objects.nonNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import de.caritas.cob.userservice.api.model.Chat;
@@ -79,6 +80,42 @@ class ChatRepositoryIT {
     assertEquals(chat.isActive(), foundChat.isActive());
   }
 
+  @Test
+  void findStaleActiveChatIds_Should_findOnlyActiveChatsEndedBeforeDeactivationTime() {
+    givenAConsultant();
+    var deactivationTime = LocalDateTime.now().minusHours(6);
+    givenAValidChat();
+    chat.setActive(true);
+    chat.setDuration(120);
+    chat.setUpdateDate(deactivationTime.minusMinutes(121));
+    chat = underTest.save(chat);
+    var runningChat = givenAnActiveChatUpdatedAt(deactivationTime.minusMinutes(119));
+    var stoppedChat = givenAnActiveChatUpdatedAt(deactivationTime.minusDays(1));
+    stoppedChat.setActive(false);
+    underTest.save(stoppedChat);
+
+    var staleChatIds = underTest.findStaleActiveChatIds(deactivationTime);
+
+    assertTrue(staleChatIds.contains(chat.getId()));
+    assertFalse(staleChatIds.contains(runningChat.getId()));
+    assertFalse(staleChatIds.contains(stoppedChat.getId()));
+    underTest.deleteById(runningChat.getId());
+    underTest.deleteById(stoppedChat.getId());
+  }
+
+  private Chat givenAnActiveChatUpdatedAt(LocalDateTime updateDate) {
+    var activeChat = new Chat();
+    activeChat.setTopic(RandomStringUtils.randomAlphanumeric(1, 255));
+    activeChat.setConsultingTypeId(1);
+    activeChat.setInitialStartDate(LocalDateTime.now());
+    activeChat.setStartDate(LocalDateTime.now());
+    activeChat.setDuration(120);
+    activeChat.setActive(true);
+    activeChat.setUpdateDate(updateDate);
+    activeChat.setChatOwner(consultant);
+    return underTest.save(activeChat);
+  }
+
   private void givenAValidChat() {
     chat = new Chat();
     chat.setTopic(RandomStringUtils.randomAlphanumeric(1, 255));
@@ -11,6 +11,7 @@ import com.google.common.collect.Lists;
 import com.neovisionaries.i18n.LanguageCode;
 import de.caritas.cob.userservice.api.model.Appointment;
 import de.caritas.cob.userservice.api.model.Consultant;
+import de.caritas.cob.userservice.api.model.Consultant.ConsultantRocketChatId;
 import de.caritas.cob.userservice.api.model.ConsultantAgency;
 import de.caritas.cob.userservice.api.model.Language;
 import java.time.LocalDateTime;
@@ -226,6 +227,17 @@ class ConsultantRepositoryIT {
     consultantPage.forEach(consultant -> assertTrue(matchingIds.contains(consultant.getId())));
   }
 
+  @Test
+  void findIdsByRocketChatIdInAndDeleteDateIsNullShouldFindConsultantIdsInOneQuery() {
+    var consultantIds =
+        underTest.findIdsByRocketChatIdInAndDeleteDateIsNull(
+            List.of("RMuMMjeaZh642fZa7", "4nWTY9Tq56oz3BTHp", "unknown"));
+
+    assertEquals(
+        Set.of("0b3b1cc6-be98-4787-aa56-212259d811b9", "1293c11a-1b3e-47b8-a16e-ce0a8f055689"),
+        consultantIds.stream().map(ConsultantRocketChatId::getId).collect(Collectors.toSet()));
+  }
+
   @Test
   void findAllByInfixShouldReturnEmptyResultIfNoneMatching() {
     var infix = RandomStringUtils.randomAlphanumeric(4);
@@ -490,6 +502,34 @@ class ConsultantRepositoryIT {
         count, List.of(agencyId), RandomStringUtils.randomAlphanumeric(8));
   }
 
+  @Test
+  void findAllWithAgenciesByIdInShouldFindConsultantsWithAllTheirAgenciesInOneQuery() {
+    var agencyId = givenANewAgencyId();
+    givenConsultantsWithAgencyId(2, agencyId);
+    var deletedConsultantAgency =
+        consultantAgencyRepository.findByAgencyIdAndDeleteDateIsNull(agencyId).get(0);
+    deletedConsultantAgency.setDeleteDate(LocalDateTime.now());
+    consultantAgencyRepository.save(deletedConsultantAgency);
+    givenConsultantsMatchingEmail(1, RandomStringUtils.randomAlphanumeric(8));
+
+    var consultantsWithAgencies = underTest.findAllWithAgenciesByIdIn(matchingIds);
+
+    assertEquals(3, consultantsWithAgencies.size());
+    assertEquals(
+        Set.copyOf(matchingIds),
+        consultantsWithAgencies.stream()
+            .map(consultantWithAgency -> consultantWithAgency.getConsultant().getId())
+            .collect(Collectors.toSet()));
+    var agencyRows =
+        consultantsWithAgencies.stream()
+            .filter(consultantWithAgency -> nonNull(consultantWithAgency.getId()))
+            .collect(Collectors.toList());
+    assertEquals(2, agencyRows.size());
+    agencyRows.forEach(
+        consultantWithAgency -> assertEquals(agencyId, consultantWithAgency.getAgencyId()));
+    assertEquals(1, agencyRows.stream().filter(row -> nonNull(row.getDeleteDate())).count());
+  }
+
   private void givenConsultantsMatchingEmailAndAgencyId(
       @PositiveOrZero int count, List<Long> agencyIds, @NotBlank String infix) {
     while (count-- > 0) {
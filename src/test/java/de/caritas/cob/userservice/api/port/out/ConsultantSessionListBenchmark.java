@@ -0,0 +1,217 @@
+package de.caritas.cob.userservice.api.port.out;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of loading the session list of a consultant with 1k and 10k sessions. Compares the
+ * former two status queries with a lazy load of user and session data per session to the single
+ * fetch join of {@link SessionRepository#findByConsultantAndStatusInFetchingListData}. The queries
+ * counter holds the statements of one loaded list, JMH sums it over the measurement iterations. The
+ * database is an in-memory H2 with the relevant columns only. Run it with the main method from the
+ * test classpath, it is not part of the test suite.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConsultantSessionListBenchmark {
+
+  private static final String CONSULTANT_ID = "consultant";
+  private static final int IN_PROGRESS = 2;
+  private static final int DONE = 4;
+  private static final int SESSION_DATA_PER_SESSION = 2;
+  private static final String SESSIONS_BY_STATUS =
+      "SELECT id, user_id, status, group_id FROM session WHERE consultant_id = ? AND status = ?";
+  private static final String USER_BY_ID = "SELECT user_id, username FROM user WHERE user_id = ?";
+  private static final String SESSION_DATA_BY_SESSION =
+      "SELECT id, data_key, data_value FROM session_data WHERE session_id = ?";
+  private static final String SESSIONS_FETCHING_LIST_DATA =
+      "SELECT s.id, s.status, s.group_id, u.user_id, u.username, c.consultant_id, c.username,"
+          + " d.id, d.data_key, d.data_value FROM session s"
+          + " JOIN user u ON u.user_id = s.user_id"
+          + " LEFT JOIN consultant c ON c.consultant_id = s.consultant_id"
+          + " LEFT JOIN session_data d ON d.session_id = s.id"
+          + " WHERE s.consultant_id = ? AND s.status IN (?, ?) ORDER BY s.status";
+
+  @Param({"1000", "10000"})
+  private int sessions;
+
+  private Connection connection;
+  private PreparedStatement sessionsByStatus;
+  private PreparedStatement userById;
+  private PreparedStatement sessionDataBySession;
+  private PreparedStatement sessionsFetchingListData;
+
+  /** Statements issued for the last loaded session list. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class QueryCounter {
+
+    public long queries;
+
+    @Setup(Level.Invocation)
+    public void reset() {
+      queries = 0;
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(ConsultantSessionListBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+
+  @Setup(Level.Trial)
+  public void setup() throws SQLException {
+    connection = DriverManager.getConnection("jdbc:h2:mem:sessionlistbenchmark");
+    try (var statement = connection.createStatement()) {
+      statement.execute(
+          "CREATE TABLE consultant (consultant_id VARCHAR(36) PRIMARY KEY,"
+              + " username VARCHAR(255))");
+      statement.execute(
+          "CREATE TABLE user (user_id VARCHAR(36) PRIMARY KEY, username VARCHAR(255))");
+      statement.execute(
+          "CREATE TABLE session (id BIGINT PRIMARY KEY, user_id VARCHAR(36),"
+              + " consultant_id VARCHAR(36), status INT, group_id VARCHAR(255))");
+      statement.execute("CREATE INDEX idx_consultant_status ON session (consultant_id, status)");
+      statement.execute(
+          "CREATE TABLE session_data (id BIGINT PRIMARY KEY, session_id BIGINT,"
+              + " data_key VARCHAR(255), data_value VARCHAR(255))");
+      statement.execute("CREATE INDEX idx_session_id ON session_data (session_id)");
+      statement.execute(
+          "INSERT INTO consultant VALUES ('" + CONSULTANT_ID + "', 'consultant-name')");
+    }
+    insertSessions();
+
+    sessionsByStatus = connection.prepareStatement(SESSIONS_BY_STATUS);
+    userById = connection.prepareStatement(USER_BY_ID);
+    sessionDataBySession = connection.prepareStatement(SESSION_DATA_BY_SESSION);
+    sessionsFetchingListData = connection.prepareStatement(SESSIONS_FETCHING_LIST_DATA);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    sessionsByStatus.close();
+    userById.close();
+    sessionDataBySession.close();
+    sessionsFetchingListData.close();
+    connection.close();
+  }
+
+  @Benchmark
+  public List<Object[]> queryPerStatusWithLazyLoadedListData(QueryCounter counter)
+      throws SQLException {
+    var rows = new ArrayList<Object[]>(sessions);
+    for (var status : new int[] {IN_PROGRESS, DONE}) {
+      sessionsByStatus.setString(1, CONSULTANT_ID);
+      sessionsByStatus.setInt(2, status);
+      counter.queries++;
+      try (var resultSet = sessionsByStatus.executeQuery()) {
+        while (resultSet.next()) {
+          var sessionId = resultSet.getLong(1);
+          var userId = resultSet.getString(2);
+          rows.add(
+              new Object[] {
+                sessionId, loadUsername(userId, counter), loadSessionData(sessionId, counter)
+              });
+        }
+      }
+    }
+    return rows;
+  }
+
+  @Benchmark
+  public List<Object[]> singleQueryFetchingListData(QueryCounter counter) throws SQLException {
+    var rows = new ArrayList<Object[]>(sessions * SESSION_DATA_PER_SESSION);
+    sessionsFetchingListData.setString(1, CONSULTANT_ID);
+    sessionsFetchingListData.setInt(2, IN_PROGRESS);
+    sessionsFetchingListData.setInt(3, DONE);
+    counter.queries++;
+    try (var resultSet = sessionsFetchingListData.executeQuery()) {
+      while (resultSet.next()) {
+        rows.add(
+            new Object[] {resultSet.getLong(1), resultSet.getString(5), resultSet.getString(10)});
+      }
+    }
+    return rows;
+  }
+
+  private String loadUsername(String userId, QueryCounter counter) throws SQLException {
+    userById.setString(1, userId);
+    counter.queries++;
+    try (var resultSet = userById.executeQuery()) {
+      return resultSet.next() ? resultSet.getString(2) : null;
+    }
+  }
+
+  private List<String> loadSessionData(long sessionId, QueryCounter counter) throws SQLException {
+    sessionDataBySession.setLong(1, sessionId);
+    counter.queries++;
+    var sessionData = new ArrayList<String>(SESSION_DATA_PER_SESSION);
+    try (var resultSet = sessionDataBySession.executeQuery()) {
+      while (resultSet.next()) {
+        sessionData.add(resultSet.getString(3));
+      }
+    }
+    return sessionData;
+  }
+
+  private void insertSessions() throws SQLException {
+    try (var user = connection.prepareStatement("INSERT INTO user VALUES (?, ?)");
+        var session = connection.prepareStatement("INSERT INTO session VALUES (?, ?, ?, ?, ?)");
+        var sessionData =
+            connection.prepareStatement("INSERT INTO session_data VALUES (?, ?, ?, ?)")) {
+      for (var i = 0; i < sessions; i++) {
+        var userId = "user-" + i;
+        user.setString(1, userId);
+        user.setString(2, "asker-" + i);
+        user.addBatch();
+
+        session.setLong(1, i);
+        session.setString(2, userId);
+        session.setString(3, CONSULTANT_ID);
+        session.setInt(4, i % 2 == 0 ? IN_PROGRESS : DONE);
+        session.setString(5, "group-" + i);
+        session.addBatch();
+
+        for (var j = 0; j < SESSION_DATA_PER_SESSION; j++) {
+          sessionData.setLong(1, (long) i * SESSION_DATA_PER_SESSION + j);
+          sessionData.setLong(2, i);
+          sessionData.setString(3, "key-" + j);
+          sessionData.setString(4, "value-" + j);
+          sessionData.addBatch();
+        }
+      }
+      user.executeBatch();
+      session.executeBatch();
+      sessionData.executeBatch();
+    }
+  }
+}
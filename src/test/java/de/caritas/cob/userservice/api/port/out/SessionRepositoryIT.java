@@ -11,8 +11,11 @@ import de.caritas.cob.userservice.api.model.Session.SessionStatus;
 import de.caritas.cob.userservice.api.model.SessionData;
 import de.caritas.cob.userservice.api.model.SessionData.SessionDataType;
 import de.caritas.cob.userservice.api.model.User;
+import java.time.LocalDateTime;
 import java.util.List;
+import javax.persistence.EntityManager;
 import org.apache.commons.lang3.RandomStringUtils;
+import org.hibernate.SessionFactory;
 import org.jeasy.random.EasyRandom;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -33,6 +36,10 @@ class SessionRepositoryIT {
 
   @Autowired private UserRepository userRepository;
 
+  @Autowired private ConsultantRepository consultantRepository;
+
+  @Autowired private EntityManager entityManager;
+
   private User user;
 
   private Session session;
@@ -62,6 +69,72 @@ class SessionRepositoryIT {
     assertFalse(foundSession.isTeamSession());
   }
 
+  @Test
+  void findByConsultantAndStatusInFetchingListDataShouldLoadListDataWithOneQuery() {
+    givenAUser();
+    givenValidSession();
+    var consultant = consultantRepository.findAll().iterator().next();
+    session.setConsultant(consultant);
+    session.setStatus(SessionStatus.IN_PROGRESS);
+    session = underTest.save(session);
+    entityManager.flush();
+    entityManager.clear();
+    var statistics =
+        entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+
+    var sessions =
+        underTest.findByConsultantAndStatusInFetchingListData(
+            consultant, List.of(SessionStatus.IN_PROGRESS, SessionStatus.DONE));
+    sessions.forEach(
+        foundSession -> {
+          foundSession.getUser().getUsername();
+          foundSession.getConsultant().getFirstName();
+          foundSession.getSessionData().size();
+        });
+
+    assertTrue(sessions.contains(session));
+    assertTrue(
+        sessions.stream().allMatch(foundSession -> foundSession.getStatus() != SessionStatus.NEW));
+    assertEquals(1, statistics.getPrepareStatementCount());
+    statistics.setStatisticsEnabled(false);
+  }
+
+  @Test
+  void countByStatusAndEnquiryMessageDateBeforeGroupedByAgencyShouldCountOnlyOlderEnquiries() {
+    givenAUser();
+    givenValidSession();
+    Long agencyId = 987654321L;
+    var threshold = LocalDateTime.now().minusHours(12);
+    session.setAgencyId(agencyId);
+    session.setStatus(SessionStatus.NEW);
+    session.setEnquiryMessageDate(threshold.minusHours(1));
+    session = underTest.save(session);
+    var youngerSession = new Session();
+    youngerSession.setUser(user);
+    youngerSession.setConsultingTypeId(1);
+    youngerSession.setRegistrationType(RegistrationType.REGISTERED);
+    youngerSession.setPostcode(RandomStringUtils.randomNumeric(5));
+    youngerSession.setLanguageCode(LanguageCode.de);
+    youngerSession.setAgencyId(agencyId);
+    youngerSession.setStatus(SessionStatus.NEW);
+    youngerSession.setEnquiryMessageDate(threshold.plusHours(1));
+    youngerSession = underTest.save(youngerSession);
+
+    var openEnquiries =
+        underTest.countByStatusAndEnquiryMessageDateBeforeGroupedByAgency(
+            SessionStatus.NEW, threshold);
+
+    var openEnquiriesOfAgency =
+        openEnquiries.stream()
+            .filter(agencyOpenEnquiries -> agencyId.equals(agencyOpenEnquiries.getAgencyId()))
+            .findFirst();
+    assertTrue(openEnquiriesOfAgency.isPresent());
+    assertEquals(1L, openEnquiriesOfAgency.get().getOpenEnquiries());
+    underTest.delete(youngerSession);
+  }
+
   private void givenValidSession() {
     session = new Session();
     session.setUser(user);
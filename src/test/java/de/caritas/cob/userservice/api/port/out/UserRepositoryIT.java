@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import com.neovisionaries.i18n.LanguageCode;
 import de.caritas.cob.userservice.api.config.JpaAuditingConfiguration;
 import de.caritas.cob.userservice.api.model.User;
+import de.caritas.cob.userservice.api.model.User.UserRcUserId;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
@@ -71,6 +72,18 @@ class UserRepositoryIT {
     users.stream().forEach(this::assertThatHasNotificationSettings);
   }
 
+  @Test
+  void findUserIdsByRcUserIdInAndDeleteDateIsNullShouldFindUserIdsInOneQuery() {
+    var userIds =
+        userRepository.findUserIdsByRcUserIdInAndDeleteDateIsNull(
+            List.of("dciScSDa9Qm8vmEBB", "jJDD4bEAD8qSA6YLc", "unknown"));
+
+    assertThat(userIds).hasSize(2);
+    assertThat(userIds.stream().map(UserRcUserId::getUserId))
+        .containsExactlyInAnyOrder(
+            "015d013d-95e7-4e91-85b5-12cdb3d317f3", "017cac2a-2086-47eb-9f8e-40547dfa2fd5");
+  }
+
   private void assertThatHasNotificationSettings(User user) {
     assertThat(user.isNotificationsEnabled());
     assertThat(user.getNotificationsSettings()).isNull();
@@ -3,6 +3,7 @@ package de.caritas.cob.userservice.api.service;
 import static org.junit.jupiter.api.Assertions.*;
 
 import de.caritas.cob.userservice.api.exception.CustomCryptoException;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -65,4 +66,32 @@ public class DecryptionServiceTest {
       assertTrue(true, "Expected BadPaddingException thrown");
     }
   }
+
+  @Test
+  public void decrypt_Should_NotUseCachedKey_When_MasterKeyWasUpdated() throws Exception {
+    encryptionService.decrypt(MESSAGE_ENCRYPTED, KEY_SESSION);
+
+    encryptionService.updateMasterKey("OtherMasterKey");
+
+    assertThrows(
+        CustomCryptoException.class,
+        () -> encryptionService.decrypt(MESSAGE_ENCRYPTED, KEY_SESSION));
+  }
+
+  @Test
+  public void decryptAll_Should_ReturnDecryptedTextsMappedBySecret() throws Exception {
+    var decryptedMessages =
+        encryptionService.decryptAll(
+            Map.of(KEY_SESSION, MESSAGE_ENCRYPTED, KEY_SESSION_WRONG, MESSAGE_PLAIN));
+
+    assertEquals(
+        Map.of(KEY_SESSION, MESSAGE_PLAIN, KEY_SESSION_WRONG, MESSAGE_PLAIN), decryptedMessages);
+  }
+
+  @Test
+  public void decryptAll_Should_ThrowCustomCryptoException_When_OneMessageCannotBeDecrypted() {
+    assertThrows(
+        CustomCryptoException.class,
+        () -> encryptionService.decryptAll(Map.of(KEY_SESSION_WRONG, MESSAGE_ENCRYPTED)));
+  }
 }
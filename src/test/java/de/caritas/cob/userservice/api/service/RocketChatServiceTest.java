@@ -33,6 +33,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.atLeastOnce;
@@ -45,12 +46,15 @@ import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.MongoException;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatClient;
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentialsProvider;
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatMapper;
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService;
 import de.caritas.cob.userservice.api.adapters.rocketchat.config.RocketChatConfig;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.StandardResponseDTO;
@@ -61,6 +65,9 @@ import de.caritas.cob.userservice.api.adapters.rocketchat.dto.group.GroupRespons
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.group.GroupsListAllResponseDTO;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.login.DataDTO;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.login.LoginResponseDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.login.PresenceDTO.PresenceStatus;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.login.PresenceListDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.login.PresenceOtherDTO;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.logout.LogoutResponseDTO;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsGetDTO;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsUpdateDTO;
@@ -78,18 +85,20 @@ import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatCreateGroup
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatDeleteGroupException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatDeleteUserException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatGetGroupMembersException;
-import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatGetGroupsListAllException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatGetUserIdException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatLoginException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatRemoveSystemMessagesException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatRemoveUserFromGroupException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatUserNotInitializedException;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.bson.Document;
 import org.bson.conversions.Bson;
@@ -125,9 +134,10 @@ class RocketChatServiceTest {
   private final GroupResponseDTO EMPTY_GROUP_RESPONSE_DTO =
       new GroupResponseDTO(null, false, null, null);
   private final SubscriptionsGetDTO SUBSCRIPTIONS_GET_DTO =
-      new SubscriptionsGetDTO(new SubscriptionsUpdateDTO[] {}, false, null, null);
+      new SubscriptionsGetDTO(
+          new SubscriptionsUpdateDTO[] {}, new SubscriptionsUpdateDTO[] {}, false, null, null);
   private final RoomsGetDTO ROOMS_GET_DTO =
-      new RoomsGetDTO(new RoomsUpdateDTO[] {}, true, null, null);
+      new RoomsGetDTO(new RoomsUpdateDTO[] {}, new RoomsUpdateDTO[] {}, true, null, null);
   private final ResponseEntity<SubscriptionsGetDTO> SUBSCRIPTIONS_GET_RESPONSE_ENTITY =
       new ResponseEntity<>(SUBSCRIPTIONS_GET_DTO, HttpStatus.OK);
   private final ResponseEntity<RoomsGetDTO> ROOMS_GET_RESPONSE_ENTITY =
@@ -1049,163 +1059,134 @@ class RocketChatServiceTest {
   }
 
   @Test
-  void fetchAllInactivePrivateGroupsSinceGivenDate_ShouldThrowException_WhenRocketChatCallFails()
+  void streamInactivePrivateGroupsSinceGivenDate_Should_RequestNextPageOnlyWhenConsumed()
       throws RocketChatUserNotInitializedException {
-
     when(rcCredentialsHelper.getTechnicalUser()).thenReturn(RC_CREDENTIALS_TECHNICAL_A);
-    HttpServerErrorException httpServerErrorException =
-        new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR, "HttpServerErrorException");
     when(restTemplate.exchange(
             anyString(),
             eq(HttpMethod.GET),
             any(),
             eq(GroupsListAllResponseDTO.class),
-            anyString()))
-        .thenThrow(httpServerErrorException);
-
-    try {
-      this.rocketChatService.fetchAllInactivePrivateGroupsSinceGivenDate(LocalDateTime.now());
-      fail("Expected exception: RocketChatGetGroupsListAllException");
-    } catch (RocketChatGetGroupsListAllException ex) {
-      assertTrue(true, "Excepted RocketChatGetGroupsListAllException thrown");
-      assertEquals("Could not get all rocket chat groups", ex.getMessage());
-    }
-  }
-
-  @Test
-  void
-      fetchAllInactivePrivateGroupsSinceGivenDate_Should_ThrowException_WhenHttpStatusFromRocketChatCallIsNotOk()
-          throws RocketChatUserNotInitializedException {
-
-    when(rcCredentialsHelper.getTechnicalUser()).thenReturn(RC_CREDENTIALS_TECHNICAL_A);
-    when(restTemplate.exchange(
             anyString(),
-            eq(HttpMethod.GET),
-            any(),
-            eq(GroupsListAllResponseDTO.class),
             anyString()))
-        .thenReturn(
-            new ResponseEntity<>(GROUPS_LIST_ALL_RESPONSE_DTO_EMPTY, HttpStatus.BAD_REQUEST));
-
-    try {
-      this.rocketChatService.fetchAllInactivePrivateGroupsSinceGivenDate(LocalDateTime.now());
-      fail("Expected exception: RocketChatGetGroupsListAllException");
-    } catch (RocketChatGetGroupsListAllException ex) {
-      assertTrue(true, "Excepted RocketChatGetGroupsListAllException thrown");
-      assertEquals("Could not get all rocket chat groups", ex.getMessage());
-    }
-  }
+        .thenReturn(new ResponseEntity<>(GROUPS_LIST_ALL_RESPONSE_DTO_PAGINATED, HttpStatus.OK));
 
-  @Test
-  void fetchAllInactivePrivateGroupsSinceGivenDate_Should_ReturnCorrectGroupDtoList()
-      throws RocketChatUserNotInitializedException, RocketChatGetGroupsListAllException {
+    var groups =
+        this.rocketChatService.streamInactivePrivateGroupsSinceGivenDate(LocalDateTime.now());
+    var firstThreeGroups = groups.limit(3).collect(Collectors.toList());
 
-    when(rcCredentialsHelper.getTechnicalUser()).thenReturn(RC_CREDENTIALS_TECHNICAL_A);
-    when(restTemplate.exchange(
+    assertThat(firstThreeGroups.size(), is(3));
+    verify(restTemplate, times(2))
+        .exchange(
             anyString(),
             eq(HttpMethod.GET),
             any(),
             eq(GroupsListAllResponseDTO.class),
-            anyString()))
-        .thenReturn(new ResponseEntity<>(GROUPS_LIST_ALL_RESPONSE_DTO, HttpStatus.OK));
-
-    List<GroupDTO> result =
-        this.rocketChatService.fetchAllInactivePrivateGroupsSinceGivenDate(LocalDateTime.now());
-
-    assertThat(result.size(), is(2));
-    assertThat(result.contains(GROUP_DTO), is(true));
-    assertThat(result.contains(GROUP_DTO_2), is(true));
+            anyString(),
+            anyString());
   }
 
   @Test
-  void fetchAllInactivePrivateGroupsSinceGivenDate_Should_UseCorrectMongoQuery()
-      throws RocketChatUserNotInitializedException, RocketChatGetGroupsListAllException {
-
-    LocalDateTime dateToCheck = LocalDateTime.of(2021, 1, 1, 0, 0, 0);
-
+  void streamInactivePrivateGroupsSinceGivenDate_Should_ReadAllPagesSortedByOwner()
+      throws RocketChatUserNotInitializedException {
+    var dateToCheck = LocalDateTime.of(2021, 1, 1, 0, 0, 0);
     when(rcCredentialsHelper.getTechnicalUser()).thenReturn(RC_CREDENTIALS_TECHNICAL_A);
     when(restTemplate.exchange(
             anyString(),
             eq(HttpMethod.GET),
             any(),
             eq(GroupsListAllResponseDTO.class),
+            anyString(),
             anyString()))
-        .thenReturn(new ResponseEntity<>(GROUPS_LIST_ALL_RESPONSE_DTO, HttpStatus.OK));
+        .thenReturn(new ResponseEntity<>(GROUPS_LIST_ALL_RESPONSE_DTO_PAGINATED, HttpStatus.OK));
 
-    this.rocketChatService.fetchAllInactivePrivateGroupsSinceGivenDate(dateToCheck);
+    var groupCount =
+        this.rocketChatService.streamInactivePrivateGroupsSinceGivenDate(dateToCheck).count();
 
+    assertThat(groupCount, is(20L));
     String correctMongoQuery =
         "{\"lm\": {\"$lt\": {\"$date\": \"2021-01-01T00:00:00.000Z\"}},"
             + " \"$and\": [{\"t\": \"p\"}]}";
-    verify(restTemplate, times(2))
+    verify(restTemplate, times(10))
         .exchange(
             anyString(),
             eq(HttpMethod.GET),
             any(),
             eq(GroupsListAllResponseDTO.class),
-            eq(correctMongoQuery));
+            eq(correctMongoQuery),
+            eq("{\"u._id\":1}"));
   }
 
   @Test
   void
-      fetchAllInactivePrivateGroupsSinceGivenDate_Should_CallRocketChatApiMultipleTimes_When_ResultIsPaginated()
-          throws RocketChatUserNotInitializedException, RocketChatGetGroupsListAllException {
-
-    LocalDateTime dateToCheck = LocalDateTime.of(2021, 1, 1, 0, 0, 0);
-
+      streamInactivePrivateGroupsSinceGivenDate_Should_ThrowInternalServerErrorException_When_RocketChatCallFails()
+          throws RocketChatUserNotInitializedException {
     when(rcCredentialsHelper.getTechnicalUser()).thenReturn(RC_CREDENTIALS_TECHNICAL_A);
     when(restTemplate.exchange(
             anyString(),
             eq(HttpMethod.GET),
             any(),
             eq(GroupsListAllResponseDTO.class),
+            anyString(),
             anyString()))
-        .thenReturn(new ResponseEntity<>(GROUPS_LIST_ALL_RESPONSE_DTO_PAGINATED, HttpStatus.OK));
+        .thenReturn(
+            new ResponseEntity<>(GROUPS_LIST_ALL_RESPONSE_DTO_EMPTY, HttpStatus.BAD_REQUEST));
 
-    this.rocketChatService.fetchAllInactivePrivateGroupsSinceGivenDate(dateToCheck);
+    var groups =
+        this.rocketChatService.streamInactivePrivateGroupsSinceGivenDate(LocalDateTime.now());
 
-    String correctMongoQuery =
-        "{\"lm\": {\"$lt\": {\"$date\": \"2021-01-01T00:00:00.000Z\"}},"
-            + " \"$and\": [{\"t\": \"p\"}]}";
-    verify(restTemplate, times(11))
-        .exchange(
-            anyString(),
-            eq(HttpMethod.GET),
-            any(),
-            eq(GroupsListAllResponseDTO.class),
-            eq(correctMongoQuery));
+    assertThrows(InternalServerErrorException.class, groups::count);
   }
 
   @Test
   void
-      fetchAllInactivePrivateGroupsSinceGivenDate_Should_CallRocketChatApiOnlyOnce_When_ResponseContainsTotalOfZeroElements()
-          throws RocketChatUserNotInitializedException, RocketChatGetGroupsListAllException {
-
-    LocalDateTime dateToCheck = LocalDateTime.of(2021, 1, 1, 0, 0, 0);
+      streamInactivePrivateGroupsSinceGivenDateFromDatabase_Should_MapRoomsToGroupsAndCloseCursor() {
+    var room = new Document("_id", RC_GROUP_ID);
+    room.put("u", new Document("_id", RC_USER_ID).append("username", USERNAME));
+    when(mockedMongoClient.getDatabase("rocketchat")).thenReturn(mongoDatabase);
+    when(mongoDatabase.getCollection("rocketchat_room")).thenReturn(mongoCollection);
+    when(mongoCollection.find(any(Bson.class))).thenReturn(findIterable);
+    when(findIterable.projection(any())).thenReturn(findIterable);
+    when(findIterable.sort(any())).thenReturn(findIterable);
+    when(findIterable.allowDiskUse(true)).thenReturn(findIterable);
+    when(findIterable.batchSize(100)).thenReturn(findIterable);
+    when(findIterable.iterator()).thenReturn(mongoCursor);
+    when(mongoCursor.hasNext()).thenReturn(true, false);
+    when(mongoCursor.next()).thenReturn(room);
+
+    List<GroupDTO> groups;
+    try (var groupStream =
+        this.rocketChatService.streamInactivePrivateGroupsSinceGivenDateFromDatabase(
+            LocalDateTime.now())) {
+      groups = groupStream.collect(Collectors.toList());
+    }
 
-    when(rcCredentialsHelper.getTechnicalUser()).thenReturn(RC_CREDENTIALS_TECHNICAL_A);
-    when(restTemplate.exchange(
-            anyString(),
-            eq(HttpMethod.GET),
-            any(),
-            eq(GroupsListAllResponseDTO.class),
-            anyString()))
-        .thenReturn(
-            new ResponseEntity<>(
-                GROUPS_LIST_ALL_RESPONSE_DTO_PAGINATED_WITH_TOTAL_ZERO_ELEMENTS, HttpStatus.OK));
+    assertThat(groups.size(), is(1));
+    assertThat(groups.get(0).getId(), is(RC_GROUP_ID));
+    assertThat(groups.get(0).getUser().getId(), is(RC_USER_ID));
+    assertThat(groups.get(0).getUser().getUsername(), is(USERNAME));
+    verify(mongoCursor).close();
+  }
 
-    this.rocketChatService.fetchAllInactivePrivateGroupsSinceGivenDate(dateToCheck);
+  @Test
+  void
+      streamInactivePrivateGroupsSinceGivenDateFromDatabase_Should_ThrowInternalServerError_When_CursorFails() {
+    when(mockedMongoClient.getDatabase("rocketchat")).thenReturn(mongoDatabase);
+    when(mongoDatabase.getCollection("rocketchat_room")).thenReturn(mongoCollection);
+    when(mongoCollection.find(any(Bson.class))).thenReturn(findIterable);
+    when(findIterable.projection(any())).thenReturn(findIterable);
+    when(findIterable.sort(any())).thenReturn(findIterable);
+    when(findIterable.allowDiskUse(true)).thenReturn(findIterable);
+    when(findIterable.batchSize(100)).thenReturn(findIterable);
+    when(findIterable.iterator()).thenReturn(mongoCursor);
+    when(mongoCursor.hasNext()).thenThrow(new MongoException("cursor lost"));
 
-    String correctMongoQuery =
-        "{\"lm\": {\"$lt\": {\"$date\": \"2021-01-01T00:00:00.000Z\"}},"
-            + " \"$and\": [{\"t\": \"p\"}]}";
-    verify(restTemplate, times(1))
-        .exchange(
-            anyString(),
-            eq(HttpMethod.GET),
-            any(),
-            eq(GroupsListAllResponseDTO.class),
-            eq(correctMongoQuery));
+    try (var groupStream =
+        this.rocketChatService.streamInactivePrivateGroupsSinceGivenDateFromDatabase(
+            LocalDateTime.now())) {
+      assertThrows(InternalServerErrorException.class, groupStream::count);
+    }
+    verify(mongoCursor).close();
   }
 
   @Test
@@ -1342,6 +1323,34 @@ class RocketChatServiceTest {
     when(mongoDatabase.getCollection("rocketchat_subscription")).thenReturn(mongoCollection);
   }
 
+  @Test
+  void findPresenceChangesSince_Should_requestAndMapChangesSinceGivenDate() {
+    var rocketChatClient = mock(RocketChatClient.class);
+    setField(rocketChatService, "rocketChatClient", rocketChatClient);
+    setField(rocketChatService, "mapper", new RocketChatMapper(objectMapper));
+    var presenceList = new PresenceListDTO();
+    presenceList.setFull(false);
+    presenceList.setUsers(
+        List.of(presence("rc1", PresenceStatus.ONLINE), presence("rc2", PresenceStatus.OFFLINE)));
+    when(rocketChatClient.getForEntity(
+            contains("users.presence?from=2022-01-01T10:00:00Z"), eq(PresenceListDTO.class)))
+        .thenReturn(ResponseEntity.ok(presenceList));
+
+    var presenceChanges =
+        rocketChatService.findPresenceChangesSince(Instant.parse("2022-01-01T10:00:00Z"));
+
+    assertThat(presenceChanges.isPresent(), is(true));
+    assertThat(presenceChanges.get().get("full"), is(false));
+    assertThat(presenceChanges.get().get("availability"), is(Map.of("rc1", true, "rc2", false)));
+  }
+
+  private PresenceOtherDTO presence(String chatUserId, PresenceStatus status) {
+    var presence = new PresenceOtherDTO();
+    presence.setId(chatUserId);
+    presence.setStatus(status);
+    return presence;
+  }
+
   private Document givenSubscription(String chatUserId, String username)
       throws JsonProcessingException {
     var doc = new LinkedHashMap<String, Object>();
@@ -0,0 +1,77 @@
+package de.caritas.cob.userservice.api.service;
+
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of the crypto part of the E2E key re-encryption of one chat. Compares parsing the
+ * public key per chat with reusing the parsed key. Run it with the main method from the test
+ * classpath, it is not part of the test suite.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringConverterBenchmark {
+
+  private static final String MODULUS =
+      "l43bSozKXGPm5Fjm6bv-gO6LbPruG4fPABMfoD-IkFTgorlTTK7u1qD9RPKjlJZt41t8Z6rCfXQGwd4aJ1sIt"
+          + "7A93anv1Ai5LO90ciu7jNjTbieKtAOojcGgFwQSOn1WK_8xfakaXp9SVo3vvqB8Nk-k92EANRR4JqNmepSC5Sci"
+          + "Hr2h94c7ghaa8cazLJN1XQfgeOPa0xOqzCI_tMVhFwt3TGdZcA3bZ2UFxhdwy8W7b0942nG2PC6eXQDbbVyhJwR"
+          + "OAgM61q_DwNtOz6lOzzSC2RTiFbdGP0sHtJqAYWTAmeC8M69rufCwpzt4AV3V2H7_2h-XTRIjuVZ-pZ1xjw";
+  private static final String SECRET = "fnwebFEBK3BFE";
+  private static final String ENCRYPTED_ROOM_KEY =
+      "U2FsdGVkX18TwcLautoyvh0UfVXqu1nh1KF2VtWbP6XsWxjkjS22oHXIIpJnQgqtsLLuJ7dwlhei8ICjRK3TJw==";
+
+  private StringConverter stringConverter;
+  private PublicKey publicKey;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(StringConverterBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+
+  @Setup
+  public void setup() throws GeneralSecurityException {
+    stringConverter = new StringConverter();
+    publicKey = stringConverter.rsaPublicKeyOf(MODULUS);
+  }
+
+  @Benchmark
+  public String reEncryptParsingPublicKeyPerChat() {
+    var roomKey = stringConverter.aesDecrypt(ENCRYPTED_ROOM_KEY, SECRET);
+    return toE2eKey(stringConverter.rsaEncrypt(roomKey, MODULUS));
+  }
+
+  @Benchmark
+  public String reEncryptWithParsedPublicKey() throws GeneralSecurityException {
+    var roomKey = stringConverter.aesDecrypt(ENCRYPTED_ROOM_KEY, SECRET);
+    return toE2eKey(stringConverter.rsaEncrypt(roomKey, publicKey));
+  }
+
+  @Benchmark
+  public PublicKey parsePublicKey() throws GeneralSecurityException {
+    return stringConverter.rsaPublicKeyOf(MODULUS);
+  }
+
+  private String toE2eKey(byte[] rsaEncrypted) {
+    var intArray = stringConverter.int8Array(rsaEncrypted);
+    return stringConverter.base64AsciiEncode(stringConverter.jsonStringify(intArray));
+  }
+}
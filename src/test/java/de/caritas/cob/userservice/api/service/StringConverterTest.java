@@ -68,6 +68,23 @@ class StringConverterTest {
     assertNotNull(updatedE2eKey);
   }
 
+  @Test
+  void rsaEncryptWithParsedPublicKeyShouldProduceCipherTextOfModulusSize() throws Exception {
+    var n =
+        "l43bSozKXGPm5Fjm6bv-gO6LbPruG4fPABMfoD-IkFTgorlTTK7u1qD9RPKjlJZt41t8Z6rCfXQGwd4aJ1sIt"
+            + "7A93anv1Ai5LO90ciu7jNjTbieKtAOojcGgFwQSOn1WK_8xfakaXp9SVo3vvqB8Nk-k92EANRR4JqNmepSC5Sci"
+            + "Hr2h94c7ghaa8cazLJN1XQfgeOPa0xOqzCI_tMVhFwt3TGdZcA3bZ2UFxhdwy8W7b0942nG2PC6eXQDbbVyhJwR"
+            + "OAgM61q_DwNtOz6lOzzSC2RTiFbdGP0sHtJqAYWTAmeC8M69rufCwpzt4AV3V2H7_2h-XTRIjuVZ-pZ1xjw";
+    var publicKey = underTest.rsaPublicKeyOf(n);
+
+    var firstEncryptedBytes = underTest.rsaEncrypt("MeinRoomKey", publicKey);
+    var secondEncryptedBytes = underTest.rsaEncrypt("MeinRoomKey", publicKey);
+
+    assertEquals(256, firstEncryptedBytes.length);
+    assertEquals(256, secondEncryptedBytes.length);
+    assertEquals(256, underTest.rsaEncrypt("MeinRoomKey", n).length);
+  }
+
   @Test
   void int8ArrayShouldConvertBytesIntoUnsignedIntegers() {
     var byteArray = new byte[16];
@@ -4,7 +4,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.Lists;
-import de.caritas.cob.userservice.agencyserivce.generated.ApiClient;
 import de.caritas.cob.userservice.agencyserivce.generated.web.AgencyControllerApi;
 import de.caritas.cob.userservice.api.adapters.web.dto.AgencyDTO;
 import de.caritas.cob.userservice.api.config.apiclient.AgencyServiceApiControllerFactory;
@@ -20,6 +19,7 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.HttpHeaders;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -38,7 +38,7 @@ class AgencyServiceTest {
 
   @Mock SecurityHeaderSupplier securityHeaderSupplier;
 
-  @Mock ApiClient apiClient;
+  @Mock CacheManager cacheManager;
 
   @ParameterizedTest
   @NullAndEmptySource
@@ -55,7 +55,6 @@ class AgencyServiceTest {
     ReflectionTestUtils.setField(agencyService, "tenantHeaderSupplier", tenantHeaderSupplier);
     HttpHeaders headers = new HttpHeaders();
     when(securityHeaderSupplier.getCsrfHttpHeaders()).thenReturn(headers);
-    when(this.agencyControllerApi.getApiClient()).thenReturn(apiClient);
     var agencyDTOS =
         Lists.newArrayList(
             new de.caritas.cob.userservice.agencyserivce.generated.web.model.AgencyResponseDTO());
@@ -67,4 +66,38 @@ class AgencyServiceTest {
     assertThat(headers.get("tenantId").get(0)).isEqualTo("1");
     TenantContext.clear();
   }
+
+  @Test
+  void getAgencyWithoutCaching_Should_mapAllAgencyFields() {
+    when(securityHeaderSupplier.getCsrfHttpHeaders()).thenReturn(new HttpHeaders());
+    when(agencyServiceApiControllerFactory.createControllerApi()).thenReturn(agencyControllerApi);
+    var agencyResponseDTO =
+        new de.caritas.cob.userservice.agencyserivce.generated.web.model.AgencyResponseDTO()
+            .id(1L)
+            .name("name")
+            .postcode("12345")
+            .city("city")
+            .description("description")
+            .teamAgency(true)
+            .offline(false)
+            .consultingType(2)
+            .tenantId(3L);
+    when(this.agencyControllerApi.getAgenciesByIds(Lists.newArrayList(1L)))
+        .thenReturn(Lists.newArrayList(agencyResponseDTO));
+
+    var agency = this.agencyService.getAgencyWithoutCaching(1L);
+
+    assertThat(agency)
+        .isEqualTo(
+            new AgencyDTO()
+                .id(1L)
+                .name("name")
+                .postcode("12345")
+                .city("city")
+                .description("description")
+                .teamAgency(true)
+                .offline(false)
+                .consultingType(2)
+                .tenantId(3L));
+  }
 }
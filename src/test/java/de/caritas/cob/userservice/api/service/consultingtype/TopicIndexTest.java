@@ -0,0 +1,86 @@
+package de.caritas.cob.userservice.api.service.consultingtype;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+import de.caritas.cob.userservice.api.tenant.TenantContext;
+import de.caritas.cob.userservice.topicservice.generated.web.model.TopicDTO;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TopicIndexTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+  private static final Map<Long, TopicDTO> TOPICS = Map.of(1L, new TopicDTO().id(1L));
+
+  private final Clock clock = mock(Clock.class);
+  private final Supplier<Map<Long, TopicDTO>> topicLoader = mock(Supplier.class);
+
+  private TopicIndex topicIndex;
+
+  @BeforeEach
+  void setup() {
+    topicIndex = new TopicIndex(Runnable::run, clock);
+    setField(topicIndex, "refreshSeconds", 60L);
+    setField(topicIndex, "expireSeconds", 600L);
+    when(clock.instant()).thenReturn(NOW);
+    when(topicLoader.get()).thenReturn(TOPICS);
+  }
+
+  @AfterEach
+  void tearDown() {
+    TenantContext.clear();
+  }
+
+  @Test
+  void getTopics_Should_loadTopicsOnlyOnce_When_indexIsUpToDate() {
+    topicIndex.getTopics(topicLoader);
+    var topics = topicIndex.getTopics(topicLoader);
+
+    assertThat(topics, is(TOPICS));
+    verify(topicLoader, times(1)).get();
+  }
+
+  @Test
+  void getTopics_Should_loadTopicsPerTenant() {
+    TenantContext.setCurrentTenant(1L);
+    topicIndex.getTopics(topicLoader);
+    TenantContext.setCurrentTenant(2L);
+    topicIndex.getTopics(topicLoader);
+
+    verify(topicLoader, times(2)).get();
+  }
+
+  @Test
+  void getTopics_Should_refreshTopics_When_indexIsOutdated() {
+    topicIndex.getTopics(topicLoader);
+    when(clock.instant()).thenReturn(NOW.plusSeconds(61));
+    var refreshedTopics = Map.of(2L, new TopicDTO().id(2L));
+    when(topicLoader.get()).thenReturn(refreshedTopics);
+
+    var topics = topicIndex.getTopics(topicLoader);
+
+    assertThat(topics, is(TOPICS));
+    assertThat(topicIndex.getTopics(topicLoader), is(refreshedTopics));
+    verify(topicLoader, times(2)).get();
+  }
+
+  @Test
+  void getTopics_Should_keepOutdatedTopics_When_backgroundRefreshFails() {
+    topicIndex.getTopics(topicLoader);
+    when(clock.instant()).thenReturn(NOW.plusSeconds(61));
+    when(topicLoader.get()).thenThrow(new IllegalStateException("topic service down"));
+
+    assertThat(topicIndex.getTopics(topicLoader), is(TOPICS));
+  }
+}
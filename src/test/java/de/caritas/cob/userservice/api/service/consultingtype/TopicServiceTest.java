@@ -0,0 +1,70 @@
+package de.caritas.cob.userservice.api.service.consultingtype;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+import de.caritas.cob.userservice.api.config.apiclient.TopicServiceApiControllerFactory;
+import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
+import de.caritas.cob.userservice.api.service.httpheader.TenantHeaderSupplier;
+import de.caritas.cob.userservice.topicservice.generated.web.TopicControllerApi;
+import de.caritas.cob.userservice.topicservice.generated.web.model.TopicDTO;
+import java.time.Clock;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+
+@ExtendWith(MockitoExtension.class)
+class TopicServiceTest {
+
+  @Mock private TopicServiceApiControllerFactory topicServiceApiControllerFactory;
+
+  @Mock private SecurityHeaderSupplier securityHeaderSupplier;
+
+  @Mock private TenantHeaderSupplier tenantHeaderSupplier;
+
+  @Mock private TopicControllerApi topicControllerApi;
+
+  private TopicService topicService;
+
+  @BeforeEach
+  void setup() {
+    var topicIndex = new TopicIndex(Runnable::run, Clock.systemUTC());
+    setField(topicIndex, "refreshSeconds", 60L);
+    setField(topicIndex, "expireSeconds", 600L);
+    topicService =
+        new TopicService(
+            topicServiceApiControllerFactory,
+            securityHeaderSupplier,
+            tenantHeaderSupplier,
+            topicIndex);
+    when(securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders()).thenAnswer(i -> new HttpHeaders());
+    when(topicServiceApiControllerFactory.createControllerApi()).thenReturn(topicControllerApi);
+  }
+
+  @Test
+  void getAllTopics_Should_callTopicServiceOnlyOnce_When_topicsAreIndexed() {
+    when(topicControllerApi.getAllTopics()).thenReturn(List.of(new TopicDTO().id(1L)));
+
+    topicService.getAllTopics();
+    topicService.getAllTopics();
+    topicService.getAllTopicsMap();
+
+    verify(topicControllerApi, times(1)).getAllTopics();
+  }
+
+  @Test
+  void getAllTopics_Should_keepTheOrderOfTheTopicService() {
+    var topics = List.of(new TopicDTO().id(3L), new TopicDTO().id(1L), new TopicDTO().id(2L));
+    when(topicControllerApi.getAllTopics()).thenReturn(topics);
+
+    assertThat(topicService.getAllTopics(), contains(topics.toArray()));
+  }
+}
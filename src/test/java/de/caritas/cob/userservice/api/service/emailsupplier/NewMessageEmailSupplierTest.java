@@ -16,8 +16,10 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import ch.qos.logback.classic.Level;
@@ -25,6 +27,7 @@ import de.caritas.cob.userservice.api.config.auth.UserRole;
 import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
 import de.caritas.cob.userservice.api.manager.consultingtype.ConsultingTypeManager;
 import de.caritas.cob.userservice.api.model.Consultant;
+import de.caritas.cob.userservice.api.model.ConsultantAgency;
 import de.caritas.cob.userservice.api.model.Session;
 import de.caritas.cob.userservice.api.model.Session.SessionStatus;
 import de.caritas.cob.userservice.api.model.User;
@@ -58,6 +61,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -225,6 +229,24 @@ class NewMessageEmailSupplierTest {
     assertThat(templateData.get(2).getValue(), is("app baseurl"));
   }
 
+  @Test
+  void
+      generateEmails_Should_checkPresenceOfAllTeamConsultantsAtOnce_When_UserRoleIsUserAndSessionIsTeamSession() {
+    givenTeamSessionNotifyingAllTeamConsultants();
+    when(consultantAgencyService.findConsultantsByAgencyId(any()))
+        .thenReturn(
+            asList(
+                consultantAgencyOf("rc1"), consultantAgencyOf("rc2"), consultantAgencyOf("rc3")));
+    when(messageClient.findLoggedInUserIds(any())).thenReturn(Set.of("rc2"));
+
+    List<MailDTO> generatedMails = this.newMessageEmailSupplier.generateEmails();
+
+    assertThat(generatedMails, hasSize(2));
+    verify(messageClient, times(1)).findLoggedInUserIds(Set.of("rc1", "rc2", "rc3"));
+    verify(messageClient, never()).isLoggedIn(any());
+    verify(releaseToggleService, times(1)).isToggleEnabled(any());
+  }
+
   @Test
   void
       generateEmails_Should_ReturnEmptyListAndLogError_When_UserRoleIsConsultantAndAskerHasNoMailAddress() {
@@ -283,7 +305,7 @@ class NewMessageEmailSupplierTest {
     when(session.getConsultant()).thenReturn(CONSULTANT);
     when(session.getUser()).thenReturn(USER);
     when(session.getStatus()).thenReturn(SessionStatus.IN_PROGRESS);
-    when(messageClient.isLoggedIn(anyString())).thenReturn(Optional.of(false));
+    when(messageClient.findLoggedInUserIds(any())).thenReturn(Set.of());
 
     var generatedMails = newMessageEmailSupplier.generateEmails();
 
@@ -296,7 +318,7 @@ class NewMessageEmailSupplierTest {
     when(session.getConsultant()).thenReturn(CONSULTANT);
     when(session.getUser()).thenReturn(USER);
     when(session.getStatus()).thenReturn(SessionStatus.IN_PROGRESS);
-    when(messageClient.isLoggedIn(anyString())).thenReturn(Optional.of(true));
+    when(messageClient.findLoggedInUserIds(any())).thenReturn(Set.of(CONSULTANT.getRocketChatId()));
 
     var generatedMails = newMessageEmailSupplier.generateEmails();
 
@@ -410,7 +432,7 @@ class NewMessageEmailSupplierTest {
     when(session.getConsultant()).thenReturn(consultant);
     when(session.getUser()).thenReturn(USER);
     when(session.getStatus()).thenReturn(SessionStatus.IN_PROGRESS);
-    when(messageClient.isLoggedIn(anyString())).thenReturn(Optional.of(false));
+    when(messageClient.findLoggedInUserIds(any())).thenReturn(Set.of());
 
     newMessageEmailSupplier.generateEmails();
 
@@ -439,7 +461,7 @@ class NewMessageEmailSupplierTest {
     when(session.getConsultant()).thenReturn(CONSULTANT);
     when(session.getUser()).thenReturn(USER);
     when(session.getStatus()).thenReturn(SessionStatus.IN_PROGRESS);
-    when(messageClient.isLoggedIn(anyString())).thenReturn(Optional.of(true));
+    when(messageClient.findLoggedInUserIds(any())).thenReturn(Set.of(CONSULTANT.getRocketChatId()));
 
     newMessageEmailSupplier.generateEmails();
 
@@ -449,6 +471,27 @@ class NewMessageEmailSupplierTest {
             Level.DEBUG));
   }
 
+  private void givenTeamSessionNotifyingAllTeamConsultants() {
+    ExtendedConsultingTypeResponseDTO settings = mock(ExtendedConsultingTypeResponseDTO.class);
+    NewMessageDTO newMessageDTO = new NewMessageDTO().allTeamConsultants(true);
+    TeamSessionsDTO teamSessionsDTO = new TeamSessionsDTO().newMessage(newMessageDTO);
+    when(settings.getNotifications())
+        .thenReturn(new NotificationsDTO().teamSessions(teamSessionsDTO));
+    when(consultingTypeManager.getConsultingTypeSettings(anyInt())).thenReturn(settings);
+    when(roles.contains(UserRole.USER.getValue())).thenReturn(true);
+    when(session.isTeamSession()).thenReturn(true);
+    when(session.getUser()).thenReturn(USER);
+    when(session.getStatus()).thenReturn(SessionStatus.IN_PROGRESS);
+  }
+
+  private ConsultantAgency consultantAgencyOf(String rocketChatId) {
+    var consultant = new Consultant();
+    BeanUtils.copyProperties(CONSULTANT, consultant);
+    consultant.setRocketChatId(rocketChatId);
+    return new ConsultantAgency(
+        null, consultant, CONSULTANT_AGENCY_2.getAgencyId(), null, null, null, null, null);
+  }
+
   private void givenCurrentTenantDataIsSet() {
     var tenantData = new TenantData();
     tenantData.setTenantId(1L);
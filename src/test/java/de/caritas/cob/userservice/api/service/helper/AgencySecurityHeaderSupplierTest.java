@@ -1,12 +1,16 @@
 package de.caritas.cob.userservice.api.service.helper;
 
+import static de.caritas.cob.userservice.api.config.CacheManagerConfig.AGENCY_CACHE;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.AGENCY_DTO_LIST;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.AGENCY_ID;
+import static de.caritas.cob.userservice.api.testHelper.TestConstants.AGENCY_ID_2;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.AGENCY_ID_LIST;
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -27,10 +31,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.http.HttpHeaders;
 import org.springframework.web.context.request.RequestContextHolder;
 
@@ -55,6 +62,8 @@ class AgencySecurityHeaderSupplierTest {
 
   @Mock private AgencyServiceApiControllerFactory agencyServiceApiControllerFactory;
 
+  @Spy private CacheManager cacheManager = new ConcurrentMapCacheManager(AGENCY_CACHE);
+
   @BeforeEach
   void setup() throws NoSuchFieldException, SecurityException {
     when(agencyServiceApiControllerFactory.createControllerApi()).thenReturn(agencyControllerApi);
@@ -92,7 +101,8 @@ class AgencySecurityHeaderSupplierTest {
         new AgencyService(
             mock(SecurityHeaderSupplier.class),
             mock(TenantHeaderSupplier.class),
-            mock(AgencyServiceApiControllerFactory.class));
+            mock(AgencyServiceApiControllerFactory.class),
+            mock(CacheManager.class));
     Class classToTest = agencyService.getClass();
     Method methodToTest =
         classToTest.getMethod(GET_AGENCIES_METHOD_NAME, GET_AGENCIES_METHOD_PARAMS);
@@ -101,6 +111,39 @@ class AgencySecurityHeaderSupplierTest {
     assertNotNull(annotation);
   }
 
+  @Test
+  void getAgencies_Should_ReturnAgenciesInOrderOfProvidedIds() {
+    when(agencyControllerApi.getAgenciesByIds(List.of(AGENCY_ID_2, AGENCY_ID)))
+        .thenReturn(
+            List.of(
+                new AgencyResponseDTO().id(AGENCY_ID), new AgencyResponseDTO().id(AGENCY_ID_2)));
+
+    var agencies = agencyService.getAgencies(List.of(AGENCY_ID_2, AGENCY_ID));
+
+    assertThat(
+        agencies.stream().map(AgencyDTO::getId).collect(Collectors.toList()),
+        is(List.of(AGENCY_ID_2, AGENCY_ID)));
+    resetRequestAttributes();
+  }
+
+  @Test
+  void getAgencies_Should_FetchOnlyAgenciesMissingInCache() {
+    when(agencyControllerApi.getAgenciesByIds(List.of(AGENCY_ID)))
+        .thenReturn(this.agencyResponseDTOS);
+    when(agencyControllerApi.getAgenciesByIds(List.of(AGENCY_ID_2)))
+        .thenReturn(List.of(new AgencyResponseDTO().id(AGENCY_ID_2)));
+    agencyService.getAgencies(List.of(AGENCY_ID));
+
+    var agencies = agencyService.getAgencies(List.of(AGENCY_ID, AGENCY_ID_2));
+
+    assertThat(
+        agencies.stream().map(AgencyDTO::getId).collect(Collectors.toList()),
+        is(List.of(AGENCY_ID, AGENCY_ID_2)));
+    verify(agencyControllerApi).getAgenciesByIds(List.of(AGENCY_ID));
+    verify(agencyControllerApi).getAgenciesByIds(List.of(AGENCY_ID_2));
+    resetRequestAttributes();
+  }
+
   @Test
   void getAgency_Should_ReturnAgencyDTO_When_ProvidedWithValidAgencyId() {
 
@@ -120,7 +163,8 @@ class AgencySecurityHeaderSupplierTest {
         new AgencyService(
             mock(SecurityHeaderSupplier.class),
             mock(TenantHeaderSupplier.class),
-            mock(AgencyServiceApiControllerFactory.class));
+            mock(AgencyServiceApiControllerFactory.class),
+            mock(CacheManager.class));
     Class classToTest = agencyService.getClass();
     Method methodToTest = classToTest.getMethod(GET_AGENCY_METHOD_NAME, GET_AGENCY_METHOD_PARAMS);
     Cacheable annotation = methodToTest.getAnnotation(Cacheable.class);
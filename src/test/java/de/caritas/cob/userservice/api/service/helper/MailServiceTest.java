@@ -11,7 +11,6 @@ import static org.powermock.reflect.Whitebox.setInternalState;
 
 import de.caritas.cob.userservice.api.config.apiclient.MailServiceApiControllerFactory;
 import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
-import de.caritas.cob.userservice.mailservice.generated.ApiClient;
 import de.caritas.cob.userservice.mailservice.generated.web.MailsControllerApi;
 import de.caritas.cob.userservice.mailservice.generated.web.model.ErrorMailDTO;
 import de.caritas.cob.userservice.mailservice.generated.web.model.MailsDTO;
@@ -35,8 +34,6 @@ public class MailServiceTest {
 
   @Mock private MailsControllerApi mailsControllerApi;
 
-  @Mock private ApiClient apiClient;
-
   @Mock MailServiceApiControllerFactory mailServiceApiControllerFactory;
 
   @InjectMocks private MailService mailService;
@@ -45,7 +42,6 @@ public class MailServiceTest {
   public void setup() throws NoSuchFieldException, SecurityException {
     setInternalState(MailService.class, "log", logger);
     when(mailServiceApiControllerFactory.createControllerApi()).thenReturn(mailsControllerApi);
-    when(this.mailsControllerApi.getApiClient()).thenReturn(this.apiClient);
   }
 
   @Test
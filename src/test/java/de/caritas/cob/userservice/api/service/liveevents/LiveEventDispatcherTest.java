@@ -0,0 +1,155 @@
+package de.caritas.cob.userservice.api.service.liveevents;
+
+import static de.caritas.cob.userservice.liveservice.generated.web.model.EventType.DIRECTMESSAGE;
+import static de.caritas.cob.userservice.liveservice.generated.web.model.EventType.NEWANONYMOUSENQUIRY;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.powermock.reflect.Whitebox.setInternalState;
+
+import de.caritas.cob.userservice.api.config.apiclient.LiveServiceApiControllerFactory;
+import de.caritas.cob.userservice.api.tenant.TenantContext;
+import de.caritas.cob.userservice.api.tenant.TenantData;
+import de.caritas.cob.userservice.liveservice.generated.ApiException;
+import de.caritas.cob.userservice.liveservice.generated.web.LiveControllerApi;
+import de.caritas.cob.userservice.liveservice.generated.web.model.LiveEventMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class LiveEventDispatcherTest {
+
+  private static final long VERIFY_TIMEOUT_MILLIS = 2000L;
+
+  @Mock private LiveServiceApiControllerFactory liveServiceApiControllerFactory;
+
+  @Mock private LiveControllerApi liveControllerApi;
+
+  @Mock private Logger logger;
+
+  private SimpleMeterRegistry meterRegistry;
+
+  private LiveEventDispatcher liveEventDispatcher;
+
+  @BeforeEach
+  void setup() {
+    setInternalState(LiveEventDispatcher.class, "log", logger);
+    meterRegistry = new SimpleMeterRegistry();
+    liveEventDispatcher =
+        new LiveEventDispatcher(
+            liveServiceApiControllerFactory,
+            meterRegistry,
+            Executors.newSingleThreadScheduledExecutor());
+    ReflectionTestUtils.setField(liveEventDispatcher, "queueCapacity", 10);
+    ReflectionTestUtils.setField(liveEventDispatcher, "coalesceWindowMillis", 50L);
+    ReflectionTestUtils.setField(liveEventDispatcher, "maxRetries", 2);
+    ReflectionTestUtils.setField(liveEventDispatcher, "retryBackoffMillis", 1L);
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    liveEventDispatcher.destroy();
+  }
+
+  @Test
+  void sendDirectMessageEvent_Should_sendOneEvent_When_usersAreNotifiedWithinCoalesceWindow()
+      throws ApiException {
+    when(liveServiceApiControllerFactory.createControllerApi()).thenReturn(liveControllerApi);
+
+    liveEventDispatcher.sendDirectMessageEvent(List.of("user1", "user2"));
+    liveEventDispatcher.sendDirectMessageEvent(List.of("user2", "user3"));
+
+    var captor = ArgumentCaptor.forClass(LiveEventMessage.class);
+    verify(liveControllerApi, timeout(VERIFY_TIMEOUT_MILLIS).times(1))
+        .sendLiveEvent(captor.capture());
+    assertThat(captor.getValue().getEventType(), is(DIRECTMESSAGE));
+    assertThat(captor.getValue().getUserIds(), containsInAnyOrder("user1", "user2", "user3"));
+    assertThat(meterRegistry.counter("userservice.liveevent.coalesced").count(), is(1.0));
+  }
+
+  @Test
+  void sendLiveEvent_Should_retryAndLogError_When_liveServiceFailsRepeatedly() throws ApiException {
+    when(liveServiceApiControllerFactory.createControllerApi()).thenReturn(liveControllerApi);
+    doThrow(new ApiException("")).when(liveControllerApi).sendLiveEvent(any());
+
+    liveEventDispatcher.sendLiveEvent(
+        new LiveEventMessage().eventType(NEWANONYMOUSENQUIRY), () -> "error");
+
+    verify(logger, timeout(VERIFY_TIMEOUT_MILLIS))
+        .error(anyString(), anyString(), any(ApiException.class));
+    verify(liveControllerApi, times(3)).sendLiveEvent(any());
+    assertThat(meterRegistry.counter("userservice.liveevent.failed").count(), is(1.0));
+  }
+
+  @Test
+  void submit_Should_dropTask_When_queueCapacityIsExceeded() throws InterruptedException {
+    ReflectionTestUtils.setField(liveEventDispatcher, "queueCapacity", 1);
+    var blockingTaskStarted = new CountDownLatch(1);
+    var releaseBlockingTask = new CountDownLatch(1);
+    var executedTasks = new AtomicInteger();
+
+    liveEventDispatcher.submit(
+        () -> {
+          blockingTaskStarted.countDown();
+          awaitQuietly(releaseBlockingTask);
+          executedTasks.incrementAndGet();
+        });
+    blockingTaskStarted.await(VERIFY_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    liveEventDispatcher.submit(executedTasks::incrementAndGet);
+    releaseBlockingTask.countDown();
+    liveEventDispatcher.destroy();
+
+    assertThat(executedTasks.get(), is(1));
+    assertThat(meterRegistry.counter("userservice.liveevent.dropped").count(), is(1.0));
+  }
+
+  @Test
+  void submit_Should_runTaskWithTenantContextOfCallerAndClearItAfterwards()
+      throws InterruptedException {
+    var tenantIdOfTask = new AtomicReference<Long>();
+    var tenantDataOfNextTask = new AtomicReference<>(new TenantData());
+    TenantContext.setCurrentTenant(1L);
+
+    try {
+      liveEventDispatcher.submit(() -> tenantIdOfTask.set(TenantContext.getCurrentTenant()));
+    } finally {
+      TenantContext.clear();
+    }
+    liveEventDispatcher.submit(
+        () -> tenantDataOfNextTask.set(TenantContext.getCurrentTenantData()));
+    liveEventDispatcher.destroy();
+
+    assertThat(tenantIdOfTask.get(), is(1L));
+    assertThat(tenantDataOfNextTask.get(), is(nullValue()));
+  }
+
+  private void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(VERIFY_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
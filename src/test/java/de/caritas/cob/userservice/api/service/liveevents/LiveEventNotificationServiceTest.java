@@ -2,25 +2,21 @@ package de.caritas.cob.userservice.api.service.liveevents;
 
 import static de.caritas.cob.userservice.liveservice.generated.web.model.EventType.ANONYMOUSCONVERSATIONFINISHED;
 import static de.caritas.cob.userservice.liveservice.generated.web.model.EventType.ANONYMOUSENQUIRYACCEPTED;
-import static de.caritas.cob.userservice.liveservice.generated.web.model.EventType.DIRECTMESSAGE;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
-import static org.powermock.reflect.Whitebox.setInternalState;
 
-import de.caritas.cob.userservice.api.config.apiclient.LiveServiceApiControllerFactory;
 import de.caritas.cob.userservice.api.helper.AuthenticatedUser;
 import de.caritas.cob.userservice.api.service.mobilepushmessage.MobilePushNotificationService;
-import de.caritas.cob.userservice.liveservice.generated.ApiException;
-import de.caritas.cob.userservice.liveservice.generated.web.LiveControllerApi;
 import de.caritas.cob.userservice.liveservice.generated.web.model.EventType;
 import de.caritas.cob.userservice.liveservice.generated.web.model.LiveEventMessage;
 import de.caritas.cob.userservice.liveservice.generated.web.model.StatusSource;
@@ -35,17 +31,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
-import org.slf4j.Logger;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
 public class LiveEventNotificationServiceTest {
 
-  private static final LiveEventMessage MESSAGE = new LiveEventMessage().eventType(DIRECTMESSAGE);
-
   @InjectMocks private LiveEventNotificationService liveEventNotificationService;
 
-  @Mock private LiveControllerApi liveControllerApi;
+  @Mock private LiveEventDispatcher liveEventDispatcher;
 
   @Mock private UserIdsProviderFactory userIdsProviderFactory;
 
@@ -57,26 +50,28 @@ public class LiveEventNotificationServiceTest {
 
   @Mock private MobilePushNotificationService mobilePushNotificationService;
 
-  @Mock private Logger logger;
-
-  @Mock private LiveServiceApiControllerFactory liveServiceApiControllerFactory;
-
   @BeforeEach
   public void setup() {
-    setInternalState(LiveEventNotificationService.class, "log", logger);
-    when(liveServiceApiControllerFactory.createControllerApi()).thenReturn(liveControllerApi);
+    doAnswer(
+            invocation -> {
+              invocation.getArgument(0, Runnable.class).run();
+              return null;
+            })
+        .when(liveEventDispatcher)
+        .submit(any());
   }
 
   @Test
-  public void sendLiveDirectMessageEventToUsers_Should_callFactoryAndLiveApi_When_rcGroupIdIsValid()
-      throws ApiException {
+  public void
+      sendLiveDirectMessageEventToUsers_Should_callFactoryAndDispatcher_When_rcGroupIdIsValid() {
     when(this.bySessionProvider.collectUserIds(any())).thenReturn(asList("1", "2"));
     when(this.userIdsProviderFactory.byRocketChatGroup(any())).thenReturn(bySessionProvider);
 
     this.liveEventNotificationService.sendLiveDirectMessageEventToUsers("valid");
 
     verify(userIdsProviderFactory, times(1)).byRocketChatGroup("valid");
-    verify(liveControllerApi, times(1)).sendLiveEvent(MESSAGE.userIds(asList("1", "2")));
+    verify(liveEventDispatcher, times(1)).sendDirectMessageEvent(asList("1", "2"));
+    verify(mobilePushNotificationService, times(1)).triggerMobilePushNotification(asList("1", "2"));
   }
 
   @Test
@@ -84,7 +79,7 @@ public class LiveEventNotificationServiceTest {
     this.liveEventNotificationService.sendLiveDirectMessageEventToUsers("");
 
     verifyNoInteractions(userIdsProviderFactory);
-    verifyNoInteractions(liveControllerApi);
+    verifyNoInteractions(liveEventDispatcher);
     verifyNoInteractions(mobilePushNotificationService);
   }
 
@@ -93,24 +88,26 @@ public class LiveEventNotificationServiceTest {
     this.liveEventNotificationService.sendLiveDirectMessageEventToUsers(null);
 
     verifyNoInteractions(userIdsProviderFactory);
-    verifyNoInteractions(liveControllerApi);
+    verifyNoInteractions(liveEventDispatcher);
   }
 
   @Test
-  public void sendLiveDirectMessageEventToUsers_Should_logError_When_apiCallFails()
-      throws ApiException {
-    when(this.userIdsProviderFactory.byRocketChatGroup(any())).thenReturn(bySessionProvider);
-    when(this.bySessionProvider.collectUserIds(any())).thenReturn(singletonList("test"));
-    doThrow(new ApiException("")).when(this.liveControllerApi).sendLiveEvent(any());
+  public void
+      sendLiveDirectMessageEventToUsers_Should_resolveInitiatingUserBeforeCollectingUserIdsAsync() {
+    doAnswer(invocation -> null).when(liveEventDispatcher).submit(any());
+    when(this.authenticatedUser.getUserId()).thenReturn("id2");
 
     this.liveEventNotificationService.sendLiveDirectMessageEventToUsers("group id");
 
-    verify(logger).error(anyString(), anyString(), any(ApiException.class));
+    verify(authenticatedUser, times(1)).getUserId();
+    verify(liveEventDispatcher, times(1)).submit(any());
+    verifyNoInteractions(userIdsProviderFactory);
+    verifyNoInteractions(mobilePushNotificationService);
   }
 
   @Test
-  public void sendLiveDirectMessageEventToUsers_Should_sendEventToAllUsersInsteadOfInitiatingUser()
-      throws ApiException {
+  public void
+      sendLiveDirectMessageEventToUsers_Should_sendEventToAllUsersInsteadOfInitiatingUser() {
     List<String> userIds = asList("id1", "id2", "id3", "id4");
     when(this.byChatProvider.collectUserIds(any())).thenReturn(userIds);
     when(this.userIdsProviderFactory.byRocketChatGroup(any())).thenReturn(this.byChatProvider);
@@ -119,7 +116,7 @@ public class LiveEventNotificationServiceTest {
     this.liveEventNotificationService.sendLiveDirectMessageEventToUsers("group id");
 
     List<String> expectedIds = asList("id1", "id3", "id4");
-    verify(this.liveControllerApi, times(1)).sendLiveEvent(MESSAGE.userIds(expectedIds));
+    verify(this.liveEventDispatcher, times(1)).sendDirectMessageEvent(expectedIds);
   }
 
   @Test
@@ -128,13 +125,12 @@ public class LiveEventNotificationServiceTest {
 
     this.liveEventNotificationService.sendLiveDirectMessageEventToUsers("group id");
 
-    verifyNoInteractions(this.liveControllerApi);
+    verify(this.liveEventDispatcher, never()).sendDirectMessageEvent(any());
   }
 
   @Test
   public void
-      sendLiveDirectMessageEventToUsers_Should_sendEventToAllUsers_When_initiatingUserIsAnother()
-          throws ApiException {
+      sendLiveDirectMessageEventToUsers_Should_sendEventToAllUsers_When_initiatingUserIsAnother() {
     List<String> userIds = asList("id1", "id2", "id3", "id4");
     when(this.byChatProvider.collectUserIds(any())).thenReturn(userIds);
     when(this.userIdsProviderFactory.byRocketChatGroup(any())).thenReturn(this.byChatProvider);
@@ -142,18 +138,18 @@ public class LiveEventNotificationServiceTest {
 
     this.liveEventNotificationService.sendLiveDirectMessageEventToUsers("group id");
 
-    verify(this.liveControllerApi, times(1)).sendLiveEvent(MESSAGE.userIds(userIds));
+    verify(this.liveEventDispatcher, times(1)).sendDirectMessageEvent(userIds);
   }
 
   @Test
-  public void sendLiveNewAnonymousEnquiryEventToUsers_Should_TriggerLiveEventWithCorrectEventType()
-      throws ApiException {
+  public void
+      sendLiveNewAnonymousEnquiryEventToUsers_Should_TriggerLiveEventWithCorrectEventType() {
     List<String> userIds = List.of("1", "2");
 
     this.liveEventNotificationService.sendLiveNewAnonymousEnquiryEventToUsers(userIds, 1L);
 
     ArgumentCaptor<LiveEventMessage> captor = ArgumentCaptor.forClass(LiveEventMessage.class);
-    verify(liveControllerApi, times(1)).sendLiveEvent(captor.capture());
+    verify(liveEventDispatcher, times(1)).sendLiveEvent(captor.capture(), any());
     assertEquals(EventType.NEWANONYMOUSENQUIRY, captor.getValue().getEventType());
   }
 
@@ -161,33 +157,34 @@ public class LiveEventNotificationServiceTest {
   public void sendAcceptAnonymousEnquiryEventToUser_Should_doNothing_When_userIdIsNull() {
     this.liveEventNotificationService.sendAcceptAnonymousEnquiryEventToUser(null);
 
-    verifyNoInteractions(this.liveControllerApi);
+    verifyNoInteractions(this.liveEventDispatcher);
   }
 
   @Test
   public void sendAcceptAnonymousEnquiryEventToUser_Should_doNothing_When_userIdIsEmpty() {
     this.liveEventNotificationService.sendAcceptAnonymousEnquiryEventToUser("");
 
-    verifyNoInteractions(this.liveControllerApi);
+    verifyNoInteractions(this.liveEventDispatcher);
   }
 
   @Test
-  public void sendAcceptAnonymousEnquiryEventToUser_Should_triggerLiveEvent_When_userIdIsValid()
-      throws ApiException {
+  public void sendAcceptAnonymousEnquiryEventToUser_Should_triggerLiveEvent_When_userIdIsValid() {
     this.liveEventNotificationService.sendAcceptAnonymousEnquiryEventToUser("userId");
 
-    verify(this.liveControllerApi, times(1))
+    verify(this.liveEventDispatcher, times(1))
         .sendLiveEvent(
-            new LiveEventMessage()
-                .eventType(ANONYMOUSENQUIRYACCEPTED)
-                .userIds(singletonList("userId")));
+            eq(
+                new LiveEventMessage()
+                    .eventType(ANONYMOUSENQUIRYACCEPTED)
+                    .userIds(singletonList("userId"))),
+            any());
   }
 
   @Test
   public void sendLiveFinishedAnonymousConversationToUsers_Should_doNothing_When_userIdIsNull() {
     this.liveEventNotificationService.sendLiveFinishedAnonymousConversationToUsers(null, null);
 
-    verifyNoInteractions(this.liveControllerApi);
+    verifyNoInteractions(this.liveEventDispatcher);
   }
 
   @Test
@@ -195,23 +192,24 @@ public class LiveEventNotificationServiceTest {
     this.liveEventNotificationService.sendLiveFinishedAnonymousConversationToUsers(
         emptyList(), null);
 
-    verifyNoInteractions(this.liveControllerApi);
+    verifyNoInteractions(this.liveEventDispatcher);
   }
 
   @Test
   public void
-      sendLiveFinishedAnonymousConversationToUsers_Should_triggerLiveEvent_When_userIdIsValid()
-          throws ApiException {
+      sendLiveFinishedAnonymousConversationToUsers_Should_triggerLiveEvent_When_userIdIsValid() {
     this.liveEventNotificationService.sendLiveFinishedAnonymousConversationToUsers(
         singletonList("userId"), FinishConversationPhaseEnum.IN_PROGRESS);
 
-    verify(this.liveControllerApi, times(1))
+    verify(this.liveEventDispatcher, times(1))
         .sendLiveEvent(
-            new LiveEventMessage()
-                .eventType(ANONYMOUSCONVERSATIONFINISHED)
-                .userIds(singletonList("userId"))
-                .eventContent(
-                    new StatusSource()
-                        .finishConversationPhase(FinishConversationPhaseEnum.IN_PROGRESS)));
+            eq(
+                new LiveEventMessage()
+                    .eventType(ANONYMOUSCONVERSATIONFINISHED)
+                    .userIds(singletonList("userId"))
+                    .eventContent(
+                        new StatusSource()
+                            .finishConversationPhase(FinishConversationPhaseEnum.IN_PROGRESS))),
+            any());
   }
 }
@@ -1,38 +1,37 @@
 package de.caritas.cob.userservice.api.service.liveevents;
 
+import static de.caritas.cob.userservice.api.config.CacheManagerConfig.ROCKET_CHAT_ACCOUNT_ID_CACHE;
 import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.group.GroupMemberDTO;
-import de.caritas.cob.userservice.api.model.Consultant;
-import de.caritas.cob.userservice.api.model.User;
 import de.caritas.cob.userservice.api.service.ConsultantService;
 import de.caritas.cob.userservice.api.service.user.UserService;
 import java.util.List;
-import java.util.Optional;
-import org.apache.commons.lang3.RandomStringUtils;
-import org.jeasy.random.EasyRandom;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
 class RelevantUserAccountIdsByChatProviderTest {
 
-  private static final EasyRandom easyRandom = new EasyRandom();
-
-  @InjectMocks private RelevantUserAccountIdsByChatProvider byChatProvider;
+  private RelevantUserAccountIdsByChatProvider byChatProvider;
 
   @Mock private RocketChatService rocketChatService;
 
@@ -40,47 +39,30 @@ class RelevantUserAccountIdsByChatProviderTest {
 
   @Mock private ConsultantService consultantService;
 
+  @BeforeEach
+  void setup() {
+    this.byChatProvider =
+        new RelevantUserAccountIdsByChatProvider(
+            rocketChatService,
+            userService,
+            consultantService,
+            new ConcurrentMapCacheManager(ROCKET_CHAT_ACCOUNT_ID_CACHE));
+  }
+
   @Test
   void collectUserIds_Should_returnAllMergedDependingIds_When_rcGroupHasMembers() {
     List<GroupMemberDTO> groupMembers =
         asList(memberDTOWithRcId("rc1"), memberDTOWithRcId("rc2"), memberDTOWithRcId("rc3"));
     when(this.rocketChatService.getChatUsers(any())).thenReturn(groupMembers);
-    when(this.consultantService.getConsultantByRcUserId(eq("rc1")))
-        .thenReturn(Optional.of(consultantWithId("consultant1")));
-    when(this.userService.findUserByRcUserId(eq("rc2")))
-        .thenReturn(Optional.of(userWithId("user1")));
-    when(this.userService.findUserByRcUserId(eq("rc3")))
-        .thenReturn(Optional.of(userWithId("user2")));
+    when(this.userService.findUserIdsByRcUserIds(any()))
+        .thenReturn(Map.of("rc2", "user1", "rc3", "user2"));
+    when(this.consultantService.getConsultantIdsByRcUserIds(List.of("rc1")))
+        .thenReturn(Map.of("rc1", "consultant1"));
 
     List<String> collectedUserIds = this.byChatProvider.collectUserIds("groupId");
 
-    assertThat(collectedUserIds, hasSize(3));
-    assertThat(collectedUserIds.get(0), is("consultant1"));
-    assertThat(collectedUserIds.get(1), is("user1"));
-    assertThat(collectedUserIds.get(2), is("user2"));
-  }
-
-  private GroupMemberDTO memberDTOWithRcId(String rcId) {
-    GroupMemberDTO groupMemberDTO = new GroupMemberDTO();
-    groupMemberDTO.set_id(rcId);
-    return groupMemberDTO;
-  }
-
-  private Consultant consultantWithId(String consultantId) {
-    Consultant consultant = new Consultant();
-    consultant.setId(consultantId);
-    return consultant;
-  }
-
-  private User userWithId(String userId) {
-    var username = RandomStringUtils.randomAlphabetic(8);
-    var email =
-        RandomStringUtils.randomAlphabetic(4, 8)
-            + "@"
-            + RandomStringUtils.randomAlphabetic(4, 8)
-            + ".com";
-
-    return new User(userId, null, username, email, false);
+    assertThat(collectedUserIds, contains("consultant1", "user1", "user2"));
+    verify(this.userService, times(1)).findUserIdsByRcUserIds(List.of("rc1", "rc2", "rc3"));
   }
 
   @Test
@@ -89,10 +71,9 @@ class RelevantUserAccountIdsByChatProviderTest {
     List<GroupMemberDTO> groupMembers =
         asList(memberDTOWithRcId("rc1"), memberDTOWithRcId("rc2"), memberDTOWithRcId("rc3"));
     when(this.rocketChatService.getChatUsers(any())).thenReturn(groupMembers);
-    when(this.consultantService.getConsultantByRcUserId(eq("rc1")))
-        .thenReturn(Optional.of(consultantWithId("consultant1")));
-    when(this.userService.findUserByRcUserId(eq("rc3")))
-        .thenReturn(Optional.of(userWithId("user2")));
+    when(this.userService.findUserIdsByRcUserIds(any())).thenReturn(Map.of("rc3", "user2"));
+    when(this.consultantService.getConsultantIdsByRcUserIds(any()))
+        .thenReturn(Map.of("rc1", "consultant1"));
 
     List<String> collectedUserIds = this.byChatProvider.collectUserIds("groupId");
 
@@ -100,4 +81,52 @@ class RelevantUserAccountIdsByChatProviderTest {
     assertThat(collectedUserIds.get(0), is("consultant1"));
     assertThat(collectedUserIds.get(1), is("user2"));
   }
+
+  @Test
+  void collectUserIds_Should_notQueryConsultants_When_allMembersAreUsers() {
+    when(this.rocketChatService.getChatUsers(any())).thenReturn(List.of(memberDTOWithRcId("rc1")));
+    when(this.userService.findUserIdsByRcUserIds(any())).thenReturn(Map.of("rc1", "user1"));
+
+    List<String> collectedUserIds = this.byChatProvider.collectUserIds("groupId");
+
+    assertThat(collectedUserIds, contains("user1"));
+    verify(this.consultantService, never()).getConsultantIdsByRcUserIds(any());
+  }
+
+  @Test
+  void collectUserIds_Should_useCachedAccountIds_When_membersWereResolvedBefore() {
+    when(this.rocketChatService.getChatUsers(any()))
+        .thenReturn(List.of(memberDTOWithRcId("rc1"), memberDTOWithRcId("rc2")));
+    when(this.userService.findUserIdsByRcUserIds(any())).thenReturn(Map.of("rc1", "user1"));
+    when(this.consultantService.getConsultantIdsByRcUserIds(any()))
+        .thenReturn(Map.of("rc2", "consultant1"));
+    this.byChatProvider.collectUserIds("groupId");
+
+    List<String> collectedUserIds = this.byChatProvider.collectUserIds("groupId");
+
+    assertThat(collectedUserIds, contains("user1", "consultant1"));
+    verify(this.userService, times(1)).findUserIdsByRcUserIds(any());
+    verify(this.consultantService, times(1)).getConsultantIdsByRcUserIds(any());
+  }
+
+  @Test
+  void collectUserIds_Should_resolveAccountIdAgain_When_cachedAccountIdWasEvicted() {
+    when(this.rocketChatService.getChatUsers(any())).thenReturn(List.of(memberDTOWithRcId("rc1")));
+    when(this.userService.findUserIdsByRcUserIds(any()))
+        .thenReturn(Map.of("rc1", "user1"))
+        .thenReturn(Map.of());
+    this.byChatProvider.collectUserIds("groupId");
+
+    this.byChatProvider.evictAccountId("rc1");
+    List<String> collectedUserIds = this.byChatProvider.collectUserIds("groupId");
+
+    assertThat(collectedUserIds, hasSize(0));
+    verify(this.userService, times(2)).findUserIdsByRcUserIds(any());
+  }
+
+  private GroupMemberDTO memberDTOWithRcId(String rcId) {
+    GroupMemberDTO groupMemberDTO = new GroupMemberDTO();
+    groupMemberDTO.set_id(rcId);
+    return groupMemberDTO;
+  }
 }
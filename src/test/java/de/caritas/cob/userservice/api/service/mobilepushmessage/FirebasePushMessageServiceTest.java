@@ -1,5 +1,9 @@
 package de.caritas.cob.userservice.api.service.mobilepushmessage;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -13,9 +17,16 @@ import static org.powermock.reflect.Whitebox.setInternalState;
 import static org.springframework.test.util.ReflectionTestUtils.getField;
 import static org.springframework.test.util.ReflectionTestUtils.setField;
 
+import com.google.api.core.ApiFutures;
+import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
 import de.caritas.cob.userservice.api.service.LogService;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -60,33 +71,93 @@ public class FirebasePushMessageServiceTest {
   }
 
   @Test
-  public void pushMessage_Should_pushFirebaseMessage() throws FirebaseMessagingException {
+  public void pushMessage_Should_pushFirebaseMulticastMessage() {
     setField(this.firebasePushMessageService, "isEnabled", true);
+    givenFirebaseResponds(successfulResponse());
 
-    this.firebasePushMessageService.pushNewMessageEvent("registrationToken");
+    var unregisteredTokens =
+        this.firebasePushMessageService.pushNewMessageEvents(List.of("registrationToken")).join();
 
-    verify(this.firebaseMessaging, times(1)).send(any());
+    assertThat(unregisteredTokens, is(empty()));
+    verify(this.firebaseMessaging, times(1)).sendMulticastAsync(any());
     verifyNoMoreInteractions(logger);
   }
 
   @Test
-  public void pushMessage_Should_logWarning_When_sendFails() throws FirebaseMessagingException {
+  public void pushMessage_Should_sendMulticastMessagesOfAtMost500Tokens() {
     setField(this.firebasePushMessageService, "isEnabled", true);
-    FirebaseMessagingException exception = mock(FirebaseMessagingException.class);
-    when(this.firebaseMessaging.send(any())).thenThrow(exception);
+    var registrationTokens =
+        IntStream.range(0, 1001).mapToObj(i -> "token" + i).collect(Collectors.toList());
+    givenFirebaseResponds();
 
-    this.firebasePushMessageService.pushNewMessageEvent("registrationToken");
+    this.firebasePushMessageService.pushNewMessageEvents(registrationTokens).join();
 
+    verify(this.firebaseMessaging, times(3)).sendMulticastAsync(any());
+  }
+
+  @Test
+  public void pushMessage_Should_returnUnregisteredTokens_When_firebaseReportsUnregistered() {
+    setField(this.firebasePushMessageService, "isEnabled", true);
+    givenFirebaseResponds(successfulResponse(), failedResponse(MessagingErrorCode.UNREGISTERED));
+
+    var unregisteredTokens =
+        this.firebasePushMessageService
+            .pushNewMessageEvents(List.of("validToken", "unregisteredToken"))
+            .join();
+
+    assertThat(unregisteredTokens, contains("unregisteredToken"));
+  }
+
+  @Test
+  public void pushMessage_Should_logWarning_When_sendFails() {
+    setField(this.firebasePushMessageService, "isEnabled", true);
+    givenFirebaseResponds(failedResponse(MessagingErrorCode.INTERNAL));
+
+    var unregisteredTokens =
+        this.firebasePushMessageService.pushNewMessageEvents(List.of("registrationToken")).join();
+
+    assertThat(unregisteredTokens, is(empty()));
     verify(logger, times(1)).warn(anyString());
   }
 
   @Test
-  public void pushMessage_Should_notSendNotification_When_firebaseIsDisabled()
-      throws FirebaseMessagingException {
+  public void pushMessage_Should_logWarning_When_multicastCanNotBeSent() {
+    setField(this.firebasePushMessageService, "isEnabled", true);
+    when(this.firebaseMessaging.sendMulticastAsync(any()))
+        .thenReturn(ApiFutures.immediateFailedFuture(new IllegalStateException("offline")));
+
+    var unregisteredTokens =
+        this.firebasePushMessageService.pushNewMessageEvents(List.of("registrationToken")).join();
+
+    assertThat(unregisteredTokens, is(empty()));
+    verify(logger, times(1)).warn(anyString());
+  }
+
+  @Test
+  public void pushMessage_Should_notSendNotification_When_firebaseIsDisabled() {
     setField(this.firebasePushMessageService, "isEnabled", false);
 
-    this.firebasePushMessageService.pushNewMessageEvent("registrationToken");
+    this.firebasePushMessageService.pushNewMessageEvents(List.of("registrationToken")).join();
 
     verifyNoMoreInteractions(this.firebaseMessaging);
   }
+
+  private void givenFirebaseResponds(SendResponse... sendResponses) {
+    var batchResponse = mock(BatchResponse.class);
+    when(batchResponse.getResponses()).thenReturn(List.of(sendResponses));
+    when(this.firebaseMessaging.sendMulticastAsync(any()))
+        .thenReturn(ApiFutures.immediateFuture(batchResponse));
+  }
+
+  private SendResponse successfulResponse() {
+    return mock(SendResponse.class);
+  }
+
+  private SendResponse failedResponse(MessagingErrorCode messagingErrorCode) {
+    var exception = mock(FirebaseMessagingException.class);
+    when(exception.getMessagingErrorCode()).thenReturn(messagingErrorCode);
+    var sendResponse = mock(SendResponse.class);
+    when(sendResponse.getException()).thenReturn(exception);
+    return sendResponse;
+  }
 }
@@ -2,32 +2,34 @@ package de.caritas.cob.userservice.api.service.mobilepushmessage;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-import de.caritas.cob.userservice.api.model.Consultant;
-import de.caritas.cob.userservice.api.model.ConsultantMobileToken;
-import de.caritas.cob.userservice.api.model.User;
-import de.caritas.cob.userservice.api.model.UserMobileToken;
 import de.caritas.cob.userservice.api.service.ConsultantService;
 import de.caritas.cob.userservice.api.service.user.UserService;
+import de.caritas.cob.userservice.api.tenant.TenantContext;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import org.jeasy.random.EasyRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
 
 @ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
 class MobilePushNotificationServiceTest {
 
   @InjectMocks private MobilePushNotificationService mobilePushNotificationService;
@@ -38,36 +40,45 @@ class MobilePushNotificationServiceTest {
 
   @Mock private FirebasePushMessageService firebasePushMessageService;
 
+  @BeforeEach
+  void setup() {
+    when(this.firebasePushMessageService.isEnabled()).thenReturn(true);
+    when(this.firebasePushMessageService.pushNewMessageEvents(any()))
+        .thenReturn(CompletableFuture.completedFuture(Set.of()));
+  }
+
   @Test
-  void sendLiveDirectMessageEventToUsers_Should_sendPushMessage_When_usersHaveMobileToken() {
-    var user = new User();
-    user.setMobileToken("mobileToken");
-    when(this.userService.getUser(anyString())).thenReturn(Optional.of(user));
+  void sendLiveDirectMessageEventToUsers_Should_sendPushMessageToAllTokensOfUsersAndConsultants() {
+    var userIds = asList("1", "2");
+    when(this.userService.findMobileTokensOfUsers(userIds))
+        .thenReturn(List.of("userToken", "userAppToken"));
+    when(this.consultantService.findMobileAppTokensOfConsultants(userIds))
+        .thenReturn(List.of("consultantAppToken"));
 
-    this.mobilePushNotificationService.triggerMobilePushNotification(asList("1", "2"));
+    this.mobilePushNotificationService.triggerMobilePushNotification(userIds);
 
-    verify(this.firebasePushMessageService, times(2)).pushNewMessageEvent("mobileToken");
+    verify(this.firebasePushMessageService)
+        .pushNewMessageEvents(Set.of("userToken", "userAppToken", "consultantAppToken"));
   }
 
   @Test
-  void sendLiveDirectMessageEventToUsers_Should_sendPushMessageOnlyToUsersWithMobileToken() {
-    var user = new User();
-    user.setMobileToken("mobileToken");
-    when(this.userService.getUser("1")).thenReturn(Optional.of(user));
-    when(this.userService.getUser("2")).thenReturn(Optional.of(new User()));
+  void sendLiveDirectMessageEventToUsers_Should_sendPushMessageOnlyOnce_When_tokenIsDuplicated() {
+    when(this.userService.findMobileTokensOfUsers(any()))
+        .thenReturn(List.of("mobileToken", "mobileToken", " "));
 
     this.mobilePushNotificationService.triggerMobilePushNotification(asList("1", "2"));
 
-    verify(this.firebasePushMessageService, times(1)).pushNewMessageEvent("mobileToken");
+    verify(this.firebasePushMessageService).pushNewMessageEvents(Set.of("mobileToken"));
   }
 
   @Test
   void sendLiveDirectMessageEventToUsers_Should_notSendPushMessage_When_noUserHasMobileToken() {
-    when(this.userService.getUser(any())).thenReturn(Optional.of(new User()));
+    when(this.userService.findMobileTokensOfUsers(any())).thenReturn(emptyList());
+    when(this.consultantService.findMobileAppTokensOfConsultants(any())).thenReturn(emptyList());
 
     this.mobilePushNotificationService.triggerMobilePushNotification(asList("1", "2"));
 
-    verifyNoInteractions(this.firebasePushMessageService);
+    verify(this.firebasePushMessageService, never()).pushNewMessageEvents(any());
   }
 
   @Test
@@ -75,92 +86,61 @@ class MobilePushNotificationServiceTest {
     this.mobilePushNotificationService.triggerMobilePushNotification(emptyList());
 
     verifyNoInteractions(this.firebasePushMessageService);
+    verifyNoInteractions(this.userService);
   }
 
   @Test
-  void
-      sendLiveDirectMessageEventToUsers_Should_sendPushMessageToAllDevices_When_usersHaveMultipleMobileTokensIncludingU25MobileTOken() {
-    var user = new EasyRandom().nextObject(User.class);
-    var allUserMobileTokens =
-        Stream.concat(
-                Stream.of(user.getMobileToken()),
-                user.getUserMobileTokens().stream().map(UserMobileToken::getMobileAppToken))
-            .collect(Collectors.toList());
-    when(this.userService.getUser(anyString())).thenReturn(Optional.of(user));
-
-    this.mobilePushNotificationService.triggerMobilePushNotification(List.of("user id"));
-
-    verify(this.firebasePushMessageService, times(allUserMobileTokens.size()))
-        .pushNewMessageEvent(anyString());
-  }
-
-  @Test
-  void
-      sendLiveDirectMessageEventToUsers_Should_sendPushMessageToAllDevices_When_usersHaveMultipleMobileTokens() {
-    var user = new EasyRandom().nextObject(User.class);
-    user.setMobileToken(null);
-    var allUserMobileTokens =
-        user.getUserMobileTokens().stream()
-            .map(UserMobileToken::getMobileAppToken)
-            .collect(Collectors.toList());
-    when(this.userService.getUser(anyString())).thenReturn(Optional.of(user));
-
-    this.mobilePushNotificationService.triggerMobilePushNotification(List.of("user id"));
-
-    verify(this.firebasePushMessageService, times(allUserMobileTokens.size()))
-        .pushNewMessageEvent(anyString());
-  }
-
-  @Test
-  void sendLiveDirectMessageEventToUsers_Should_sendPushMessage_When_consultantsHaveMobileToken() {
-    var consultant = new Consultant();
-    var consultantMobileToken = new ConsultantMobileToken();
-    consultantMobileToken.setMobileAppToken("mobileToken");
-    consultant.setConsultantMobileTokens(Set.of(consultantMobileToken));
-    when(this.consultantService.getConsultant(anyString())).thenReturn(Optional.of(consultant));
+  void sendLiveDirectMessageEventToUsers_Should_notLoadTokens_When_pushNotificationsAreDisabled() {
+    when(this.firebasePushMessageService.isEnabled()).thenReturn(false);
 
     this.mobilePushNotificationService.triggerMobilePushNotification(asList("1", "2"));
 
-    verify(this.firebasePushMessageService, times(2)).pushNewMessageEvent("mobileToken");
+    verifyNoInteractions(this.userService);
+    verifyNoInteractions(this.consultantService);
   }
 
   @Test
-  void sendLiveDirectMessageEventToUsers_Should_sendPushMessageOnlyToConsultantsWithMobileToken() {
-    var consultant = new Consultant();
-    var consultantMobileToken = new ConsultantMobileToken();
-    consultantMobileToken.setMobileAppToken("mobileToken");
-    consultant.setConsultantMobileTokens(Set.of(consultantMobileToken));
-    when(this.consultantService.getConsultant("1")).thenReturn(Optional.of(consultant));
-    when(this.consultantService.getConsultant("2")).thenReturn(Optional.of(new Consultant()));
+  void sendLiveDirectMessageEventToUsers_Should_removeTokens_When_firebaseReportsUnregistered() {
+    when(this.userService.findMobileTokensOfUsers(any()))
+        .thenReturn(List.of("validToken", "unregisteredToken"));
+    when(this.firebasePushMessageService.pushNewMessageEvents(any()))
+        .thenReturn(CompletableFuture.completedFuture(Set.of("unregisteredToken")));
 
     this.mobilePushNotificationService.triggerMobilePushNotification(asList("1", "2"));
 
-    verify(this.firebasePushMessageService, times(1)).pushNewMessageEvent("mobileToken");
+    verify(this.userService).removeMobileTokens(Set.of("unregisteredToken"));
+    verify(this.consultantService).removeMobileAppTokens(Set.of("unregisteredToken"));
   }
 
   @Test
-  void
-      sendLiveDirectMessageEventToUsers_Should_notSendPushMessage_When_noConsultantHasMobileToken() {
-    when(this.consultantService.getConsultant(any())).thenReturn(Optional.of(new Consultant()));
+  void sendLiveDirectMessageEventToUsers_Should_notRemoveTokens_When_allTokensAreRegistered() {
+    when(this.userService.findMobileTokensOfUsers(any())).thenReturn(List.of("validToken"));
 
     this.mobilePushNotificationService.triggerMobilePushNotification(asList("1", "2"));
 
-    verifyNoInteractions(this.firebasePushMessageService);
+    verify(this.userService, never()).removeMobileTokens(any());
+    verify(this.consultantService, never()).removeMobileAppTokens(any());
   }
 
   @Test
-  void
-      sendLiveDirectMessageEventToUsers_Should_sendPushMessageToAllDevices_When_consultantsHaveMultipleMobileTokens() {
-    var consultant = new EasyRandom().nextObject(Consultant.class);
-    var allConsultantMobileTokens =
-        consultant.getConsultantMobileTokens().stream()
-            .map(ConsultantMobileToken::getMobileAppToken)
-            .collect(Collectors.toList());
-    when(this.consultantService.getConsultant(anyString())).thenReturn(Optional.of(consultant));
-
-    this.mobilePushNotificationService.triggerMobilePushNotification(List.of("consultant id"));
-
-    verify(this.firebasePushMessageService, times(allConsultantMobileTokens.size()))
-        .pushNewMessageEvent(anyString());
+  void sendLiveDirectMessageEventToUsers_Should_removeTokensInTenantContextOfCaller() {
+    when(this.userService.findMobileTokensOfUsers(any())).thenReturn(List.of("unregisteredToken"));
+    var pushResult = new CompletableFuture<Set<String>>();
+    when(this.firebasePushMessageService.pushNewMessageEvents(any())).thenReturn(pushResult);
+    var tenantIdOfRemoval = new AtomicReference<Long>();
+    doAnswer(invocation -> tenantIdOfRemoval.getAndSet(TenantContext.getCurrentTenant()))
+        .when(this.userService)
+        .removeMobileTokens(any());
+    TenantContext.setCurrentTenant(1L);
+    try {
+      this.mobilePushNotificationService.triggerMobilePushNotification(asList("1", "2"));
+    } finally {
+      TenantContext.clear();
+    }
+
+    pushResult.complete(Set.of("unregisteredToken"));
+
+    assertThat(tenantIdOfRemoval.get(), is(1L));
+    assertThat(TenantContext.getCurrentTenantData(), is(nullValue()));
   }
 }
@@ -0,0 +1,285 @@
+package de.caritas.cob.userservice.api.service.presence;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.agencyadminserivce.generated.web.model.AgencyAdminResponseDTO;
+import de.caritas.cob.userservice.api.UserServiceMapper;
+import de.caritas.cob.userservice.api.admin.service.agency.AgencyCatalogue;
+import de.caritas.cob.userservice.api.helper.UsernameTranscoder;
+import de.caritas.cob.userservice.api.model.Consultant.ConsultantRocketChatIdWithAgency;
+import de.caritas.cob.userservice.api.model.ConsultantAgencyChangedEvent;
+import de.caritas.cob.userservice.api.port.out.ConsultantRepository;
+import de.caritas.cob.userservice.api.port.out.MessageClient;
+import de.caritas.cob.userservice.api.tenant.TenantContext;
+import de.caritas.cob.userservice.api.tenant.TenantContextProvider;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ConsultantPresenceSnapshotTest {
+
+  @Mock private MessageClient messageClient;
+
+  @Mock private ConsultantRepository consultantRepository;
+
+  @Mock private AgencyCatalogue agencyCatalogue;
+
+  @Mock private UsernameTranscoder usernameTranscoder;
+
+  @Mock private TenantContextProvider tenantContextProvider;
+
+  private ConsultantPresenceSnapshot consultantPresenceSnapshot;
+
+  @BeforeEach
+  void setup() {
+    consultantPresenceSnapshot =
+        new ConsultantPresenceSnapshot(
+            messageClient,
+            consultantRepository,
+            agencyCatalogue,
+            new UserServiceMapper(usernameTranscoder),
+            tenantContextProvider);
+    ReflectionTestUtils.setField(consultantPresenceSnapshot, "enabled", true);
+    ReflectionTestUtils.setField(consultantPresenceSnapshot, "retryBackoffMillis", 30000L);
+  }
+
+  @AfterEach
+  void tearDown() {
+    TenantContext.clear();
+  }
+
+  @Test
+  void isAvailable_Should_loadFullPresenceListOnlyOnce_When_snapshotIsAccessedRepeatedly() {
+    when(messageClient.findPresenceChangesSince(null))
+        .thenReturn(presenceChanges(true, Map.of("rc1", true, "rc2", false)));
+
+    assertThat(consultantPresenceSnapshot.isAvailable("rc1"), is(true));
+    assertThat(consultantPresenceSnapshot.isAvailable("rc2"), is(false));
+    assertThat(consultantPresenceSnapshot.isAvailable("rc3"), is(false));
+    verify(messageClient, times(1)).findPresenceChangesSince(any());
+  }
+
+  @Test
+  void isAvailable_Should_notCallRocketChatWithinBackoff_When_firstLoadReturnedNothing() {
+    when(messageClient.findPresenceChangesSince(null)).thenReturn(Optional.empty());
+
+    assertThat(consultantPresenceSnapshot.isAvailable("rc1"), is(false));
+    assertThat(consultantPresenceSnapshot.isAvailable("rc1"), is(false));
+
+    verify(messageClient, times(1)).findPresenceChangesSince(any());
+  }
+
+  @Test
+  void isAvailable_Should_notCallRocketChatWithinBackoff_When_firstLoadFailed() {
+    when(messageClient.findPresenceChangesSince(null))
+        .thenThrow(new IllegalStateException("unavailable"));
+
+    assertThat(consultantPresenceSnapshot.isAvailable("rc1"), is(false));
+    assertThat(consultantPresenceSnapshot.isAvailable("rc1"), is(false));
+
+    verify(messageClient, times(1)).findPresenceChangesSince(any());
+  }
+
+  @Test
+  void isAvailable_Should_retryFirstLoad_When_backoffHasPassed() {
+    ReflectionTestUtils.setField(consultantPresenceSnapshot, "retryBackoffMillis", 0L);
+    when(messageClient.findPresenceChangesSince(null))
+        .thenReturn(Optional.empty())
+        .thenReturn(presenceChanges(true, Map.of("rc1", true)));
+
+    assertThat(consultantPresenceSnapshot.isAvailable("rc1"), is(false));
+    assertThat(consultantPresenceSnapshot.isAvailable("rc1"), is(true));
+
+    verify(messageClient, times(2)).findPresenceChangesSince(any());
+  }
+
+  @Test
+  void refreshPresence_Should_mergeChangesSinceLastRefresh_When_deltaIsReturned() {
+    when(messageClient.findPresenceChangesSince(isNull()))
+        .thenReturn(presenceChanges(true, Map.of("rc1", true, "rc2", true)));
+    when(messageClient.findPresenceChangesSince(any(Instant.class)))
+        .thenReturn(presenceChanges(false, Map.of("rc1", false, "rc3", true)));
+
+    consultantPresenceSnapshot.refreshPresence();
+    consultantPresenceSnapshot.refreshPresence();
+
+    assertThat(consultantPresenceSnapshot.isAvailable("rc1"), is(false));
+    assertThat(consultantPresenceSnapshot.isAvailable("rc2"), is(true));
+    assertThat(consultantPresenceSnapshot.isAvailable("rc3"), is(true));
+  }
+
+  @Test
+  void refreshPresence_Should_replaceSnapshot_When_fullListIsReturned() {
+    when(messageClient.findPresenceChangesSince(isNull()))
+        .thenReturn(presenceChanges(true, Map.of("rc1", true)));
+    when(messageClient.findPresenceChangesSince(any(Instant.class)))
+        .thenReturn(presenceChanges(true, Map.of("rc2", true)));
+
+    consultantPresenceSnapshot.refreshPresence();
+    consultantPresenceSnapshot.refreshPresence();
+
+    assertThat(consultantPresenceSnapshot.isAvailable("rc1"), is(false));
+    assertThat(consultantPresenceSnapshot.isAvailable("rc2"), is(true));
+  }
+
+  @Test
+  void refreshPresence_Should_keepSnapshot_When_rocketChatDoesNotAnswer() {
+    when(messageClient.findPresenceChangesSince(isNull()))
+        .thenReturn(presenceChanges(true, Map.of("rc1", true)));
+    when(messageClient.findPresenceChangesSince(any(Instant.class))).thenReturn(Optional.empty());
+
+    consultantPresenceSnapshot.refreshPresence();
+    consultantPresenceSnapshot.refreshPresence();
+
+    assertThat(consultantPresenceSnapshot.isAvailable("rc1"), is(true));
+  }
+
+  @Test
+  void findAvailableChatUserIds_Should_returnAvailableConsultantsOfConsultingType() {
+    when(messageClient.findPresenceChangesSince(null))
+        .thenReturn(presenceChanges(true, Map.of("rc1", true, "rc2", false, "rc3", true)));
+    when(agencyCatalogue.getAllAgencies())
+        .thenReturn(
+            List.of(
+                new AgencyAdminResponseDTO().id(1L).consultingType(5),
+                new AgencyAdminResponseDTO().id(2L).consultingType(6)));
+    when(consultantRepository.findAllRocketChatIdsWithAgency())
+        .thenReturn(
+            List.of(
+                consultant("c1", "rc1", 1L),
+                consultant("c2", "rc2", 1L),
+                consultant("c3", "rc3", 2L)));
+
+    var availableChatUserIds = consultantPresenceSnapshot.findAvailableChatUserIds(5);
+
+    assertThat(availableChatUserIds, is(Set.of("rc1")));
+    assertThat(consultantPresenceSnapshot.findChatUserId("c3"), is(Optional.of("rc3")));
+    verify(tenantContextProvider).setTechnicalContextIfMultiTenancyIsEnabled();
+  }
+
+  @Test
+  void findAvailableChatUserIds_Should_indexConsultantsPerTenantInTheirTenantContext() {
+    when(messageClient.findPresenceChangesSince(null))
+        .thenReturn(presenceChanges(true, Map.of("rc1", true, "rc2", true)));
+    when(agencyCatalogue.getAllAgencies())
+        .thenAnswer(
+            invocation ->
+                List.of(
+                    new AgencyAdminResponseDTO()
+                        .id(TenantContext.getCurrentTenant())
+                        .consultingType(5)));
+    when(consultantRepository.findAllRocketChatIdsWithAgency())
+        .thenAnswer(
+            invocation ->
+                TenantContext.getCurrentTenant() == 1L
+                    ? List.of(consultant("c1", "rc1", 1L))
+                    : List.of(consultant("c2", "rc2", 2L)));
+
+    TenantContext.setCurrentTenant(1L);
+    assertThat(consultantPresenceSnapshot.findAvailableChatUserIds(5), is(Set.of("rc1")));
+    assertThat(TenantContext.getCurrentTenant(), is(1L));
+    TenantContext.setCurrentTenant(2L);
+    assertThat(consultantPresenceSnapshot.findAvailableChatUserIds(5), is(Set.of("rc2")));
+    assertThat(consultantPresenceSnapshot.findAvailableChatUserIds(5), is(Set.of("rc2")));
+
+    verify(consultantRepository, times(2)).findAllRocketChatIdsWithAgency();
+    verifyNoInteractions(tenantContextProvider);
+  }
+
+  @Test
+  void onConsultantAgencyChanged_Should_rebuildIndexOfTenantOnNextLookup() {
+    when(messageClient.findPresenceChangesSince(null))
+        .thenReturn(presenceChanges(true, Map.of("rc1", true)));
+    when(agencyCatalogue.getAllAgencies())
+        .thenReturn(List.of(new AgencyAdminResponseDTO().id(1L).consultingType(5)));
+    when(consultantRepository.findAllRocketChatIdsWithAgency())
+        .thenReturn(List.of(consultant("c1", "rc1", 1L)));
+    TenantContext.setCurrentTenant(1L);
+    consultantPresenceSnapshot.findAvailableChatUserIds(5);
+
+    consultantPresenceSnapshot.onConsultantAgencyChanged(new ConsultantAgencyChangedEvent(2L));
+    consultantPresenceSnapshot.findAvailableChatUserIds(5);
+    consultantPresenceSnapshot.onConsultantAgencyChanged(new ConsultantAgencyChangedEvent(1L));
+    consultantPresenceSnapshot.findAvailableChatUserIds(5);
+
+    verify(consultantRepository, times(2)).findAllRocketChatIdsWithAgency();
+  }
+
+  @Test
+  void findAvailableChatUserIds_Should_readConsultantsFromDatabase_When_indexCannotBeLoaded() {
+    when(messageClient.findPresenceChangesSince(null))
+        .thenReturn(presenceChanges(true, Map.of("rc1", true, "rc2", false)));
+    when(agencyCatalogue.getAllAgencies()).thenThrow(new IllegalStateException("unavailable"));
+    when(agencyCatalogue.findAgenciesByConsultingType(5))
+        .thenReturn(List.of(new AgencyAdminResponseDTO().id(1L).consultingType(5)));
+    when(consultantRepository.findAllByAgencyIds(Set.of(1L))).thenReturn(Set.of("rc1", "rc2"));
+
+    var availableChatUserIds = consultantPresenceSnapshot.findAvailableChatUserIds(5);
+
+    assertThat(availableChatUserIds, is(Set.of("rc1")));
+  }
+
+  @Test
+  void updateAvailability_Should_changeAvailabilityBeforeNextRefresh() {
+    when(messageClient.findPresenceChangesSince(null))
+        .thenReturn(presenceChanges(true, Map.of("rc1", true)));
+    consultantPresenceSnapshot.refreshPresence();
+
+    consultantPresenceSnapshot.updateAvailability("rc1", false);
+
+    assertThat(consultantPresenceSnapshot.isAvailable("rc1"), is(false));
+  }
+
+  @Test
+  void findChatUserId_Should_returnEmptyWithoutLoadingIndex_When_snapshotIsDisabled() {
+    ReflectionTestUtils.setField(consultantPresenceSnapshot, "enabled", false);
+
+    assertThat(consultantPresenceSnapshot.findChatUserId("c1"), is(Optional.empty()));
+
+    consultantPresenceSnapshot.refreshPresence();
+    consultantPresenceSnapshot.refreshConsultantIndex();
+    verifyNoInteractions(messageClient, consultantRepository, agencyCatalogue);
+  }
+
+  private Optional<Map<String, Object>> presenceChanges(
+      boolean full, Map<String, Boolean> availability) {
+    return Optional.of(Map.of("full", full, "availability", availability));
+  }
+
+  private ConsultantRocketChatIdWithAgency consultant(
+      String id, String rocketChatId, Long agencyId) {
+    return new ConsultantRocketChatIdWithAgency() {
+      @Override
+      public Long getAgencyId() {
+        return agencyId;
+      }
+
+      @Override
+      public String getId() {
+        return id;
+      }
+
+      @Override
+      public String getRocketChatId() {
+        return rocketChatId;
+      }
+    };
+  }
+}
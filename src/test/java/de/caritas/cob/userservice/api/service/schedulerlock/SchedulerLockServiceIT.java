@@ -0,0 +1,73 @@
+package de.caritas.cob.userservice.api.service.schedulerlock;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import de.caritas.cob.userservice.api.port.out.SchedulerLockRepository;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@SpringBootTest
+@ActiveProfiles("testing")
+class SchedulerLockServiceIT {
+
+  private static final String LOCK_NAME = "testLock";
+  private static final Duration LEASE = Duration.ofMinutes(5);
+
+  @Autowired private SchedulerLockService schedulerLockService;
+
+  @Autowired private SchedulerLockRepository schedulerLockRepository;
+
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @AfterEach
+  void cleanDatabase() {
+    schedulerLockRepository.deleteAll();
+  }
+
+  @Test
+  void tryLock_Should_takeLock_When_lockDoesNotExistYet() {
+    assertThat(schedulerLockService.tryLock(LOCK_NAME, LEASE), is(true));
+    assertThat(schedulerLockRepository.existsById(LOCK_NAME), is(true));
+  }
+
+  @Test
+  void tryLock_Should_notTakeLock_When_anotherInstanceHoldsIt() {
+    var otherInstance = new SchedulerLockService(schedulerLockRepository, transactionManager);
+    otherInstance.tryLock(LOCK_NAME, LEASE);
+
+    assertThat(schedulerLockService.tryLock(LOCK_NAME, LEASE), is(false));
+  }
+
+  @Test
+  void tryLock_Should_takeLock_When_leaseOfAnotherInstanceHasExpired() {
+    var otherInstance = new SchedulerLockService(schedulerLockRepository, transactionManager);
+    otherInstance.tryLock(LOCK_NAME, Duration.ZERO);
+
+    assertThat(schedulerLockService.tryLock(LOCK_NAME, LEASE), is(true));
+  }
+
+  @Test
+  void unlock_Should_releaseLock_When_instanceHoldsIt() {
+    schedulerLockService.tryLock(LOCK_NAME, LEASE);
+
+    schedulerLockService.unlock(LOCK_NAME);
+
+    assertThat(schedulerLockService.tryLock(LOCK_NAME, LEASE), is(true));
+  }
+
+  @Test
+  void unlock_Should_keepLock_When_anotherInstanceHoldsIt() {
+    var otherInstance = new SchedulerLockService(schedulerLockRepository, transactionManager);
+    otherInstance.tryLock(LOCK_NAME, LEASE);
+
+    schedulerLockService.unlock(LOCK_NAME);
+
+    assertThat(schedulerLockService.tryLock(LOCK_NAME, LEASE), is(false));
+  }
+}
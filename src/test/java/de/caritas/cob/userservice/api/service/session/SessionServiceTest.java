@@ -55,6 +55,7 @@ import de.caritas.cob.userservice.api.adapters.web.dto.SessionConsultantForConsu
 import de.caritas.cob.userservice.api.adapters.web.dto.UserDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.UserSessionResponseDTO;
 import de.caritas.cob.userservice.api.config.auth.UserRole;
+import de.caritas.cob.userservice.api.container.OffsetPageRequest;
 import de.caritas.cob.userservice.api.exception.httpresponses.ForbiddenException;
 import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
 import de.caritas.cob.userservice.api.exception.httpresponses.NotFoundException;
@@ -87,6 +88,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.Logger;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -373,7 +375,7 @@ class SessionServiceTest {
   void
       getEnquiriesForConsultant_Should_ReturnListOfConsultantSessionResponseDTO_WhenProvidedWithValidConsultantAndStatusInProgress() {
 
-    when(sessionRepository.findByConsultantAndStatus(any(), any()))
+    when(sessionRepository.findByConsultantAndStatusInFetchingListData(any(), any()))
         .thenReturn(SESSION_LIST_WITH_CONSULTANT);
 
     assertThat(
@@ -381,12 +383,9 @@ class SessionServiceTest {
         everyItem(instanceOf(ConsultantSessionResponseDTO.class)));
 
     verify(sessionRepository, times(1))
-        .findByConsultantAndStatus(any(), eq(SessionStatus.IN_PROGRESS));
-    verify(sessionRepository, times(1)).findByConsultantAndStatus(any(), eq(SessionStatus.DONE));
-    verify(sessionRepository, never())
-        .findByConsultantAndStatus(any(), eq(SessionStatus.IN_ARCHIVE));
-    verify(sessionRepository, never()).findByConsultantAndStatus(any(), eq(SessionStatus.INITIAL));
-    verify(sessionRepository, never()).findByConsultantAndStatus(any(), eq(SessionStatus.NEW));
+        .findByConsultantAndStatusInFetchingListData(
+            CONSULTANT, List.of(SessionStatus.IN_PROGRESS, SessionStatus.DONE));
+    verify(sessionRepository, never()).findByConsultantAndStatus(any(), any());
   }
 
   @Test
@@ -690,6 +689,53 @@ class SessionServiceTest {
             agencyIds, SessionStatus.NEW, REGISTERED);
   }
 
+  @Test
+  void getEnquiriesForConsultant_Should_useDatabasePaging_When_pageableIsGiven() {
+    Consultant consultant = mock(Consultant.class);
+    Set<ConsultantAgency> agencySet = new HashSet<>();
+    agencySet.add(CONSULTANT_AGENCY_1);
+    List<Long> agencyIds = singletonList(CONSULTANT_AGENCY_1.getAgencyId());
+    var pageable = OffsetPageRequest.of(15, 15);
+    var enquiry =
+        Session.builder()
+            .id(ENQUIRY_ID)
+            .consultingTypeId(CONSULTING_TYPE_ID_SUCHT)
+            .registrationType(REGISTERED)
+            .agencyId(1L)
+            .postcode("99999")
+            .status(SessionStatus.NEW)
+            .languageCode(LanguageCode.de)
+            .createDate(nowInUtc())
+            .updateDate(nowInUtc())
+            .teamSession(false)
+            .build();
+    when(consultant.getConsultantAgencies()).thenReturn(agencySet);
+    when(sessionRepository
+            .findByAgencyIdInAndConsultantIsNullAndStatusAndRegistrationTypeOrderByEnquiryMessageDateAsc(
+                agencyIds, SessionStatus.NEW, REGISTERED, pageable))
+        .thenReturn(new PageImpl<>(List.of(enquiry), pageable, 16));
+
+    var enquiriesPage = sessionService.getRegisteredEnquiriesForConsultant(consultant, pageable);
+
+    assertThat(enquiriesPage.getContent(), hasSize(1));
+    assertEquals(16, enquiriesPage.getTotalElements());
+    assertEquals(ENQUIRY_ID, enquiriesPage.getContent().get(0).getSession().getId());
+  }
+
+  @ParameterizedTest
+  @NullAndEmptySource
+  void getEnquiriesForConsultant_Should_returnEmptyPage_When_consultantHasNoAgencyAssigned(
+      Set<ConsultantAgency> emptyConsultantAgencies) {
+    Consultant consultant = mock(Consultant.class);
+    when(consultant.getConsultantAgencies()).thenReturn(emptyConsultantAgencies);
+
+    var enquiriesPage =
+        sessionService.getRegisteredEnquiriesForConsultant(consultant, OffsetPageRequest.of(0, 15));
+
+    assertEquals(0, enquiriesPage.getTotalElements());
+    verifyNoInteractions(sessionRepository);
+  }
+
   @Test
   void
       getEnquiriesForConsultant_Should_use_registryTypeUnawareRepositoryMethod_When_RegistryTypeIsNull() {
@@ -723,10 +769,8 @@ class SessionServiceTest {
   void
       getActiveAndDoneSessionsForConsultant_Should_ReturnListOfActiveAndDoneSessions_When_statusInProgress() {
     Session session = easyRandom.nextObject(Session.class);
-    when(sessionRepository.findByConsultantAndStatus(any(), eq(SessionStatus.IN_PROGRESS)))
-        .thenReturn(List.of(session));
-    when(sessionRepository.findByConsultantAndStatus(any(), eq(SessionStatus.DONE)))
-        .thenReturn(List.of(session));
+    when(sessionRepository.findByConsultantAndStatusInFetchingListData(any(), any()))
+        .thenReturn(List.of(session, session));
 
     var activeAndDoneSessionsForConsultant =
         sessionService.getActiveAndDoneSessionsForConsultant(CONSULTANT);
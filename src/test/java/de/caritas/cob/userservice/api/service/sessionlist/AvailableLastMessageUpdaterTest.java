@@ -4,7 +4,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -23,6 +25,7 @@ import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -97,6 +100,22 @@ public class AvailableLastMessageUpdaterTest {
     verify(sessionListAnalyser).prepareMessageForSessionList("message", GROUP_ID);
   }
 
+  @Test
+  public void
+      updateSessionWithAvailableLastMessage_Should_usePreDecryptedMessage_When_lastMessagesWereDecrypted() {
+    when(roomsLastMessageDTO.getMessage()).thenReturn("message");
+    when(sessionListAnalyser.prepareMessagesForSessionList(Map.of(GROUP_ID, "message")))
+        .thenReturn(Map.of(GROUP_ID, "decrypted"));
+
+    this.availableLastMessageUpdater
+        .decryptLastMessages(List.of(GROUP_ID), this.rocketChatRoomInformation)
+        .updateSessionWithAvailableLastMessage(
+            session, mock(Consumer.class), this.rocketChatRoomInformation, "");
+
+    assertThat(session.getLastMessage(), is("decrypted"));
+    verify(sessionListAnalyser, never()).prepareMessageForSessionList(any(), any());
+  }
+
   @Test
   public void
       updateSessionWithAvailableLastMessage_Should_setFurtherStepsMessage_When_lasMessageHasFurtherStepsAlias() {
@@ -143,7 +143,7 @@ class ConsultantSessionEnricherTest {
 
     assertFalse(result.getSession().getMessagesRead());
     verify(sessionTopicEnrichmentService)
-        .enrichSessionWithTopicData(CONSULTANT_SESSION_RESPONSE_DTO.getSession());
+        .enrichSessionsWithTopicData(singletonList(CONSULTANT_SESSION_RESPONSE_DTO.getSession()));
   }
 
   @Test
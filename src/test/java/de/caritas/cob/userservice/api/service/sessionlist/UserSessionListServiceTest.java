@@ -24,6 +24,7 @@ import static java.util.Collections.emptyMap;
 import static java.util.Objects.nonNull;
 import static org.jsoup.helper.Validate.fail;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -37,6 +38,7 @@ import de.caritas.cob.userservice.api.service.session.SessionService;
 import de.caritas.cob.userservice.api.service.session.SessionTopicEnrichmentService;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -75,8 +77,8 @@ class UserSessionListServiceTest {
             .lastMessagesRoom(emptyMap())
             .groupIdToLastMessageFallbackDate(emptyMap())
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS))
-        .thenReturn(rocketChatRoomInformation);
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformationAsync(RC_CREDENTIALS))
+        .thenReturn(CompletableFuture.completedFuture(rocketChatRoomInformation));
     when(sessionListAnalyser.areMessagesForRocketChatGroupReadByUser(
             rocketChatRoomInformation.getReadMessages(), RC_GROUP_ID))
         .thenReturn(true);
@@ -94,8 +96,9 @@ class UserSessionListServiceTest {
             .getSession()
             .getMessagesRead());
 
-    verify(sessionTopicEnrichmentService, Mockito.times(USER_SESSION_RESPONSE_DTO_LIST.size()))
-        .enrichSessionWithTopicData(Mockito.any());
+    verify(sessionTopicEnrichmentService)
+        .enrichSessionsWithTopicData(
+            argThat(sessions -> sessions.size() == USER_SESSION_RESPONSE_DTO_LIST.size()));
   }
 
   @Test
@@ -108,8 +111,8 @@ class UserSessionListServiceTest {
             .readMessages(MESSAGES_READ_MAP_WITH_UNREADS)
             .lastMessagesRoom(emptyMap())
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS))
-        .thenReturn(rocketChatRoomInformation);
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformationAsync(RC_CREDENTIALS))
+        .thenReturn(CompletableFuture.completedFuture(rocketChatRoomInformation));
     when(sessionListAnalyser.areMessagesForRocketChatGroupReadByUser(
             rocketChatRoomInformation.getReadMessages(), RC_GROUP_ID_4))
         .thenReturn(true);
@@ -136,8 +139,8 @@ class UserSessionListServiceTest {
             .lastMessagesRoom(emptyMap())
             .groupIdToLastMessageFallbackDate(emptyMap())
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS))
-        .thenReturn(rocketChatRoomInformation);
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformationAsync(RC_CREDENTIALS))
+        .thenReturn(CompletableFuture.completedFuture(rocketChatRoomInformation));
     when(sessionListAnalyser.areMessagesForRocketChatGroupReadByUser(
             rocketChatRoomInformation.getReadMessages(), RC_GROUP_ID))
         .thenReturn(false);
@@ -166,8 +169,8 @@ class UserSessionListServiceTest {
             .readMessages(MESSAGES_READ_MAP_WITH_UNREADS)
             .lastMessagesRoom(emptyMap())
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS))
-        .thenReturn(rocketChatRoomInformation);
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformationAsync(RC_CREDENTIALS))
+        .thenReturn(CompletableFuture.completedFuture(rocketChatRoomInformation));
     when(sessionListAnalyser.areMessagesForRocketChatGroupReadByUser(
             rocketChatRoomInformation.getReadMessages(), RC_GROUP_ID_4))
         .thenReturn(false);
@@ -193,8 +196,8 @@ class UserSessionListServiceTest {
             .roomsForUpdate(ROOMS_UPDATE_DTO_LIST)
             .lastMessagesRoom(ROOMS_LAST_MESSAGE_DTO_MAP)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS))
-        .thenReturn(rocketChatRoomInformation);
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformationAsync(RC_CREDENTIALS))
+        .thenReturn(CompletableFuture.completedFuture(rocketChatRoomInformation));
 
     List<UserSessionResponseDTO> result =
         userSessionListService.retrieveSessionsForAuthenticatedUser(USER_ID, RC_CREDENTIALS);
@@ -215,8 +218,8 @@ class UserSessionListServiceTest {
             .roomsForUpdate(ROOMS_UPDATE_DTO_LIST)
             .lastMessagesRoom(ROOMS_LAST_MESSAGE_DTO_MAP)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS))
-        .thenReturn(rocketChatRoomInformation);
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformationAsync(RC_CREDENTIALS))
+        .thenReturn(CompletableFuture.completedFuture(rocketChatRoomInformation));
 
     List<UserSessionResponseDTO> result =
         userSessionListService.retrieveSessionsForAuthenticatedUser(USER_ID, RC_CREDENTIALS);
@@ -237,8 +240,8 @@ class UserSessionListServiceTest {
             .roomsForUpdate(ROOMS_UPDATE_DTO_LIST_WITH_ATTACHMENT)
             .lastMessagesRoom(ROOMS_LAST_MESSAGE_DTO_MAP)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS))
-        .thenReturn(rocketChatRoomInformation);
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformationAsync(RC_CREDENTIALS))
+        .thenReturn(CompletableFuture.completedFuture(rocketChatRoomInformation));
     when(sessionListAnalyser.getAttachmentFromRocketChatMessageIfAvailable(
             Mockito.eq(RC_CREDENTIALS.getRocketChatUserId()), Mockito.any()))
         .thenReturn(SESSION_ATTACHMENT_DTO_RECEIVED);
@@ -263,8 +266,8 @@ class UserSessionListServiceTest {
             .lastMessagesRoom(ROOMS_LAST_MESSAGE_DTO_MAP)
             .groupIdToLastMessageFallbackDate(emptyMap())
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS))
-        .thenReturn(rocketChatRoomInformation);
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformationAsync(RC_CREDENTIALS))
+        .thenReturn(CompletableFuture.completedFuture(rocketChatRoomInformation));
     when(sessionListAnalyser.getAttachmentFromRocketChatMessageIfAvailable(
             Mockito.eq(RC_CREDENTIALS.getRocketChatUserId()), Mockito.any()))
         .thenReturn(SESSION_ATTACHMENT_DTO_RECEIVED);
@@ -284,6 +287,16 @@ class UserSessionListServiceTest {
 
     when(chatService.getChatsForUserId(USER_ID)).thenReturn(Collections.emptyList());
     when(sessionService.getSessionsForUserId(USER_ID)).thenReturn(Collections.emptyList());
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformationAsync(RC_CREDENTIALS))
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                RocketChatRoomInformation.builder()
+                    .readMessages(emptyMap())
+                    .roomsForUpdate(Collections.emptyList())
+                    .userRooms(Collections.emptyList())
+                    .lastMessagesRoom(emptyMap())
+                    .groupIdToLastMessageFallbackDate(emptyMap())
+                    .build()));
 
     List<UserSessionResponseDTO> result =
         userSessionListService.retrieveSessionsForAuthenticatedUser(USER_ID, RC_CREDENTIALS);
@@ -303,8 +316,8 @@ class UserSessionListServiceTest {
             .roomsForUpdate(ROOMS_UPDATE_DTO_LIST_WITH_ATTACHMENT)
             .lastMessagesRoom(ROOMS_LAST_MESSAGE_DTO_MAP)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS))
-        .thenReturn(rocketChatRoomInformation);
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformationAsync(RC_CREDENTIALS))
+        .thenReturn(CompletableFuture.completedFuture(rocketChatRoomInformation));
 
     List<UserSessionResponseDTO> result =
         userSessionListService.retrieveSessionsForAuthenticatedUser(USER_ID, RC_CREDENTIALS);
@@ -354,8 +367,8 @@ class UserSessionListServiceTest {
             .lastMessagesRoom(ROOMS_LAST_MESSAGE_DTO_MAP)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS))
-        .thenReturn(rocketChatRoomInformation);
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformationAsync(RC_CREDENTIALS))
+        .thenReturn(CompletableFuture.completedFuture(rocketChatRoomInformation));
 
     List<UserSessionResponseDTO> result =
         userSessionListService.retrieveSessionsForAuthenticatedUser(USER_ID, RC_CREDENTIALS);
@@ -378,8 +391,8 @@ class UserSessionListServiceTest {
             .lastMessagesRoom(ROOMS_LAST_MESSAGE_DTO_MAP)
             .userRooms(USERS_EMPTY_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS))
-        .thenReturn(rocketChatRoomInformation);
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformationAsync(RC_CREDENTIALS))
+        .thenReturn(CompletableFuture.completedFuture(rocketChatRoomInformation));
 
     List<UserSessionResponseDTO> result =
         userSessionListService.retrieveSessionsForAuthenticatedUser(USER_ID, RC_CREDENTIALS);
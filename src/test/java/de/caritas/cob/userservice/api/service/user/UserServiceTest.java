@@ -9,6 +9,7 @@ import static de.caritas.cob.userservice.api.testHelper.TestConstants.USERNAME;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.USER_ID;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.USER_NO_RC_USER_ID;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -29,7 +30,9 @@ import de.caritas.cob.userservice.api.model.User;
 import de.caritas.cob.userservice.api.model.UserMobileToken;
 import de.caritas.cob.userservice.api.port.out.UserMobileTokenRepository;
 import de.caritas.cob.userservice.api.port.out.UserRepository;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.jeasy.random.EasyRandom;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -124,6 +127,28 @@ class UserServiceTest {
     assertEquals(USER, result.get());
   }
 
+  @Test
+  void findMobileTokensOfUsers_Should_returnLegacyAndAppTokensOfAllUsers() {
+    var userIds = List.of("user1", "user2");
+    when(userRepository.findMobileTokensByUserIds(userIds)).thenReturn(List.of("legacyToken"));
+    when(userMobileTokenRepository.findMobileAppTokensByUserIds(userIds))
+        .thenReturn(List.of("appToken1", "appToken2"));
+
+    var mobileTokens = userService.findMobileTokensOfUsers(userIds);
+
+    assertThat(mobileTokens, containsInAnyOrder("legacyToken", "appToken1", "appToken2"));
+  }
+
+  @Test
+  void removeMobileTokens_Should_removeLegacyAndAppTokens() {
+    var mobileTokens = Set.of("unregisteredToken");
+
+    userService.removeMobileTokens(mobileTokens);
+
+    verify(userRepository, times(1)).removeMobileTokens(mobileTokens);
+    verify(userMobileTokenRepository, times(1)).deleteByMobileAppTokenIn(mobileTokens);
+  }
+
   @Test
   void updateRocketChatIdInDatabase_Should_UpdateUserObjectAndSaveToDb() {
     userService.updateRocketChatIdInDatabase(USER_NO_RC_USER_ID, RC_USER_ID);
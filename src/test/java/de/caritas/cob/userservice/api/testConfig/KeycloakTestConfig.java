@@ -1,6 +1,7 @@
 package de.caritas.cob.userservice.api.testConfig;
 
 import com.google.common.collect.Maps;
+import de.caritas.cob.userservice.api.adapters.keycloak.IdentityAvailabilityCache;
 import de.caritas.cob.userservice.api.adapters.keycloak.KeycloakClient;
 import de.caritas.cob.userservice.api.adapters.keycloak.KeycloakMapper;
 import de.caritas.cob.userservice.api.adapters.keycloak.KeycloakService;
@@ -33,7 +34,8 @@ public class KeycloakTestConfig {
       IdentityClientConfig identityClientConfig,
       KeycloakClient keycloakClient,
       KeycloakMapper keycloakMapper,
-      UserHelper userHelper) {
+      UserHelper userHelper,
+      IdentityAvailabilityCache identityAvailabilityCache) {
 
     return new KeycloakService(
         restTemplate,
@@ -42,7 +44,8 @@ public class KeycloakTestConfig {
         identityClientConfig,
         keycloakClient,
         keycloakMapper,
-        userHelper) {
+        userHelper,
+        identityAvailabilityCache) {
       @Override
       public boolean changePassword(String userId, String password) {
         return super.changePassword(userId, password);
@@ -33,6 +33,7 @@ public class RocketChatTestConfig {
   @Bean
   public RocketChatService rocketChatService(
       RestTemplate restTemplate,
+      RestTemplate roomInformationRestTemplate,
       RocketChatCredentialsProvider rocketChatCredentialsProvider,
       RocketChatConfig rocketChatConfig,
       RocketChatClient rocketChatClient,
@@ -41,6 +42,7 @@ public class RocketChatTestConfig {
       RocketChatCredentials rocketChatCredentials) {
     return new RocketChatService(
         restTemplate,
+        roomInformationRestTemplate,
         rocketChatCredentialsProvider,
         rocketChatClient,
         mongoClient,
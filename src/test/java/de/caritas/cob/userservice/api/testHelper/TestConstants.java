@@ -173,7 +173,7 @@ public class TestConstants {
   public static final List<SubscriptionsUpdateDTO> SUBSCRIPTIONS_UPDATE_LIST_DTO =
       Arrays.asList(
           new SubscriptionsUpdateDTO(
-              "A",
+              "A1",
               true,
               false,
               0,
@@ -190,7 +190,7 @@ public class TestConstants {
               null,
               null),
           new SubscriptionsUpdateDTO(
-              "A",
+              "A2",
               true,
               false,
               0,
@@ -207,7 +207,7 @@ public class TestConstants {
               null,
               null),
           new SubscriptionsUpdateDTO(
-              "A",
+              "A3",
               true,
               false,
               0,
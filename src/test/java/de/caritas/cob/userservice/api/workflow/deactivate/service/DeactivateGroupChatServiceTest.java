@@ -1,26 +1,28 @@
 package de.caritas.cob.userservice.api.workflow.deactivate.service;
 
 import static java.util.Collections.emptyList;
-import static org.mockito.Mockito.atLeastOnce;
-import static org.mockito.Mockito.times;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.util.ReflectionTestUtils.setField;
 
-import de.caritas.cob.userservice.api.actions.ActionCommandMockProvider;
-import de.caritas.cob.userservice.api.actions.chat.StopChatActionCommand;
-import de.caritas.cob.userservice.api.actions.registry.ActionsRegistry;
-import de.caritas.cob.userservice.api.model.Chat;
+import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
 import de.caritas.cob.userservice.api.port.out.ChatRepository;
+import de.caritas.cob.userservice.api.tenant.TenantContext;
+import de.caritas.cob.userservice.api.tenant.TenantContextProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.MethodSource;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -29,86 +31,107 @@ class DeactivateGroupChatServiceTest {
 
   private static final int DEACTIVATE_PERIOD_MINUTES = 180;
 
-  @InjectMocks private DeactivateGroupChatService deactivateGroupChatService;
-
   @Mock private ChatRepository chatRepository;
 
-  @Mock private ActionsRegistry actionsRegistry;
+  @Mock private StaleGroupChatDeactivator staleGroupChatDeactivator;
+
+  private final TenantContextProvider tenantContextProvider = new TenantContextProvider();
 
-  private final ActionCommandMockProvider commandMockProvider = new ActionCommandMockProvider();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private DeactivateGroupChatService deactivateGroupChatService;
 
   @BeforeEach
   public void setUp() {
+    deactivateGroupChatService =
+        new DeactivateGroupChatService(
+            chatRepository,
+            staleGroupChatDeactivator,
+            tenantContextProvider,
+            Runnable::run,
+            meterRegistry);
     setField(deactivateGroupChatService, "deactivatePeriodMinutes", DEACTIVATE_PERIOD_MINUTES);
+    setField(deactivateGroupChatService, "chunkSize", 2);
   }
 
   @Test
-  void deactivateStaleGroupChats_Should_notUseServices_When_noChatIsAvailable() {
+  void deactivateStaleGroupChats_Should_notPerformAnyDeactivation_When_noChatIsStale() {
+    when(this.chatRepository.findStaleActiveChatIds(any())).thenReturn(emptyList());
+
     this.deactivateGroupChatService.deactivateStaleGroupChats();
 
-    verifyNoMoreInteractions(this.actionsRegistry);
+    verifyNoInteractions(this.staleGroupChatDeactivator);
   }
 
   @Test
-  void deactivateStaleGroupChats_Should_notPerformAnyDeactivation_When_noChatIsActive() {
-    when(this.chatRepository.findAllByActiveIsTrue()).thenReturn(emptyList());
+  void deactivateStaleGroupChats_Should_searchStaleChatsBeforeDeactivatePeriod() {
+    var before = LocalDateTime.now().minusMinutes(DEACTIVATE_PERIOD_MINUTES);
 
     this.deactivateGroupChatService.deactivateStaleGroupChats();
 
-    verifyNoMoreInteractions(this.actionsRegistry);
+    var deactivationTimeCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+    verify(this.chatRepository).findStaleActiveChatIds(deactivationTimeCaptor.capture());
+    assertThat(deactivationTimeCaptor.getValue().isBefore(before), is(false));
+    assertThat(
+        deactivationTimeCaptor
+            .getValue()
+            .isAfter(LocalDateTime.now().minusMinutes(DEACTIVATE_PERIOD_MINUTES)),
+        is(false));
   }
 
-  @ParameterizedTest
-  @MethodSource("createUpdateDatesWithinDeactivationPeriod")
-  void
-      deactivateStaleGroupChats_Should_notPerformAnyDeactivation_When_chatsAreActiveWithinDeactivatePeriod(
-          LocalDateTime updateDate) {
-    var chat = new Chat();
-    chat.setDuration(120);
-    chat.setActive(true);
-    chat.setUpdateDate(updateDate);
-    when(this.chatRepository.findAllByActiveIsTrue()).thenReturn(List.of(chat));
+  @Test
+  void deactivateStaleGroupChats_Should_stopAllStaleChatsInChunks_When_chatsAreStale() {
+    when(this.chatRepository.findStaleActiveChatIds(any())).thenReturn(List.of(1L, 2L, 3L));
 
     this.deactivateGroupChatService.deactivateStaleGroupChats();
 
-    verifyNoMoreInteractions(
-        this.actionsRegistry, this.commandMockProvider.getActionMock(StopChatActionCommand.class));
+    verify(this.staleGroupChatDeactivator).deactivate(1L);
+    verify(this.staleGroupChatDeactivator).deactivate(2L);
+    verify(this.staleGroupChatDeactivator).deactivate(3L);
+    assertThat(chunkTimerCount(), is(2L));
+    assertThat(counter("stopped"), is(3.0));
   }
 
-  private static List<LocalDateTime> createUpdateDatesWithinDeactivationPeriod() {
-    LocalDateTime now = LocalDateTime.now();
-    LocalDateTime oneSecondWithinDeletionPeriod =
-        now.minusMinutes(DEACTIVATE_PERIOD_MINUTES).plusSeconds(10);
-    LocalDateTime timeInTheFuture = now.plusSeconds(20);
-
-    return List.of(now, oneSecondWithinDeletionPeriod, timeInTheFuture);
-  }
-
-  @ParameterizedTest
-  @MethodSource("createOverdueUpdateDates")
-  void deactivateStaleGroupChats_Should_callStopChatAction_When_chatIsActiveTooLong(
-      LocalDateTime overdueUpdateDate) {
-    var chat = new Chat();
-    chat.setDuration(120);
-    chat.setActive(true);
-    chat.setUpdateDate(overdueUpdateDate);
-    when(this.chatRepository.findAllByActiveIsTrue()).thenReturn(List.of(chat));
-    when(this.actionsRegistry.buildContainerForType(Chat.class))
-        .thenReturn(commandMockProvider.getActionContainer(Chat.class));
+  @Test
+  void deactivateStaleGroupChats_Should_stopRemainingChats_When_stoppingOneChatFails() {
+    when(this.chatRepository.findStaleActiveChatIds(any())).thenReturn(List.of(1L, 2L, 3L));
+    doThrow(new InternalServerErrorException("error"))
+        .when(this.staleGroupChatDeactivator)
+        .deactivate(1L);
 
     this.deactivateGroupChatService.deactivateStaleGroupChats();
 
-    verify(this.actionsRegistry, atLeastOnce()).buildContainerForType(Chat.class);
-    verify(this.commandMockProvider.getActionMock(StopChatActionCommand.class), times(1))
-        .execute(chat);
+    verify(this.staleGroupChatDeactivator).deactivate(2L);
+    verify(this.staleGroupChatDeactivator).deactivate(3L);
+    assertThat(counter("stopped"), is(2.0));
+    assertThat(counter("failed"), is(1.0));
+  }
+
+  @Test
+  void deactivateStaleGroupChats_Should_stopChatsInTechnicalContextAndRestoreContextOfCaller() {
+    setField(tenantContextProvider, "multiTenancyEnabled", true);
+    when(this.chatRepository.findStaleActiveChatIds(any())).thenReturn(List.of(1L));
+    var tenantIdOfDeactivation = new AtomicReference<Long>();
+    doAnswer(invocation -> tenantIdOfDeactivation.getAndSet(TenantContext.getCurrentTenant()))
+        .when(this.staleGroupChatDeactivator)
+        .deactivate(1L);
+    TenantContext.setCurrentTenant(1L);
+
+    try {
+      this.deactivateGroupChatService.deactivateStaleGroupChats();
+
+      assertThat(tenantIdOfDeactivation.get(), is(TenantContext.TECHNICAL_TENANT_ID));
+      assertThat(TenantContext.getCurrentTenant(), is(1L));
+    } finally {
+      TenantContext.clear();
+    }
   }
 
-  private static List<LocalDateTime> createOverdueUpdateDates() {
-    LocalDateTime now = LocalDateTime.now();
-    LocalDateTime oneDeletionPeriodAgo =
-        now.minusMinutes(DEACTIVATE_PERIOD_MINUTES).minusMinutes(120);
-    LocalDateTime timeLongInThePast = oneDeletionPeriodAgo.minusMinutes(10);
+  private long chunkTimerCount() {
+    return meterRegistry.timer("userservice.groupchat.deactivation.chunk.duration").count();
+  }
 
-    return List.of(oneDeletionPeriodAgo, timeLongInThePast);
+  private double counter(String name) {
+    return meterRegistry.counter("userservice.groupchat.deactivation." + name).count();
   }
 }
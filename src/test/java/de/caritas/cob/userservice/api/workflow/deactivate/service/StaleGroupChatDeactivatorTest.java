@@ -0,0 +1,62 @@
+package de.caritas.cob.userservice.api.workflow.deactivate.service;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.api.actions.ActionCommandMockProvider;
+import de.caritas.cob.userservice.api.actions.chat.StopChatActionCommand;
+import de.caritas.cob.userservice.api.actions.registry.ActionsRegistry;
+import de.caritas.cob.userservice.api.model.Chat;
+import de.caritas.cob.userservice.api.port.out.ChatRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StaleGroupChatDeactivatorTest {
+
+  @InjectMocks private StaleGroupChatDeactivator staleGroupChatDeactivator;
+
+  @Mock private ChatRepository chatRepository;
+
+  @Mock private ActionsRegistry actionsRegistry;
+
+  private final ActionCommandMockProvider commandMockProvider = new ActionCommandMockProvider();
+
+  @Test
+  void deactivate_Should_callStopChatAction_When_chatIsActive() {
+    var chat = new Chat();
+    chat.setActive(true);
+    when(this.chatRepository.findById(1L)).thenReturn(Optional.of(chat));
+    when(this.actionsRegistry.buildContainerForType(Chat.class))
+        .thenReturn(commandMockProvider.getActionContainer(Chat.class));
+
+    this.staleGroupChatDeactivator.deactivate(1L);
+
+    verify(this.commandMockProvider.getActionMock(StopChatActionCommand.class)).execute(chat);
+  }
+
+  @Test
+  void deactivate_Should_notCallAnyAction_When_chatIsNotActiveAnymore() {
+    var chat = new Chat();
+    chat.setActive(false);
+    when(this.chatRepository.findById(1L)).thenReturn(Optional.of(chat));
+
+    this.staleGroupChatDeactivator.deactivate(1L);
+
+    verifyNoInteractions(this.actionsRegistry);
+  }
+
+  @Test
+  void deactivate_Should_notCallAnyAction_When_chatDoesNotExist() {
+    when(this.chatRepository.findById(1L)).thenReturn(Optional.empty());
+
+    this.staleGroupChatDeactivator.deactivate(1L);
+
+    verifyNoInteractions(this.actionsRegistry);
+  }
+}
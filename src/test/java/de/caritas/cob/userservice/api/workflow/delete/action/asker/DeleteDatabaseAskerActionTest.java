@@ -12,11 +12,13 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.powermock.reflect.Whitebox.setInternalState;
 
 import de.caritas.cob.userservice.api.model.User;
 import de.caritas.cob.userservice.api.port.out.UserRepository;
+import de.caritas.cob.userservice.api.service.liveevents.RelevantUserAccountIdsByChatProvider;
 import de.caritas.cob.userservice.api.workflow.delete.model.AskerDeletionWorkflowDTO;
 import de.caritas.cob.userservice.api.workflow.delete.model.DeletionWorkflowError;
 import java.util.ArrayList;
@@ -36,6 +38,8 @@ public class DeleteDatabaseAskerActionTest {
 
   @Mock private UserRepository userRepository;
 
+  @Mock private RelevantUserAccountIdsByChatProvider relevantUserAccountIdsByChatProvider;
+
   @Mock private Logger logger;
 
   @BeforeEach
@@ -55,6 +59,17 @@ public class DeleteDatabaseAskerActionTest {
     verifyNoMoreInteractions(this.logger);
   }
 
+  @Test
+  public void execute_Should_evictCachedAccountIdOfUser_When_userIsDeleted() {
+    User user = new User();
+    user.setRcUserId("rcUserId");
+    AskerDeletionWorkflowDTO workflowDTO = new AskerDeletionWorkflowDTO(user, new ArrayList<>());
+
+    this.deleteDatabaseAskerAction.execute(workflowDTO);
+
+    verify(relevantUserAccountIdsByChatProvider).evictAccountId("rcUserId");
+  }
+
   @Test
   public void execute_Should_returnExpectedWorkflowErrorAndLogError_When_deletionOfUserFails() {
     doThrow(new RuntimeException()).when(this.userRepository).delete(any());
@@ -72,5 +87,6 @@ public class DeleteDatabaseAskerActionTest {
     assertThat(workflowErrors.get(0).getReason(), is("Unable to delete user"));
     assertThat(workflowErrors.get(0).getTimestamp(), notNullValue());
     verify(logger).error(anyString(), any(RuntimeException.class));
+    verifyNoInteractions(relevantUserAccountIdsByChatProvider);
   }
 }
@@ -12,6 +12,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.powermock.reflect.Whitebox.setInternalState;
@@ -21,6 +22,7 @@ import de.caritas.cob.userservice.api.model.Consultant;
 import de.caritas.cob.userservice.api.model.Session;
 import de.caritas.cob.userservice.api.port.out.ConsultantRepository;
 import de.caritas.cob.userservice.api.port.out.SessionRepository;
+import de.caritas.cob.userservice.api.service.liveevents.RelevantUserAccountIdsByChatProvider;
 import de.caritas.cob.userservice.api.workflow.delete.model.ConsultantDeletionWorkflowDTO;
 import de.caritas.cob.userservice.api.workflow.delete.model.DeletionWorkflowError;
 import java.util.ArrayList;
@@ -42,6 +44,8 @@ public class DeleteDatabaseConsultantActionTest {
 
   @Mock private SessionRepository sessionRepository;
 
+  @Mock private RelevantUserAccountIdsByChatProvider relevantUserAccountIdsByChatProvider;
+
   @Mock private Logger logger;
 
   @BeforeEach
@@ -81,6 +85,18 @@ public class DeleteDatabaseConsultantActionTest {
     verifyNoMoreInteractions(this.logger);
   }
 
+  @Test
+  public void execute_Should_evictCachedAccountIdOfConsultant_When_consultantIsDeleted() {
+    Consultant consultant = new Consultant();
+    consultant.setRocketChatId("rcUserId");
+    ConsultantDeletionWorkflowDTO workflowDTO =
+        new ConsultantDeletionWorkflowDTO(consultant, new ArrayList<>());
+
+    this.deleteDatabaseConsultantAction.execute(workflowDTO);
+
+    verify(relevantUserAccountIdsByChatProvider).evictAccountId("rcUserId");
+  }
+
   @Test
   public void execute_Should_returnExpectedWorkflowErrorAndLogError_When_deletionFails() {
     doThrow(new RuntimeException()).when(this.consultantRepository).delete(any());
@@ -99,6 +115,7 @@ public class DeleteDatabaseConsultantActionTest {
     assertThat(workflowErrors.get(0).getReason(), is("Unable to delete consultant in database"));
     assertThat(workflowErrors.get(0).getTimestamp(), notNullValue());
     verify(logger).error(anyString(), any(RuntimeException.class));
+    verifyNoInteractions(relevantUserAccountIdsByChatProvider);
   }
 
   @Test
@@ -4,8 +4,10 @@ import static de.caritas.cob.userservice.api.helper.CustomLocalDateTime.nowInUtc
 import static de.caritas.cob.userservice.api.workflow.delete.model.DeletionSourceType.ASKER;
 import static de.caritas.cob.userservice.api.workflow.delete.model.DeletionTargetType.ALL;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -25,6 +27,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 import javax.persistence.NonUniqueResultException;
 import lombok.extern.slf4j.Slf4j;
 import org.jeasy.random.EasyRandom;
@@ -73,8 +76,7 @@ class DeleteInactiveSessionsAndUserServiceTest {
             put(user.getUserId(), Collections.singletonList(session.getGroupId()));
           }
         };
-    when(inactivePrivateGroupsProvider.retrieveUserWithInactiveGroupsMap())
-        .thenReturn(userWithInactiveGroupsMap);
+    givenUsersWithInactiveGroups(userWithInactiveGroupsMap);
     when(userRepository.findByRcUserIdAndDeleteDateIsNull(anyString()))
         .thenReturn(Optional.of(user));
     when(sessionRepository.findByUser(user)).thenReturn(Collections.singletonList(session));
@@ -105,8 +107,7 @@ class DeleteInactiveSessionsAndUserServiceTest {
             put(user.getUserId(), Arrays.asList(session1.getGroupId(), session2.getGroupId()));
           }
         };
-    when(inactivePrivateGroupsProvider.retrieveUserWithInactiveGroupsMap())
-        .thenReturn(userWithInactiveGroupsMap);
+    givenUsersWithInactiveGroups(userWithInactiveGroupsMap);
     when(userRepository.findByRcUserIdAndDeleteDateIsNull(anyString()))
         .thenReturn(Optional.of(user));
     when(sessionRepository.findByUser(user)).thenReturn(Arrays.asList(session1, session2));
@@ -132,8 +133,7 @@ class DeleteInactiveSessionsAndUserServiceTest {
             put(user.getUserId(), Collections.singletonList(session1.getGroupId()));
           }
         };
-    when(inactivePrivateGroupsProvider.retrieveUserWithInactiveGroupsMap())
-        .thenReturn(userWithInactiveGroupsMap);
+    givenUsersWithInactiveGroups(userWithInactiveGroupsMap);
     when(userRepository.findByRcUserIdAndDeleteDateIsNull(anyString()))
         .thenReturn(Optional.of(user));
     when(sessionRepository.findByUser(user)).thenReturn(Arrays.asList(session1, session2));
@@ -159,8 +159,7 @@ class DeleteInactiveSessionsAndUserServiceTest {
             put(user.getUserId(), Collections.singletonList(session1.getGroupId()));
           }
         };
-    when(inactivePrivateGroupsProvider.retrieveUserWithInactiveGroupsMap())
-        .thenReturn(userWithInactiveGroupsMap);
+    givenUsersWithInactiveGroups(userWithInactiveGroupsMap);
     when(userRepository.findByRcUserIdAndDeleteDateIsNull(anyString()))
         .thenReturn(Optional.of(user));
     when(sessionRepository.findByUser(user)).thenReturn(Arrays.asList(session1, session2));
@@ -200,8 +199,7 @@ class DeleteInactiveSessionsAndUserServiceTest {
             put(user.getUserId(), Collections.singletonList(session1.getGroupId()));
           }
         };
-    when(inactivePrivateGroupsProvider.retrieveUserWithInactiveGroupsMap())
-        .thenReturn(userWithInactiveGroupsMap);
+    givenUsersWithInactiveGroups(userWithInactiveGroupsMap);
     when(userRepository.findByRcUserIdAndDeleteDateIsNull(anyString()))
         .thenReturn(Optional.of(user));
     when(sessionRepository.findByUser(user)).thenReturn(Arrays.asList(session2, session3));
@@ -226,8 +224,7 @@ class DeleteInactiveSessionsAndUserServiceTest {
             put(user.getUserId(), Collections.singletonList(session1.getGroupId()));
           }
         };
-    when(inactivePrivateGroupsProvider.retrieveUserWithInactiveGroupsMap())
-        .thenReturn(userWithInactiveGroupsMap);
+    givenUsersWithInactiveGroups(userWithInactiveGroupsMap);
     when(userRepository.findByRcUserIdAndDeleteDateIsNull(anyString()))
         .thenReturn(Optional.empty());
 
@@ -251,8 +248,7 @@ class DeleteInactiveSessionsAndUserServiceTest {
             put(user.getUserId(), Collections.singletonList(session1.getGroupId()));
           }
         };
-    when(inactivePrivateGroupsProvider.retrieveUserWithInactiveGroupsMap())
-        .thenReturn(userWithInactiveGroupsMap);
+    givenUsersWithInactiveGroups(userWithInactiveGroupsMap);
     when(userRepository.findByRcUserIdAndDeleteDateIsNull(anyString()))
         .thenReturn(Optional.empty());
     when(sessionRepository.findByGroupId(anyString())).thenReturn(Optional.empty());
@@ -277,8 +273,7 @@ class DeleteInactiveSessionsAndUserServiceTest {
             put(user.getUserId(), Collections.singletonList(session1.getGroupId()));
           }
         };
-    when(inactivePrivateGroupsProvider.retrieveUserWithInactiveGroupsMap())
-        .thenReturn(userWithInactiveGroupsMap);
+    givenUsersWithInactiveGroups(userWithInactiveGroupsMap);
     when(userRepository.findByRcUserIdAndDeleteDateIsNull(anyString()))
         .thenThrow(new NonUniqueResultException());
 
@@ -296,4 +291,15 @@ class DeleteInactiveSessionsAndUserServiceTest {
                         .contains(
                             "Non unique result for findByRcUserIdAndDeleteDateIsNull found")));
   }
+
+  @SuppressWarnings("unchecked")
+  private void givenUsersWithInactiveGroups(Map<String, List<String>> userWithInactiveGroupsMap) {
+    doAnswer(
+            invocation -> {
+              userWithInactiveGroupsMap.forEach(invocation.getArgument(0, BiConsumer.class));
+              return null;
+            })
+        .when(inactivePrivateGroupsProvider)
+        .forEachUserWithInactiveGroups(any());
+  }
 }
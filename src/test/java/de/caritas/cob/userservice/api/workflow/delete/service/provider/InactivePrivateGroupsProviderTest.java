@@ -2,163 +2,155 @@ package de.caritas.cob.userservice.api.workflow.delete.service.provider;
 
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.RC_USER_ID;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.RC_USER_ID_2;
-import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
-import static org.powermock.reflect.Whitebox.setInternalState;
 import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.group.GroupDTO;
-import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatGetGroupsListAllException;
+import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
 import de.caritas.cob.userservice.api.model.Chat;
 import de.caritas.cob.userservice.api.port.out.ChatRepository;
-import de.caritas.cob.userservice.api.service.LogService;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.apache.commons.collections4.IterableUtils;
 import org.jeasy.random.EasyRandom;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.slf4j.Logger;
 
 @ExtendWith(MockitoExtension.class)
 public class InactivePrivateGroupsProviderTest {
 
+  private final EasyRandom easyRandom = new EasyRandom();
+
   @InjectMocks private InactivePrivateGroupsProvider inactivePrivateGroupsProvider;
 
   @Mock private RocketChatService rocketChatService;
   @Mock private ChatRepository chatRepository;
-  @Mock private Logger logger;
+  @Mock private Consumer<Exception> loggingMethod;
 
-  @BeforeEach
-  public void setup() {
-    setInternalState(LogService.class, "LOGGER", logger);
-  }
+  private final Map<String, List<String>> consumedUsers = new LinkedHashMap<>();
 
   @Test
   public void
-      retrieveUserWithInactiveGroupsMap_ShouldReturnEmptyMap_WhenFetchOfInactiveGroupsFails()
-          throws RocketChatGetGroupsListAllException {
-
+      forEachUserWithInactiveGroups_Should_ConsumeNoUser_When_StreamOfInactiveGroupsFails() {
     when(chatRepository.findAll()).thenReturn(IterableUtils.emptyIterable());
-    doThrow(new RocketChatGetGroupsListAllException(new RuntimeException()))
-        .when(this.rocketChatService)
-        .fetchAllInactivePrivateGroupsSinceGivenDate(any());
+    when(this.rocketChatService.streamInactivePrivateGroupsSinceGivenDate(any()))
+        .thenThrow(new InternalServerErrorException("error", loggingMethod));
 
-    var result = inactivePrivateGroupsProvider.retrieveUserWithInactiveGroupsMap();
+    inactivePrivateGroupsProvider.forEachUserWithInactiveGroups(consumedUsers::put);
 
-    assertThat(result.isEmpty(), is(true));
+    assertThat(consumedUsers.isEmpty(), is(true));
+    verify(loggingMethod, times(1)).accept(any(InternalServerErrorException.class));
   }
 
   @Test
-  public void
-      retrieveUserWithInactiveGroupsMap_Should_FetchInactiveRocketChatGroupsWithCorrectDate()
-          throws RocketChatGetGroupsListAllException {
-
-    String fieldNameSessionInactiveDeleteWorkflowCheckDays =
-        "sessionInactiveDeleteWorkflowCheckDays";
+  public void forEachUserWithInactiveGroups_Should_StreamInactiveRocketChatGroupsWithCorrectDate() {
     int valueSessionInactiveDeleteWorkflowCheckDays = 30;
-
     setField(
         inactivePrivateGroupsProvider,
-        fieldNameSessionInactiveDeleteWorkflowCheckDays,
+        "sessionInactiveDeleteWorkflowCheckDays",
         valueSessionInactiveDeleteWorkflowCheckDays);
     LocalDateTime dateToCheck =
         LocalDateTime.now()
             .with(LocalTime.MIDNIGHT)
             .minusDays(valueSessionInactiveDeleteWorkflowCheckDays);
     when(chatRepository.findAll()).thenReturn(IterableUtils.emptyIterable());
+    when(this.rocketChatService.streamInactivePrivateGroupsSinceGivenDate(any()))
+        .thenReturn(Stream.empty());
 
-    inactivePrivateGroupsProvider.retrieveUserWithInactiveGroupsMap();
+    inactivePrivateGroupsProvider.forEachUserWithInactiveGroups(consumedUsers::put);
 
-    verify(rocketChatService, times(1)).fetchAllInactivePrivateGroupsSinceGivenDate(dateToCheck);
+    verify(rocketChatService, times(1)).streamInactivePrivateGroupsSinceGivenDate(dateToCheck);
+    verify(rocketChatService, never()).streamInactivePrivateGroupsSinceGivenDateFromDatabase(any());
   }
 
   @Test
-  public void retrieveUserWithInactiveGroupsMap_ShouldLogError_WhenFetchOfInactiveGroupsFails()
-      throws RocketChatGetGroupsListAllException {
-
+  public void forEachUserWithInactiveGroups_Should_ReadGroupsFromDatabase_When_Configured() {
+    setField(inactivePrivateGroupsProvider, "readGroupsFromDatabase", true);
     when(chatRepository.findAll()).thenReturn(IterableUtils.emptyIterable());
-    doThrow(new RocketChatGetGroupsListAllException(new RuntimeException()))
-        .when(this.rocketChatService)
-        .fetchAllInactivePrivateGroupsSinceGivenDate(any());
+    when(this.rocketChatService.streamInactivePrivateGroupsSinceGivenDateFromDatabase(any()))
+        .thenReturn(Stream.empty());
 
-    inactivePrivateGroupsProvider.retrieveUserWithInactiveGroupsMap();
+    inactivePrivateGroupsProvider.forEachUserWithInactiveGroups(consumedUsers::put);
 
-    verify(this.logger, times(1)).error(anyString(), anyString(), anyString(), anyString());
+    verify(rocketChatService, never()).streamInactivePrivateGroupsSinceGivenDate(any());
   }
 
   @Test
-  public void retrieveUserWithInactiveGroupsMap_Should_ReturnUserWithInactiveGroupsMap()
-      throws RocketChatGetGroupsListAllException {
-
-    EasyRandom easyRandom = new EasyRandom();
-    GroupDTO groupDTO1User1 = easyRandom.nextObject(GroupDTO.class);
-    groupDTO1User1.getUser().setId(RC_USER_ID);
-    GroupDTO groupDTO2User1 = easyRandom.nextObject(GroupDTO.class);
-    groupDTO2User1.getUser().setId(RC_USER_ID);
-    GroupDTO groupDTO1User2 = easyRandom.nextObject(GroupDTO.class);
-    groupDTO1User2.getUser().setId(RC_USER_ID_2);
-    List<GroupDTO> groupDtoResponseList = asList(groupDTO1User1, groupDTO2User1, groupDTO1User2);
-    when(this.rocketChatService.fetchAllInactivePrivateGroupsSinceGivenDate(any()))
-        .thenReturn(groupDtoResponseList);
+  public void forEachUserWithInactiveGroups_Should_ConsumeEachUserWithTheirInactiveGroups() {
+    var group1User1 = groupOf(RC_USER_ID);
+    var group2User1 = groupOf(RC_USER_ID);
+    var group1User2 = groupOf(RC_USER_ID_2);
+    when(this.rocketChatService.streamInactivePrivateGroupsSinceGivenDate(any()))
+        .thenReturn(Stream.of(group1User1, group2User1, group1User2));
     when(chatRepository.findAll()).thenReturn(IterableUtils.emptyIterable());
 
-    var result = inactivePrivateGroupsProvider.retrieveUserWithInactiveGroupsMap();
-
-    assertThat(result.size(), is(2));
-    assertThat(result.containsKey(RC_USER_ID), is(true));
-    assertThat(result.containsKey(RC_USER_ID_2), is(true));
-    assertThat(result.get(RC_USER_ID).size(), is(2));
-    assertThat(
-        result.get(RC_USER_ID).stream().anyMatch(s -> groupDTO1User1.getId().equals(s)), is(true));
-    assertThat(
-        result.get(RC_USER_ID).stream().anyMatch(s -> groupDTO2User1.getId().equals(s)), is(true));
-    assertThat(result.get(RC_USER_ID_2).size(), is(1));
-    assertThat(result.get(RC_USER_ID_2).get(0).equals(groupDTO1User2.getId()), is(true));
+    inactivePrivateGroupsProvider.forEachUserWithInactiveGroups(consumedUsers::put);
+
+    assertThat(consumedUsers.keySet(), contains(RC_USER_ID, RC_USER_ID_2));
+    assertThat(consumedUsers.get(RC_USER_ID), contains(group1User1.getId(), group2User1.getId()));
+    assertThat(consumedUsers.get(RC_USER_ID_2), contains(group1User2.getId()));
   }
 
   @Test
-  public void
-      retrieveUserWithInactiveGroupsMap_Should_ReturnUserWithInactiveGroupsMapWithoutGroupChats()
-          throws RocketChatGetGroupsListAllException {
-
-    EasyRandom easyRandom = new EasyRandom();
-    GroupDTO groupDTO1User1 = easyRandom.nextObject(GroupDTO.class);
-    groupDTO1User1.getUser().setId(RC_USER_ID);
-    GroupDTO groupDTO2User1 = easyRandom.nextObject(GroupDTO.class);
-    groupDTO2User1.getUser().setId(RC_USER_ID);
-    GroupDTO groupDTO1User2 = easyRandom.nextObject(GroupDTO.class);
-    groupDTO1User2.getUser().setId(RC_USER_ID_2);
-    List<GroupDTO> groupDtoResponseList = asList(groupDTO1User1, groupDTO2User1, groupDTO1User2);
-    when(this.rocketChatService.fetchAllInactivePrivateGroupsSinceGivenDate(any()))
-        .thenReturn(groupDtoResponseList);
+  public void forEachUserWithInactiveGroups_Should_ConsumeUsersWithoutGroupChats() {
+    var group1User1 = groupOf(RC_USER_ID);
+    var group2User1 = groupOf(RC_USER_ID);
+    var group1User2 = groupOf(RC_USER_ID_2);
+    when(this.rocketChatService.streamInactivePrivateGroupsSinceGivenDate(any()))
+        .thenReturn(Stream.of(group1User1, group2User1, group1User2));
     Chat chat = easyRandom.nextObject(Chat.class);
-    chat.setGroupId(groupDTO1User2.getId());
+    chat.setGroupId(group1User2.getId());
     when(chatRepository.findAll()).thenReturn(Collections.singletonList(chat));
 
-    var result = inactivePrivateGroupsProvider.retrieveUserWithInactiveGroupsMap();
+    inactivePrivateGroupsProvider.forEachUserWithInactiveGroups(consumedUsers::put);
+
+    assertThat(consumedUsers.keySet(), contains(RC_USER_ID));
+    assertThat(consumedUsers.get(RC_USER_ID), contains(group1User1.getId(), group2User1.getId()));
+  }
+
+  @Test
+  public void
+      forEachUserWithInactiveGroups_Should_KeepCompletelyReadUsersOnly_When_ReadingGroupsFails() {
+    var group1User1 = groupOf(RC_USER_ID);
+    var group1User2 = groupOf(RC_USER_ID_2);
+    var groupReadingFails = groupOf(RC_USER_ID_2);
+    when(this.rocketChatService.streamInactivePrivateGroupsSinceGivenDate(any()))
+        .thenReturn(
+            Stream.of(group1User1, group1User2, groupReadingFails)
+                .peek(
+                    group -> {
+                      if (group == groupReadingFails) {
+                        throw new InternalServerErrorException("error", loggingMethod);
+                      }
+                    }));
+    when(chatRepository.findAll()).thenReturn(IterableUtils.emptyIterable());
+
+    inactivePrivateGroupsProvider.forEachUserWithInactiveGroups(consumedUsers::put);
+
+    assertThat(consumedUsers.keySet(), contains(RC_USER_ID));
+    verify(loggingMethod, times(1)).accept(any(InternalServerErrorException.class));
+  }
 
-    assertThat(result.size(), is(1));
-    assertThat(result.containsKey(RC_USER_ID), is(true));
-    assertThat(result.containsKey(RC_USER_ID_2), is(false));
-    assertThat(result.get(RC_USER_ID).size(), is(2));
-    assertThat(
-        result.get(RC_USER_ID).stream().anyMatch(s -> groupDTO1User1.getId().equals(s)), is(true));
-    assertThat(
-        result.get(RC_USER_ID).stream().anyMatch(s -> groupDTO2User1.getId().equals(s)), is(true));
+  private GroupDTO groupOf(String rcUserId) {
+    var group = easyRandom.nextObject(GroupDTO.class);
+    group.getUser().setId(rcUserId);
+    return group;
   }
 }
@@ -5,6 +5,9 @@ import static de.caritas.cob.userservice.api.service.emailsupplier.EmailSupplier
 import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -15,7 +18,7 @@ import com.neovisionaries.i18n.LanguageCode;
 import de.caritas.cob.userservice.api.adapters.web.dto.AgencyDTO;
 import de.caritas.cob.userservice.api.model.Consultant;
 import de.caritas.cob.userservice.api.model.ConsultantAgency;
-import de.caritas.cob.userservice.api.model.Session;
+import de.caritas.cob.userservice.api.model.Session.AgencyOpenEnquiries;
 import de.caritas.cob.userservice.api.model.Session.SessionStatus;
 import de.caritas.cob.userservice.api.port.out.SessionRepository;
 import de.caritas.cob.userservice.api.service.ConsultantAgencyService;
@@ -26,10 +29,7 @@ import de.caritas.cob.userservice.mailservice.generated.web.model.MailDTO;
 import de.caritas.cob.userservice.mailservice.generated.web.model.MailsDTO;
 import de.caritas.cob.userservice.mailservice.generated.web.model.TemplateDataDTO;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -62,28 +62,18 @@ class EnquiryNotificationServiceTest {
   @Test
   void
       sendEmailNotificationsForOpenEnquiries_Should_sendExpectedMailsToConsultantsOfAgency_When_agencyHasOpenEnquiries() {
-    var openEnquiries = openEnquiriesForAgency(1L, nowInUtc().minusHours(13L), 3);
-    openEnquiries.addAll(openEnquiriesForAgency(2L, nowInUtc().minusHours(13L), 2));
-    openEnquiries.addAll(openEnquiriesForAgency(3L, nowInUtc().minusHours(13L), 1));
-    openEnquiries.addAll(openEnquiriesForAgency(4L, nowInUtc().minusHours(11L), 5));
-    when(sessionRepository.findByStatus(SessionStatus.NEW)).thenReturn(openEnquiries);
-    when(consultantAgencyService.findConsultantsByAgencyId(1L))
+    givenOpenEnquiries(openEnquiries(1L, 3L), openEnquiries(2L, 2L), openEnquiries(3L, 1L));
+    when(consultantAgencyService.getConsultantsOfAgencies(asList(1L, 2L, 3L)))
         .thenReturn(
             List.of(
                 createConsultantAgencyWithConsultantsMailAddress(
-                    "consultant1", "firstname1 lastname1"),
+                    1L, "consultant1", "firstname1 lastname1"),
                 createConsultantAgencyWithConsultantsMailAddress(
-                    "consultant2", "firstname2 lastname2")));
-    when(consultantAgencyService.findConsultantsByAgencyId(2L))
-        .thenReturn(
-            List.of(
+                    1L, "consultant2", "firstname2 lastname2"),
                 createConsultantAgencyWithConsultantsMailAddress(
-                    "consultant3", "firstname3 lastname3")));
-    when(consultantAgencyService.findConsultantsByAgencyId(3L))
-        .thenReturn(
-            List.of(
+                    2L, "consultant3", "firstname3 lastname3"),
                 createConsultantAgencyWithConsultantsMailAddress(
-                    "consultant4", "firstname4 lastname4")));
+                    3L, "consultant4", "firstname4 lastname4")));
     var agencies =
         asList(
             createAgency(1L, "Blue Agency"),
@@ -100,41 +90,37 @@ class EnquiryNotificationServiceTest {
             buildExpectedMail("consultant3", "firstname3 lastname3", "Red Agency", 2L),
             buildExpectedMail("consultant4", "firstname4 lastname4", "Yellow Agency", 1L));
     var argumentCaptor = ArgumentCaptor.forClass(MailsDTO.class);
-    verify(mailService, times(3)).sendEmailNotification(argumentCaptor.capture());
-    var resultMailsDTO =
-        argumentCaptor.getAllValues().stream()
-            .map(MailsDTO::getMails)
-            .flatMap(Collection::stream)
-            .collect(Collectors.toList());
-    assertThat(resultMailsDTO, containsInAnyOrder(expectedMailsDTO.toArray()));
+    verify(mailService, times(1)).sendEmailNotification(argumentCaptor.capture());
+    assertThat(
+        argumentCaptor.getValue().getMails(), containsInAnyOrder(expectedMailsDTO.toArray()));
   }
 
   @Test
   void
-      sendEmailNotificationsForOpenEnquiries_Should_sendNoMails_When_agencyHasOpenEnquiriesYoungerThanCheckTime() {
-    var openEnquiries = openEnquiriesForAgency(1L, nowInUtc().minusHours(11L), 3);
-    when(sessionRepository.findByStatus(SessionStatus.NEW)).thenReturn(openEnquiries);
+      sendEmailNotificationsForOpenEnquiries_Should_countOpenEnquiriesOlderThanCheckTime_When_searchingAgencies() {
+    var before = nowInUtc().minusHours(12L);
 
     enquiryNotificationService.sendEmailNotificationsForOpenEnquiries();
 
-    verifyNoInteractions(mailService);
+    var thresholdCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+    verify(sessionRepository)
+        .countByStatusAndEnquiryMessageDateBeforeGroupedByAgency(
+            eq(SessionStatus.NEW), thresholdCaptor.capture());
+    assertThat(thresholdCaptor.getValue().isBefore(before), is(false));
+    assertThat(thresholdCaptor.getValue().isAfter(nowInUtc().minusHours(12L)), is(false));
   }
 
   @Test
   void sendEmailNotificationsForOpenEnquiries_Should_sendNoMails_When_noOpenEnquiriesExists() {
     enquiryNotificationService.sendEmailNotificationsForOpenEnquiries();
 
-    verifyNoInteractions(mailService);
+    verifyNoInteractions(mailService, consultantAgencyService);
   }
 
   @Test
   void
       sendEmailNotificationsForOpenEnquiries_Should_sendNoMails_When_agenciesWithOpenEnquiriesHaveNoConsultants() {
-    var openEnquiries = openEnquiriesForAgency(1L, nowInUtc().minusHours(13L), 3);
-    openEnquiries.addAll(openEnquiriesForAgency(1L, nowInUtc().minusHours(13L), 2));
-    openEnquiries.addAll(openEnquiriesForAgency(2L, nowInUtc().minusHours(13L), 1));
-    openEnquiries.addAll(openEnquiriesForAgency(3L, nowInUtc().minusHours(11L), 5));
-    when(sessionRepository.findByStatus(SessionStatus.NEW)).thenReturn(openEnquiries);
+    givenOpenEnquiries(openEnquiries(1L, 5L), openEnquiries(2L, 1L));
 
     enquiryNotificationService.sendEmailNotificationsForOpenEnquiries();
 
@@ -144,48 +130,45 @@ class EnquiryNotificationServiceTest {
   @Test
   void
       sendEmailNotificationsForOpenEnquiries_Should_sendNoMails_When_agenciesWithOpenEnquiriesAreNotToBeNotified() {
-    var openEnquiries = openEnquiriesForAgency(2L, nowInUtc().minusHours(13L), 1);
-    when(consultantAgencyService.findConsultantsByAgencyId(2L))
+    givenOpenEnquiries(openEnquiries(2L, 1L));
+    when(consultantAgencyService.getConsultantsOfAgencies(List.of(2L)))
         .thenReturn(
             List.of(
                 createConsultantAgencyWithConsultantsMailAddress(
-                    "consultant3", "firstname3 lastname3", false)));
-    when(sessionRepository.findByStatus(SessionStatus.NEW)).thenReturn(openEnquiries);
+                    2L, "consultant3", "firstname3 lastname3", false)));
 
     enquiryNotificationService.sendEmailNotificationsForOpenEnquiries();
 
     verifyNoInteractions(mailService);
   }
 
-  @Test
-  void sendEmailNotificationsForOpenEnquiries_Should_sendNoMails_When_enquiryDateDoesNotExist() {
-    var openEnquiries = openEnquiriesForAgency(1L, null, 3);
-    when(sessionRepository.findByStatus(SessionStatus.NEW)).thenReturn(openEnquiries);
-
-    enquiryNotificationService.sendEmailNotificationsForOpenEnquiries();
-
-    verifyNoInteractions(mailService);
+  private void givenOpenEnquiries(AgencyOpenEnquiries... openEnquiries) {
+    when(sessionRepository.countByStatusAndEnquiryMessageDateBeforeGroupedByAgency(
+            eq(SessionStatus.NEW), any(LocalDateTime.class)))
+        .thenReturn(asList(openEnquiries));
   }
 
-  private List<Session> openEnquiriesForAgency(
-      Long agencyId, LocalDateTime enquiryDate, int amount) {
-    var enquiries = new ArrayList<Session>();
-    for (int i = 0; i < amount; i++) {
-      var session = new Session();
-      session.setAgencyId(agencyId);
-      session.setEnquiryMessageDate(enquiryDate);
-      enquiries.add(session);
-    }
-    return enquiries;
+  private AgencyOpenEnquiries openEnquiries(Long agencyId, Long amount) {
+    return new AgencyOpenEnquiries() {
+      @Override
+      public Long getAgencyId() {
+        return agencyId;
+      }
+
+      @Override
+      public Long getOpenEnquiries() {
+        return amount;
+      }
+    };
   }
 
   private ConsultantAgency createConsultantAgencyWithConsultantsMailAddress(
-      String mail, String fullName) {
-    return createConsultantAgencyWithConsultantsMailAddress(mail, fullName, true);
+      Long agencyId, String mail, String fullName) {
+    return createConsultantAgencyWithConsultantsMailAddress(agencyId, mail, fullName, true);
   }
 
   private ConsultantAgency createConsultantAgencyWithConsultantsMailAddress(
-      String mail, String fullName, boolean notifyEnqRep) {
+      Long agencyId, String mail, String fullName, boolean notifyEnqRep) {
     var consultant = new Consultant();
     String[] firstNameLastName = fullName.split(" ");
     consultant.setFirstName(firstNameLastName[0]);
@@ -195,6 +178,7 @@ class EnquiryNotificationServiceTest {
     consultant.setNotifyEnquiriesRepeating(notifyEnqRep);
     var consultantAgency = new ConsultantAgency();
     consultantAgency.setConsultant(consultant);
+    consultantAgency.setAgencyId(agencyId);
 
     return consultantAgency;
   }
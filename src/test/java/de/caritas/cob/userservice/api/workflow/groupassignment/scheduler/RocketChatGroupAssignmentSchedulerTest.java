@@ -0,0 +1,38 @@
+package de.caritas.cob.userservice.api.workflow.groupassignment.scheduler;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.api.admin.service.consultant.create.agencyrelation.RocketChatAsyncHelper;
+import de.caritas.cob.userservice.api.admin.service.consultant.create.agencyrelation.RocketChatGroupAssignmentService;
+import de.caritas.cob.userservice.api.tenant.TenantContextProvider;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RocketChatGroupAssignmentSchedulerTest {
+
+  @InjectMocks private RocketChatGroupAssignmentScheduler rocketChatGroupAssignmentScheduler;
+
+  @Mock private RocketChatGroupAssignmentService groupAssignmentService;
+
+  @Mock private RocketChatAsyncHelper rocketChatAsyncHelper;
+
+  @Mock private TenantContextProvider tenantContextProvider;
+
+  @Test
+  void resumeGroupAssignments_Should_resumeAllRelationsWithAssignments() {
+    when(groupAssignmentService.findConsultantAgencyIdsWithAssignments())
+        .thenReturn(List.of(1L, 2L));
+
+    rocketChatGroupAssignmentScheduler.resumeGroupAssignments();
+
+    verify(tenantContextProvider).setTechnicalContextIfMultiTenancyIsEnabled();
+    verify(rocketChatAsyncHelper).resumeGroupAssignments(1L);
+    verify(rocketChatAsyncHelper).resumeGroupAssignments(2L);
+  }
+}
@@ -0,0 +1,43 @@
+package de.caritas.cob.userservice.api.workflow.reindex.scheduler;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+import de.caritas.cob.userservice.api.admin.service.consultant.ConsultantReindexer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ConsultantReindexSchedulerTest {
+
+  @InjectMocks private ConsultantReindexScheduler consultantReindexScheduler;
+
+  @Mock private ConsultantReindexer consultantReindexer;
+
+  @Test
+  void performReindex_Should_reindexAllEntities_When_featureIsEnabled() throws Exception {
+    setField(consultantReindexScheduler, "reindexEnabled", true);
+
+    consultantReindexScheduler.performReindex();
+
+    verify(consultantReindexer).reindexAll();
+  }
+
+  @ParameterizedTest
+  @NullSource
+  @ValueSource(booleans = false)
+  void performReindex_Should_notReindex_When_featureToggleIsNullOrDisabled(Boolean enabled) {
+    setField(consultantReindexScheduler, "reindexEnabled", enabled);
+
+    consultantReindexScheduler.performReindex();
+
+    verifyNoInteractions(consultantReindexer);
+  }
+}
@@ -0,0 +1,132 @@
+package de.caritas.cob.userservice.api.workflow.statistics.scheduler;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+import de.caritas.cob.userservice.api.service.schedulerlock.SchedulerLockService;
+import de.caritas.cob.userservice.api.tenant.TenantContext;
+import de.caritas.cob.userservice.api.tenant.TenantContextProvider;
+import de.caritas.cob.userservice.api.workflow.statistics.service.StatisticsOutboxRelayService;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+
+@ExtendWith(MockitoExtension.class)
+class StatisticsOutboxRelaySchedulerTest {
+
+  @InjectMocks private StatisticsOutboxRelayScheduler statisticsOutboxRelayScheduler;
+
+  @Mock private StatisticsOutboxRelayService statisticsOutboxRelayService;
+
+  @Mock private SchedulerLockService schedulerLockService;
+
+  @Mock private TenantContextProvider tenantContextProvider;
+
+  @BeforeEach
+  void setup() {
+    setField(statisticsOutboxRelayScheduler, "statisticsEnabled", true);
+    setField(statisticsOutboxRelayScheduler, "maxBatchesPerRun", 3);
+    setField(statisticsOutboxRelayScheduler, "lockLeaseMillis", 1000L);
+  }
+
+  private void givenLockIsFree() {
+    when(schedulerLockService.tryLock(any(), any())).thenReturn(true);
+  }
+
+  @Test
+  void relayStatisticsEvents_Should_relayBatchesUntilOutboxIsDrained() {
+    givenLockIsFree();
+    when(statisticsOutboxRelayService.relayNextBatch()).thenReturn(true, false);
+
+    statisticsOutboxRelayScheduler.relayStatisticsEvents();
+
+    verify(statisticsOutboxRelayService, times(2)).relayNextBatch();
+    verify(statisticsOutboxRelayService).updateLag();
+  }
+
+  @Test
+  void relayStatisticsEvents_Should_relayAtMostMaxBatchesPerRun() {
+    givenLockIsFree();
+    when(statisticsOutboxRelayService.relayNextBatch()).thenReturn(true);
+
+    statisticsOutboxRelayScheduler.relayStatisticsEvents();
+
+    verify(statisticsOutboxRelayService, times(3)).relayNextBatch();
+  }
+
+  @Test
+  void relayStatisticsEvents_Should_stopRunAndUpdateLag_When_relayingBatchFails() {
+    givenLockIsFree();
+    when(statisticsOutboxRelayService.relayNextBatch()).thenThrow(new AmqpException("error"));
+
+    statisticsOutboxRelayScheduler.relayStatisticsEvents();
+
+    verify(statisticsOutboxRelayService, times(1)).relayNextBatch();
+    verify(statisticsOutboxRelayService).updateLag();
+    verify(schedulerLockService).unlock(any());
+  }
+
+  @Test
+  void relayStatisticsEvents_Should_relayInTechnicalContextAndClearItAfterwards() {
+    givenLockIsFree();
+    doAnswer(
+            invocation -> {
+              TenantContext.setCurrentTenant(0L);
+              return null;
+            })
+        .when(tenantContextProvider)
+        .setTechnicalContextIfMultiTenancyIsEnabled();
+    var tenantIdOfRelay = new AtomicReference<Long>();
+    when(statisticsOutboxRelayService.relayNextBatch())
+        .then(
+            invocation -> {
+              tenantIdOfRelay.set(TenantContext.getCurrentTenant());
+              return false;
+            });
+
+    statisticsOutboxRelayScheduler.relayStatisticsEvents();
+
+    assertThat(tenantIdOfRelay.get(), is(0L));
+    assertThat(TenantContext.getCurrentTenantData(), is(nullValue()));
+  }
+
+  @Test
+  void relayStatisticsEvents_Should_notRelayEvents_When_lockIsHeldByAnotherInstance() {
+    when(schedulerLockService.tryLock(any(), any())).thenReturn(false);
+
+    statisticsOutboxRelayScheduler.relayStatisticsEvents();
+
+    verifyNoInteractions(statisticsOutboxRelayService);
+    verify(schedulerLockService, never()).unlock(any());
+  }
+
+  @ParameterizedTest
+  @NullSource
+  @ValueSource(booleans = false)
+  void relayStatisticsEvents_Should_notRelayEvents_When_statisticsAreNullOrDisabled(
+      Boolean enabled) {
+    setField(statisticsOutboxRelayScheduler, "statisticsEnabled", enabled);
+
+    statisticsOutboxRelayScheduler.relayStatisticsEvents();
+
+    verifyNoInteractions(statisticsOutboxRelayService);
+    verifyNoInteractions(schedulerLockService);
+  }
+}
@@ -0,0 +1,149 @@
+package de.caritas.cob.userservice.api.workflow.statistics.service;
+
+import static de.caritas.cob.userservice.api.helper.CustomLocalDateTime.nowInUtc;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+import de.caritas.cob.userservice.api.model.StatisticsOutboxEvent;
+import de.caritas.cob.userservice.api.port.out.StatisticsOutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitOperations.OperationsCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.data.domain.PageRequest;
+
+@ExtendWith(MockitoExtension.class)
+class StatisticsOutboxRelayServiceTest {
+
+  private static final String EXCHANGE_NAME = "statistics.topic";
+  private static final long CONFIRM_TIMEOUT_MILLIS = 5000L;
+
+  @Mock private StatisticsOutboxEventRepository statisticsOutboxEventRepository;
+  @Mock private RabbitTemplate rabbitTemplate;
+  @Mock private RabbitOperations rabbitOperations;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private StatisticsOutboxRelayService statisticsOutboxRelayService;
+
+  @BeforeEach
+  void setup() {
+    statisticsOutboxRelayService =
+        new StatisticsOutboxRelayService(
+            statisticsOutboxEventRepository, rabbitTemplate, meterRegistry);
+    setField(statisticsOutboxRelayService, "rabbitMqExchangeName", EXCHANGE_NAME);
+    setField(statisticsOutboxRelayService, "batchSize", 2);
+    setField(statisticsOutboxRelayService, "confirmTimeoutMillis", CONFIRM_TIMEOUT_MILLIS);
+  }
+
+  @Test
+  void relayNextBatch_Should_publishEventsWithConfirmsAndRemoveThemFromOutbox() {
+    givenOutboxEvents(outboxEvent(1L, "ASSIGN_SESSION"), outboxEvent(2L, "REGISTRATION"));
+    givenRabbitTemplateInvokesCallback();
+
+    var furtherEventsPending = statisticsOutboxRelayService.relayNextBatch();
+
+    assertThat(furtherEventsPending, is(true));
+    var messageCaptor = ArgumentCaptor.forClass(Message.class);
+    verify(rabbitOperations).send(eq(EXCHANGE_NAME), eq("ASSIGN_SESSION"), messageCaptor.capture());
+    verify(rabbitOperations).send(eq(EXCHANGE_NAME), eq("REGISTRATION"), any(Message.class));
+    verify(rabbitOperations).waitForConfirmsOrDie(CONFIRM_TIMEOUT_MILLIS);
+    verify(statisticsOutboxEventRepository).deleteByIdIn(List.of(1L, 2L));
+    assertThat(new String(messageCaptor.getValue().getBody()), is("payload1"));
+    assertThat(messageCaptor.getValue().getMessageProperties().getMessageId(), is("1"));
+    assertThat(meterRegistry.counter("userservice.statistics.outbox.published").count(), is(2.0));
+  }
+
+  @Test
+  void relayNextBatch_Should_returnFalse_When_batchIsNotFull() {
+    givenOutboxEvents(outboxEvent(1L, "ASSIGN_SESSION"));
+    givenRabbitTemplateInvokesCallback();
+
+    assertThat(statisticsOutboxRelayService.relayNextBatch(), is(false));
+  }
+
+  @Test
+  void relayNextBatch_Should_notPublish_When_outboxIsEmpty() {
+    givenOutboxEvents();
+
+    assertThat(statisticsOutboxRelayService.relayNextBatch(), is(false));
+    verifyNoInteractions(rabbitTemplate);
+  }
+
+  @Test
+  void relayNextBatch_Should_keepEventsInOutbox_When_publishingIsNotConfirmed() {
+    givenOutboxEvents(outboxEvent(1L, "ASSIGN_SESSION"));
+    givenRabbitTemplateInvokesCallback();
+    doThrow(new AmqpTimeoutException("timeout"))
+        .when(rabbitOperations)
+        .waitForConfirmsOrDie(anyLong());
+
+    assertThrows(AmqpTimeoutException.class, () -> statisticsOutboxRelayService.relayNextBatch());
+
+    verify(statisticsOutboxEventRepository, never()).deleteByIdIn(any());
+    assertThat(meterRegistry.counter("userservice.statistics.outbox.failed").count(), is(1.0));
+  }
+
+  @Test
+  void updateLag_Should_exposeAgeOfOldestPendingEvent() {
+    var oldestEvent = outboxEvent(1L, "ASSIGN_SESSION");
+    oldestEvent.setCreateDate(nowInUtc().minusSeconds(30));
+    when(statisticsOutboxEventRepository.findFirstByOrderByIdAsc())
+        .thenReturn(Optional.of(oldestEvent));
+
+    statisticsOutboxRelayService.updateLag();
+
+    var lagSeconds = meterRegistry.get("userservice.statistics.outbox.lag.seconds").gauge().value();
+    assertThat(lagSeconds >= 30.0, is(true));
+  }
+
+  @Test
+  void updateLag_Should_resetLag_When_outboxIsEmpty() {
+    when(statisticsOutboxEventRepository.findFirstByOrderByIdAsc()).thenReturn(Optional.empty());
+
+    statisticsOutboxRelayService.updateLag();
+
+    assertThat(
+        meterRegistry.get("userservice.statistics.outbox.lag.seconds").gauge().value(), is(0.0));
+  }
+
+  private void givenOutboxEvents(StatisticsOutboxEvent... events) {
+    when(statisticsOutboxEventRepository.findAllByOrderByIdAsc(PageRequest.of(0, 2)))
+        .thenReturn(List.of(events));
+  }
+
+  private void givenRabbitTemplateInvokesCallback() {
+    when(rabbitTemplate.invoke(any()))
+        .thenAnswer(
+            invocation ->
+                invocation.<OperationsCallback<Object>>getArgument(0).doInRabbit(rabbitOperations));
+  }
+
+  private StatisticsOutboxEvent outboxEvent(Long id, String eventType) {
+    return StatisticsOutboxEvent.builder()
+        .id(id)
+        .eventType(eventType)
+        .payload("payload" + id)
+        .createDate(nowInUtc())
+        .build();
+  }
+}